@@ -2,6 +2,7 @@ package com.frog.travelwithme.domain.buddy.controller;
 
 import com.frog.travelwithme.domain.buddy.service.RecruitmentCommentService;
 import com.frog.travelwithme.domain.common.comment.dto.CommentDto;
+import com.frog.travelwithme.global.dto.CursorResponseDto;
 import com.frog.travelwithme.global.dto.SingleResponseDto;
 import com.frog.travelwithme.global.security.auth.userdetails.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
@@ -10,14 +11,17 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Positive;
 
 /**
@@ -57,4 +61,27 @@ public class RecruitmentCommentController {
         return new ResponseEntity(new SingleResponseDto<>(response), HttpStatus.OK);
     }
 
+    @GetMapping("/{recruitment-id}/comments")
+    public ResponseEntity getRootComments(@Positive @PathVariable("recruitment-id") Long recruitmentId,
+                                          @AuthenticationPrincipal CustomUserDetails user,
+                                          @RequestParam(required = false) String cursor,
+                                          @Positive @Max(100) @RequestParam(defaultValue = "20") int size) {
+        String email = user == null ? null : user.getEmail();
+        CursorResponseDto<CommentDto.GetResponse> response =
+                recruitmentCommentService.findRootCommentsByRecruitmentId(recruitmentId, email, cursor, size);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @GetMapping("/comments/{comment-id}/replies")
+    public ResponseEntity getReplies(@Positive @PathVariable("comment-id") Long commentId,
+                                     @AuthenticationPrincipal CustomUserDetails user,
+                                     @RequestParam(required = false) String cursor,
+                                     @Positive @Max(100) @RequestParam(defaultValue = "20") int size) {
+        String email = user == null ? null : user.getEmail();
+        CursorResponseDto<CommentDto.GetResponse> response =
+                recruitmentCommentService.findRepliesByCommentId(commentId, email, cursor, size);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
 }
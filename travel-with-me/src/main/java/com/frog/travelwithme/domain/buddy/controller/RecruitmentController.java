@@ -2,7 +2,9 @@ package com.frog.travelwithme.domain.buddy.controller;
 
 import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
 import com.frog.travelwithme.domain.buddy.service.RecruitmentService;
+import com.frog.travelwithme.global.dto.CursorResponseDto;
 import com.frog.travelwithme.global.dto.SingleResponseDto;
+import com.frog.travelwithme.global.utils.TimeUtils;
 import com.frog.travelwithme.global.security.auth.userdetails.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,9 +15,12 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Positive;
 import java.util.List;
 
+import static com.frog.travelwithme.global.enums.EnumCollection.RecruitmentStatus;
+
 /**
  * 작성자: 이재혁
  * 버전 정보: 1.0.0
@@ -64,16 +69,35 @@ public class RecruitmentController {
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
-//    TODO : 댓글, 매칭관련 작업이 끝나면 조회 반환 작성하기
-//    @GetMapping("/{recruitment-id}")
-//    public ResponseEntity getRecruitment(@Positive @PathVariable("recruitment-id") Long recruitmentId,
-//                                         @AuthenticationPrincipal CustomUserDetails user) {
-//
-//        String email = user.getEmail();
-//        RecruitmentDto.GetResponse response = recruitmentService.findRecruitment(recruitmentId, email);
-//
-//        return new ResponseEntity<>(new SingleResponseDto<>(response), HttpStatus.OK);
-//    }
+    @GetMapping
+    public ResponseEntity searchRecruitments(@RequestParam(required = false) String travelNationality,
+                                             @RequestParam(required = false) String travelStartDate,
+                                             @RequestParam(required = false) String travelEndDate,
+                                             @RequestParam(defaultValue = "IN_PROGRESS") RecruitmentStatus recruitmentStatus,
+                                             @RequestParam(required = false) String cursor,
+                                             @Positive @Max(100) @RequestParam(defaultValue = "20") int size) {
+
+        BuddyDto.RecruitmentSearch search = BuddyDto.RecruitmentSearch.builder()
+                .travelNationality(travelNationality)
+                .travelStartDate(travelStartDate == null ? null : TimeUtils.stringToLocalDateTime(travelStartDate))
+                .travelEndDate(travelEndDate == null ? null : TimeUtils.stringToLocalDateTime(travelEndDate))
+                .recruitmentStatus(recruitmentStatus)
+                .build();
+        CursorResponseDto<BuddyDto.RecruitmentSummary> response =
+                recruitmentService.searchRecruitments(search, cursor, size);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @GetMapping("/{recruitment-id}")
+    public ResponseEntity getRecruitment(@Positive @PathVariable("recruitment-id") Long recruitmentId,
+                                         @AuthenticationPrincipal CustomUserDetails user) {
+
+        String email = user == null ? null : user.getEmail();
+        BuddyDto.RecruitmentGetResponse response = recruitmentService.findRecruitment(recruitmentId, email);
+
+        return new ResponseEntity<>(new SingleResponseDto<>(response), HttpStatus.OK);
+    }
 
     @GetMapping("/{recruitment-id}/matching-request-member-list")
     public ResponseEntity getMatchingRequestMemberList(@Positive @PathVariable("recruitment-id") Long recruitmentsId) {
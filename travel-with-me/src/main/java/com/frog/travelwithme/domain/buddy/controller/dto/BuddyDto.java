@@ -1,5 +1,7 @@
 package com.frog.travelwithme.domain.buddy.controller.dto;
 
+import com.frog.travelwithme.global.utils.TimeUtils;
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.*;
 
 import javax.validation.constraints.NotNull;
@@ -8,6 +10,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.frog.travelwithme.global.enums.EnumCollection.RecruitmentStatus;
 import static com.frog.travelwithme.global.validation.CustomAnnotationCollection.*;
 
 /**
@@ -37,6 +40,10 @@ public class BuddyDto {
 
         @NotNull
         private String travelEndDate;
+
+        // 최대 참여 인원. 없으면 제한 없음
+        @Positive
+        private Integer maxParticipants;
     }
 
     @Getter
@@ -81,8 +88,12 @@ public class BuddyDto {
         private LocalDate travelEndDate;
     }
 
+    /**
+     * 동행모집글 상세 조회 응답. 모집글과 작성자는 projection 한 번으로 조회하고,
+     * 참여 인원(members)과 요청자의 매칭 상태(recruitmentRequestStatus)는 따로 채운다.
+     */
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     @AllArgsConstructor
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class RecruitmentGetResponse {
@@ -99,6 +110,24 @@ public class BuddyDto {
         private LocalDateTime createdAt;
         private Boolean recruitmentRequestStatus;
         private List<MatchingMemberResponse> members;
+
+        @QueryProjection
+        public RecruitmentGetResponse(Long id, String title, String content, String travelNationality,
+                                      LocalDateTime travelStartDate, LocalDateTime travelEndDate,
+                                      Long viewCount, Long commentCount, String nickname, String memberImage,
+                                      LocalDateTime createdAt) {
+            this.id = id;
+            this.title = title;
+            this.content = content;
+            this.travelNationality = travelNationality;
+            this.travelStartDate = TimeUtils.localDateTimeToLocalDate(travelStartDate);
+            this.travelEndDate = TimeUtils.localDateTimeToLocalDate(travelEndDate);
+            this.viewCount = viewCount;
+            this.commentCount = commentCount;
+            this.nickname = nickname;
+            this.memberImage = memberImage;
+            this.createdAt = createdAt;
+        }
     }
 
     @Getter
@@ -110,4 +139,54 @@ public class BuddyDto {
         private String nickname;
         private String image;
     }
+
+    /**
+     * 동행모집글 목록 검색 조건. null인 조건은 적용하지 않는다.
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class RecruitmentSearch {
+        private String travelNationality;
+        private LocalDateTime travelStartDate;
+        private LocalDateTime travelEndDate;
+        private RecruitmentStatus recruitmentStatus;
+    }
+
+    /**
+     * 동행모집글 목록 조회용 프로젝션. 본문, 매칭 목록은 담지 않는다.
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class RecruitmentSummary {
+        private Long id;
+        private String title;
+        private String travelNationality;
+        private LocalDate travelStartDate;
+        private LocalDate travelEndDate;
+        private String recruitmentStatus;
+        private Long viewCount;
+        private Long commentCount;
+        private String nickname;
+        private String memberImage;
+
+        @Builder
+        @QueryProjection
+        public RecruitmentSummary(Long id, String title, String travelNationality,
+                                  LocalDateTime travelStartDate, LocalDateTime travelEndDate,
+                                  RecruitmentStatus recruitmentStatus, Long viewCount, Long commentCount,
+                                  String nickname, String memberImage) {
+            this.id = id;
+            this.title = title;
+            this.travelNationality = travelNationality;
+            this.travelStartDate = TimeUtils.localDateTimeToLocalDate(travelStartDate);
+            this.travelEndDate = TimeUtils.localDateTimeToLocalDate(travelEndDate);
+            this.recruitmentStatus = recruitmentStatus.name();
+            this.viewCount = viewCount;
+            this.commentCount = commentCount;
+            this.nickname = nickname;
+            this.memberImage = memberImage;
+        }
+    }
 }
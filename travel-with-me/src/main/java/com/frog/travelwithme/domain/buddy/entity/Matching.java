@@ -15,6 +15,11 @@ import static com.frog.travelwithme.global.enums.EnumCollection.*;
 
 @Entity
 @Getter
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_matching_member_recruitment",
+                columnNames = {"member_id", "recruitment_id"}),
+        indexes = @Index(name = "idx_matching_recruitment_status", columnList = "recruitment_id, status")
+)
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Matching {
@@ -26,6 +31,10 @@ public class Matching {
     @Enumerated(value = EnumType.STRING)
     private MatchingStatus status;
 
+    // 같은 매칭을 동시에 승인, 취소하면 나중에 커밋하는 요청이 실패하도록 낙관적 락을 사용
+    @Version
+    private long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
@@ -2,11 +2,14 @@ package com.frog.travelwithme.domain.buddy.entity;
 
 import com.frog.travelwithme.domain.common.BaseTimeEntity;
 import com.frog.travelwithme.domain.common.DeletionEntity;
+import com.frog.travelwithme.domain.common.SoftDelete;
 import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
 import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.global.enums.EnumCollection.RecruitmentStatus;
 import com.frog.travelwithme.global.utils.TimeUtils;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Filter;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -22,6 +25,17 @@ import java.util.Optional;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_recruitment_status_nationality_deleted_id",
+                columnList = "RECRUITMENT_STATUS, TRAVEL_NATIONALITY, IS_DELETED, id"),
+        @Index(name = "idx_recruitment_status_deleted_id", columnList = "RECRUITMENT_STATUS, IS_DELETED, id"),
+        @Index(name = "idx_recruitment_status_start_date", columnList = "RECRUITMENT_STATUS, TRAVEL_START_DATE"),
+        // 삭제된 모집글 보관 작업(SoftDeleteArchiveRepository)이 삭제된 행만 범위 스캔
+        @Index(name = "idx_recruitment_deleted_at", columnList = "IS_DELETED, DELETED_AT")
+})
+@Filter(name = SoftDelete.FILTER, condition = SoftDelete.RECRUITMENT_CONDITION)
+// 수정 시 변경된 컬럼만 UPDATE해 마감 작업이 바꾼 모집 상태를 이전 값으로 덮어쓰지 않는다.
+@DynamicUpdate
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Recruitment extends BaseTimeEntity {
@@ -43,10 +57,20 @@ public class Recruitment extends BaseTimeEntity {
 
     private LocalDateTime travelEndDate;
 
+    // 조회수, 댓글 수는 CounterService에서 일괄 반영 (변경 감지로 덮어쓰지 않도록 updatable = false)
+    @Column(updatable = false)
     private long viewCount;
 
+    @Column(updatable = false)
     private long commentCount;
 
+    // 최대 참여 인원. null이면 제한 없음
+    private Integer maxParticipants;
+
+    // 승인된 참여 인원은 조건부 UPDATE로만 증감 (RecruitmentCustomRepository.reserveParticipant)
+    @Column(updatable = false)
+    private int participantCount;
+
     @Embedded
     private DeletionEntity deletionEntity;
 
@@ -69,7 +93,8 @@ public class Recruitment extends BaseTimeEntity {
     @Builder
     public Recruitment(Long id, String title, String content, String travelNationality,
                        LocalDateTime travelStartDate, LocalDateTime travelEndDate,
-                       RecruitmentStatus recruitmentStatus, DeletionEntity deletionEntity) {
+                       RecruitmentStatus recruitmentStatus, DeletionEntity deletionEntity,
+                       Integer maxParticipants) {
         this.id = id;
         this.title = title;
         this.content = content;
@@ -78,6 +103,7 @@ public class Recruitment extends BaseTimeEntity {
         this.travelEndDate = travelEndDate;
         this.recruitmentStatus = recruitmentStatus;
         this.deletionEntity = deletionEntity;
+        this.maxParticipants = maxParticipants;
     }
 
     public Recruitment addMember(Member member) {
@@ -121,4 +147,8 @@ public class Recruitment extends BaseTimeEntity {
         this.deletionEntity.setDeletedAt(LocalDateTime.now());
     }
 
+    public boolean isDeleted() {
+        return this.deletionEntity != null && Boolean.TRUE.equals(this.deletionEntity.getIsDeleted());
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.frog.travelwithme.domain.buddy.entity;
 
 import com.frog.travelwithme.domain.buddy.service.dto.RecruitmentCommentUpdateDto;
+import com.frog.travelwithme.domain.common.SoftDelete;
 import com.frog.travelwithme.domain.common.comment.entity.Comment;
 import com.frog.travelwithme.domain.member.entity.Member;
 import lombok.AccessLevel;
@@ -8,13 +9,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Filter;
 
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +32,13 @@ import java.util.Optional;
 
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_recruitment_comment_thread", columnList = "recruitment_id, group_id, depth, id"),
+        @Index(name = "idx_recruitment_comment_root", columnList = "recruitment_id, depth, id"),
+        // 삭제된 댓글 보관 작업이 삭제된 행만 범위 스캔
+        @Index(name = "idx_recruitment_comment_deleted_at", columnList = "is_deleted, deleted_at")
+})
+@Filter(name = SoftDelete.FILTER, condition = SoftDelete.COMMENT_CONDITION)
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RecruitmentComment extends Comment {
@@ -43,7 +55,9 @@ public class RecruitmentComment extends Comment {
     @ManyToMany
     @JoinTable(name = "recruitment_comment_like",
             joinColumns = @JoinColumn(name = "recruitment_comment_id"),
-            inverseJoinColumns = @JoinColumn(name = "member_id"))
+            inverseJoinColumns = @JoinColumn(name = "member_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_recruitment_comment_like_member_comment",
+                    columnNames = {"member_id", "recruitment_comment_id"}))
     private List<Member> likedMembers = new ArrayList<>();
 
     @Builder
@@ -8,7 +8,11 @@ import com.frog.travelwithme.domain.buddy.service.dto.RecruitmentCommentCreateDt
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 작성자: 이재혁
@@ -134,4 +138,44 @@ public interface RecruitmentCommentMapper {
                 .build();
     };
 
+    /**
+     * 작성자 여부는 회원 id로 비교해 댓글마다 작성자 회원을 로딩하지 않는다.
+     *
+     * @param memberId 조회한 회원 id. 비회원이면 null
+     */
+    default CommentDto.GetResponse toGetResponseCommentDto(RecruitmentComment comment,
+                                                           Long memberId,
+                                                           String taggedMemberNickname,
+                                                           boolean liked) {
+
+        if (comment == null) {
+            return null;
+        }
+
+        return CommentDto.GetResponse.builder()
+                .commentId(comment.getId())
+                .depth(comment.getDepth())
+                .groupId(comment.getGroupId())
+                .content(comment.getContent())
+                .taggedMemberId(comment.getTaggedMemberId())
+                .taggedMemberNickname(taggedMemberNickname)
+                .deleted(comment.isDeleted())
+                .likeCount(comment.getLikeCount())
+                .commentCount(comment.getCommentCount())
+                .writer(comment.getMember().getId().equals(memberId))
+                .liked(liked)
+                .build();
+    }
+
+    default List<CommentDto.GetResponse> toGetResponseCommentDtoList(List<RecruitmentComment> comments,
+                                                                     Long memberId,
+                                                                     Set<Long> likedCommentIds,
+                                                                     Map<Long, String> taggedMemberNicknames) {
+
+        return comments.stream()
+                .map(comment -> toGetResponseCommentDto(comment, memberId,
+                        taggedMemberNicknames.get(comment.getTaggedMemberId()),
+                        likedCommentIds.contains(comment.getId())))
+                .collect(Collectors.toList());
+    }
 }
@@ -28,7 +28,7 @@ public interface RecruitmentMapper {
         }
         String travelStartDate = recruitmentPostDto.getTravelStartDate();
         String travelEndDate = recruitmentPostDto.getTravelEndDate();
-        DeletionEntity deletionEntity = new DeletionEntity();
+        DeletionEntity deletionEntity = new DeletionEntity(false, null);
 
         return Recruitment.builder()
                 .title(recruitmentPostDto.getTitle())
@@ -38,6 +38,7 @@ public interface RecruitmentMapper {
                 .travelEndDate(TimeUtils.stringToLocalDateTime(travelEndDate))
                 .recruitmentStatus(RecruitmentStatus.IN_PROGRESS)
                 .deletionEntity(deletionEntity)
+                .maxParticipants(recruitmentPostDto.getMaxParticipants())
                 .build();
     }
 
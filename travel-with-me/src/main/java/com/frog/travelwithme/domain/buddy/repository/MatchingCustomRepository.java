@@ -1,6 +1,7 @@
 package com.frog.travelwithme.domain.buddy.repository;
 
 
+import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
 import com.frog.travelwithme.domain.buddy.entity.Matching;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
 import com.frog.travelwithme.domain.member.entity.Member;
@@ -8,6 +9,8 @@ import com.frog.travelwithme.domain.member.entity.Member;
 import java.util.List;
 import java.util.Optional;
 
+import static com.frog.travelwithme.global.enums.EnumCollection.MatchingStatus;
+
 /**
  * 작성자: 이재혁
  * 버전 정보: 1.0.0
@@ -20,4 +23,8 @@ public interface MatchingCustomRepository {
 
     Optional<Matching> findMatchingByMemberAndRecruitment(Member member, Recruitment recruitment);
 
+    List<BuddyDto.MatchingMemberResponse> findMatchingMembers(Long recruitmentId, MatchingStatus status);
+
+    Optional<MatchingStatus> findMatchingStatus(Long recruitmentId, String email);
+
 }
@@ -1,17 +1,22 @@
 package com.frog.travelwithme.domain.buddy.repository;
 
+import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
 import com.frog.travelwithme.domain.buddy.entity.Matching;
 import com.frog.travelwithme.domain.buddy.entity.QMatching;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
 import com.frog.travelwithme.domain.member.entity.Member;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import static com.frog.travelwithme.domain.buddy.entity.QMatching.*;
 import static com.frog.travelwithme.domain.buddy.entity.QRecruitment.*;
+import static com.frog.travelwithme.domain.member.entity.QMember.*;
+import static com.frog.travelwithme.global.enums.EnumCollection.MatchingStatus;
 
 /**
  * 작성자: 이재혁
@@ -51,4 +56,37 @@ public class MatchingCustomRepositoryImpl implements MatchingCustomRepository {
                 )
                 .fetchOne());
     }
+
+    /**
+     * 모집글과 매칭 엔티티를 읽지 않고 매칭 상태별 회원 정보만 조회한다. 매칭이 없으면 빈 리스트를 반환한다.
+     */
+    @Override
+    public List<BuddyDto.MatchingMemberResponse> findMatchingMembers(Long recruitmentId, MatchingStatus status) {
+        return queryFactory
+                .select(Projections.constructor(BuddyDto.MatchingMemberResponse.class,
+                        member.id,
+                        member.nickname,
+                        member.image))
+                .from(matching)
+                .join(matching.member, member)
+                .where(
+                        matching.recruitment.id.eq(recruitmentId),
+                        matching.status.eq(status)
+                )
+                .orderBy(matching.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public Optional<MatchingStatus> findMatchingStatus(Long recruitmentId, String email) {
+        return Optional.ofNullable(queryFactory
+                .select(matching.status)
+                .from(matching)
+                .join(matching.member, member)
+                .where(
+                        matching.recruitment.id.eq(recruitmentId),
+                        member.email.eq(email)
+                )
+                .fetchFirst());
+    }
 }
@@ -1,5 +1,10 @@
 package com.frog.travelwithme.domain.buddy.repository;
 
+import com.frog.travelwithme.domain.buddy.entity.RecruitmentComment;
+import com.frog.travelwithme.global.dto.Cursor;
+
+import java.util.List;
+
 /**
  * 작성자: 이재혁
  * 버전 정보: 1.0.0
@@ -8,4 +13,7 @@ package com.frog.travelwithme.domain.buddy.repository;
 
 public interface RecruitmentCommentCustomRepository {
 
+    List<RecruitmentComment> findRootCommentsByRecruitmentId(Long recruitmentId, Cursor cursor, int limit);
+
+    List<RecruitmentComment> findRepliesByGroupId(Long recruitmentId, Long groupId, Cursor cursor, int limit);
 }
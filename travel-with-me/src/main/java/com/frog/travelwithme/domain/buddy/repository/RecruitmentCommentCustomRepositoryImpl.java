@@ -1,10 +1,67 @@
 package com.frog.travelwithme.domain.buddy.repository;
 
+import com.frog.travelwithme.domain.buddy.entity.RecruitmentComment;
+import com.frog.travelwithme.global.dto.Cursor;
+import com.frog.travelwithme.global.dto.KeysetOrder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.frog.travelwithme.domain.buddy.entity.QRecruitmentComment.recruitmentComment;
+import static com.frog.travelwithme.global.dto.KeysetOrder.asc;
+
 /**
  * 작성자: 이재혁
  * 버전 정보: 1.0.0
  * 작성일자: 2023/05/24
  **/
 
+@Repository
+@RequiredArgsConstructor
 public class RecruitmentCommentCustomRepositoryImpl implements RecruitmentCommentCustomRepository {
+
+    // 댓글 목록, 한 댓글의 대댓글 목록은 작성 순. 부모 조건이 인덱스 앞 컬럼과 같으므로 id만 커서로 쓴다.
+    public static final KeysetOrder THREAD_ORDER = KeysetOrder.by(asc(recruitmentComment.id));
+
+    private static final int COMMENT_DEPTH = 1;
+    private static final int REPLY_DEPTH = 2;
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    public static Cursor threadCursorOf(RecruitmentComment comment) {
+        return Cursor.of(comment.getId());
+    }
+
+    /**
+     * idx_recruitment_comment_root 범위 스캔. 대댓글 행은 읽지 않는다.
+     */
+    @Override
+    public List<RecruitmentComment> findRootCommentsByRecruitmentId(Long recruitmentId, Cursor cursor, int limit) {
+        return jpaQueryFactory
+                .selectFrom(recruitmentComment)
+                .where(recruitmentComment.recruitment.id.eq(recruitmentId),
+                        recruitmentComment.depth.eq(COMMENT_DEPTH),
+                        THREAD_ORDER.after(cursor))
+                .orderBy(THREAD_ORDER.orderSpecifiers())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * idx_recruitment_comment_thread 범위 스캔. 대댓글 수와 관계없이 커서 위치부터 limit개만 읽는다.
+     */
+    @Override
+    public List<RecruitmentComment> findRepliesByGroupId(Long recruitmentId, Long groupId, Cursor cursor, int limit) {
+        return jpaQueryFactory
+                .selectFrom(recruitmentComment)
+                .where(recruitmentComment.recruitment.id.eq(recruitmentId),
+                        recruitmentComment.groupId.eq(groupId),
+                        recruitmentComment.depth.eq(REPLY_DEPTH),
+                        THREAD_ORDER.after(cursor))
+                .orderBy(THREAD_ORDER.orderSpecifiers())
+                .limit(limit)
+                .fetch();
+    }
 }
@@ -1,12 +1,12 @@
 package com.frog.travelwithme.domain.buddy.repository;
 
 
-import com.frog.travelwithme.domain.buddy.entity.Recruitment;
+import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
+import com.frog.travelwithme.global.dto.Cursor;
 
+import java.util.List;
 import java.util.Optional;
 
-import static com.frog.travelwithme.global.enums.EnumCollection.*;
-
 /**
  * 작성자: 이재혁
  * 버전 정보: 1.0.0
@@ -14,5 +14,11 @@ import static com.frog.travelwithme.global.enums.EnumCollection.*;
  **/
 
 public interface RecruitmentCustomRepository {
-    Optional<Recruitment> findRecruitmentByIdAndMatchingStatus(Long id, MatchingStatus status);
+    List<BuddyDto.RecruitmentSummary> searchRecruitments(BuddyDto.RecruitmentSearch search, Cursor cursor, int limit);
+
+    Optional<BuddyDto.RecruitmentGetResponse> findRecruitmentDetailById(Long id);
+
+    long reserveParticipant(Long id);
+
+    long releaseParticipant(Long id);
 }
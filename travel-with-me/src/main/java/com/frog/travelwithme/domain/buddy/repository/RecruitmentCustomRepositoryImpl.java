@@ -1,15 +1,22 @@
 package com.frog.travelwithme.domain.buddy.repository;
 
-import com.frog.travelwithme.domain.buddy.entity.Recruitment;
+import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
+import com.frog.travelwithme.domain.buddy.controller.dto.QBuddyDto_RecruitmentGetResponse;
+import com.frog.travelwithme.domain.buddy.controller.dto.QBuddyDto_RecruitmentSummary;
+import com.frog.travelwithme.global.dto.Cursor;
+import com.frog.travelwithme.global.dto.KeysetOrder;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
-import static com.frog.travelwithme.domain.buddy.entity.QMatching.*;
 import static com.frog.travelwithme.domain.member.entity.QMember.*;
 import static com.frog.travelwithme.domain.buddy.entity.QRecruitment.*;
+import static com.frog.travelwithme.global.dto.KeysetOrder.desc;
 import static com.frog.travelwithme.global.enums.EnumCollection.*;
 
 /**
@@ -22,20 +29,130 @@ import static com.frog.travelwithme.global.enums.EnumCollection.*;
 @RequiredArgsConstructor
 public class RecruitmentCustomRepositoryImpl implements RecruitmentCustomRepository {
 
+    // 최신 모집글 순. (recruitment_status, travel_nationality, is_deleted, id) 인덱스 순서와 같아 정렬 없이 인덱스를 따라 읽는다.
+    public static final KeysetOrder RECRUITMENT_ORDER = KeysetOrder.by(desc(recruitment.id));
+
     private final JPAQueryFactory queryFactory;
 
+    public static Cursor cursorOf(BuddyDto.RecruitmentSummary summary) {
+        return Cursor.of(summary.getId());
+    }
+
+    /**
+     * 엔티티 대신 목록에 필요한 컬럼만 조회하고, OFFSET 없이 커서 이후의 limit개만 읽는다.
+     * 삭제된 모집글은 SoftDelete 필터가 is_deleted = false 조건으로 제외한다.
+     */
     @Override
-    public Optional<Recruitment> findRecruitmentByIdAndMatchingStatus(Long id, MatchingStatus status) {
+    public List<BuddyDto.RecruitmentSummary> searchRecruitments(BuddyDto.RecruitmentSearch search,
+                                                                Cursor cursor,
+                                                                int limit) {
+        return queryFactory
+                .select(new QBuddyDto_RecruitmentSummary(
+                        recruitment.id,
+                        recruitment.title,
+                        recruitment.travelNationality,
+                        recruitment.travelStartDate,
+                        recruitment.travelEndDate,
+                        recruitment.recruitmentStatus,
+                        recruitment.viewCount,
+                        recruitment.commentCount,
+                        member.nickname,
+                        member.thumbnailImage.coalesce(member.image)))
+                .from(recruitment)
+                .join(recruitment.member, member)
+                .where(
+                        eqRecruitmentStatus(search.getRecruitmentStatus()),
+                        eqTravelNationality(search.getTravelNationality()),
+                        startsBeforeOrOn(search.getTravelEndDate()),
+                        endsAfterOrOn(search.getTravelStartDate()),
+                        RECRUITMENT_ORDER.after(cursor)
+                )
+                .orderBy(RECRUITMENT_ORDER.orderSpecifiers())
+                .limit(limit)
+                .fetch();
+    }
 
+    /**
+     * 상세 화면에 필요한 모집글, 작성자 컬럼만 한 번에 조회한다. 참여 인원은 MatchingRepository에서 따로 조회한다.
+     */
+    @Override
+    public Optional<BuddyDto.RecruitmentGetResponse> findRecruitmentDetailById(Long id) {
         return Optional.ofNullable(queryFactory
-                .select(recruitment)
+                .select(new QBuddyDto_RecruitmentGetResponse(
+                        recruitment.id,
+                        recruitment.title,
+                        recruitment.content,
+                        recruitment.travelNationality,
+                        recruitment.travelStartDate,
+                        recruitment.travelEndDate,
+                        recruitment.viewCount,
+                        recruitment.commentCount,
+                        member.nickname,
+                        member.image,
+                        recruitment.createdAt))
                 .from(recruitment)
-                .leftJoin(recruitment.matchingList, matching).fetchJoin()
-                .leftJoin(matching.member, member).fetchJoin()
+                .join(recruitment.member, member)
+                .where(recruitment.id.eq(id))
+                .fetchOne());
+    }
+
+    /**
+     * 모집 중이고 최대 인원보다 적을 때만 참여 인원을 1 늘린다.
+     * 행 잠금 안에서 조건을 확인하므로 동시에 승인해도 최대 인원을 넘지 않고, 마감 작업이 먼저 끝낸 모집글에는 예약되지 않는다.
+     * @return 예약에 성공하면 1, 인원이 다 찼거나 마감되었으면 0
+     */
+    @Override
+    public long reserveParticipant(Long id) {
+        return queryFactory
+                .update(recruitment)
+                .set(recruitment.participantCount, recruitment.participantCount.add(1))
                 .where(
                         recruitment.id.eq(id),
-                        matching.status.eq(status)
+                        recruitment.recruitmentStatus.eq(RecruitmentStatus.IN_PROGRESS),
+                        recruitment.maxParticipants.isNull()
+                                .or(recruitment.participantCount.lt(recruitment.maxParticipants))
                 )
-                .fetchOne());
+                .execute();
+    }
+
+    @Override
+    public long releaseParticipant(Long id) {
+        return queryFactory
+                .update(recruitment)
+                .set(recruitment.participantCount, recruitment.participantCount.subtract(1))
+                .where(
+                        recruitment.id.eq(id),
+                        recruitment.participantCount.gt(0)
+                )
+                .execute();
+    }
+
+    private BooleanExpression eqRecruitmentStatus(RecruitmentStatus recruitmentStatus) {
+        if (recruitmentStatus == null) {
+            return null;
+        }
+        return recruitment.recruitmentStatus.eq(recruitmentStatus);
+    }
+
+    private BooleanExpression eqTravelNationality(String travelNationality) {
+        if (travelNationality == null) {
+            return null;
+        }
+        return recruitment.travelNationality.eq(travelNationality);
+    }
+
+    // 여행 기간이 검색 기간과 하루라도 겹치는 모집글: 시작일 <= 검색 종료일 AND 종료일 >= 검색 시작일
+    private BooleanExpression startsBeforeOrOn(LocalDateTime travelEndDate) {
+        if (travelEndDate == null) {
+            return null;
+        }
+        return recruitment.travelStartDate.loe(travelEndDate);
+    }
+
+    private BooleanExpression endsAfterOrOn(LocalDateTime travelStartDate) {
+        if (travelStartDate == null) {
+            return null;
+        }
+        return recruitment.travelEndDate.goe(travelStartDate);
     }
 }
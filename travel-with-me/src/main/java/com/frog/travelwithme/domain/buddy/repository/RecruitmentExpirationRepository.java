@@ -0,0 +1,71 @@
+package com.frog.travelwithme.domain.buddy.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * RecruitmentExpirationRepository 설명: 여행 시작일이 지난 동행모집글을 청크 단위 UPDATE로 마감
+ * 청크마다 짧은 트랜잭션으로 커밋해 모집글, 매칭 행의 락을 오래 잡지 않는다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Repository
+@RequiredArgsConstructor
+public class RecruitmentExpirationRepository {
+
+    // idx_recruitment_status_start_date 인덱스 범위 스캔. 마감된 모집글은 다음 청크 조회 대상에서 빠진다.
+    private static final String SELECT_EXPIRED_IDS_SQL =
+            "SELECT id FROM recruitment " +
+                    "WHERE recruitment_status = 'IN_PROGRESS' AND travel_start_date < ? " +
+                    "ORDER BY travel_start_date LIMIT ?";
+
+    // 매칭 승인과 같은 순서(모집글 -> 매칭)로 락을 잡아 교착 상태를 피한다.
+    // 승인 중인 요청은 참여 인원 예약 UPDATE의 모집 상태 조건에서 막히고,
+    // 모집글 수정은 변경된 컬럼만 UPDATE하므로(@DynamicUpdate) 마감 상태를 덮어쓰지 않는다.
+    private static final String END_RECRUITMENTS_SQL =
+            "UPDATE recruitment SET recruitment_status = 'END' " +
+                    "WHERE recruitment_status = 'IN_PROGRESS' AND id IN (%s)";
+
+    private static final String REJECT_PENDING_MATCHINGS_SQL =
+            "UPDATE matching SET status = 'REJECT', version = version + 1 " +
+                    "WHERE status = 'REQUEST' AND recruitment_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param before 여행 시작일이 이 시각 이전인 모집글을 마감
+     * @param limit  한 번에 마감할 최대 모집글 수
+     */
+    @Transactional
+    public ExpiredChunk expireChunk(LocalDateTime before, int limit) {
+        List<Long> recruitmentIds = jdbcTemplate.queryForList(
+                SELECT_EXPIRED_IDS_SQL, Long.class, Timestamp.valueOf(before), limit);
+        if (recruitmentIds.isEmpty()) {
+            return new ExpiredChunk(0, 0, 0);
+        }
+        String placeholders = String.join(", ", Collections.nCopies(recruitmentIds.size(), "?"));
+        Object[] args = recruitmentIds.toArray();
+        int expiredCount = jdbcTemplate.update(String.format(END_RECRUITMENTS_SQL, placeholders), args);
+        int rejectedCount = jdbcTemplate.update(String.format(REJECT_PENDING_MATCHINGS_SQL, placeholders), args);
+
+        return new ExpiredChunk(recruitmentIds.size(), expiredCount, rejectedCount);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class ExpiredChunk {
+        // 조회된 모집글 수. limit보다 작으면 남은 대상이 없다.
+        private final int selectedCount;
+        private final int expiredCount;
+        private final int rejectedMatchingCount;
+    }
+}
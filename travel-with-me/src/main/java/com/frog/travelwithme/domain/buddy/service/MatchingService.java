@@ -9,6 +9,7 @@ import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,10 +36,13 @@ public class MatchingService {
 
     private final MemberService memberService;
 
+    private final RecruitmentCacheService recruitmentCacheService;
+
     public ResponseBody requestMatchingByEmail(Long recruitmentId, String email) {
         Recruitment recruitment = recruitmentService.findRecruitmentByIdAndCheckExpired(recruitmentId);
         Member member = memberService.findMember(email);
         Optional<Matching> findMatching = matchingRepository.findMatchingByMemberAndRecruitment(member, recruitment);
+        recruitmentCacheService.evict(recruitmentId);
         return this.requestMatching(findMatching, recruitment, member);
     }
 
@@ -46,20 +50,23 @@ public class MatchingService {
         Recruitment recruitment = recruitmentService.findRecruitmentByIdAndCheckExpired(recruitmentId);
         Member member = memberService.findMember(email);
         Optional<Matching> findMatching = matchingRepository.findMatchingByMemberAndRecruitment(member, recruitment);
-        return this.cancelMatching(findMatching);
+        recruitmentCacheService.evict(recruitmentId);
+        return this.cancelMatching(findMatching, recruitment);
     }
 
     public ResponseBody approveMatchingByEmail(Long recruitmentId, String email, Long matchingId) {
         Recruitment recruitment =
                 recruitmentService.findRecruitmentAndCheckEqualWriterAndUserAndCheckExpired(recruitmentId, email);
         Matching findMatching = this.findMatchingByIdAndCheckEqualRecruitment(matchingId, recruitment);
-        return this.approveMatching(findMatching);
+        recruitmentCacheService.evict(recruitmentId);
+        return this.approveMatching(findMatching, recruitment);
     }
 
     public ResponseBody rejectMatchingByEmail(Long recruitmentId, String email, Long matchingId) {
         Recruitment recruitment =
                 recruitmentService.findRecruitmentAndCheckEqualWriterAndUserAndCheckExpired(recruitmentId, email);
         Matching findMatching = this.findMatchingByIdAndCheckEqualRecruitment(matchingId, recruitment);
+        recruitmentCacheService.evict(recruitmentId);
         return this.rejectMatching(findMatching);
     }
 
@@ -75,19 +82,26 @@ public class MatchingService {
         }
     }
 
-    private ResponseBody cancelMatching(Optional<Matching> findMatching) {
+    private ResponseBody cancelMatching(Optional<Matching> findMatching, Recruitment recruitment) {
         if(findMatching.isEmpty()) {
             throw new BusinessLogicException(ExceptionCode.MATCHING_NOT_FOUND);
         } else {
             Matching matching = findMatching.get();
             this.checkPossibleToCancelMatching(matching);
+            if (matching.getStatus().equals(MatchingStatus.APPROVE)) {
+                recruitmentService.releaseParticipant(recruitment.getId());
+            }
             this.updateMatchingByStatus(matching, MatchingStatus.CANCEL);
             return ResponseBody.CANCEL_MATCHING;
         }
     }
 
-    private ResponseBody approveMatching(Matching matching) {
+    /**
+     * 참여 인원 예약(조건부 UPDATE)과 매칭 승인이 같은 트랜잭션이라, 같은 매칭을 동시에 승인해 버전 충돌로 롤백되면 예약도 함께 취소된다.
+     */
+    private ResponseBody approveMatching(Matching matching, Recruitment recruitment) {
         this.checkPossibleToApproveMatching(matching);
+        recruitmentService.reserveParticipant(recruitment.getId());
         matching.approve();
         return ResponseBody.APPROVE_MATCHING;
     }
@@ -98,10 +112,20 @@ public class MatchingService {
         return ResponseBody.REJECT_MATCHING;
     }
 
+    /**
+     * 같은 회원의 신청이 동시에 들어오면 (member_id, recruitment_id) 유니크 제약으로 하나만 저장된다.
+     */
     private void createMatching(Recruitment recruitment, Member member) {
         Matching matching = new Matching(MatchingStatus.REQUEST);
         matching.addMember(member);
         matching.addRecruitment(recruitment);
+        try {
+            matchingRepository.saveAndFlush(matching);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("MatchingService.createMatching exception occur recruitment: {}, member: {}",
+                    recruitment.getId(), member.getId());
+            throw new BusinessLogicException(ExceptionCode.MATCHING_EXISTS);
+        }
         recruitment.addMatching(matching);
     }
 
@@ -118,31 +142,28 @@ public class MatchingService {
     }
 
     private void checkPossibleToRequestMatching(Matching matching) {
-        if (matching.getStatus().equals(MatchingStatus.APPROVE)) {
+        if (!matching.getStatus().canChangeTo(MatchingStatus.REQUEST)) {
             log.debug("MatchingService.checkPossibleToRequestMatching exception occur matching: {}", matching);
             throw new BusinessLogicException(ExceptionCode.MATCHING_REQUEST_NOT_ALLOWED);
         }
     }
 
     private void checkPossibleToCancelMatching(Matching matching) {
-        MatchingStatus matchingStatus = matching.getStatus();
-        if (matchingStatus.equals(MatchingStatus.REJECT) || matchingStatus.equals(MatchingStatus.CANCEL)) {
+        if (!matching.getStatus().canChangeTo(MatchingStatus.CANCEL)) {
             log.debug("MatchingService.checkPossibleToCancelMatching exception occur matching: {}", matching);
             throw new BusinessLogicException(ExceptionCode.MATCHING_CANCEL_NOT_ALLOWED);
         }
     }
 
     private void checkPossibleToApproveMatching(Matching matching) {
-        MatchingStatus matchingStatus = matching.getStatus();
-        if (!matchingStatus.equals(MatchingStatus.REQUEST)) {
+        if (!matching.getStatus().canChangeTo(MatchingStatus.APPROVE)) {
             log.debug("MatchingService.checkPossibleToApproveMatching exception occur matching: {}", matching);
             throw new BusinessLogicException(ExceptionCode.MATCHING_APPROVE_NOT_ALLOWED);
         }
     }
 
     private void checkPossibleToRejectMatching(Matching matching) {
-        MatchingStatus matchingStatus = matching.getStatus();
-        if (!matchingStatus.equals(MatchingStatus.REQUEST)) {
+        if (!matching.getStatus().canChangeTo(MatchingStatus.REJECT)) {
             log.debug("MatchingService.checkPossibleToRejectMatching exception occur matching: {}", matching);
             throw new BusinessLogicException(ExceptionCode.MATCHING_REJECT_NOT_ALLOWED);
         }
@@ -0,0 +1,75 @@
+package com.frog.travelwithme.domain.buddy.service;
+
+import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
+import com.frog.travelwithme.global.utils.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * RecruitmentCacheService 설명: 동행모집글 id -> 상세 조회 응답(요청자별 값 제외)을 담는 서버 메모리 캐시
+ * 모집글이나 매칭이 바뀌면 이 서버의 캐시를 지우고, 다른 서버의 캐시는 짧은 TTL이 지나면 갱신된다.
+ * 크기를 0으로 설정하면 캐시를 사용하지 않는다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/15
+ **/
+@Service
+public class RecruitmentCacheService {
+
+    private final LocalCache<Long, BuddyDto.RecruitmentGetResponse> details;
+
+    public RecruitmentCacheService(@Value("${recruitment.detail-cache.size:1000}") int size,
+                                   @Value("${recruitment.detail-cache.ttl-seconds:5}") long ttlSeconds) {
+        this.details = size > 0 ? new LocalCache<>(size, Duration.ofSeconds(ttlSeconds)) : null;
+    }
+
+    public Optional<BuddyDto.RecruitmentGetResponse> findDetail(Long recruitmentId) {
+        if (details == null) {
+            return Optional.empty();
+        }
+
+        return details.get(recruitmentId);
+    }
+
+    /**
+     * 롤백된 트랜잭션에서 읽은 값이 캐시에 남지 않도록 커밋 후에 담는다.
+     */
+    public void cacheDetail(BuddyDto.RecruitmentGetResponse detail) {
+        if (details == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            details.put(detail.getId(), detail);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                details.put(detail.getId(), detail);
+            }
+        });
+    }
+
+    /**
+     * 커밋 전에 지우고 커밋 후에 한 번 더 지워, 그 사이 다른 요청이 이전 값을 다시 담아도 남지 않도록 한다.
+     */
+    public void evict(Long recruitmentId) {
+        if (details == null) {
+            return;
+        }
+        details.evict(recruitmentId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    details.evict(recruitmentId);
+                }
+            });
+        }
+    }
+}
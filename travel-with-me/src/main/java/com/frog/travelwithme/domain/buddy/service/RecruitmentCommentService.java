@@ -3,20 +3,30 @@ package com.frog.travelwithme.domain.buddy.service;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
 import com.frog.travelwithme.domain.buddy.entity.RecruitmentComment;
 import com.frog.travelwithme.domain.buddy.mapper.RecruitmentCommentMapper;
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentCommentCustomRepositoryImpl;
 import com.frog.travelwithme.domain.buddy.repository.RecruitmentCommentRepository;
 import com.frog.travelwithme.domain.buddy.service.dto.RecruitmentCommentUpdateDto;
 import com.frog.travelwithme.domain.common.comment.dto.CommentDto;
 import com.frog.travelwithme.domain.common.comment.service.CommentService;
 import com.frog.travelwithme.domain.common.comment.dto.CommentTypeDto;
 import com.frog.travelwithme.domain.buddy.service.dto.RecruitmentCommentCreateDto;
+import com.frog.travelwithme.domain.common.like.repository.LikeRepository;
 import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.service.MemberService;
+import com.frog.travelwithme.global.counter.CounterService;
+import com.frog.travelwithme.global.dto.CursorResponseDto;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.CounterType.RECRUITMENT_COMMENT_COUNT;
+import static com.frog.travelwithme.global.enums.EnumCollection.LikeType.RECRUITMENT_COMMENT;
 
 /**
  * 작성자: 이재혁
@@ -37,16 +47,24 @@ public class RecruitmentCommentService extends CommentService {
 
     private final RecruitmentService recruitmentService;
 
+    private final CounterService counterService;
+
+    private final LikeRepository likeRepository;
+
     public RecruitmentCommentService(MemberService memberService,
                                      RecruitmentCommentRepository recruitmentCommentRepository,
                                      RecruitmentCommentMapper recruitmentCommentMapper,
-                                     RecruitmentService recruitmentService) {
+                                     RecruitmentService recruitmentService,
+                                     CounterService counterService,
+                                     LikeRepository likeRepository) {
 
         super(memberService);
         this.recruitmentCommentRepository = recruitmentCommentRepository;
         this.recruitmentCommentMapper = recruitmentCommentMapper;
         this.memberService = memberService;
         this.recruitmentService = recruitmentService;
+        this.counterService = counterService;
+        this.likeRepository = likeRepository;
     }
 
     public CommentDto.PostResponse createCommentByEmail(CommentDto.Post postDto,
@@ -74,6 +92,35 @@ public class RecruitmentCommentService extends CommentService {
         return this.updateComment(super.createCommentTypeDto(recruitmentCommentUpdateDto));
     }
 
+    /**
+     * 동행모집글의 댓글(depth 1)만 작성 순으로 조회한다. 대댓글은 findRepliesByCommentId로 따로 페이지 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponseDto<CommentDto.GetResponse> findRootCommentsByRecruitmentId(Long recruitmentId,
+                                                                                     String email,
+                                                                                     String cursor,
+                                                                                     int size) {
+        List<RecruitmentComment> comments = recruitmentCommentRepository.findRootCommentsByRecruitmentId(
+                recruitmentId, RecruitmentCommentCustomRepositoryImpl.THREAD_ORDER.decode(cursor), size + 1);
+
+        return CursorResponseDto.of(comments, size, RecruitmentCommentCustomRepositoryImpl::threadCursorOf,
+                page -> this.toGetResponses(page, email));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponseDto<CommentDto.GetResponse> findRepliesByCommentId(Long commentId,
+                                                                            String email,
+                                                                            String cursor,
+                                                                            int size) {
+        RecruitmentComment rootComment = this.findRecruitmentCommentById(commentId);
+        List<RecruitmentComment> replies = recruitmentCommentRepository.findRepliesByGroupId(
+                rootComment.getRecruitment().getId(), rootComment.getGroupId(),
+                RecruitmentCommentCustomRepositoryImpl.THREAD_ORDER.decode(cursor), size + 1);
+
+        return CursorResponseDto.of(replies, size, RecruitmentCommentCustomRepositoryImpl::threadCursorOf,
+                page -> this.toGetResponses(page, email));
+    }
+
     @Override
     public <T> CommentDto.PostResponse createComment(CommentTypeDto<T> commentTypeDto) {
         RecruitmentCommentCreateDto recruitmentCommentCreateDto = (RecruitmentCommentCreateDto) commentTypeDto.getType();
@@ -82,6 +129,7 @@ public class RecruitmentCommentService extends CommentService {
                 .addMember(recruitmentCommentCreateDto.getMember());
         RecruitmentComment savedComment = recruitmentCommentRepository.save(comment);
         this.joinGroup(savedComment);
+        counterService.increment(RECRUITMENT_COMMENT_COUNT, recruitmentCommentCreateDto.getRecruitment().getId());
         return recruitmentCommentMapper.toPostResponseCommentDto(savedComment);
     }
 
@@ -108,6 +156,20 @@ public class RecruitmentCommentService extends CommentService {
         );
     }
 
+    /**
+     * 좋아요 여부와 언급된 회원 닉네임을 페이지 단위로 한 번씩만 조회한다.
+     */
+    private List<CommentDto.GetResponse> toGetResponses(List<RecruitmentComment> comments, String email) {
+        List<Long> commentIds = comments.stream()
+                .map(RecruitmentComment::getId)
+                .collect(Collectors.toList());
+        Long memberId = email == null ? null : memberService.findMember(email).getId();
+        Set<Long> likedCommentIds = likeRepository.findLikedIds(RECRUITMENT_COMMENT, memberId, commentIds);
+
+        return recruitmentCommentMapper.toGetResponseCommentDtoList(comments, memberId, likedCommentIds,
+                super.findTaggedMemberNicknames(comments));
+    }
+
     public void checkEqualWriterAndUser(RecruitmentComment recruitmentComment, String email) {
         Member writer = recruitmentComment.getMember();
         if (!writer.getEmail().equals(email)) {
@@ -0,0 +1,125 @@
+package com.frog.travelwithme.domain.buddy.service;
+
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentExpirationRepository;
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentExpirationRepository.ExpiredChunk;
+import com.frog.travelwithme.global.redis.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * RecruitmentExpirationService 설명: 여행 시작일이 지난 동행모집글을 주기적으로 마감하고 대기 중인 매칭 신청을 거절
+ * 여러 서버 중 한 곳에서만 실행되도록 Redis 락을 잡고, 한 번의 실행에서 처리하는 청크 수는 제한한다.
+ * 락 값은 실행마다 다른 토큰이라 TTL이 지나 다른 서버가 잡은 락을 풀지 않는다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Slf4j
+@Service
+public class RecruitmentExpirationService {
+
+    private static final String LOCK_KEY = "recruitment:expiration:lock";
+    // 청크마다 만료 시간을 다시 늘리므로 청크 하나를 처리하는 시간만 넘지 않으면 된다.
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    private final RecruitmentExpirationRepository recruitmentExpirationRepository;
+    private final RedisService redisService;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Counter expiredCounter;
+    private final Counter rejectedMatchingCounter;
+    private final Counter failureCounter;
+    private final Timer expirationTimer;
+
+    public RecruitmentExpirationService(RecruitmentExpirationRepository recruitmentExpirationRepository,
+                                        RedisService redisService,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${recruitment.expiration.chunk-size:500}") int chunkSize,
+                                        @Value("${recruitment.expiration.max-chunks:200}") int maxChunks) {
+        this.recruitmentExpirationRepository = recruitmentExpirationRepository;
+        this.redisService = redisService;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.expiredCounter = meterRegistry.counter("recruitment.expiration.expired");
+        this.rejectedMatchingCounter = meterRegistry.counter("recruitment.expiration.rejected.matchings");
+        this.failureCounter = meterRegistry.counter("recruitment.expiration.failures");
+        this.expirationTimer = meterRegistry.timer("recruitment.expiration.duration");
+    }
+
+    /**
+     * 여행 시작일이 오늘 이전인 모집글을 마감한다. 오늘 출발하는 모집글은 하루 동안 더 신청을 받는다.
+     */
+    @Scheduled(cron = "${recruitment.expiration.cron:0 */10 * * * *}")
+    public void expireRecruitments() {
+        String lockToken = UUID.randomUUID().toString();
+        if (!redisService.setValuesIfAbsent(LOCK_KEY, lockToken, LOCK_TTL)) {
+            return;
+        }
+        try {
+            this.expireRecruitmentsBefore(LocalDate.now().atStartOfDay(),
+                    () -> redisService.renewLock(LOCK_KEY, lockToken, LOCK_TTL));
+        } finally {
+            redisService.releaseLock(LOCK_KEY, lockToken);
+        }
+    }
+
+    public long expireRecruitmentsBefore(LocalDateTime before) {
+        return this.expireRecruitmentsBefore(before, () -> true);
+    }
+
+    /**
+     * 청크마다 별도 트랜잭션으로 커밋하고, 실패하거나 락을 잃으면 남은 청크는 다음 실행에서 이어서 처리한다.
+     *
+     * @return 마감한 모집글 수
+     */
+    private long expireRecruitmentsBefore(LocalDateTime before, BooleanSupplier renewLock) {
+        long startedAt = System.nanoTime();
+        long expiredCount = 0L;
+        long rejectedCount = 0L;
+        int chunkCount = 0;
+        try {
+            while (chunkCount < maxChunks) {
+                ExpiredChunk chunk = recruitmentExpirationRepository.expireChunk(before, chunkSize);
+                expiredCount += chunk.getExpiredCount();
+                rejectedCount += chunk.getRejectedMatchingCount();
+                chunkCount++;
+                if (chunk.getSelectedCount() < chunkSize) {
+                    break;
+                }
+                if (!renewLock.getAsBoolean()) {
+                    log.warn("RecruitmentExpirationService.expireRecruitmentsBefore lock lost chunk : {}", chunkCount);
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.error("RecruitmentExpirationService.expireRecruitmentsBefore exception occur " +
+                    "chunk : {}, expired : {}", chunkCount, expiredCount, e);
+            failureCounter.increment();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        expiredCounter.increment(expiredCount);
+        rejectedMatchingCounter.increment(rejectedCount);
+        expirationTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (expiredCount > 0) {
+            long elapsedMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(elapsedNanos), 1L);
+            log.info("RecruitmentExpirationService.expireRecruitmentsBefore expired : {}, rejected matchings : {}, " +
+                            "chunks : {}, elapsed : {}ms, throughput : {}/s",
+                    expiredCount, rejectedCount, chunkCount, elapsedMillis, expiredCount * 1000 / elapsedMillis);
+        }
+
+        return expiredCount;
+    }
+}
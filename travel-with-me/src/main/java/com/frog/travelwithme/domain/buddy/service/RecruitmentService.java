@@ -5,9 +5,13 @@ package com.frog.travelwithme.domain.buddy.service;
 import com.frog.travelwithme.domain.buddy.mapper.RecruitmentMapper;
 import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
+import com.frog.travelwithme.domain.buddy.repository.MatchingRepository;
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentCustomRepositoryImpl;
 import com.frog.travelwithme.domain.buddy.repository.RecruitmentRepository;
 import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.service.MemberService;
+import com.frog.travelwithme.global.counter.CounterService;
+import com.frog.travelwithme.global.dto.CursorResponseDto;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 import static com.frog.travelwithme.global.enums.EnumCollection.*;
+import static com.frog.travelwithme.global.enums.EnumCollection.CounterType.RECRUITMENT_VIEW_COUNT;
 
 /**
  * 작성자: 이재혁
@@ -37,6 +42,12 @@ public class RecruitmentService {
 
     private final RecruitmentMapper recruitmentMapper;
 
+    private final MatchingRepository matchingRepository;
+
+    private final RecruitmentCacheService recruitmentCacheService;
+
+    private final CounterService counterService;
+
     public BuddyDto.RecruitmentPostResponse createRecruitmentByEmail(BuddyDto.RecruitmentPost recruitmentPostDto,
                                                                      String email) {
 
@@ -56,50 +67,50 @@ public class RecruitmentService {
         this.deleteRecruitment(findRecruitment);
     }
 
-//    TODO : 댓글, 매칭관련 작업이 끝나면 조회 반환 작성하기
-//    public RecruitmentDto.GetResponse findRecruitment(Long recruitmentId, String email) {
-//
-//        Recruitment findRecruitment = this.findRecruitmentById(recruitmentId);
-//        Boolean recruitmentRequestStatus = this.checkRecruitmentWriterByEmail(findRecruitment, email);
-//        // TODO : 버디 매칭상태를 확인해서 모집 요청상태 만들기
-//        // TODO : 버디 매칭상태에서 승인완료된 사람들을 참여인원 찾기
-//        return null;
-//    }
-
-    public List<BuddyDto.MatchingMemberResponse> getMatchingRequestMemberList(Long recruitmentId) {
-        Recruitment recruitment =
-                this.findRecruitmentByIdAndMatchingStatusAndCheckExpired(recruitmentId, MatchingStatus.REQUEST);
-        return recruitmentMapper.toMatchingMemberResponseBuddyDtoList(recruitment.getMatchingList());
+    /**
+     * 요청자와 관계없는 모집글, 작성자, 참여 인원은 캐시에서 읽고, 요청자의 매칭 상태만 매번 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public BuddyDto.RecruitmentGetResponse findRecruitment(Long recruitmentId, String email) {
+        BuddyDto.RecruitmentGetResponse detail = recruitmentCacheService.findDetail(recruitmentId)
+                .orElseGet(() -> this.findRecruitmentDetail(recruitmentId));
+        counterService.increment(RECRUITMENT_VIEW_COUNT, recruitmentId);
+
+        return detail.toBuilder()
+                .recruitmentRequestStatus(this.checkMatchingRequestedByEmail(recruitmentId, email))
+                .build();
     }
 
-    public List<BuddyDto.MatchingMemberResponse> getMatchingApprovedMemberList(Long recruitmentId) {
-        Recruitment recruitment =
-                this.findRecruitmentByIdAndMatchingStatusAndCheckExpired(recruitmentId, MatchingStatus.APPROVE);
-        return recruitmentMapper.toMatchingMemberResponseBuddyDtoList(recruitment.getMatchingList());
+    @Transactional(readOnly = true)
+    public CursorResponseDto<BuddyDto.RecruitmentSummary> searchRecruitments(BuddyDto.RecruitmentSearch search,
+                                                                            String cursor,
+                                                                            int size) {
+        List<BuddyDto.RecruitmentSummary> summaries = recruitmentRepository.searchRecruitments(
+                search, RecruitmentCustomRepositoryImpl.RECRUITMENT_ORDER.decode(cursor), size + 1);
+
+        return CursorResponseDto.of(summaries, size, RecruitmentCustomRepositoryImpl::cursorOf, page -> page);
     }
 
     @Transactional(readOnly = true)
-    public Recruitment findRecruitmentById(Long id) {
-        return recruitmentRepository.findById(id).orElseThrow(() -> {
-            log.debug("RecruitmentService.findRecruitmentById exception occur id: {}", id);
-            throw new BusinessLogicException(ExceptionCode.RECRUITMENT_NOT_FOUND);
-        });
+    public List<BuddyDto.MatchingMemberResponse> getMatchingRequestMemberList(Long recruitmentId) {
+        this.findRecruitmentByIdAndCheckExpired(recruitmentId);
+        return matchingRepository.findMatchingMembers(recruitmentId, MatchingStatus.REQUEST);
     }
 
     @Transactional(readOnly = true)
-    public Recruitment findRecruitmentByIdAndMatchingStatusAndCheckExpired(Long id, MatchingStatus status) {
-        Recruitment recruitment = this.findRecruitmentByIdAndMatchingStatus(id, status);
-        this.checkExpiredRecruitment(recruitment);
-        return recruitment;
+    public List<BuddyDto.MatchingMemberResponse> getMatchingApprovedMemberList(Long recruitmentId) {
+        this.findRecruitmentByIdAndCheckExpired(recruitmentId);
+        return matchingRepository.findMatchingMembers(recruitmentId, MatchingStatus.APPROVE);
     }
 
+    // findById에는 soft delete 필터가 적용되지 않으므로 삭제된 모집글은 여기서 제외한다.
     @Transactional(readOnly = true)
-    public Recruitment findRecruitmentByIdAndMatchingStatus(Long id, MatchingStatus status) {
-        return recruitmentRepository.findRecruitmentByIdAndMatchingStatus(id, status)
+    public Recruitment findRecruitmentById(Long id) {
+        return recruitmentRepository.findById(id)
+                .filter(recruitment -> !recruitment.isDeleted())
                 .orElseThrow(() -> {
-                    log.debug("RecruitmentService.findRecruitmentByIdAndMatchingStatus exception occur " +
-                            "id: {}, MatchingStatus: {}", id, status);
-                    throw new BusinessLogicException(ExceptionCode.RECRUITMENT_MATCHING_REQUEST_MEMBER_NOT_FOUND);
+                    log.debug("RecruitmentService.findRecruitmentById exception occur id: {}", id);
+                    throw new BusinessLogicException(ExceptionCode.RECRUITMENT_NOT_FOUND);
                 });
     }
 
@@ -118,6 +129,17 @@ public class RecruitmentService {
         return recruitment;
     }
 
+    public void reserveParticipant(Long recruitmentId) {
+        if (recruitmentRepository.reserveParticipant(recruitmentId) == 0) {
+            log.debug("RecruitmentService.reserveParticipant exception occur recruitmentId: {}", recruitmentId);
+            throw new BusinessLogicException(ExceptionCode.RECRUITMENT_PARTICIPANTS_FULL);
+        }
+    }
+
+    public void releaseParticipant(Long recruitmentId) {
+        recruitmentRepository.releaseParticipant(recruitmentId);
+    }
+
     public void checkExpiredRecruitment(Recruitment recruitment) {
         RecruitmentStatus status = recruitment.getRecruitmentStatus();
         if(status.equals(RecruitmentStatus.END)) {
@@ -147,20 +169,40 @@ public class RecruitmentService {
                                                                 Recruitment recruitment) {
 
         Recruitment updatedRecruitment = recruitment.updateBuddyRecruitment(recruitmentPatchDto);
+        recruitmentCacheService.evict(recruitment.getId());
         return recruitmentMapper.toPatchResponseBuddyDto(updatedRecruitment);
     }
 
     private void deleteRecruitment(Recruitment recruitment) {
         recruitment.updateDeletionEntity();
+        recruitmentCacheService.evict(recruitment.getId());
     }
 
 
-//    TODO : 댓글, 매칭관련 작업이 끝나면 조회 반환 작성하기
-//    private Boolean checkRecruitmentWriterByEmail(Recruitment recruitment, String email) {
-//        Member member = recruitment.getMember();
-//        if (member.getEmail().equals(email)) {
-//            return true;
-//        }
-//        return false;
-//    }
+    private BuddyDto.RecruitmentGetResponse findRecruitmentDetail(Long recruitmentId) {
+        BuddyDto.RecruitmentGetResponse detail = recruitmentRepository.findRecruitmentDetailById(recruitmentId)
+                .orElseThrow(() -> {
+                    log.debug("RecruitmentService.findRecruitmentDetail exception occur id: {}", recruitmentId);
+                    throw new BusinessLogicException(ExceptionCode.RECRUITMENT_NOT_FOUND);
+                });
+        List<BuddyDto.MatchingMemberResponse> members =
+                matchingRepository.findMatchingMembers(recruitmentId, MatchingStatus.APPROVE);
+        BuddyDto.RecruitmentGetResponse cachedDetail = detail.toBuilder()
+                .members(List.copyOf(members))
+                .build();
+        recruitmentCacheService.cacheDetail(cachedDetail);
+
+        return cachedDetail;
+    }
+
+    // 매칭을 신청했거나 승인된 회원이면 true. 로그인하지 않은 요청은 false
+    private Boolean checkMatchingRequestedByEmail(Long recruitmentId, String email) {
+        if (email == null) {
+            return false;
+        }
+
+        return matchingRepository.findMatchingStatus(recruitmentId, email)
+                .map(status -> status == MatchingStatus.REQUEST || status == MatchingStatus.APPROVE)
+                .orElse(false);
+    }
 }
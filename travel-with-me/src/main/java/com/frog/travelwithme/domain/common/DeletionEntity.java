@@ -20,8 +20,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class DeletionEntity {
 
+    // 삭제되지 않은 글을 is_deleted = false 하나로 찾아 인덱스를 탈 수 있도록 null을 허용하지 않는다.
     @ColumnDefault(value = "false")
-    private Boolean isDeleted;
+    @Column(nullable = false)
+    private Boolean isDeleted = false;
 
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
@@ -0,0 +1,25 @@
+package com.frog.travelwithme.domain.common;
+
+/**
+ * SoftDelete 설명: 삭제 표시된 행을 조회에서 제외하는 Hibernate 필터 이름, 조건
+ * SoftDeleteFilterConfig가 모든 EntityManager에서 필터를 켜므로 JPQL, QueryDSL, 컬렉션 조회에 적용된다.
+ * id로 조회(findById)할 때는 적용되지 않으므로 서비스에서 삭제 여부를 따로 확인한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+public final class SoftDelete {
+
+    public static final String FILTER = "softDeleteFilter";
+
+    public static final String DELETED_PARAM = "deleted";
+
+    // is_deleted는 NOT NULL이므로 (recruitment_status, ..., is_deleted, id) 인덱스로 바로 찾을 수 있다.
+    public static final String RECRUITMENT_CONDITION = "is_deleted = :deleted";
+
+    // 대댓글이 남아 있는 댓글은 '삭제된 댓글'로 보여야 하므로 댓글(depth = 1)은 제외하지 않는다.
+    public static final String COMMENT_CONDITION = "(is_deleted = :deleted or depth = 1)";
+
+    private SoftDelete() {
+    }
+}
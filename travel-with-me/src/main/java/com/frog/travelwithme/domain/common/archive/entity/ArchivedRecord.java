@@ -0,0 +1,50 @@
+package com.frog.travelwithme.domain.common.archive.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * ArchivedRecord 설명: 보관 기간이 지나 원본 테이블에서 옮긴 삭제된 행
+ * 원본 행은 컬럼명 -> 값 JSON으로 저장하므로 원본 테이블 컬럼이 바뀌어도 보관 테이블은 바꾸지 않는다.
+ * SoftDeleteArchiveRepository가 JdbcTemplate으로 직접 저장한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Entity
+@Getter
+@Table(name = "archived_record", indexes = {
+        // 복구, 문의 대응 시 원본 테이블의 id로 조회
+        @Index(name = "idx_archived_record_source", columnList = "source_table, source_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 50, nullable = false)
+    private String sourceTable;
+
+    @Column(nullable = false)
+    private Long sourceId;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    private LocalDateTime deletedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,145 @@
+package com.frog.travelwithme.domain.common.archive.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.CommentTable;
+
+/**
+ * SoftDeleteArchiveRepository 설명: 삭제된 지 보관 기간이 지난 모집글, 댓글을 청크 단위로 archived_record로 옮기고 원본에서 삭제
+ * 원본 테이블에 삭제된 행이 쌓이지 않아 목록, 상세 조회가 읽는 인덱스 범위에 삭제된 행이 남지 않는다.
+ * soft delete 필터와 관계없이 삭제된 행을 읽어야 하므로 JdbcTemplate을 사용한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Repository
+@RequiredArgsConstructor
+public class SoftDeleteArchiveRepository {
+
+    private static final ObjectMapper PAYLOAD_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    // idx_recruitment_deleted_at 범위 스캔
+    private static final String SELECT_DELETED_RECRUITMENT_IDS_SQL =
+            "SELECT id FROM recruitment WHERE is_deleted = ? AND deleted_at < ? ORDER BY deleted_at LIMIT ?";
+
+    // 대댓글은 바로 옮기고, 댓글은 대댓글이 모두 옮겨진 뒤에 옮긴다. 대댓글이 남은 댓글은 '삭제된 댓글'로 보여야 한다.
+    // deleted_at 컬럼이 추가되기 전에 삭제된 댓글은 deleted_at이 null이다.
+    private static final String SELECT_DELETED_COMMENT_IDS_SQL =
+            "SELECT c.id FROM %1$s c " +
+                    "WHERE c.is_deleted = ? AND (c.deleted_at < ? OR c.deleted_at IS NULL) " +
+                    "AND (c.depth = 2 OR NOT EXISTS (SELECT 1 FROM %1$s r " +
+                    "WHERE r.%2$s = c.%2$s AND r.group_id = c.group_id AND r.depth = 2)) " +
+                    "ORDER BY c.id LIMIT ?";
+
+    private static final String INSERT_ARCHIVED_RECORD_SQL =
+            "INSERT INTO archived_record (source_table, source_id, payload, deleted_at, archived_at) " +
+                    "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 모집글과 함께 매칭, 댓글도 옮긴다. 좋아요는 관계 행이므로 보관하지 않고 삭제한다.
+     *
+     * @param before 이 시각 이전에 삭제된 모집글을 옮김
+     * @param limit  한 번에 옮길 최대 모집글 수
+     * @return 옮긴 모집글 수. limit보다 작으면 남은 대상이 없다.
+     */
+    @Transactional
+    public int archiveRecruitments(LocalDateTime before, int limit) {
+        List<Long> recruitmentIds = jdbcTemplate.queryForList(
+                SELECT_DELETED_RECRUITMENT_IDS_SQL, Long.class, true, Timestamp.valueOf(before), limit);
+        if (recruitmentIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = this.placeholders(recruitmentIds);
+        Object[] args = recruitmentIds.toArray();
+        LocalDateTime archivedAt = LocalDateTime.now();
+        CommentTable commentTable = CommentTable.RECRUITMENT_COMMENT;
+        String commentIds = "SELECT id FROM " + commentTable.getTable() +
+                " WHERE " + commentTable.getParentColumn() + " IN (" + placeholders + ")";
+
+        this.archiveRows("recruitment", "id", placeholders, args, archivedAt);
+        this.archiveRows("matching", "recruitment_id", placeholders, args, archivedAt);
+        this.archiveRows(commentTable.getTable(), commentTable.getParentColumn(), placeholders, args, archivedAt);
+        jdbcTemplate.update("DELETE FROM " + commentTable.getLikeType().getLikeTable() +
+                " WHERE " + commentTable.getLikeType().getTargetColumn() + " IN (" + commentIds + ")", args);
+        this.deleteRows(commentTable.getTable(), commentTable.getParentColumn(), placeholders, args);
+        this.deleteRows("matching", "recruitment_id", placeholders, args);
+
+        return this.deleteRows("recruitment", "id", placeholders, args);
+    }
+
+    /**
+     * @param before 이 시각 이전에 삭제된 댓글을 옮김
+     * @param limit  한 번에 옮길 최대 댓글 수
+     * @return 옮긴 댓글 수. limit보다 작으면 남은 대상이 없다.
+     */
+    @Transactional
+    public int archiveComments(CommentTable commentTable, LocalDateTime before, int limit) {
+        String selectSql = String.format(SELECT_DELETED_COMMENT_IDS_SQL,
+                commentTable.getTable(), commentTable.getParentColumn());
+        List<Long> commentIds = jdbcTemplate.queryForList(
+                selectSql, Long.class, true, Timestamp.valueOf(before), limit);
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = this.placeholders(commentIds);
+        Object[] args = commentIds.toArray();
+
+        this.archiveRows(commentTable.getTable(), "id", placeholders, args, LocalDateTime.now());
+        this.deleteRows(commentTable.getLikeType().getLikeTable(),
+                commentTable.getLikeType().getTargetColumn(), placeholders, args);
+
+        return this.deleteRows(commentTable.getTable(), "id", placeholders, args);
+    }
+
+    private void archiveRows(String table, String column, String placeholders, Object[] args,
+                             LocalDateTime archivedAt) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT * FROM " + table + " WHERE " + column + " IN (" + placeholders + ")", args);
+        List<Object[]> records = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            records.add(new Object[]{
+                    table,
+                    ((Number) row.get("id")).longValue(),
+                    this.toPayload(row),
+                    row.get("deleted_at"),
+                    archivedAt
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_ARCHIVED_RECORD_SQL, records);
+    }
+
+    private int deleteRows(String table, String column, String placeholders, Object[] args) {
+        return jdbcTemplate.update(
+                "DELETE FROM " + table + " WHERE " + column + " IN (" + placeholders + ")", args);
+    }
+
+    private String toPayload(Map<String, Object> row) {
+        try {
+            return PAYLOAD_MAPPER.writeValueAsString(row);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("archived row serialization failed", e);
+        }
+    }
+
+    private String placeholders(List<Long> ids) {
+        return String.join(", ", Collections.nCopies(ids.size(), "?"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.frog.travelwithme.domain.common.archive.service;
+
+import com.frog.travelwithme.domain.common.archive.repository.SoftDeleteArchiveRepository;
+import com.frog.travelwithme.global.redis.RedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntUnaryOperator;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.CommentTable;
+
+/**
+ * SoftDeleteArchiveService 설명: 삭제된 지 보관 기간이 지난 모집글, 댓글을 주기적으로 보관 테이블로 옮김
+ * 여러 서버 중 한 곳에서만 실행되도록 Redis 락을 잡고, 대상마다 한 번의 실행에서 처리하는 청크 수는 제한한다.
+ * 락 값은 실행마다 다른 토큰이라 TTL이 지나 다른 서버가 잡은 락을 풀지 않는다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Slf4j
+@Service
+public class SoftDeleteArchiveService {
+
+    private static final String LOCK_KEY = "soft-delete:archive:lock";
+    // 청크마다 만료 시간을 다시 늘리므로 청크 하나를 처리하는 시간만 넘지 않으면 된다.
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+    private static final String RECRUITMENT = "recruitment";
+
+    private final SoftDeleteArchiveRepository softDeleteArchiveRepository;
+    private final RedisService redisService;
+    private final MeterRegistry meterRegistry;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Timer archiveTimer;
+
+    public SoftDeleteArchiveService(SoftDeleteArchiveRepository softDeleteArchiveRepository,
+                                    RedisService redisService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${soft-delete.archive.retention-days:30}") int retentionDays,
+                                    @Value("${soft-delete.archive.chunk-size:500}") int chunkSize,
+                                    @Value("${soft-delete.archive.max-chunks:200}") int maxChunks) {
+        this.softDeleteArchiveRepository = softDeleteArchiveRepository;
+        this.redisService = redisService;
+        this.meterRegistry = meterRegistry;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.archiveTimer = meterRegistry.timer("soft-delete.archive.duration");
+    }
+
+    @Scheduled(cron = "${soft-delete.archive.cron:0 30 4 * * *}")
+    public void archiveDeletedRows() {
+        String lockToken = UUID.randomUUID().toString();
+        if (!redisService.setValuesIfAbsent(LOCK_KEY, lockToken, LOCK_TTL)) {
+            return;
+        }
+        try {
+            this.archiveDeletedBefore(LocalDateTime.now().minusDays(retentionDays),
+                    () -> redisService.renewLock(LOCK_KEY, lockToken, LOCK_TTL));
+        } finally {
+            redisService.releaseLock(LOCK_KEY, lockToken);
+        }
+    }
+
+    public long archiveDeletedBefore(LocalDateTime before) {
+        return this.archiveDeletedBefore(before, () -> true);
+    }
+
+    /**
+     * 모집글을 먼저 옮겨 삭제된 모집글에 달린 댓글은 모집글과 함께 옮겨지도록 한다.
+     *
+     * @return 옮긴 모집글, 댓글 수
+     */
+    private long archiveDeletedBefore(LocalDateTime before, BooleanSupplier renewLock) {
+        long startedAt = System.nanoTime();
+        long archivedCount = this.archive(RECRUITMENT,
+                limit -> softDeleteArchiveRepository.archiveRecruitments(before, limit), renewLock);
+        for (CommentTable commentTable : CommentTable.values()) {
+            archivedCount += this.archive(commentTable.getTable(),
+                    limit -> softDeleteArchiveRepository.archiveComments(commentTable, before, limit), renewLock);
+        }
+        archiveTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        return archivedCount;
+    }
+
+    /**
+     * 청크마다 별도 트랜잭션으로 커밋하고, 실패하거나 락을 잃으면 남은 청크는 다음 실행에서 이어서 처리한다.
+     */
+    private long archive(String target, IntUnaryOperator archiveChunk, BooleanSupplier renewLock) {
+        long archivedCount = 0L;
+        int chunkCount = 0;
+        try {
+            while (chunkCount < maxChunks) {
+                int archived = archiveChunk.applyAsInt(chunkSize);
+                archivedCount += archived;
+                chunkCount++;
+                if (archived < chunkSize) {
+                    break;
+                }
+                if (!renewLock.getAsBoolean()) {
+                    log.warn("SoftDeleteArchiveService.archive lock lost target : {}, chunk : {}", target, chunkCount);
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.error("SoftDeleteArchiveService.archive exception occur " +
+                    "target : {}, chunk : {}, archived : {}", target, chunkCount, archivedCount, e);
+            meterRegistry.counter("soft-delete.archive.failures", "target", target).increment();
+        }
+        meterRegistry.counter("soft-delete.archive.archived", "target", target).increment(archivedCount);
+        if (archivedCount > 0) {
+            log.info("SoftDeleteArchiveService.archive target : {}, archived : {}, chunks : {}",
+                    target, archivedCount, chunkCount);
+        }
+
+        return archivedCount;
+    }
+}
@@ -110,6 +110,8 @@ public class CommentDto {
         private Integer depth;
         private Long groupId;
         private String content;
+        private Long taggedMemberId;
+        private String taggedMemberNickname;
         @JsonProperty("isDeleted")
         private boolean deleted;
         long likeCount;
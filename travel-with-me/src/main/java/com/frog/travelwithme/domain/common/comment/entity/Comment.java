@@ -6,10 +6,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import javax.persistence.Column;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.MappedSuperclass;
+import java.time.LocalDateTime;
 
 /**
  * 작성자: 이재혁
@@ -35,12 +37,18 @@ public class Comment extends BaseTimeEntity {
 
     private String content;
 
+    // 좋아요 수, 댓글 수는 CounterService에서 일괄 반영 (변경 감지로 덮어쓰지 않도록 updatable = false)
+    @Column(updatable = false)
     private Long likeCount = 0L;
 
+    @Column(updatable = false)
     private Long commentCount = 0L;
 
     private boolean isDeleted = false;
 
+    // 보관 작업(SoftDeleteArchiveRepository)은 삭제된 지 보관 기간이 지난 댓글만 옮긴다.
+    private LocalDateTime deletedAt;
+
     public Comment(Long id, Integer depth, Long groupId, Long taggedMemberId, String content){
         this.id = id;
         this.depth = depth;
@@ -68,17 +76,10 @@ public class Comment extends BaseTimeEntity {
 
     public void softDeleteComment() {
         this.isDeleted = true;
+        this.deletedAt = LocalDateTime.now();
     }
 
     public boolean isDeleted() {
         return this.isDeleted;
     }
-
-    protected void addLikeCount() {
-        this.likeCount += 1;
-    }
-
-    protected void minusLikeCount() {
-        this.likeCount -= 1;
-    }
 }
@@ -10,7 +10,12 @@ import com.frog.travelwithme.global.exception.ExceptionCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 작성자: 이재혁
@@ -36,6 +41,23 @@ public abstract class CommentService {
         }
     }
 
+    /**
+     * 한 페이지의 댓글에 언급된 회원 닉네임을 댓글마다 조회하지 않고 한 번에 조회한다.
+     *
+     * @return 언급된 회원 id -> 닉네임
+     */
+    protected Map<Long, String> findTaggedMemberNicknames(List<? extends Comment> comments) {
+        Set<Long> taggedMemberIds = comments.stream()
+                .filter(Comment::hasTaggedMember)
+                .map(Comment::getTaggedMemberId)
+                .collect(Collectors.toSet());
+        Map<Long, String> nicknames = new HashMap<>();
+        memberService.findMemberSummaries(taggedMemberIds)
+                .forEach((memberId, summary) -> nicknames.put(memberId, summary.getNickname()));
+
+        return nicknames;
+    }
+
     protected <T> CommentTypeDto<T> createCommentTypeDto(T commentDto) {
         CommentTypeDto<T> commentTypeDto = new CommentTypeDto<>();
         return commentTypeDto.addType(commentDto);
@@ -52,12 +74,24 @@ public abstract class CommentService {
 
     public void checkExistTaggedMemberId(CommentDto.Post postDto) {
         if (this.hasTaggedMemberId(postDto)) {
-            try {
-                memberService.findMember(postDto.getTaggedMemberId());
-            } catch (BusinessLogicException e) {
-                log.debug("CommentService.checkExistTaggedMemberId exception occur postDto: {}", postDto);
-                throw new BusinessLogicException(ExceptionCode.TAGGED_MEMBER_NOT_FOUND);
-            }
+            this.findTaggedMemberNickname(postDto.getTaggedMemberId());
+        }
+    }
+
+    /**
+     * 회원 엔티티 대신 캐시된 요약 정보로 언급된 회원을 확인하고 닉네임을 함께 반환한다.
+     *
+     * @return 언급된 회원 닉네임. 언급된 회원이 없으면 null
+     */
+    protected String findTaggedMemberNickname(Long taggedMemberId) {
+        if (taggedMemberId == null) {
+            return null;
+        }
+        try {
+            return memberService.findMemberSummary(taggedMemberId).getNickname();
+        } catch (BusinessLogicException e) {
+            log.debug("CommentService.findTaggedMemberNickname exception occur taggedMemberId: {}", taggedMemberId);
+            throw new BusinessLogicException(ExceptionCode.TAGGED_MEMBER_NOT_FOUND);
         }
     }
 
@@ -0,0 +1,79 @@
+package com.frog.travelwithme.domain.common.like.repository;
+
+import com.frog.travelwithme.global.enums.EnumCollection.LikeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * LikeRepository 설명: 좋아요 테이블(feed_like, feed_comment_like 등)을 likedMembers 컬렉션 로딩 없이 직접 조회, 변경
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/22
+ **/
+@Repository
+@RequiredArgsConstructor
+public class LikeRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * (member_id, 대상 id) 인덱스만으로 회원이 좋아요한 대상 id를 한 번에 조회
+     */
+    public Set<Long> findLikedIds(LikeType likeType, Long memberId, Collection<Long> targetIds) {
+        if (memberId == null || targetIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String sql = "SELECT " + likeType.getTargetColumn() +
+                " FROM " + likeType.getLikeTable() +
+                " WHERE member_id = :memberId AND " + likeType.getTargetColumn() + " IN (:targetIds)";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("memberId", memberId)
+                .addValue("targetIds", targetIds);
+
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(sql, params, Long.class));
+    }
+
+    public boolean existsLike(LikeType likeType, Long memberId, Long targetId) {
+        return !this.findLikedIds(likeType, memberId, Collections.singleton(targetId)).isEmpty();
+    }
+
+    /**
+     * @return 새로 좋아요가 추가되었으면 true, 이미 좋아요한 상태였다면 false
+     */
+    public boolean insertLike(LikeType likeType, Long memberId, Long targetId) {
+        String sql = "INSERT INTO " + likeType.getLikeTable() + " (" + likeType.getTargetColumn() + ", member_id) " +
+                "SELECT t.id, m.id FROM " + likeType.getTargetTable() + " t, member m " +
+                "WHERE t.id = :targetId AND m.id = :memberId " +
+                "AND NOT EXISTS (SELECT 1 FROM " + likeType.getLikeTable() + " l " +
+                "WHERE l." + likeType.getTargetColumn() + " = t.id AND l.member_id = m.id)";
+        try {
+            return namedParameterJdbcTemplate.update(sql, this.toParams(memberId, targetId)) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return 좋아요가 취소되었으면 true, 좋아요하지 않은 상태였다면 false
+     */
+    public boolean deleteLike(LikeType likeType, Long memberId, Long targetId) {
+        String sql = "DELETE FROM " + likeType.getLikeTable() +
+                " WHERE " + likeType.getTargetColumn() + " = :targetId AND member_id = :memberId";
+
+        return namedParameterJdbcTemplate.update(sql, this.toParams(memberId, targetId)) > 0;
+    }
+
+    private MapSqlParameterSource toParams(Long memberId, Long targetId) {
+        return new MapSqlParameterSource()
+                .addValue("memberId", memberId)
+                .addValue("targetId", targetId);
+    }
+}
@@ -0,0 +1,6 @@
+@FilterDef(name = SoftDelete.FILTER,
+        parameters = @ParamDef(name = SoftDelete.DELETED_PARAM, type = "boolean"))
+package com.frog.travelwithme.domain.common;
+
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
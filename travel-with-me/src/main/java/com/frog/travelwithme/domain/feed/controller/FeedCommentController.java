@@ -2,7 +2,7 @@ package com.frog.travelwithme.domain.feed.controller;
 
 import com.frog.travelwithme.domain.common.comment.dto.CommentDto;
 import com.frog.travelwithme.domain.feed.service.FeedCommentService;
-import com.frog.travelwithme.global.dto.PagelessMultiResponseDto;
+import com.frog.travelwithme.global.dto.CursorResponseDto;
 import com.frog.travelwithme.global.dto.SingleResponseDto;
 import com.frog.travelwithme.global.security.auth.userdetails.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
@@ -14,8 +14,8 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Positive;
-import java.util.List;
 
 /**
  * 작성자: 김찬빈
@@ -66,13 +66,38 @@ public class FeedCommentController {
     @GetMapping("/{feed-id}/comments")
     public ResponseEntity getComments(@Positive @PathVariable("feed-id") Long feedId,
                                       @AuthenticationPrincipal CustomUserDetails user,
+                                      @RequestParam(required = false) String cursor,
                                       @Positive @RequestParam(required = false) Long lastCommentId,
-                                      @Positive @RequestParam int size) {
+                                      @Positive @Max(100) @RequestParam int size) {
         String email = user.getEmail();
-        List<CommentDto.GetResponse> responseList =
-                feedCommentService.findAllCommentsByFeedId(feedId, email, lastCommentId, size);
+        CursorResponseDto<CommentDto.GetResponse> response =
+                feedCommentService.findAllCommentsByFeedId(feedId, email, cursor, lastCommentId, size);
 
-        return new ResponseEntity<>(new PagelessMultiResponseDto<>(responseList), HttpStatus.OK);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @GetMapping("/{feed-id}/comments/roots")
+    public ResponseEntity getRootComments(@Positive @PathVariable("feed-id") Long feedId,
+                                          @AuthenticationPrincipal CustomUserDetails user,
+                                          @RequestParam(required = false) String cursor,
+                                          @Positive @Max(100) @RequestParam int size) {
+        String email = user.getEmail();
+        CursorResponseDto<CommentDto.GetResponse> response =
+                feedCommentService.findRootCommentsByFeedId(feedId, email, cursor, size);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @GetMapping("/comments/{comment-id}/replies")
+    public ResponseEntity getReplies(@Positive @PathVariable("comment-id") Long commentId,
+                                     @AuthenticationPrincipal CustomUserDetails user,
+                                     @RequestParam(required = false) String cursor,
+                                     @Positive @Max(100) @RequestParam int size) {
+        String email = user.getEmail();
+        CursorResponseDto<CommentDto.GetResponse> response =
+                feedCommentService.findRepliesByCommentId(commentId, email, cursor, size);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
     @PostMapping("/comments/{comment-id}/likes")
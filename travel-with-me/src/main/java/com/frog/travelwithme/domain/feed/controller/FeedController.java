@@ -15,10 +15,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
 import java.util.List;
 
 /**
@@ -26,6 +29,7 @@ import java.util.List;
  * 버전 정보: 1.0.0
  * 작성일자: 2023/04/17
  **/
+@Validated
 @RestController
 @RequestMapping("/feeds")
 @RequiredArgsConstructor
@@ -55,16 +59,25 @@ public class FeedController {
     public ResponseEntity search(@RequestParam(required = false) Long lastFeedId,
                                  @RequestParam(required = false) String nickname,
                                  @RequestParam(required = false) String tag,
+                                 @Positive @Max(100) @RequestParam(defaultValue = "20") int size,
                                  @AuthenticationPrincipal CustomUserDetails user) {
         if (nickname != null && tag != null) {
             throw new BusinessLogicException(ExceptionCode.ONLY_ONE_PARAMETER_TO_FEED_SEARCH);
         } else {
-            List<Response> responseList = feedService.search(lastFeedId, nickname, tag, user.getEmail());
+            List<Response> responseList = feedService.search(lastFeedId, nickname, tag, user.getEmail(), size);
 
             return new ResponseEntity<>(new PagelessMultiResponseDto<>(responseList), HttpStatus.OK);
         }
     }
 
+    @GetMapping("/timeline")
+    public ResponseEntity getTimeline(@RequestParam(required = false) Long lastFeedId,
+                                      @AuthenticationPrincipal CustomUserDetails user) {
+        List<Response> responseList = feedService.findTimeline(user.getEmail(), lastFeedId);
+
+        return new ResponseEntity<>(new PagelessMultiResponseDto<>(responseList), HttpStatus.OK);
+    }
+
     @PatchMapping("/{feed-id}")
     public ResponseEntity patchFeed(@PathVariable("feed-id") Long feedId,
                                     @RequestPart(value = "files", required = false) List<MultipartFile> multipartFiles,
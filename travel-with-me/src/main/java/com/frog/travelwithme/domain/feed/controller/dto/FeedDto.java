@@ -44,6 +44,7 @@ public class FeedDto {
         Long id;
         String nickname;
         String profileImage;
+        String profileThumbnailImage;
         String contents;
         String location;
         long likeCount;
@@ -55,6 +56,8 @@ public class FeedDto {
         LocalDateTime createdAt;
         List<String> tags;
         List<String> imageUrls;
+        List<String> mediumUrls;
+        List<String> thumbnailUrls;
     }
 
     @Getter
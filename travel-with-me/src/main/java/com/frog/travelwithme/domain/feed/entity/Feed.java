@@ -3,13 +3,13 @@ package com.frog.travelwithme.domain.feed.entity;
 import com.frog.travelwithme.domain.common.BaseTimeEntity;
 import com.frog.travelwithme.domain.feed.controller.dto.FeedDto;
 import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.global.file.UploadedImage;
 import com.frog.travelwithme.global.utils.StringListConverter;
 import lombok.*;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotEmpty;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Feed 설명: 피드 관리
@@ -20,6 +20,7 @@ import java.util.stream.Collectors;
 @Entity
 @Getter
 @ToString
+@Table(indexes = @Index(name = "idx_feed_member_id", columnList = "MEMBER_ID, id"))
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Feed extends BaseTimeEntity {
@@ -31,10 +32,20 @@ public class Feed extends BaseTimeEntity {
     @Convert(converter = StringListConverter.class)
     private List<String> imageUrls = new ArrayList<>();
 
+    // 목록 화면용 작은 이미지. imageUrls와 같은 순서로 저장한다.
+    @Convert(converter = StringListConverter.class)
+    private List<String> thumbnailUrls = new ArrayList<>();
+
+    @Convert(converter = StringListConverter.class)
+    private List<String> mediumUrls = new ArrayList<>();
+
     private String contents;
 
+    @Column(updatable = false)
     private Long commentCount = 0L;
 
+    // 좋아요 수는 FeedLikeBulkRepository, 댓글 수는 CounterService에서만 갱신 (변경 감지로 덮어쓰지 않도록 updatable = false)
+    @Column(updatable = false)
     private Long likeCount = 0L;
 
     // TODO: 위치 정보 라이브러리 논의
@@ -53,7 +64,9 @@ public class Feed extends BaseTimeEntity {
     @ManyToMany
     @JoinTable(name = "feed_like",
             joinColumns = @JoinColumn(name = "feed_id"),
-            inverseJoinColumns = @JoinColumn(name = "member_id"))
+            inverseJoinColumns = @JoinColumn(name = "member_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_feed_like_member_feed",
+                    columnNames = {"member_id", "feed_id"}))
     private List<Member> likedMembers = new ArrayList<>();
 
     @Builder
@@ -75,29 +88,6 @@ public class Feed extends BaseTimeEntity {
         this.tags.addAll(tags);
     }
 
-    public void addLike(Member member) {
-        this.likedMembers.add(member);
-        this.likeCount += 1;
-    }
-
-    public void removeLike(String email) {
-        this.likedMembers.stream()
-                .map(Member::getEmail)
-                .collect(Collectors.toList())
-                .remove(email);
-        this.likeCount -= 1;
-    }
-
-    public boolean isLikedByMember(String email) {
-        if (this.likedMembers.isEmpty()) {
-            return false;
-        }
-        return this.likedMembers.stream()
-                .map(Member::getEmail)
-                .collect(Collectors.toList())
-                .contains(email);
-    }
-
     public void addImageUrl(String imageUrl) {
         if (this.imageUrls == null) {
             this.imageUrls = new ArrayList<>();
@@ -109,7 +99,67 @@ public class Feed extends BaseTimeEntity {
         this.imageUrls.remove(imageUrl);
     }
 
+    public void addImage(UploadedImage uploadedImage) {
+        this.alignImageVariants();
+        this.addImageUrl(uploadedImage.getOriginalUrl());
+        this.thumbnailUrls.add(uploadedImage.getThumbnailUrl());
+        this.mediumUrls.add(uploadedImage.getMediumUrl());
+    }
+
+    /**
+     * 원본 URL로 이미지를 찾아 크기별 URL까지 함께 제거
+     * @return 삭제해야 할 URL (피드에 없는 이미지면 빈 리스트)
+     */
+    public List<String> removeImage(String imageUrl) {
+        int index = this.imageUrls.indexOf(imageUrl);
+        if (index < 0) {
+            return List.of();
+        }
+        this.alignImageVariants();
+        Set<String> removedUrls = new LinkedHashSet<>();
+        removedUrls.add(this.imageUrls.remove(index));
+        removedUrls.add(this.thumbnailUrls.remove(index));
+        removedUrls.add(this.mediumUrls.remove(index));
+
+        return new ArrayList<>(removedUrls);
+    }
+
+    public List<String> getThumbnailUrls() {
+        return this.withOriginalFallback(this.thumbnailUrls);
+    }
+
+    public List<String> getMediumUrls() {
+        return this.withOriginalFallback(this.mediumUrls);
+    }
+
+    public List<String> getAllImageUrls() {
+        Set<String> allImageUrls = new LinkedHashSet<>(this.imageUrls);
+        allImageUrls.addAll(this.thumbnailUrls);
+        allImageUrls.addAll(this.mediumUrls);
+
+        return new ArrayList<>(allImageUrls);
+    }
+
     public boolean isImageUrlsSizeOne() {
         return this.imageUrls.size() == 1;
     }
+
+    /**
+     * 크기별 이미지 도입 전에 저장된 이미지는 크기별 URL이 없으므로 원본 URL로 채워 imageUrls와 순서를 맞춘다.
+     * (순서가 어긋나면 다른 이미지의 크기별 URL을 삭제하게 된다)
+     */
+    private void alignImageVariants() {
+        this.thumbnailUrls = this.withOriginalFallback(this.thumbnailUrls);
+        this.mediumUrls = this.withOriginalFallback(this.mediumUrls);
+    }
+
+    private List<String> withOriginalFallback(List<String> variantUrls) {
+        List<String> alignedUrls = variantUrls == null ? new ArrayList<>() : new ArrayList<>(variantUrls);
+        int imageCount = this.imageUrls == null ? 0 : this.imageUrls.size();
+        for (int i = alignedUrls.size(); i < imageCount; i++) {
+            alignedUrls.add(this.imageUrls.get(i));
+        }
+
+        return alignedUrls;
+    }
 }
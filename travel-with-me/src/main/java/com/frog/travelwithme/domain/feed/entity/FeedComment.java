@@ -1,15 +1,16 @@
 package com.frog.travelwithme.domain.feed.entity;
 
+import com.frog.travelwithme.domain.common.SoftDelete;
 import com.frog.travelwithme.domain.common.comment.dto.CommentDto;
 import com.frog.travelwithme.domain.common.comment.entity.Comment;
 import com.frog.travelwithme.domain.member.entity.Member;
 import lombok.*;
+import org.hibernate.annotations.Filter;
 
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * FeedComment 설명: 피드 댓글 관리
@@ -20,6 +21,15 @@ import java.util.stream.Collectors;
 @Entity
 @Getter
 @ToString
+@Table(indexes = {
+        // 피드 전체 정렬(groupId, depth, id)과 댓글 아래 대댓글 조회
+        @Index(name = "idx_feed_comment_thread", columnList = "feed_id, group_id, depth, id"),
+        // 대댓글 수와 관계없이 댓글만 조회
+        @Index(name = "idx_feed_comment_root", columnList = "feed_id, depth, id"),
+        // 삭제된 댓글 보관 작업이 삭제된 행만 범위 스캔
+        @Index(name = "idx_feed_comment_deleted_at", columnList = "is_deleted, deleted_at")
+})
+@Filter(name = SoftDelete.FILTER, condition = SoftDelete.COMMENT_CONDITION)
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class FeedComment extends Comment {
@@ -35,7 +45,9 @@ public class FeedComment extends Comment {
     @ManyToMany
     @JoinTable(name = "feed_comment_like",
             joinColumns = @JoinColumn(name = "feed_comment_id"),
-            inverseJoinColumns = @JoinColumn(name = "member_id"))
+            inverseJoinColumns = @JoinColumn(name = "member_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_feed_comment_like_member_comment",
+                    columnNames = {"member_id", "feed_comment_id"}))
     private List<Member> likedMembers = new ArrayList<>();
 
     @Builder
@@ -56,27 +68,4 @@ public class FeedComment extends Comment {
                 .ifPresent(super::changeContent);
         super.changeTaggedMemberId(patchDto.getTaggedMemberId());
     }
-
-    public boolean isLikedByMember(String email) {
-        if (this.likedMembers.isEmpty()) {
-            return false;
-        }
-        return this.likedMembers.stream()
-                .map(Member::getEmail)
-                .collect(Collectors.toList())
-                .contains(email);
-    }
-
-    public void addLike(Member member) {
-        this.likedMembers.add(member);
-        super.addLikeCount();
-    }
-
-    public void removeLike(String email) {
-        this.likedMembers.stream()
-                .map(Member::getEmail)
-                .collect(Collectors.toList())
-                .remove(email);
-        super.minusLikeCount();
-    }
 }
@@ -1,6 +1,7 @@
 package com.frog.travelwithme.domain.feed.entity;
 
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import java.util.LinkedHashSet;
@@ -13,6 +14,7 @@ import java.util.Set;
  **/
 @Entity
 @Getter
+@BatchSize(size = 100)
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Tag {
@@ -9,6 +9,8 @@ import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
@@ -19,58 +21,52 @@ public interface FeedCommentMapper {
     @Mapping(target = "feed", source = "feed")
     FeedComment toEntity(CommentDto.Post postDto, Member member, Feed feed);
 
-    @Mapping(target = "commentId", source = "feedComment.id")
-    @Mapping(target = "writer", expression = "java(feedComment.getMember().getEmail().equals(email))")
-    @Mapping(target = "liked", expression = "java(!feedComment.getLikedMembers().isEmpty() && " +
-            "feedComment.getLikedMembers().stream().map(Member::getEmail)" +
-            ".collect(java.util.stream.Collectors.toList()).contains(email))")
-    CommentDto.PostResponse toPostResponseDto(FeedComment feedComment, String email);
-
+    // 방금 작성한 댓글이므로 작성자 회원을 로딩해 비교하지 않는다.
     @Mapping(target = "commentId", source = "feedComment.id")
     @Mapping(target = "taggedMemberNickname", source = "nickname")
-    @Mapping(target = "writer", expression = "java(feedComment.getMember().getEmail().equals(email))")
-    @Mapping(target = "liked", expression = "java(!feedComment.getLikedMembers().isEmpty() && " +
-            "feedComment.getLikedMembers().stream().map(Member::getEmail)" +
-            ".collect(java.util.stream.Collectors.toList()).contains(email))")
-    CommentDto.PostResponse toPostResponseDto(FeedComment feedComment, String nickname, String email);
-
-    @Mapping(target = "commentId", source = "feedComment.id")
-    @Mapping(target = "writer", expression = "java(feedComment.getMember().getEmail().equals(email))")
-    @Mapping(target = "liked", expression = "java(!feedComment.getLikedMembers().isEmpty() && " +
-            "feedComment.getLikedMembers().stream().map(Member::getEmail)" +
-            ".collect(java.util.stream.Collectors.toList()).contains(email))")
-    CommentDto.PatchResponse toPatchResponseDto(FeedComment feedComment, String email);
+    @Mapping(target = "writer", constant = "true")
+    @Mapping(target = "liked", constant = "false")
+    CommentDto.PostResponse toPostResponseDto(FeedComment feedComment, String nickname);
 
     @Mapping(target = "commentId", source = "feedComment.id")
     @Mapping(target = "taggedMemberNickname", source = "nickname")
     @Mapping(target = "writer", expression = "java(feedComment.getMember().getEmail().equals(email))")
-    @Mapping(target = "liked", expression = "java(!feedComment.getLikedMembers().isEmpty() && " +
-            "feedComment.getLikedMembers().stream().map(Member::getEmail)" +
-            ".collect(java.util.stream.Collectors.toList()).contains(email))")
-    CommentDto.PatchResponse toPatchResponseDto(FeedComment feedComment, String nickname, String email);
+    @Mapping(target = "liked", source = "liked")
+    CommentDto.PatchResponse toPatchResponseDto(FeedComment feedComment, String nickname, String email,
+                                                boolean liked);
 
     @Mapping(target = "commentId", source = "feedComment.id")
     @Mapping(target = "content", source = "deleteContent")
     @Mapping(target = "writer", expression = "java(feedComment.getMember().getEmail().equals(email))")
-    @Mapping(target = "liked", expression = "java(!feedComment.getLikedMembers().isEmpty() && " +
-            "feedComment.getLikedMembers().stream().map(Member::getEmail)" +
-            ".collect(java.util.stream.Collectors.toList()).contains(email))")
-    CommentDto.DeleteResponse toDelteResponseDto(FeedComment feedComment, String deleteContent, String email);
+    @Mapping(target = "liked", source = "liked")
+    CommentDto.DeleteResponse toDelteResponseDto(FeedComment feedComment, String deleteContent, String email,
+                                                 boolean liked);
 
+    // 작성자 여부는 회원 id로 비교해 댓글마다 작성자 회원을 로딩하지 않는다.
     @Mapping(target = "commentId", source = "feedComment.id")
-    @Mapping(target = "writer", expression = "java(feedComment.getMember().getEmail().equals(email))")
-    @Mapping(target = "liked", expression = "java(!feedComment.getLikedMembers().isEmpty() && " +
-            "feedComment.getLikedMembers().stream().map(Member::getEmail)" +
-            ".collect(java.util.stream.Collectors.toList()).contains(email))")
-    CommentDto.GetResponse toGetResponseDto(FeedComment feedComment, String email);
+    @Mapping(target = "taggedMemberNickname", source = "taggedMemberNickname")
+    @Mapping(target = "writer", expression = "java(feedComment.getMember().getId().equals(memberId))")
+    @Mapping(target = "liked", source = "liked")
+    CommentDto.GetResponse toGetResponseDto(FeedComment feedComment, Long memberId,
+                                            String taggedMemberNickname, boolean liked);
 
-    default List<CommentDto.GetResponse> toGetResponseDtoList(List<FeedComment> feedComments, String email) {
+    /**
+     * @param memberId              조회한 회원 id. 비회원이면 null
+     * @param likedCommentIds       조회한 회원이 좋아요한 댓글 id
+     * @param taggedMemberNicknames 언급된 회원 id -> 닉네임
+     */
+    default List<CommentDto.GetResponse> toGetResponseDtoList(List<FeedComment> feedComments,
+                                                              Long memberId,
+                                                              Set<Long> likedCommentIds,
+                                                              Map<Long, String> taggedMemberNicknames) {
         if (feedComments == null) {
             return null;
         }
 
         return feedComments.stream()
-                .map(feedComment -> toGetResponseDto(feedComment, email))
+                .map(feedComment -> toGetResponseDto(feedComment, memberId,
+                        taggedMemberNicknames.get(feedComment.getTaggedMemberId()),
+                        likedCommentIds.contains(feedComment.getId())))
                 .collect(Collectors.toList());
     }
 }
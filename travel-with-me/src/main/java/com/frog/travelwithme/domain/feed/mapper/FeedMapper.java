@@ -8,6 +8,7 @@ import org.mapstruct.*;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -27,16 +28,23 @@ public interface FeedMapper {
     FeedDto.ResponseDetail toResponseDetail(Feed feed);
 
     @Mapping(target = "profileImage", source = "feed.member.image")
+    @Mapping(target = "profileThumbnailImage", source = "feed.member.thumbnailImage")
     @Mapping(target = "tags", source = "feed.tags", qualifiedByName = "convertTagNamesFromTags")
     @Mapping(target = "writer", expression = "java(feed.getMember().getEmail().equals(email))")
-    @Mapping(target = "liked", expression = "java(!feed.getLikedMembers().isEmpty() && " +
-            "feed.getLikedMembers().stream().map(Member::getEmail)" +
-            ".collect(java.util.stream.Collectors.toList()).contains(email))")
+    @Mapping(target = "likeCount", source = "likeCount")
+    @Mapping(target = "liked", source = "liked")
     @Mapping(target = "nickname", expression = "java(feed.getMember().getNickname())")
-    FeedDto.Response toResponse(Feed feed, String email);
-
-    default List<FeedDto.Response> toResponseList(List<Feed> feedList, String email) {
-        return feedList.stream().map(feed -> toResponse(feed, email)).collect(Collectors.toList());
+    FeedDto.Response toResponse(Feed feed, String email, long likeCount, boolean liked);
+
+    default List<FeedDto.Response> toResponseList(List<Feed> feedList,
+                                                  String email,
+                                                  Map<Long, Long> likeCounts,
+                                                  Set<Long> likedFeedIds) {
+        return feedList.stream()
+                .map(feed -> toResponse(feed, email,
+                        likeCounts.getOrDefault(feed.getId(), feed.getLikeCount()),
+                        likedFeedIds.contains(feed.getId())))
+                .collect(Collectors.toList());
     }
 
     @Named("convertTagNamesFromTags")
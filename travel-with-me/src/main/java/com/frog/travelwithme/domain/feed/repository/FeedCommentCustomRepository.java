@@ -1,6 +1,7 @@
 package com.frog.travelwithme.domain.feed.repository;
 
 import com.frog.travelwithme.domain.feed.entity.FeedComment;
+import com.frog.travelwithme.global.dto.Cursor;
 
 import java.util.List;
 
@@ -11,5 +12,9 @@ import java.util.List;
  **/
 public interface FeedCommentCustomRepository {
 
-    List<FeedComment> findAllByFeedId(Long feedId, String email, Long lastCommentId, int size);
+    List<FeedComment> findAllByFeedId(Long feedId, Cursor cursor, int limit);
+
+    List<FeedComment> findRootCommentsByFeedId(Long feedId, Cursor cursor, int limit);
+
+    List<FeedComment> findRepliesByGroupId(Long feedId, Long groupId, Cursor cursor, int limit);
 }
@@ -1,7 +1,8 @@
 package com.frog.travelwithme.domain.feed.repository;
 
 import com.frog.travelwithme.domain.feed.entity.FeedComment;
-import com.querydsl.core.types.dsl.BooleanExpression;
+import com.frog.travelwithme.global.dto.Cursor;
+import com.frog.travelwithme.global.dto.KeysetOrder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 import static com.frog.travelwithme.domain.feed.entity.QFeedComment.feedComment;
+import static com.frog.travelwithme.global.dto.KeysetOrder.asc;
 
 /**
  * 작성자: 김찬빈
@@ -19,23 +21,64 @@ import static com.frog.travelwithme.domain.feed.entity.QFeedComment.feedComment;
 @RequiredArgsConstructor
 public class FeedCommentCustomRepositoryImpl implements FeedCommentCustomRepository {
 
+    // 댓글 그룹 -> 댓글, 대댓글 -> 작성 순. 커서도 같은 컬럼 순서로 만든다.
+    public static final KeysetOrder COMMENT_ORDER =
+            KeysetOrder.by(asc(feedComment.groupId), asc(feedComment.depth), asc(feedComment.id));
+
+    // 댓글 목록, 한 댓글의 대댓글 목록은 작성 순. 부모 조건이 인덱스 앞 컬럼과 같으므로 id만 커서로 쓴다.
+    public static final KeysetOrder THREAD_ORDER = KeysetOrder.by(asc(feedComment.id));
+
+    private static final int COMMENT_DEPTH = 1;
+    private static final int REPLY_DEPTH = 2;
+
     private final JPAQueryFactory jpaQueryFactory;
 
+    public static Cursor cursorOf(FeedComment comment) {
+        return Cursor.of(comment.getGroupId(), comment.getDepth(), comment.getId());
+    }
+
+    public static Cursor threadCursorOf(FeedComment comment) {
+        return Cursor.of(comment.getId());
+    }
+
     @Override
-    public List<FeedComment> findAllByFeedId(Long feedId, String email, Long lastCommentId, int size) {
+    public List<FeedComment> findAllByFeedId(Long feedId, Cursor cursor, int limit) {
         return jpaQueryFactory
                 .selectFrom(feedComment)
-                .where(ltCommentId(lastCommentId))
-                .where(feedComment.feed.id.eq(feedId))
-                .orderBy(feedComment.groupId.asc(), feedComment.depth.asc(), feedComment.id.asc())
-                .limit(size)
+                .where(feedComment.feed.id.eq(feedId), COMMENT_ORDER.after(cursor))
+                .orderBy(COMMENT_ORDER.orderSpecifiers())
+                .limit(limit)
                 .fetch();
     }
 
-    private BooleanExpression ltCommentId(Long lastCommentId) {
-        if (lastCommentId == null) {
-            return null;
-        }
-        return feedComment.id.gt(lastCommentId);
+    /**
+     * idx_feed_comment_root 범위 스캔. 대댓글이 많은 댓글이 있어도 대댓글 행은 읽지 않는다.
+     */
+    @Override
+    public List<FeedComment> findRootCommentsByFeedId(Long feedId, Cursor cursor, int limit) {
+        return jpaQueryFactory
+                .selectFrom(feedComment)
+                .where(feedComment.feed.id.eq(feedId),
+                        feedComment.depth.eq(COMMENT_DEPTH),
+                        THREAD_ORDER.after(cursor))
+                .orderBy(THREAD_ORDER.orderSpecifiers())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * idx_feed_comment_thread 범위 스캔. 대댓글 수와 관계없이 커서 위치부터 limit개만 읽는다.
+     */
+    @Override
+    public List<FeedComment> findRepliesByGroupId(Long feedId, Long groupId, Cursor cursor, int limit) {
+        return jpaQueryFactory
+                .selectFrom(feedComment)
+                .where(feedComment.feed.id.eq(feedId),
+                        feedComment.groupId.eq(groupId),
+                        feedComment.depth.eq(REPLY_DEPTH),
+                        THREAD_ORDER.after(cursor))
+                .orderBy(THREAD_ORDER.orderSpecifiers())
+                .limit(limit)
+                .fetch();
     }
 }
@@ -2,6 +2,7 @@ package com.frog.travelwithme.domain.feed.repository;
 
 import com.frog.travelwithme.domain.feed.entity.Feed;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -11,5 +12,11 @@ import java.util.List;
  **/
 public interface FeedCustomRepository {
 
-    List<Feed> search(Long lastFeedId, String nickname, String tagName, String email);
+    List<Feed> search(Long lastFeedId, String nickname, String tagName, String email, int size);
+
+    List<Feed> findAllWithMemberAndTags(List<Long> feedIds);
+
+    List<Long> findFeedIdsByWriterIds(Collection<Long> writerIds, Long lastFeedId, int limit);
+
+    List<Long> findLikedMemberIds(Long feedId);
 }
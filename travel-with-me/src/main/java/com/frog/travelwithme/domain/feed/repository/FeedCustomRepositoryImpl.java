@@ -2,12 +2,13 @@ package com.frog.travelwithme.domain.feed.repository;
 
 import com.frog.travelwithme.domain.feed.entity.Feed;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import static com.frog.travelwithme.domain.feed.entity.QFeed.feed;
@@ -25,38 +26,84 @@ public class FeedCustomRepositoryImpl implements FeedCustomRepository {
 
     private final JPAQueryFactory jpaQueryFactory;
 
+    /**
+     * 1단계: 조건에 맞는 피드 id만 키셋 조건으로 size개 조회 (PK 인덱스만 사용)
+     * 2단계: 조회한 id로 작성자, 태그를 나누어 조회해 페이지 크기나 테이블 크기와 관계없이 쿼리 수를 고정
+     */
     @Override
-    public List<Feed> search(Long lastFeedId, String nickname, String tagName, String email) {
-        int pageSize = 20;
+    public List<Feed> search(Long lastFeedId, String nickname, String tagName, String email, int size) {
+        List<Long> feedIds = this.searchFeedIds(lastFeedId, nickname, tagName, size);
 
-        JPAQuery<Feed> query = jpaQueryFactory
+        return this.findAllWithMemberAndTags(feedIds);
+    }
+
+    @Override
+    public List<Feed> findAllWithMemberAndTags(List<Long> feedIds) {
+        if (feedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Feed> feeds = jpaQueryFactory
             .selectFrom(feed)
-            .leftJoin(feed.member, member).fetchJoin()
+            .join(feed.member, member).fetchJoin()
+            .where(feed.id.in(feedIds))
+            .orderBy(feed.id.desc())
+            .fetch();
+
+        // 태그 컬렉션은 별도 쿼리로 초기화해 작성자 조인과 곱해지지 않도록 한다.
+        jpaQueryFactory
+            .selectFrom(feed)
+            .distinct()
             .leftJoin(feed.tags, tag).fetchJoin()
+            .where(feed.id.in(feedIds))
+            .fetch();
+
+        return feeds;
+    }
+
+    @Override
+    public List<Long> findFeedIdsByWriterIds(Collection<Long> writerIds, Long lastFeedId, int limit) {
+        if (writerIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return jpaQueryFactory
+            .select(feed.id)
+            .from(feed)
+            .where(feed.member.id.in(writerIds), ltFeedId(lastFeedId))
+            .orderBy(feed.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<Long> findLikedMemberIds(Long feedId) {
+        return jpaQueryFactory
+            .select(member.id)
+            .from(feed)
+            .join(feed.likedMembers, member)
+            .where(feed.id.eq(feedId))
+            .fetch();
+    }
+
+    private List<Long> searchFeedIds(Long lastFeedId, String nickname, String tagName, int pageSize) {
+        JPAQuery<Long> query = jpaQueryFactory
+            .select(feed.id)
+            .from(feed)
             .where(ltFeedId(lastFeedId));
 
-        if (nickname == null && tagName == null) {
-            return query
-                .orderBy(feed.id.desc())
-                .limit(pageSize)
-                .fetch();
-        } else if (nickname != null) {
-            return query
-                .where(member.nickname.eq(nickname))
-                .orderBy(feed.id.desc())
-                .limit(pageSize)
-                .fetch();
-        } else {
-            return query
-                .where(feed.tags.contains(
-                        JPAExpressions
-                                .selectFrom(tag)
-                                .where(tag.name.eq(tagName))
-                ))
-                .orderBy(feed.id.desc())
-                .limit(pageSize)
-                .fetch();
+        if (nickname != null) {
+            query.join(feed.member, member)
+                .where(member.nickname.eq(nickname));
+        } else if (tagName != null) {
+            query.join(feed.tags, tag)
+                .where(tag.name.eq(tagName));
         }
+
+        return query
+            .orderBy(feed.id.desc())
+            .limit(pageSize)
+            .fetch();
     }
 
     private BooleanExpression ltFeedId(Long lastFeedId) {
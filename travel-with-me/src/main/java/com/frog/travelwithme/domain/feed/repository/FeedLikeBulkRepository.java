@@ -0,0 +1,70 @@
+package com.frog.travelwithme.domain.feed.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * FeedLikeBulkRepository 설명: Redis에 쌓인 좋아요 변경분을 feed_like, feed.like_count에 일괄 반영
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/20
+ **/
+@Repository
+@RequiredArgsConstructor
+public class FeedLikeBulkRepository {
+
+    // 피드, 회원이 삭제된 경우와 이미 반영된 좋아요는 건너뛴다.
+    private static final String INSERT_LIKE_SQL =
+            "INSERT INTO feed_like (feed_id, member_id) " +
+                    "SELECT f.id, m.id FROM feed f, member m " +
+                    "WHERE f.id = ? AND m.id = ? " +
+                    "AND NOT EXISTS (SELECT 1 FROM feed_like fl WHERE fl.feed_id = f.id AND fl.member_id = m.id)";
+
+    private static final String DELETE_LIKE_SQL =
+            "DELETE FROM feed_like WHERE feed_id = ? AND member_id = ?";
+
+    private static final String SYNC_LIKE_COUNT_SQL =
+            "UPDATE feed SET like_count = " +
+                    "(SELECT COUNT(*) FROM feed_like fl WHERE fl.feed_id = feed.id) " +
+                    "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 좋아요 추가, 취소를 반영한 뒤 실제로 변경된 피드의 like_count만 다시 계산한다.
+     *
+     * @param likes   [feedId, memberId] 목록
+     * @param unlikes [feedId, memberId] 목록
+     */
+    @Transactional
+    public void applyLikeChanges(List<Object[]> likes, List<Object[]> unlikes) {
+        Set<Long> changedFeedIds = new HashSet<>();
+        collectChangedFeedIds(likes, jdbcTemplate.batchUpdate(INSERT_LIKE_SQL, likes), changedFeedIds);
+        collectChangedFeedIds(unlikes, jdbcTemplate.batchUpdate(DELETE_LIKE_SQL, unlikes), changedFeedIds);
+        this.syncLikeCounts(changedFeedIds);
+    }
+
+    private void syncLikeCounts(Collection<Long> feedIds) {
+        List<Object[]> batchArgs = feedIds.stream()
+                .map(feedId -> new Object[]{feedId})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(SYNC_LIKE_COUNT_SQL, batchArgs);
+    }
+
+    private void collectChangedFeedIds(List<Object[]> batchArgs, int[] updateCounts, Set<Long> changedFeedIds) {
+        for (int i = 0; i < updateCounts.length; i++) {
+            // 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)도 변경된 것으로 간주
+            if (updateCounts[i] != 0) {
+                changedFeedIds.add((Long) batchArgs.get(i)[0]);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.frog.travelwithme.domain.feed.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TagBulkRepository 설명: 없는 태그를 한 번의 다중 행 INSERT로 저장하고 id를 다시 조회
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/07
+ **/
+@Repository
+@RequiredArgsConstructor
+public class TagBulkRepository {
+
+    // 읽기 일관성 스냅샷이 아닌 최신 커밋 값을 읽어, 다른 트랜잭션이 먼저 저장한 태그도 조회한다.
+    private static final String SELECT_TAGS_SQL = "SELECT id, name FROM tag WHERE name IN (:names) FOR UPDATE";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 피드 저장 트랜잭션 안에서 실행해 커넥션을 하나만 사용한다.
+     * 이미 있는 이름은 중복 키 오류 없이 건너뛰고, 동시에 같은 태그를 저장하는 요청은 커밋될 때까지 기다린 뒤 그 태그를 사용한다.
+     * @return 태그 이름별 id
+     */
+    public Map<String, Long> insertIgnoreAndFind(Collection<String> names) {
+        // 여러 요청이 같은 태그들을 다른 순서로 잠가 데드락이 나지 않도록 이름 순으로 저장한다.
+        List<String> tagNames = new ArrayList<>(names);
+        tagNames.sort(null);
+        MapSqlParameterSource params = new MapSqlParameterSource("names", tagNames);
+        namedParameterJdbcTemplate.update(this.buildInsertIgnoreSql(tagNames, params), params);
+
+        Map<String, Long> tagIds = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_TAGS_SQL, params,
+                rs -> {
+                    tagIds.put(rs.getString("name"), rs.getLong("id"));
+                });
+
+        return tagIds;
+    }
+
+    private String buildInsertIgnoreSql(List<String> tagNames, MapSqlParameterSource params) {
+        StringBuilder sql = new StringBuilder("INSERT INTO tag (name) VALUES ");
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:name").append(i).append(")");
+            params.addValue("name" + i, tagNames.get(i));
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE id = id");
+
+        return sql.toString();
+    }
+}
@@ -12,4 +12,6 @@ import java.util.List;
 public interface TagCustomRepository {
 
     List<TagDto.Response> findTagsStartWith(String tagName, int size);
+
+    List<TagDto.Response> findAllWithFeedCount();
 }
@@ -42,8 +42,17 @@ public class TagCustomRepositoryImpl implements TagCustomRepository {
                                 )))
                 .from(tag)
                 .where(tag.name.startsWith(tagName))
+                .orderBy(tag.name.asc())
                 .limit(size)
-                .orderBy()
+                .fetch();
+    }
+
+    @Override
+    public List<TagDto.Response> findAllWithFeedCount() {
+        return jpaQueryFactory.select(new QTagDto_Response(tag.name, feed.count()))
+                .from(tag)
+                .leftJoin(tag.feeds, feed)
+                .groupBy(tag.id, tag.name)
                 .fetch();
     }
 }
@@ -3,6 +3,8 @@ package com.frog.travelwithme.domain.feed.repository;
 import com.frog.travelwithme.domain.feed.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,4 +14,6 @@ import java.util.Optional;
  **/
 public interface TagRepository extends JpaRepository<Tag, Long>, TagCustomRepository {
     Optional<Tag> findByName(String tagName);
+
+    List<Tag> findAllByNameIn(Collection<String> tagNames);
 }
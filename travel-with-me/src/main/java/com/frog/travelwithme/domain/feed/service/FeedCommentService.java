@@ -3,13 +3,18 @@ package com.frog.travelwithme.domain.feed.service;
 import com.frog.travelwithme.domain.common.comment.dto.CommentDto;
 import com.frog.travelwithme.domain.common.comment.dto.CommentTypeDto;
 import com.frog.travelwithme.domain.common.comment.service.CommentService;
+import com.frog.travelwithme.domain.common.like.repository.LikeRepository;
 import com.frog.travelwithme.domain.common.like.service.LikeService;
 import com.frog.travelwithme.domain.feed.entity.Feed;
 import com.frog.travelwithme.domain.feed.entity.FeedComment;
 import com.frog.travelwithme.domain.feed.mapper.FeedCommentMapper;
+import com.frog.travelwithme.domain.feed.repository.FeedCommentCustomRepositoryImpl;
 import com.frog.travelwithme.domain.feed.repository.FeedCommentRepository;
 import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.service.MemberService;
+import com.frog.travelwithme.global.counter.CounterService;
+import com.frog.travelwithme.global.dto.Cursor;
+import com.frog.travelwithme.global.dto.CursorResponseDto;
 import com.frog.travelwithme.global.enums.EnumCollection.Comment;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
@@ -18,6 +23,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.CounterType.FEED_COMMENT_COUNT;
+import static com.frog.travelwithme.global.enums.EnumCollection.CounterType.FEED_COMMENT_LIKE_COUNT;
+import static com.frog.travelwithme.global.enums.EnumCollection.LikeType.FEED_COMMENT;
 
 /**
  * 작성자: 김찬빈
@@ -37,35 +48,40 @@ public class FeedCommentService extends CommentService implements LikeService {
 
     private final FeedCommentMapper feedCommentMapper;
 
+    private final CounterService counterService;
+
+    private final LikeRepository likeRepository;
+
     public FeedCommentService(MemberService memberService,
                               FeedCommentRepository feedCommentRepository,
                               MemberService memberService1,
                               FeedService feedService,
-                              FeedCommentMapper feedCommentMapper) {
+                              FeedCommentMapper feedCommentMapper,
+                              CounterService counterService,
+                              LikeRepository likeRepository) {
         super(memberService);
         this.feedCommentRepository = feedCommentRepository;
         this.memberService = memberService1;
         this.feedService = feedService;
         this.feedCommentMapper = feedCommentMapper;
+        this.counterService = counterService;
+        this.likeRepository = likeRepository;
     }
 
     public CommentDto.PostResponse createCommentByEmail(CommentDto.Post postDto,
                                                         Long feedId,
                                                         String email) {
-        super.checkExistTaggedMemberId(postDto);
+        // 언급된 회원은 요약 정보로 확인하고, 작성자 회원만 엔티티(캐시에 id가 있으면 프록시)로 가져온다.
+        String taggedMemberNickname = super.findTaggedMemberNickname(postDto.getTaggedMemberId());
         super.checkAvailableCommentOrReply(postDto);
         Member member = memberService.findMember(email);
         Feed feed = feedService.findFeed(feedId);
         FeedComment feedComment = feedCommentRepository.save(
                 feedCommentMapper.toEntity(postDto, member, feed));
         this.joinGroup(feedComment);
+        counterService.increment(FEED_COMMENT_COUNT, feedId);
 
-        if (feedComment.hasTaggedMember()) {
-            String nickname = memberService.findMember(feedComment.getTaggedMemberId()).getNickname();
-            return feedCommentMapper.toPostResponseDto(feedComment, nickname, email);
-        } else {
-            return feedCommentMapper.toPostResponseDto(feedComment, email);
-        }
+        return feedCommentMapper.toPostResponseDto(feedComment, taggedMemberNickname);
     }
 
     public CommentDto.PatchResponse updateCommentByEmail(CommentDto.Patch patchDto,
@@ -75,13 +91,10 @@ public class FeedCommentService extends CommentService implements LikeService {
         this.checkEqualWriterAndUser(feedComment, email);
         this.checkDeletedComment(feedComment);
         feedComment.updateFeedComment(patchDto);
+        boolean liked = this.isLikedByWriter(feedComment);
+        String taggedMemberNickname = super.findTaggedMemberNickname(feedComment.getTaggedMemberId());
 
-        if (feedComment.hasTaggedMember()) {
-            String nickname = memberService.findMember(feedComment.getTaggedMemberId()).getNickname();
-            return feedCommentMapper.toPatchResponseDto(feedComment, nickname, email);
-        } else {
-            return feedCommentMapper.toPatchResponseDto(feedComment, email);
-        }
+        return feedCommentMapper.toPatchResponseDto(feedComment, taggedMemberNickname, email, liked);
     }
 
     public CommentDto.DeleteResponse deleteCommentByEmail(Long commentId, String email) {
@@ -89,19 +102,85 @@ public class FeedCommentService extends CommentService implements LikeService {
         this.checkEqualWriterAndUser(feedComment, email);
         this.checkDeletedComment(feedComment);
         feedComment.softDeleteComment();
+        counterService.decrement(FEED_COMMENT_COUNT, feedComment.getFeed().getId());
 
         return feedCommentMapper.toDelteResponseDto(feedComment,
-                Comment.DELETE.getDescription(), email);
+                Comment.DELETE.getDescription(), email, this.isLikedByWriter(feedComment));
     }
 
-    public List<CommentDto.GetResponse> findAllCommentsByFeedId(Long feedId,
-                                                                String email,
-                                                                Long lastCommentId,
-                                                                int size) {
+    /**
+     * 정렬 순서(groupId, depth, id)와 같은 복합 커서로 조회해 페이지 사이에 댓글이 누락되거나 중복되지 않도록 한다.
+     * lastCommentId만 전달하는 이전 클라이언트는 해당 댓글의 정렬 값으로 커서를 만든다.
+     */
+    public CursorResponseDto<CommentDto.GetResponse> findAllCommentsByFeedId(Long feedId,
+                                                                             String email,
+                                                                             String cursor,
+                                                                             Long lastCommentId,
+                                                                             int size) {
+        Cursor after = this.resolveCursor(cursor, lastCommentId);
         List<FeedComment> feedComments =
-                feedCommentRepository.findAllByFeedId(feedId, email, lastCommentId, size);
+                feedCommentRepository.findAllByFeedId(feedId, after, size + 1);
+
+        return CursorResponseDto.of(feedComments, size, FeedCommentCustomRepositoryImpl::cursorOf,
+                page -> this.toGetResponses(page, email));
+    }
+
+    /**
+     * 피드의 댓글(depth 1)만 작성 순으로 조회한다. 대댓글은 findRepliesByCommentId로 댓글마다 따로 페이지 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponseDto<CommentDto.GetResponse> findRootCommentsByFeedId(Long feedId,
+                                                                              String email,
+                                                                              String cursor,
+                                                                              int size) {
+        List<FeedComment> feedComments = feedCommentRepository.findRootCommentsByFeedId(
+                feedId, FeedCommentCustomRepositoryImpl.THREAD_ORDER.decode(cursor), size + 1);
+
+        return CursorResponseDto.of(feedComments, size, FeedCommentCustomRepositoryImpl::threadCursorOf,
+                page -> this.toGetResponses(page, email));
+    }
+
+    /**
+     * 댓글 아래 대댓글을 작성 순으로 조회한다. 대댓글이 많아도 페이지마다 비용이 같다.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponseDto<CommentDto.GetResponse> findRepliesByCommentId(Long commentId,
+                                                                            String email,
+                                                                            String cursor,
+                                                                            int size) {
+        FeedComment rootComment = this.findFeedCommentById(commentId);
+        List<FeedComment> replies = feedCommentRepository.findRepliesByGroupId(
+                rootComment.getFeed().getId(), rootComment.getGroupId(),
+                FeedCommentCustomRepositoryImpl.THREAD_ORDER.decode(cursor), size + 1);
+
+        return CursorResponseDto.of(replies, size, FeedCommentCustomRepositoryImpl::threadCursorOf,
+                page -> this.toGetResponses(page, email));
+    }
+
+    private Cursor resolveCursor(String cursor, Long lastCommentId) {
+        if (cursor == null && lastCommentId != null) {
+            return FeedCommentCustomRepositoryImpl.cursorOf(this.findFeedCommentById(lastCommentId));
+        }
+
+        return FeedCommentCustomRepositoryImpl.COMMENT_ORDER.decode(cursor);
+    }
+
+    /**
+     * 좋아요 여부와 언급된 회원 닉네임을 페이지 단위로 한 번씩만 조회한다.
+     */
+    private List<CommentDto.GetResponse> toGetResponses(List<FeedComment> feedComments, String email) {
+        List<Long> feedCommentIds = feedComments.stream()
+                .map(FeedComment::getId)
+                .collect(Collectors.toList());
+        Long memberId = memberService.findMember(email).getId();
+        Set<Long> likedCommentIds = likeRepository.findLikedIds(FEED_COMMENT, memberId, feedCommentIds);
+
+        return feedCommentMapper.toGetResponseDtoList(feedComments, memberId, likedCommentIds,
+                super.findTaggedMemberNicknames(feedComments));
+    }
 
-        return feedCommentMapper.toGetResponseDtoList(feedComments, email);
+    private boolean isLikedByWriter(FeedComment feedComment) {
+        return likeRepository.existsLike(FEED_COMMENT, feedComment.getMember().getId(), feedComment.getId());
     }
 
     private void checkEqualWriterAndUser(FeedComment feedComment, String email) {
@@ -148,9 +227,10 @@ public class FeedCommentService extends CommentService implements LikeService {
 
     @Override
     public void doLike(String email, long feedCommentId) {
-        FeedComment feedComment = this.findFeedCommentById(feedCommentId);
-        if (!feedComment.isLikedByMember(email)) {
-            feedComment.addLike(memberService.findMember(email));
+        this.checkExistCommentById(feedCommentId);
+        Long memberId = memberService.findMember(email).getId();
+        if (likeRepository.insertLike(FEED_COMMENT, memberId, feedCommentId)) {
+            counterService.increment(FEED_COMMENT_LIKE_COUNT, feedCommentId);
         } else {
             log.debug("FeedService.doLike exception occur email : {}, feedCommentId : {}", email, feedCommentId);
             throw new BusinessLogicException(ExceptionCode.ALREADY_LIKED_COMMENT);
@@ -159,9 +239,10 @@ public class FeedCommentService extends CommentService implements LikeService {
 
     @Override
     public void cancelLike(String email, long feedCommentId) {
-        FeedComment feedComment = this.findFeedCommentById(feedCommentId);
-        if (feedComment.isLikedByMember(email)) {
-            feedComment.removeLike(email);
+        this.checkExistCommentById(feedCommentId);
+        Long memberId = memberService.findMember(email).getId();
+        if (likeRepository.deleteLike(FEED_COMMENT, memberId, feedCommentId)) {
+            counterService.decrement(FEED_COMMENT_LIKE_COUNT, feedCommentId);
         } else {
             log.debug("FeedService.cancelLike exception occur email : {}, feedCommentId : {}", email, feedCommentId);
             throw new BusinessLogicException(ExceptionCode.UNABLE_TO_CANCEL_LIKE);
@@ -0,0 +1,187 @@
+package com.frog.travelwithme.domain.feed.service;
+
+import com.frog.travelwithme.domain.common.like.repository.LikeRepository;
+import com.frog.travelwithme.domain.feed.entity.Feed;
+import com.frog.travelwithme.domain.feed.repository.FeedLikeBulkRepository;
+import com.frog.travelwithme.domain.feed.repository.FeedRepository;
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import com.frog.travelwithme.global.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.LikeType.FEED;
+
+/**
+ * FeedLikeCacheService 설명: 피드 좋아요를 Redis Set으로 관리하고 변경분을 주기적으로 DB에 일괄 반영
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/20
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedLikeCacheService {
+
+    private static final String LIKED_MEMBERS_KEY = "feed:like:members:";
+    private static final String LOADED_KEY = "feed:like:loaded:";
+    private static final String PENDING_KEY = "feed:like:pending";
+    private static final String FLUSHING_KEY = "feed:like:flushing";
+    private static final String FLUSH_LOCK_KEY = "feed:like:flush-lock";
+    private static final String LIKE = "1";
+    private static final String UNLIKE = "0";
+    private static final Duration LIKE_CACHE_TTL = Duration.ofDays(1);
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+
+    private final RedisService redisService;
+    private final FeedRepository feedRepository;
+    private final FeedLikeBulkRepository feedLikeBulkRepository;
+    private final LikeRepository likeRepository;
+
+    public void like(Long feedId, Long memberId) {
+        this.loadLikedMembers(feedId);
+        if (!redisService.addSetValue(LIKED_MEMBERS_KEY + feedId, memberId.toString())) {
+            log.debug("FeedLikeCacheService.like exception occur feedId : {}, memberId : {}", feedId, memberId);
+            throw new BusinessLogicException(ExceptionCode.ALREADY_LIKED_FEED);
+        }
+        this.addPendingChange(feedId, memberId, LIKE);
+    }
+
+    public void cancel(Long feedId, Long memberId) {
+        this.loadLikedMembers(feedId);
+        if (!redisService.removeSetValue(LIKED_MEMBERS_KEY + feedId, memberId.toString())) {
+            log.debug("FeedLikeCacheService.cancel exception occur feedId : {}, memberId : {}", feedId, memberId);
+            throw new BusinessLogicException(ExceptionCode.UNABLE_TO_CANCEL_LIKE);
+        }
+        this.addPendingChange(feedId, memberId, UNLIKE);
+    }
+
+    /**
+     * Redis에 적재된 피드는 Set 크기를, 적재되지 않은 피드는 반영 대기 중인 변경이 없으므로 DB 값을 사용
+     */
+    public Map<Long, Long> getLikeCounts(List<Feed> feeds) {
+        List<Object> results = this.readLikeStates(feeds,
+                (operations, feedId) -> operations.opsForSet().size(LIKED_MEMBERS_KEY + feedId));
+        Map<Long, Long> likeCounts = new HashMap<>();
+        for (int i = 0; i < feeds.size(); i++) {
+            Feed feed = feeds.get(i);
+            boolean loaded = results.get(i * 2) != null;
+            likeCounts.put(feed.getId(), loaded ? (Long) results.get(i * 2 + 1) : feed.getLikeCount());
+        }
+
+        return likeCounts;
+    }
+
+    /**
+     * Redis에 적재된 피드는 Set으로, 나머지는 DB 한 번의 IN 조회로 회원이 좋아요한 피드 id를 찾는다.
+     */
+    public Set<Long> findLikedFeedIds(List<Feed> feeds, Long memberId) {
+        List<Object> results = this.readLikeStates(feeds,
+                (operations, feedId) -> operations.opsForSet().isMember(LIKED_MEMBERS_KEY + feedId, memberId.toString()));
+        Set<Long> likedFeedIds = new HashSet<>();
+        List<Long> unloadedFeedIds = new ArrayList<>();
+        for (int i = 0; i < feeds.size(); i++) {
+            Long feedId = feeds.get(i).getId();
+            if (results.get(i * 2) == null) {
+                unloadedFeedIds.add(feedId);
+            } else if (Boolean.TRUE.equals(results.get(i * 2 + 1))) {
+                likedFeedIds.add(feedId);
+            }
+        }
+        likedFeedIds.addAll(likeRepository.findLikedIds(FEED, memberId, unloadedFeedIds));
+
+        return likedFeedIds;
+    }
+
+    public void evict(Long feedId) {
+        redisService.deleteValues(List.of(LIKED_MEMBERS_KEY + feedId, LOADED_KEY + feedId));
+    }
+
+    @Scheduled(fixedDelayString = "${feed.like.flush-delay-ms:1000}")
+    public void flushPendingChanges() {
+        // 반영이 TTL보다 오래 걸려 다른 서버가 락을 잡았으면 그 락은 풀지 않도록 실행마다 다른 토큰을 사용한다.
+        String lockToken = UUID.randomUUID().toString();
+        if (!redisService.setValuesIfAbsent(FLUSH_LOCK_KEY, lockToken, FLUSH_LOCK_TTL)) {
+            return;
+        }
+        try {
+            // 이전 반영이 실패해 남아있는 변경분이 있으면 먼저 처리한다.
+            if (!redisService.hasKey(FLUSHING_KEY) && !redisService.renameIfAbsent(PENDING_KEY, FLUSHING_KEY)) {
+                return;
+            }
+            Map<Object, Object> changes = redisService.getHashEntries(FLUSHING_KEY);
+            List<Object[]> likes = new ArrayList<>();
+            List<Object[]> unlikes = new ArrayList<>();
+            changes.forEach((field, value) -> {
+                String[] ids = field.toString().split(":");
+                Object[] args = new Object[]{Long.valueOf(ids[0]), Long.valueOf(ids[1])};
+                if (LIKE.equals(value)) {
+                    likes.add(args);
+                } else {
+                    unlikes.add(args);
+                }
+            });
+            feedLikeBulkRepository.applyLikeChanges(likes, unlikes);
+            redisService.deleteValues(FLUSHING_KEY);
+            log.debug("FeedLikeCacheService.flushPendingChanges likes : {}, unlikes : {}", likes.size(), unlikes.size());
+        } catch (DataAccessException e) {
+            log.error("FeedLikeCacheService.flushPendingChanges exception occur", e);
+        } finally {
+            redisService.releaseLock(FLUSH_LOCK_KEY, lockToken);
+        }
+    }
+
+    private void loadLikedMembers(Long feedId) {
+        if (redisService.hasKey(LOADED_KEY + feedId)) {
+            return;
+        }
+        List<String> likedMemberIds = feedRepository.findLikedMemberIds(feedId).stream()
+                .map(String::valueOf)
+                .collect(Collectors.toList());
+        redisService.initSetIfAbsent(LIKED_MEMBERS_KEY + feedId, LOADED_KEY + feedId,
+                likedMemberIds, LIKE_CACHE_TTL);
+    }
+
+    private List<Object> readLikeStates(List<Feed> feeds,
+                                        BiConsumer<RedisOperations<String, Object>, Long> command) {
+        if (feeds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // 피드마다 [적재 여부, 조회 결과] 순서로 한 번의 파이프라인에서 조회
+        return redisService.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                feeds.forEach(feed -> {
+                    redisOperations.opsForValue().get(LOADED_KEY + feed.getId());
+                    command.accept(redisOperations, feed.getId());
+                });
+                return null;
+            }
+        });
+    }
+
+    private void addPendingChange(Long feedId, Long memberId, String change) {
+        redisService.setHashOps(PENDING_KEY, Map.of(feedId + ":" + memberId, change));
+        redisService.expireValues(LIKED_MEMBERS_KEY + feedId, LIKE_CACHE_TTL);
+        redisService.expireValues(LOADED_KEY + feedId, LIKE_CACHE_TTL);
+    }
+}
@@ -12,15 +12,24 @@ import com.frog.travelwithme.domain.member.service.MemberService;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
 import com.frog.travelwithme.global.file.FileUploadService;
+import com.frog.travelwithme.global.file.UploadedImage;
+import com.frog.travelwithme.global.outbox.OutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static com.frog.travelwithme.global.enums.EnumCollection.AwsS3Path.FEEDIMAGE;
 
@@ -35,82 +44,111 @@ import static com.frog.travelwithme.global.enums.EnumCollection.AwsS3Path.FEEDIM
 @RequiredArgsConstructor
 public class FeedService implements LikeService {
 
+    private static final int TIMELINE_PAGE_SIZE = 20;
+
     private final FeedRepository feedRepository;
     private final MemberService memberService;
     private final TagService tagService;
     private final FeedMapper feedMapper;
     private final FileUploadService fileUploadService;
-
+    private final FeedLikeCacheService feedLikeCacheService;
+    private final TimelineService timelineService;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 이미지는 트랜잭션 밖에서 병렬로 업로드해 S3 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Response postFeed(String email, FeedDto.Post postDto, List<MultipartFile> multipartFiles) {
-        Member saveMember = memberService.findMember(email);
-        Feed feed = feedMapper.postDtoToFeed(postDto, saveMember);
-        this.addTags(postDto.getTags(), feed);
-        List<String> addedImageUrls = this.uploadFeedImages(multipartFiles, feed);
+        List<UploadedImage> addedImages = fileUploadService.uploadAll(multipartFiles, FEEDIMAGE);
         try {
-            Feed saveFeed = feedRepository.save(feed);
-            return feedMapper.toResponse(saveFeed, email);
-        } catch (Exception e) {
-            addedImageUrls.forEach(fileUploadService::remove);
-            log.debug("FeedService.postFeed exception occur feed = {}", feed.toString());
+            return this.executeInTransaction("post", () -> {
+                Member saveMember = memberService.findMember(email);
+                Feed feed = feedMapper.postDtoToFeed(postDto, saveMember);
+                this.addTags(postDto.getTags(), feed);
+                addedImages.forEach(feed::addImage);
+                Feed saveFeed = feedRepository.save(feed);
+                outboxService.publishTimelineFanOut(saveFeed.getId(), saveMember.getId());
+                return feedMapper.toResponse(saveFeed, email, 0L, false);
+            });
+        } catch (BusinessLogicException e) {
+            fileUploadService.removeAllImages(addedImages);
+            throw e;
+        } catch (RuntimeException e) {
+            fileUploadService.removeAllImages(addedImages);
+            log.debug("FeedService.postFeed exception occur email : {}, postDto : {}", email, postDto);
             throw new BusinessLogicException(ExceptionCode.UNABLE_TO_SAVE_FEED);
         }
     }
 
     @Transactional(readOnly = true)
     public Response findFeedById(String email, long feedId) {
-        return feedMapper.toResponse(this.findFeed(feedId), email);
+        Member member = memberService.findMember(email);
+        return this.toResponse(this.findFeed(feedId), member);
     }
 
     @Transactional(readOnly = true)
-    public List<Response> search(Long lastFeedId, String nickname, String tagName, String email) {
-        List<Feed> feedList = feedRepository.search(lastFeedId, nickname, tagName, email);
+    public List<Response> search(Long lastFeedId, String nickname, String tagName, String email, int size) {
+        List<Feed> feedList = feedRepository.search(lastFeedId, nickname, tagName, email, size);
+        Member member = memberService.findMember(email);
 
-        return feedMapper.toResponseList(feedList, email);
+        return this.toResponseList(feedList, member);
     }
 
-    public Response updateFeed(String email, long feedId, FeedDto.Patch patchDto, List<MultipartFile> multipartFiles) {
-        Feed saveFeed = this.findFeed(feedId);
-        this.checkWriter(email, saveFeed.getMember().getEmail());
-        FeedDto.InternalPatch internalPatchDto = feedMapper.toInternalDto(patchDto);
-        saveFeed.updateFeedData(internalPatchDto);
-        this.addTags(internalPatchDto.getTags(), saveFeed);
-        this.uploadFeedImages(multipartFiles, saveFeed);
-        this.removeFeedImages(internalPatchDto.getRemoveImageUrls(), saveFeed);
+    @Transactional(readOnly = true)
+    public List<Response> findTimeline(String email, Long lastFeedId) {
+        Member member = memberService.findMember(email);
+        List<Long> feedIds = timelineService.findTimelineFeedIds(member.getId(), lastFeedId, TIMELINE_PAGE_SIZE);
+        List<Feed> feedList = feedRepository.findAllWithMemberAndTags(feedIds);
 
-        return feedMapper.toResponse(saveFeed, email);
+        return this.toResponseList(feedList, member);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Response updateFeed(String email, long feedId, FeedDto.Patch patchDto, List<MultipartFile> multipartFiles) {
+        List<UploadedImage> addedImages = fileUploadService.uploadAll(multipartFiles, FEEDIMAGE);
+        try {
+            return this.executeInTransaction("update", () -> {
+                Feed saveFeed = this.findFeed(feedId);
+                this.checkWriter(email, saveFeed.getMember().getEmail());
+                FeedDto.InternalPatch internalPatchDto = feedMapper.toInternalDto(patchDto);
+                saveFeed.updateFeedData(internalPatchDto);
+                this.addTags(internalPatchDto.getTags(), saveFeed);
+                addedImages.forEach(saveFeed::addImage);
+                this.removeFeedImages(internalPatchDto.getRemoveImageUrls(), saveFeed);
+
+                return this.toResponse(saveFeed, saveFeed.getMember());
+            });
+        } catch (RuntimeException e) {
+            fileUploadService.removeAllImages(addedImages);
+            throw e;
+        }
     }
 
     public void deleteFeed(String email, long feedId) {
         Feed saveFeed = this.findFeed(feedId);
         String writerEmail = saveFeed.getMember().getEmail();
         this.checkWriter(email, writerEmail);
-        List<String> currentImageUrls = saveFeed.getImageUrls();
+        List<String> currentImageUrls = saveFeed.getAllImageUrls();
+        Set<Tag> currentTags = new LinkedHashSet<>(saveFeed.getTags());
         feedRepository.deleteById(feedId);
-        currentImageUrls.forEach(fileUploadService::remove);
+        tagService.decreaseUsageCount(currentTags);
+        feedLikeCacheService.evict(feedId);
+        outboxService.publishImageCleanup(currentImageUrls);
     }
-    // TODO: Redis 캐시 사용 고려
 
     @Override
     public void doLike(String email, long feedId) {
-        Feed feed = this.findFeed(feedId);
-        if (!feed.isLikedByMember(email)) {
-            feed.addLike(memberService.findMember(email));
-        } else {
-            log.debug("FeedService.doLike exception occur email : {}, feedId : {}", email, feedId);
-            throw new BusinessLogicException(ExceptionCode.ALREADY_LIKED_FEED);
-        }
+        this.checkExistFeed(feedId);
+        feedLikeCacheService.like(feedId, memberService.findMember(email).getId());
     }
-    // TODO: Redis 캐시 사용 고려
 
     @Override
     public void cancelLike(String email, long feedId) {
-        Feed feed = this.findFeed(feedId);
-        if (feed.isLikedByMember(email)) {
-            feed.removeLike(email);
-        } else {
-            log.debug("FeedService.cancelLike exception occur email : {}, feedId : {}", email, feedId);
-            throw new BusinessLogicException(ExceptionCode.UNABLE_TO_CANCEL_LIKE);
-        }
+        this.checkExistFeed(feedId);
+        feedLikeCacheService.cancel(feedId, memberService.findMember(email).getId());
     }
 
     private void checkWriter(String email, String writerEmail) {
@@ -130,24 +168,43 @@ public class FeedService implements LikeService {
                 });
     }
 
+    private void checkExistFeed(Long feedId) {
+        if (!feedRepository.existsById(feedId)) {
+            log.debug("FeedService.checkExistFeed exception occur feedId : {}", feedId);
+            throw new BusinessLogicException(ExceptionCode.FEED_NOT_FOUND);
+        }
+    }
+
+    private Response toResponse(Feed feed, Member member) {
+        return this.toResponseList(List.of(feed), member).get(0);
+    }
+
+    private List<Response> toResponseList(List<Feed> feedList, Member member) {
+        Map<Long, Long> likeCounts = feedLikeCacheService.getLikeCounts(feedList);
+        Set<Long> likedFeedIds = feedLikeCacheService.findLikedFeedIds(feedList, member.getId());
+
+        return feedMapper.toResponseList(feedList, member.getEmail(), likeCounts, likedFeedIds);
+    }
+
     private void addTags(List<String> tags, Feed saveFeed) {
         if (tags != null) {
             Set<Tag> saveTags = tagService.findOrCreateTagsByName(tags);
+            saveTags.removeAll(saveFeed.getTags());
             saveFeed.addTags(saveTags);
+            tagService.increaseUsageCount(saveTags);
         }
     }
 
-    private List<String> uploadFeedImages(List<MultipartFile> multipartFiles, Feed saveFeed) {
-        List<String> addedImageUrls = new ArrayList<>();
-        if (multipartFiles != null) {
-            multipartFiles.forEach(multipartFile -> {
-                String imageUrl = fileUploadService.upload(multipartFile, FEEDIMAGE);
-                saveFeed.addImageUrl(imageUrl);
-                addedImageUrls.add(imageUrl);
-            });
+    /**
+     * 트랜잭션(DB 커넥션 점유) 시간을 측정하며 실행
+     */
+    private Response executeInTransaction(String operation, Supplier<Response> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } finally {
+            sample.stop(meterRegistry.timer("feed.transaction.duration", "operation", operation));
         }
-
-        return addedImageUrls;
     }
 
     private void removeFeedImages(List<String> removeImageUrls, Feed feed) {
@@ -159,10 +216,11 @@ public class FeedService implements LikeService {
                         feed.getImageUrls().toString());
                 throw new BusinessLogicException(ExceptionCode.UNABLE_TO_DELETE_FEED_IMAGE);
             }
+            List<String> removedImageUrls = new ArrayList<>();
             for (String imageUrl : removeImageUrls) {
-                fileUploadService.remove(imageUrl);
-                feed.removeImageUrl(imageUrl);
+                removedImageUrls.addAll(feed.removeImage(imageUrl));
             }
+            outboxService.publishImageCleanup(removedImageUrls);
         }
     }
 }
@@ -0,0 +1,202 @@
+package com.frog.travelwithme.domain.feed.service;
+
+import com.frog.travelwithme.domain.feed.controller.dto.TagDto;
+import com.frog.travelwithme.domain.feed.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * TagAutocompleteIndex 설명: 태그 자동완성을 위한 메모리 Trie
+ * 노드마다 하위 태그 중 사용 횟수 상위 TOP_K개를 미리 정렬해 두어 접두어 길이만큼만 탐색하고 바로 응답한다.
+ * 사용 횟수 감소 시에는 상위 목록만 다시 정렬하므로 순위가 일시적으로 어긋날 수 있어 주기적으로 DB 기준으로 재구성한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/06
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagAutocompleteIndex {
+
+    private static final int TOP_K = 20;
+    private static final Comparator<TagEntry> POPULARITY_ORDER = Comparator
+            .comparingLong(TagEntry::getCount).reversed()
+            .thenComparing(TagEntry::getName);
+
+    private final TagRepository tagRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+    private volatile boolean loaded;
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public List<TagDto.Response> findTopByPrefix(String prefix, int size) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            Node node = this.findNode(prefix);
+            if (node == null || size <= 0) {
+                return List.of();
+            }
+            List<TagEntry> entries = size <= TOP_K ? node.topTags : this.collectSubtree(node);
+
+            return entries.stream()
+                    .limit(size)
+                    .map(entry -> new TagDto.Response(entry.getName(), entry.getCount()))
+                    .collect(Collectors.toList());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 새로 생성된 태그를 사용 횟수 0으로 등록
+     */
+    public void addTag(String name) {
+        this.addCount(name, 0L);
+    }
+
+    /**
+     * 피드에 태그가 추가되거나 제거될 때 사용 횟수 반영
+     */
+    public void addCount(Collection<String> names, long delta) {
+        names.forEach(name -> this.addCount(name, delta));
+    }
+
+    public void addCount(String name, long delta) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            this.insert(root, name, delta);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tag.autocomplete.rebuild-delay-ms:600000}",
+            initialDelayString = "${tag.autocomplete.rebuild-delay-ms:600000}")
+    public void rebuild() {
+        List<TagDto.Response> tags;
+        try {
+            tags = tagRepository.findAllWithFeedCount();
+        } catch (DataAccessException e) {
+            log.error("TagAutocompleteIndex.rebuild exception occur", e);
+            return;
+        }
+        // 새 Trie는 락 밖에서 만들고 교체할 때만 쓰기 락을 잡는다.
+        Node newRoot = new Node();
+        tags.forEach(tag -> this.insert(newRoot, tag.getName(), tag.getCount() == null ? 0L : tag.getCount()));
+
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            root = newRoot;
+            loaded = true;
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("TagAutocompleteIndex.rebuild tag size : {}", tags.size());
+    }
+
+    private void insert(Node root, String name, long delta) {
+        String key = name.toLowerCase(Locale.ROOT);
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            path.add(node);
+        }
+        if (node.tag == null) {
+            node.tag = new TagEntry(name);
+        }
+        TagEntry entry = node.tag;
+        entry.count = Math.max(0L, entry.count + delta);
+        path.forEach(pathNode -> pathNode.updateTopTags(entry));
+    }
+
+    private Node findNode(String prefix) {
+        String key = prefix.toLowerCase(Locale.ROOT);
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+
+        return node;
+    }
+
+    private List<TagEntry> collectSubtree(Node node) {
+        List<TagEntry> entries = new ArrayList<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            if (current.tag != null) {
+                entries.add(current.tag);
+            }
+            current.children.values().forEach(stack::push);
+        }
+        entries.sort(POPULARITY_ORDER);
+
+        return entries;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<TagEntry> topTags = new ArrayList<>();
+        private TagEntry tag;
+
+        private void updateTopTags(TagEntry entry) {
+            if (!topTags.contains(entry)) {
+                if (topTags.size() >= TOP_K
+                        && POPULARITY_ORDER.compare(entry, topTags.get(topTags.size() - 1)) >= 0) {
+                    return;
+                }
+                topTags.add(entry);
+            }
+            topTags.sort(POPULARITY_ORDER);
+            if (topTags.size() > TOP_K) {
+                topTags.remove(TOP_K);
+            }
+        }
+    }
+
+    private static class TagEntry {
+        private final String name;
+        private long count;
+
+        private TagEntry(String name) {
+            this.name = name;
+        }
+
+        private String getName() {
+            return name;
+        }
+
+        private long getCount() {
+            return count;
+        }
+    }
+}
@@ -2,14 +2,25 @@ package com.frog.travelwithme.domain.feed.service;
 
 import com.frog.travelwithme.domain.feed.controller.dto.TagDto;
 import com.frog.travelwithme.domain.feed.entity.Tag;
+import com.frog.travelwithme.domain.feed.repository.TagBulkRepository;
 import com.frog.travelwithme.domain.feed.repository.TagRepository;
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -19,27 +30,97 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TagService {
 
+    private static final int MAX_CACHED_TAGS = 10_000;
+
     private final TagRepository tagRepository;
+    private final TagAutocompleteIndex tagAutocompleteIndex;
+    private final TagBulkRepository tagBulkRepository;
+    private final Map<String, Long> tagIdCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > MAX_CACHED_TAGS;
+                }
+            });
 
     @Transactional(readOnly = true)
     public List<TagDto.Response> findTagsStartWith(String tagName, int size) {
-        return tagRepository.findTagsStartWith(tagName, size);
+        if (!tagAutocompleteIndex.isLoaded()) {
+            return tagRepository.findTagsStartWith(tagName, size);
+        }
+        return tagAutocompleteIndex.findTopByPrefix(tagName, size);
     }
 
+    /**
+     * 캐시에서 찾지 못한 태그만 IN 조회하고, 그래도 없는 태그는 한 번의 INSERT로 저장 후 다시 조회
+     * 태그 이름과 id는 바뀌지 않으므로 커밋된 태그만 캐시에 담아 자주 쓰이는 태그는 DB 조회 없이 참조한다.
+     */
     public Set<Tag> findOrCreateTagsByName(List<String> tagNames) {
-        return tagNames.stream()
-                .map(this::findOrCreateTag)
+        Set<String> names = new LinkedHashSet<>(tagNames);
+        Map<String, Long> tagIds = new HashMap<>();
+        List<String> uncachedNames = new ArrayList<>();
+        names.forEach(name -> {
+            Long tagId = tagIdCache.get(name);
+            if (tagId == null) {
+                uncachedNames.add(name);
+            } else {
+                tagIds.put(name, tagId);
+            }
+        });
+
+        if (!uncachedNames.isEmpty()) {
+            Map<String, Long> foundTagIds = new HashMap<>();
+            tagRepository.findAllByNameIn(uncachedNames)
+                    .forEach(tag -> foundTagIds.put(tag.getName(), tag.getId()));
+            List<String> missingNames = uncachedNames.stream()
+                    .filter(name -> !foundTagIds.containsKey(name))
+                    .collect(Collectors.toList());
+            if (!missingNames.isEmpty()) {
+                foundTagIds.putAll(tagBulkRepository.insertIgnoreAndFind(missingNames));
+                this.afterCommit(() -> missingNames.forEach(tagAutocompleteIndex::addTag));
+            }
+            tagIds.putAll(foundTagIds);
+            this.afterCommit(() -> tagIdCache.putAll(foundTagIds));
+        }
+        if (!tagIds.keySet().containsAll(names)) {
+            log.debug("TagService.findOrCreateTagsByName exception occur names : {}, tagIds : {}", names, tagIds);
+            throw new BusinessLogicException(ExceptionCode.UNABLE_TO_SAVE_TAG);
+        }
+
+        return names.stream()
+                .map(name -> tagRepository.getReferenceById(tagIds.get(name)))
                 .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
-    private Tag findOrCreateTag(String tagName) {
-        return tagRepository.findByName(tagName)
-                .orElseGet(() -> this.createTag(tagName)
-        );
+    public void increaseUsageCount(Collection<Tag> tags) {
+        List<String> names = this.toNames(tags);
+        this.afterCommit(() -> tagAutocompleteIndex.addCount(names, 1L));
+    }
+
+    public void decreaseUsageCount(Collection<Tag> tags) {
+        List<String> names = this.toNames(tags);
+        this.afterCommit(() -> tagAutocompleteIndex.addCount(names, -1L));
+    }
+
+    private List<String> toNames(Collection<Tag> tags) {
+        return tags.stream()
+                .map(Tag::getName)
+                .collect(Collectors.toList());
     }
 
-    private Tag createTag(String tagNae) {
-        Tag tag = Tag.builder().name(tagNae).build();
-        return tagRepository.save(tag);
+    /**
+     * 롤백된 트랜잭션의 태그, 사용 횟수가 캐시와 자동완성 인덱스에 남지 않도록 커밋 후에 반영한다.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -0,0 +1,41 @@
+package com.frog.travelwithme.domain.feed.service;
+
+import com.frog.travelwithme.global.outbox.OutboxHandler;
+import com.frog.travelwithme.global.outbox.OutboxPayload;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.OutboxEventType;
+
+/**
+ * TimelineFanOutHandler 설명: 피드 저장이 커밋된 뒤 팔로워 타임라인에 반영
+ * Sorted Set에 같은 피드 id를 다시 넣어도 결과가 같으므로 재시도해도 된다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Component
+@RequiredArgsConstructor
+public class TimelineFanOutHandler implements OutboxHandler<OutboxPayload.TimelineFanOut> {
+
+    private final TimelineService timelineService;
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.TIMELINE_FAN_OUT;
+    }
+
+    @Override
+    public Class<OutboxPayload.TimelineFanOut> getPayloadType() {
+        return OutboxPayload.TimelineFanOut.class;
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(OutboxPayload.TimelineFanOut payload) {
+        timelineService.fanOut(payload.getFeedId(), payload.getWriterId());
+
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,157 @@
+package com.frog.travelwithme.domain.feed.service;
+
+import com.frog.travelwithme.domain.feed.repository.FeedRepository;
+import com.frog.travelwithme.domain.member.repository.FollowRepository;
+import com.frog.travelwithme.global.redis.RedisService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * TimelineService 설명: 팔로우한 회원들의 피드를 모은 홈 타임라인 관리
+ * 피드 작성 시 팔로워별 Redis Sorted Set(score = 피드 id)에 미리 넣어두고(fan-out-on-write),
+ * 팔로워가 많은 회원의 피드는 넣지 않고 타임라인을 읽을 때 DB에서 병합한다(fan-out-on-read).
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/05
+ **/
+@Service
+public class TimelineService {
+
+    private static final String TIMELINE_KEY = "timeline:";
+    private static final String LOADED_KEY = "timeline:loaded:";
+    private static final String CELEBRITY_KEY = "timeline:celebrities";
+    private static final Duration TIMELINE_TTL = Duration.ofDays(7);
+
+    private final RedisService redisService;
+    private final FollowRepository followRepository;
+    private final FeedRepository feedRepository;
+    private final long fanOutThreshold;
+    private final int maxSize;
+
+    public TimelineService(RedisService redisService,
+                           FollowRepository followRepository,
+                           FeedRepository feedRepository,
+                           @Value("${feed.timeline.fan-out-threshold:1000}") long fanOutThreshold,
+                           @Value("${feed.timeline.max-size:800}") int maxSize) {
+        this.redisService = redisService;
+        this.followRepository = followRepository;
+        this.feedRepository = feedRepository;
+        this.fanOutThreshold = fanOutThreshold;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 작성자와 팔로워 타임라인에 피드를 반영 (outbox에서 커밋 후 호출, 실패 시 outbox가 재시도)
+     */
+    public void fanOut(Long feedId, Long writerId) {
+        if (followRepository.countFollowers(writerId) >= fanOutThreshold) {
+            redisService.addSetValue(CELEBRITY_KEY, writerId.toString());
+            return;
+        }
+        List<Long> receiverIds = new ArrayList<>(followRepository.findFollowerIds(writerId));
+        receiverIds.add(writerId);
+        this.addToTimelines(receiverIds, List.of(feedId));
+    }
+
+    /**
+     * lastFeedId보다 오래된 피드 id를 최신순으로 pageSize개 조회
+     */
+    public List<Long> findTimelineFeedIds(Long memberId, Long lastFeedId, int pageSize) {
+        String timelineKey = TIMELINE_KEY + memberId;
+        if (!redisService.hasKey(LOADED_KEY + memberId)) {
+            this.rebuild(memberId);
+        }
+
+        double maxScore = lastFeedId == null ? Double.POSITIVE_INFINITY : lastFeedId - 1;
+        TreeSet<Long> feedIds = redisService.reverseRangeByScore(timelineKey, maxScore, pageSize).stream()
+                .map(feedId -> Long.valueOf(feedId.toString()))
+                .collect(Collectors.toCollection(() -> new TreeSet<>(Comparator.reverseOrder())));
+        boolean timelineExhausted = feedIds.size() < pageSize;
+        Long oldestFeedId = feedIds.isEmpty() ? lastFeedId : feedIds.last();
+
+        List<Long> celebrityIds = this.findFollowingCelebrityIds(memberId);
+        if (!celebrityIds.isEmpty()) {
+            feedIds.addAll(feedRepository.findFeedIdsByWriterIds(celebrityIds, lastFeedId, pageSize));
+        }
+
+        // 최대 길이를 넘어 잘려나간 오래된 피드는 DB에서 이어서 조회
+        if (timelineExhausted && redisService.getZSetSize(timelineKey) >= maxSize) {
+            feedIds.addAll(feedRepository.findFeedIdsByWriterIds(
+                    this.findTimelineWriterIds(memberId), oldestFeedId, pageSize));
+        }
+
+        return feedIds.stream()
+                .limit(pageSize)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 팔로우 관계가 바뀌면 다음 조회 시 타임라인을 다시 구성
+     */
+    public void evict(Long memberId) {
+        redisService.deleteValues(List.of(TIMELINE_KEY + memberId, LOADED_KEY + memberId));
+    }
+
+    private void rebuild(Long memberId) {
+        List<Long> feedIds = feedRepository.findFeedIdsByWriterIds(
+                this.findTimelineWriterIds(memberId), null, maxSize);
+        this.addToTimelines(List.of(memberId), feedIds);
+        redisService.setValues(LOADED_KEY + memberId, "1", TIMELINE_TTL);
+    }
+
+    private void addToTimelines(Collection<Long> memberIds, Collection<Long> feedIds) {
+        redisService.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                memberIds.forEach(memberId -> {
+                    String timelineKey = TIMELINE_KEY + memberId;
+                    feedIds.forEach(feedId -> redisOperations.opsForZSet().add(timelineKey, feedId.toString(), feedId));
+                    redisOperations.opsForZSet().removeRange(timelineKey, 0, -(maxSize + 1L));
+                    redisOperations.expire(timelineKey, TIMELINE_TTL);
+                });
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 팔로워가 많아 미리 넣어두지 않은 회원 중 내가 팔로우하는 회원 (본인 포함)
+     */
+    private List<Long> findFollowingCelebrityIds(Long memberId) {
+        Set<Long> celebrityIds = this.findCelebrityIds();
+        List<Long> followingCelebrityIds = new ArrayList<>(followRepository.findFollowingIdsIn(memberId, celebrityIds));
+        if (celebrityIds.contains(memberId)) {
+            followingCelebrityIds.add(memberId);
+        }
+
+        return followingCelebrityIds;
+    }
+
+    private List<Long> findTimelineWriterIds(Long memberId) {
+        Set<Long> celebrityIds = this.findCelebrityIds();
+        List<Long> writerIds = new ArrayList<>(followRepository.findFollowingIds(memberId));
+        writerIds.add(memberId);
+        writerIds.removeAll(celebrityIds);
+
+        return writerIds;
+    }
+
+    private Set<Long> findCelebrityIds() {
+        return redisService.getSetMembers(CELEBRITY_KEY).stream()
+                .map(celebrityId -> Long.valueOf(celebrityId.toString()))
+                .collect(Collectors.toSet());
+    }
+}
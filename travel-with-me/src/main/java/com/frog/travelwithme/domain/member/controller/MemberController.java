@@ -13,6 +13,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 
 /**
@@ -76,8 +77,9 @@ public class MemberController {
     }
 
     @PostMapping("/emails/verification-requests")
-    public ResponseEntity sendMessage(@RequestParam("email") @Valid @CustomEmail String email) {
-        memberService.sendCodeToEmail(email);
+    public ResponseEntity sendMessage(@RequestParam("email") @Valid @CustomEmail String email,
+                                      HttpServletRequest request) {
+        memberService.sendCodeToEmail(email, request.getRemoteAddr());
 
         return new ResponseEntity<>(HttpStatus.OK);
     }
@@ -5,6 +5,7 @@ import com.frog.travelwithme.global.enums.EnumCollection.Gender;
 import com.frog.travelwithme.global.enums.EnumCollection.Nation;
 import com.frog.travelwithme.global.validation.CustomAnnotationCollection.CustomEmail;
 import com.frog.travelwithme.global.validation.CustomAnnotationCollection.Password;
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.*;
 
 import javax.validation.constraints.NotBlank;
@@ -68,6 +69,7 @@ public class MemberDto {
         private Nation nation;
         private Gender gender;
         private String image;
+        private String thumbnailImage;
         private String address;
         private String introduction;
         private String role;
@@ -79,4 +81,29 @@ public class MemberDto {
         private LocalDateTime createdAt;
         private LocalDateTime lastModifiedAt;
     }
+
+    /**
+     * 캐시에 담는 회원 요약 정보
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Summary {
+        private Long id;
+        private String email;
+        private String nickname;
+        private String image;
+        private String thumbnailImage;
+        private String role;
+
+        @Builder
+        @QueryProjection
+        public Summary(Long id, String email, String nickname, String image, String thumbnailImage, String role) {
+            this.id = id;
+            this.email = email;
+            this.nickname = nickname;
+            this.image = image;
+            this.thumbnailImage = thumbnailImage;
+            this.role = role;
+        }
+    }
 }
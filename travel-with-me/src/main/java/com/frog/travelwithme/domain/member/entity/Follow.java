@@ -6,6 +6,10 @@ import javax.persistence.*;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_follow_follower_following", columnList = "FOLLOWER_ID, FOLLOWING_ID"),
+        @Index(name = "idx_follow_following_follower", columnList = "FOLLOWING_ID, FOLLOWER_ID")
+})
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Follow {
@@ -16,7 +16,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Member 설명: 회원 데이터 관리
@@ -54,6 +57,9 @@ public class Member extends BaseTimeEntity {
 
     private String image;
 
+    // 목록 화면용 작은 프로필 이미지
+    private String thumbnailImage;
+
     private String introduction;
 
     @Embedded
@@ -120,7 +126,29 @@ public class Member extends BaseTimeEntity {
     }
 
     public void changeImage(String newImage) {
+        this.changeImage(newImage, newImage);
+    }
+
+    public void changeImage(String newImage, String newThumbnailImage) {
         this.image = newImage;
+        this.thumbnailImage = newThumbnailImage;
+    }
+
+    /**
+     * 썸네일이 없는 기존 회원은 원본 이미지를 사용
+     */
+    public String getThumbnailImage() {
+        return this.thumbnailImage == null ? this.image : this.thumbnailImage;
+    }
+
+    /**
+     * 삭제해야 할 프로필 이미지 URL (원본, 썸네일)
+     */
+    public List<String> getProfileImageUrls() {
+        return Stream.of(this.image, this.thumbnailImage)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
     }
 
     public void changeInterests(List<Interest> interests) {
@@ -0,0 +1,66 @@
+package com.frog.travelwithme.domain.member.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static com.frog.travelwithme.domain.member.entity.QFollow.follow;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/05
+ **/
+@Repository
+@RequiredArgsConstructor
+public class FollowCustomRepositoryImpl implements FollowCustomRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<Long> findFollowerIds(Long followingId) {
+        return jpaQueryFactory
+            .select(follow.follower.id)
+            .from(follow)
+            .where(follow.following.id.eq(followingId))
+            .fetch();
+    }
+
+    @Override
+    public List<Long> findFollowingIds(Long followerId) {
+        return jpaQueryFactory
+            .select(follow.following.id)
+            .from(follow)
+            .where(follow.follower.id.eq(followerId))
+            .fetch();
+    }
+
+    @Override
+    public List<Long> findFollowingIdsIn(Long followerId, Collection<Long> followingIds) {
+        if (followingIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return jpaQueryFactory
+            .select(follow.following.id)
+            .from(follow)
+            .where(follow.follower.id.eq(followerId),
+                follow.following.id.in(followingIds))
+            .fetch();
+    }
+
+    @Override
+    public long countFollowers(Long followingId) {
+        Long count = jpaQueryFactory
+            .select(follow.count())
+            .from(follow)
+            .where(follow.following.id.eq(followingId))
+            .fetchOne();
+
+        return count == null ? 0L : count;
+    }
+}
@@ -0,0 +1,21 @@
+package com.frog.travelwithme.domain.member.repository;
+
+import com.frog.travelwithme.domain.member.controller.dto.MemberDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/10
+ **/
+public interface MemberCustomRepository {
+
+    Optional<Long> findIdByEmail(String email);
+
+    Optional<MemberDto.Summary> findSummaryById(Long id);
+
+    List<MemberDto.Summary> findSummariesByIds(Collection<Long> ids);
+}
@@ -0,0 +1,62 @@
+package com.frog.travelwithme.domain.member.repository;
+
+import com.frog.travelwithme.domain.member.controller.dto.MemberDto;
+import com.frog.travelwithme.domain.member.controller.dto.QMemberDto_Summary;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.frog.travelwithme.domain.member.entity.QMember.member;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/10
+ **/
+@Repository
+@RequiredArgsConstructor
+public class MemberCustomRepositoryImpl implements MemberCustomRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public Optional<Long> findIdByEmail(String email) {
+        return Optional.ofNullable(jpaQueryFactory
+            .select(member.id)
+            .from(member)
+            .where(member.email.eq(email))
+            .fetchOne());
+    }
+
+    @Override
+    public Optional<MemberDto.Summary> findSummaryById(Long id) {
+        return Optional.ofNullable(jpaQueryFactory
+            .select(this.summary())
+            .from(member)
+            .where(member.id.eq(id))
+            .fetchOne());
+    }
+
+    @Override
+    public List<MemberDto.Summary> findSummariesByIds(Collection<Long> ids) {
+        return jpaQueryFactory
+            .select(this.summary())
+            .from(member)
+            .where(member.id.in(ids))
+            .fetch();
+    }
+
+    private QMemberDto_Summary summary() {
+        return new QMemberDto_Summary(
+            member.id,
+            member.email,
+            member.nickname,
+            member.image,
+            member.thumbnailImage.coalesce(member.image),
+            member.role);
+    }
+}
@@ -10,7 +10,7 @@ import java.util.Optional;
  * 버전 정보: 1.0.0
  * 작성일자: 2023/03/29
  **/
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberCustomRepository {
     Optional<Member> findByEmail(String email);
 
     void deleteByEmail(String email);
@@ -1,5 +1,6 @@
 package com.frog.travelwithme.domain.member.service;
 
+import com.frog.travelwithme.domain.feed.service.TimelineService;
 import com.frog.travelwithme.domain.member.entity.Follow;
 import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.repository.FollowRepository;
@@ -25,6 +26,7 @@ import java.util.Optional;
 public class FollowService {
 
     private final FollowRepository followRepository;
+    private final TimelineService timelineService;
 
     public void follow(Member follower, Member following) {
         this.checkDuplicatedFollow(follower.getId(), following.getId());
@@ -33,11 +35,13 @@ public class FollowService {
                 .following(following)
                 .build();
         followRepository.save(follow);
+        timelineService.evict(follower.getId());
     }
 
     public void unfollow(Member follower, Member following) {
         Follow follow = this.findByFollowerIdAndFollowingId(follower.getId(), following.getId());
         followRepository.deleteById(follow.getId());
+        timelineService.evict(follower.getId());
     }
 
     private void checkDuplicatedFollow(Long followerId, Long followingId) {
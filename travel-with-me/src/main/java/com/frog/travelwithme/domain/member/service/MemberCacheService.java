@@ -0,0 +1,243 @@
+package com.frog.travelwithme.domain.member.service;
+
+import com.frog.travelwithme.domain.member.controller.dto.MemberDto;
+import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.global.redis.RedisService;
+import com.frog.travelwithme.global.utils.LocalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * MemberCacheService 설명: 이메일 -> 회원 id, 회원 id -> 회원 요약 정보를 담는 2단계 캐시
+ * 서버 메모리(LRU, 짧은 TTL)를 먼저 보고 없으면 Redis를 조회한다.
+ * 회원 정보가 바뀌면 Redis와 이 서버의 캐시를 지우고, 다른 서버의 메모리 캐시는 TTL이 지나면 갱신된다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/10
+ **/
+@Slf4j
+@Service
+public class MemberCacheService {
+
+    private static final String EMAIL_KEY = "member:email:";
+    private static final String SUMMARY_KEY = "member:summary:";
+    private static final String ID_CACHE = "id";
+    private static final String SUMMARY_CACHE = "summary";
+
+    private final RedisService redisService;
+    private final MeterRegistry meterRegistry;
+    private final Duration redisTtl;
+    private final LocalCache<String, Long> localIds;
+    private final LocalCache<Long, MemberDto.Summary> localSummaries;
+
+    public MemberCacheService(RedisService redisService,
+                              MeterRegistry meterRegistry,
+                              @Value("${member.cache.local-size:10000}") int localSize,
+                              @Value("${member.cache.local-ttl-seconds:30}") long localTtlSeconds,
+                              @Value("${member.cache.redis-ttl-minutes:30}") long redisTtlMinutes) {
+        this.redisService = redisService;
+        this.meterRegistry = meterRegistry;
+        this.redisTtl = Duration.ofMinutes(redisTtlMinutes);
+        this.localIds = new LocalCache<>(localSize, Duration.ofSeconds(localTtlSeconds));
+        this.localSummaries = new LocalCache<>(localSize, Duration.ofSeconds(localTtlSeconds));
+    }
+
+    public Optional<Long> findIdByEmail(String email) {
+        Optional<Long> localId = localIds.get(email);
+        this.record(ID_CACHE, "local", localId.isPresent());
+        if (localId.isPresent()) {
+            return localId;
+        }
+
+        String redisId;
+        try {
+            redisId = redisService.getValues(EMAIL_KEY + email);
+        } catch (DataAccessException e) {
+            log.warn("MemberCacheService.findIdByEmail redis unavailable email : {}", email);
+            return Optional.empty();
+        }
+        boolean hit = redisService.checkExistsValue(redisId);
+        this.record(ID_CACHE, "redis", hit);
+        if (!hit) {
+            return Optional.empty();
+        }
+        Long memberId = Long.valueOf(redisId);
+        localIds.put(email, memberId);
+
+        return Optional.of(memberId);
+    }
+
+    public Optional<MemberDto.Summary> findSummary(Long memberId) {
+        Optional<MemberDto.Summary> localSummary = localSummaries.get(memberId);
+        this.record(SUMMARY_CACHE, "local", localSummary.isPresent());
+        if (localSummary.isPresent()) {
+            return localSummary;
+        }
+
+        Map<Object, Object> entries;
+        try {
+            entries = redisService.getHashEntries(SUMMARY_KEY + memberId);
+        } catch (DataAccessException e) {
+            log.warn("MemberCacheService.findSummary redis unavailable memberId : {}", memberId);
+            return Optional.empty();
+        }
+        boolean hit = entries != null && !entries.isEmpty();
+        this.record(SUMMARY_CACHE, "redis", hit);
+        if (!hit) {
+            return Optional.empty();
+        }
+        MemberDto.Summary summary = this.toSummary(memberId, entries);
+        localSummaries.put(memberId, summary);
+
+        return Optional.of(summary);
+    }
+
+    /**
+     * 여러 회원을 한 번에 조회할 때는 회원마다 Redis를 왕복하지 않도록 서버 메모리 캐시만 확인한다.
+     *
+     * @return 메모리에 있는 회원 id -> 요약 정보
+     */
+    public Map<Long, MemberDto.Summary> findLocalSummaries(Collection<Long> memberIds) {
+        Map<Long, MemberDto.Summary> summaries = new HashMap<>();
+        memberIds.forEach(memberId -> localSummaries.get(memberId)
+                .ifPresent(summary -> summaries.put(memberId, summary)));
+        this.record(SUMMARY_CACHE, "local", true, summaries.size());
+        this.record(SUMMARY_CACHE, "local", false, memberIds.size() - summaries.size());
+
+        return summaries;
+    }
+
+    public void cacheId(String email, Long memberId) {
+        this.afterCommit(() -> {
+            localIds.put(email, memberId);
+            try {
+                redisService.setValues(EMAIL_KEY + email, memberId.toString(), redisTtl);
+            } catch (DataAccessException e) {
+                log.warn("MemberCacheService.cacheId redis unavailable email : {}", email);
+            }
+        });
+    }
+
+    public void cacheSummary(MemberDto.Summary summary) {
+        this.afterCommit(() -> {
+            localSummaries.put(summary.getId(), summary);
+            try {
+                String key = SUMMARY_KEY + summary.getId();
+                redisService.setHashOps(key, this.toEntries(summary));
+                redisService.expireValues(key, redisTtl);
+            } catch (DataAccessException e) {
+                log.warn("MemberCacheService.cacheSummary redis unavailable memberId : {}", summary.getId());
+            }
+        });
+    }
+
+    /**
+     * 일괄 조회한 요약 정보는 서버 메모리에만 담는다.
+     */
+    public void cacheLocalSummaries(Collection<MemberDto.Summary> summaries) {
+        this.afterCommit(() -> summaries.forEach(summary -> localSummaries.put(summary.getId(), summary)));
+    }
+
+    /**
+     * 커밋 전에 지우고 커밋 후에 한 번 더 지워, 그 사이 다른 요청이 이전 값을 다시 담아도 남지 않도록 한다.
+     */
+    public void evict(Member member) {
+        Long memberId = member.getId();
+        String email = member.getEmail();
+        this.evictNow(memberId, email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(memberId, email);
+                }
+            });
+        }
+    }
+
+    /**
+     * 다른 서버에서 탈퇴해 캐시된 id로 회원을 찾지 못하면 이메일 -> id 캐시를 지운다.
+     */
+    public void evictId(String email) {
+        localIds.evict(email);
+        try {
+            redisService.deleteValues(EMAIL_KEY + email);
+        } catch (DataAccessException e) {
+            log.warn("MemberCacheService.evictId redis unavailable email : {}", email);
+        }
+    }
+
+    private void evictNow(Long memberId, String email) {
+        localIds.evict(email);
+        localSummaries.evict(memberId);
+        try {
+            redisService.deleteValues(List.of(EMAIL_KEY + email, SUMMARY_KEY + memberId));
+        } catch (DataAccessException e) {
+            log.warn("MemberCacheService.evict redis unavailable memberId : {}", memberId);
+        }
+    }
+
+    /**
+     * 롤백된 트랜잭션에서 읽은 값이 캐시에 남지 않도록 커밋 후에 담는다.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void record(String cache, String tier, boolean hit) {
+        this.record(cache, tier, hit, 1);
+    }
+
+    private void record(String cache, String tier, boolean hit, int count) {
+        if (count == 0) {
+            return;
+        }
+        meterRegistry.counter("member.cache.gets",
+                "cache", cache, "tier", tier, "result", hit ? "hit" : "miss").increment(count);
+    }
+
+    private Map<String, String> toEntries(MemberDto.Summary summary) {
+        Map<String, String> entries = new HashMap<>();
+        entries.put("email", summary.getEmail());
+        entries.put("nickname", summary.getNickname());
+        entries.put("image", summary.getImage());
+        entries.put("thumbnailImage", summary.getThumbnailImage());
+        entries.put("role", summary.getRole());
+        entries.values().removeIf(Objects::isNull);
+
+        return entries;
+    }
+
+    private MemberDto.Summary toSummary(Long memberId, Map<Object, Object> entries) {
+        return MemberDto.Summary.builder()
+                .id(memberId)
+                .email((String) entries.get("email"))
+                .nickname((String) entries.get("nickname"))
+                .image((String) entries.get("image"))
+                .thumbnailImage((String) entries.get("thumbnailImage"))
+                .role((String) entries.get("role"))
+                .build();
+    }
+}
@@ -8,7 +8,9 @@ import com.frog.travelwithme.domain.member.repository.MemberRepository;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
 import com.frog.travelwithme.global.file.FileUploadService;
-import com.frog.travelwithme.global.mail.MailService;
+import com.frog.travelwithme.global.file.UploadedImage;
+import com.frog.travelwithme.global.mail.EmailRateLimiter;
+import com.frog.travelwithme.global.outbox.OutboxService;
 import com.frog.travelwithme.global.redis.RedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,10 +24,14 @@ import org.springframework.web.multipart.MultipartFile;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.stream.Collectors;
 
 import static com.frog.travelwithme.global.enums.EnumCollection.AwsS3Path.PROFILEIMAGE;
 import static com.frog.travelwithme.global.enums.EnumCollection.OAuthStatus.NORMAL;
@@ -42,7 +48,7 @@ import static com.frog.travelwithme.global.security.auth.utils.CustomAuthorityUt
 @RequiredArgsConstructor
 public class MemberService {
 
-    private static final String AUTH_CODE_PREFIX = "AuthCode ";
+    public static final String AUTH_CODE_PREFIX = "AuthCode ";
 
     private final MemberRepository memberRepository;
 
@@ -50,7 +56,9 @@ public class MemberService {
 
     private final MemberMapper memberMapper;
 
-    private final MailService mailService;
+    private final OutboxService outboxService;
+
+    private final EmailRateLimiter emailRateLimiter;
 
     private final RedisService redisService;
 
@@ -60,6 +68,8 @@ public class MemberService {
 
     private final FollowService followService;
 
+    private final MemberCacheService memberCacheService;
+
     @Value("${spring.mail.auth-code-expiration-millis}")
     private long authCodeExpirationMillis;
 
@@ -104,6 +114,7 @@ public class MemberService {
 
     public MemberDto.Response updateMember(MemberDto.Patch patchDto, String email) {
         Member findMember = this.findMember(email);
+        memberCacheService.evict(findMember);
         findMember.updateMemberData(patchDto);
         List<Interest> newInterests = interestService
                 .findInterests(Optional.ofNullable(patchDto.getInterests()).orElse(Collections.emptyList()));
@@ -123,45 +134,102 @@ public class MemberService {
 
     public void deleteMember(String email) {
         Member member = this.findMember(email);
-        fileUploadService.remove(member.getImage());
+        memberCacheService.evict(member);
+        outboxService.publishImageCleanup(member.getProfileImageUrls());
         memberRepository.deleteByEmail(email);
     }
 
     public MemberDto.Response changeProfileImage(@RequestPart MultipartFile file, String email) {
         Member findMember = this.findMember(email);
-        String beforeImageUrl = findMember.getImage();
-        String newImageUrl = fileUploadService.upload(file, PROFILEIMAGE);
-        findMember.changeImage(newImageUrl);
-        fileUploadService.remove(beforeImageUrl);
+        memberCacheService.evict(findMember);
+        List<String> beforeImageUrls = findMember.getProfileImageUrls();
+        UploadedImage newImage = fileUploadService.upload(file, PROFILEIMAGE);
+        findMember.changeImage(newImage.getOriginalUrl(), newImage.getThumbnailUrl());
+        outboxService.publishImageCleanup(beforeImageUrls);
         return memberMapper.toDto(findMember);
     }
 
     public MemberDto.Response removeProfileImage(String email) {
         Member member = this.findMember(email);
-        String currentProfileImageUrl = member.getImage();
+        memberCacheService.evict(member);
+        List<String> currentProfileImageUrls = member.getProfileImageUrls();
         member.changeImage("defaultImageUrl");
-        fileUploadService.remove(currentProfileImageUrl);
+        outboxService.publishImageCleanup(currentProfileImageUrls);
 
         return memberMapper.toDto(member);
     }
 
+    /**
+     * 캐시에 회원 id가 있으면 이메일 대신 PK로 조회한다.
+     * 다른 서버에서 탈퇴해 캐시가 남아 있는 회원은 캐시를 지우고 이메일로 다시 조회한다.
+     */
     @Transactional(readOnly = true)
     public Member findMember(String email) {
-        return memberRepository.findByEmail(email)
+        Optional<Long> cachedMemberId = memberCacheService.findIdByEmail(email);
+        if (cachedMemberId.isPresent()) {
+            Optional<Member> cachedMember = memberRepository.findById(cachedMemberId.get());
+            if (cachedMember.isPresent()) {
+                return cachedMember.get();
+            }
+            memberCacheService.evictId(email);
+        }
+        Member findMember = memberRepository.findByEmail(email)
                 .orElseThrow(() -> {
                     log.debug("MemberService.findMemberAndCheckMemberExists exception occur email: {}", email);
                     return new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND);
                 });
+        memberCacheService.cacheId(email, findMember.getId());
+
+        return findMember;
+    }
+
+    @Transactional(readOnly = true)
+    public MemberDto.Summary findMemberSummary(Long id) {
+        return memberCacheService.findSummary(id)
+                .orElseGet(() -> {
+                    MemberDto.Summary summary = memberRepository.findSummaryById(id)
+                            .orElseThrow(() -> {
+                                log.debug("MemberService.findMemberSummary exception occur id: {}", id);
+                                return new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND);
+                            });
+                    memberCacheService.cacheSummary(summary);
+                    return summary;
+                });
+    }
+
+    /**
+     * 여러 회원의 요약 정보를 서버 메모리 캐시에서 먼저 찾고, 없는 회원만 한 번의 IN 조회로 가져온다.
+     * 탈퇴한 회원은 결과에 없다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, MemberDto.Summary> findMemberSummaries(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, MemberDto.Summary> summaries = new HashMap<>(memberCacheService.findLocalSummaries(ids));
+        List<Long> missedIds = ids.stream()
+                .filter(id -> !summaries.containsKey(id))
+                .collect(Collectors.toList());
+        if (!missedIds.isEmpty()) {
+            List<MemberDto.Summary> loadedSummaries = memberRepository.findSummariesByIds(missedIds);
+            memberCacheService.cacheLocalSummaries(loadedSummaries);
+            loadedSummaries.forEach(summary -> summaries.put(summary.getId(), summary));
+        }
+
+        return summaries;
     }
 
-    public void sendCodeToEmail(String toEmail) {
+    public void sendCodeToEmail(String toEmail, String clientIp) {
+        // 이미 가입된 이메일 요청이 인증 요청 횟수를 차지하지 않도록 중복 확인을 먼저 한다.
         this.checkDuplicatedEmail(toEmail);
+        emailRateLimiter.checkVerificationRequest(toEmail, clientIp);
         String title = "Travel with me 이메일 인증 번호";
         String authCode = this.createCode();
-        mailService.sendEmail(toEmail, title, authCode);
         // 이메일 인증 요청 시 인증 번호 Redis에 저장 ( key = "AuthCode " + Email / value = AuthCode )
+        // 메일 본문은 발송 시점에 EmailHandler가 Redis에서 읽는다.
         redisService.setValues(AUTH_CODE_PREFIX + toEmail,
                 authCode, Duration.ofMillis(this.authCodeExpirationMillis));
+        outboxService.publishAuthCodeEmail(toEmail, title);
     }
 
     public void verifiedCode(String email, String authCode) {
@@ -219,8 +287,8 @@ public class MemberService {
     private void uploadAndAndChangeImage(MultipartFile multipartFile,
                                          Member saveMember) {
         if (multipartFile != null) {
-            String imageUrl = fileUploadService.upload(multipartFile, PROFILEIMAGE);
-            saveMember.changeImage(imageUrl);
+            UploadedImage uploadedImage = fileUploadService.upload(multipartFile, PROFILEIMAGE);
+            saveMember.changeImage(uploadedImage.getOriginalUrl(), uploadedImage.getThumbnailUrl());
         }
     }
 }
\ No newline at end of file
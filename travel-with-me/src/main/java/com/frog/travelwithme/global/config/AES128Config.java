@@ -9,10 +9,12 @@ import org.springframework.stereotype.Component;
 import javax.annotation.PostConstruct;
 import javax.crypto.Cipher;
 import javax.crypto.NoSuchPaddingException;
-import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
@@ -21,6 +23,8 @@ import java.util.function.Predicate;
 
 /**
  * AES128Config 설명: AES-128 양방향 암호화
+ * AES-GCM으로 토큰마다 랜덤 IV를 사용하고, 암호문 앞에 IV를 붙여 저장한다.
+ * Cipher는 thread-safe 하지 않으므로 스레드마다 따로 만들어 재사용한다.
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/03/28
@@ -29,45 +33,57 @@ import java.util.function.Predicate;
 @Component
 public class AES128Config {
     private static final Charset ENCODING_TYPE = StandardCharsets.UTF_8;
-    private static final String INSTANCE_TYPE = "AES/CBC/PKCS5Padding";
+    private static final String INSTANCE_TYPE = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
 
     @Value("${aes.secret-key}")
     private String secretKey;   // 16bytes = 128bits
-    private IvParameterSpec ivParameterSpec;
     private SecretKeySpec secretKeySpec;
-    private Cipher cipher;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(AES128Config::createCipher);
 
     @PostConstruct
     public void init() throws NoSuchPaddingException, NoSuchAlgorithmException {
         validation(secretKey);
-        SecureRandom secureRandom = new SecureRandom();
         byte[] keyBytes = secretKey.getBytes(ENCODING_TYPE);
         secureRandom.nextBytes(keyBytes);
         secretKeySpec = new SecretKeySpec(keyBytes, "AES");
-        ivParameterSpec = new IvParameterSpec(keyBytes);
-        cipher = Cipher.getInstance(INSTANCE_TYPE);
+        // 지원하지 않는 환경이면 요청 처리 중이 아니라 기동 시점에 실패하도록 미리 확인
+        Cipher.getInstance(INSTANCE_TYPE);
     }
 
     // AES 암호화
     public String encryptAes(String plaintext) {
         try {
-            cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, ivParameterSpec);
-            byte[] encryted = cipher.doFinal(plaintext.getBytes(ENCODING_TYPE));
-            return new String(Base64.getEncoder().encode(encryted), ENCODING_TYPE);
+            byte[] iv = new byte[IV_LENGTH];
+            secureRandom.nextBytes(iv);
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+            byte[] encrypted = cipher.doFinal(plaintext.getBytes(ENCODING_TYPE));
+            byte[] ivAndEncrypted = ByteBuffer.allocate(IV_LENGTH + encrypted.length)
+                    .put(iv)
+                    .put(encrypted)
+                    .array();
+            return new String(Base64.getEncoder().encode(ivAndEncrypted), ENCODING_TYPE);
         } catch (Exception e) {
-            log.debug("decryptAes.encryptAes exception occur plaintext: {}", plaintext);
+            log.debug("AES128Config.encryptAes exception occur");
             throw new BusinessLogicException(ExceptionCode.ENCRYPTION_FAILED);
         }
     }
 
-    // AES 복호화
+    // AES 복호화, 변조된 암호문은 GCM 태그 검증에서 실패한다.
     public String decryptAes(String plaintext) {
         try {
-            cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, ivParameterSpec);
             byte[] decoded = Base64.getDecoder().decode(plaintext.getBytes(ENCODING_TYPE));
-            return new String(cipher.doFinal(decoded), ENCODING_TYPE);
+            if (decoded.length < IV_LENGTH + TAG_LENGTH_BITS / Byte.SIZE) {
+                throw new IllegalArgumentException("ciphertext is too short");
+            }
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, new GCMParameterSpec(TAG_LENGTH_BITS, decoded, 0, IV_LENGTH));
+            return new String(cipher.doFinal(decoded, IV_LENGTH, decoded.length - IV_LENGTH), ENCODING_TYPE);
         } catch (Exception e) {
-            log.debug("AES128Config.decryptAes exception occur plaintext: {}", plaintext);
+            log.debug("AES128Config.decryptAes exception occur");
             throw new BusinessLogicException(ExceptionCode.DECRYPTION_FAILED);
         }
     }
@@ -82,4 +98,12 @@ public class AES128Config {
                     throw new BusinessLogicException(ExceptionCode.SECRET_KEY_INVALID);
                 });
     }
-}
\ No newline at end of file
+
+    private static Cipher createCipher() {
+        try {
+            return Cipher.getInstance(INSTANCE_TYPE);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
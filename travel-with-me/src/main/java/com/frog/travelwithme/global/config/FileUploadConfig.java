@@ -0,0 +1,54 @@
+package com.frog.travelwithme.global.config;
+
+import com.frog.travelwithme.global.logging.MdcTaskDecorator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * FileUploadConfig 설명: 이미지 병렬 업로드, 리사이즈용 스레드 풀 설정
+ * 큐가 가득 차면 요청 스레드에서 직접 실행해 S3 동시 요청 수, 디코딩 중인 이미지 수가 풀 크기 이상으로 늘어나지 않도록 한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/08
+ **/
+@Configuration
+public class FileUploadConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor imageUploadExecutor(@Value("${file.upload.pool-size:8}") int poolSize,
+                                                      @Value("${file.upload.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor imageResizeExecutor(@Value("${file.resize.pool-size:4}") int poolSize,
+                                                      @Value("${file.resize.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-resize-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        return executor;
+    }
+}
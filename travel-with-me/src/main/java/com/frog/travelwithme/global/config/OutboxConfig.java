@@ -0,0 +1,35 @@
+package com.frog.travelwithme.global.config;
+
+import com.frog.travelwithme.global.logging.MdcTaskDecorator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * OutboxConfig 설명: outbox 이벤트 처리용 스레드 풀 설정
+ * 이벤트는 DB에 남아 있으므로 큐가 가득 차면 요청 스레드에서 실행하지 않고 거절해 다음 조회로 미룬다.
+ * 큐 크기는 OutboxDispatcher가 동시에 넘기는 최대 이벤트 수와 같다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor outboxExecutor(@Value("${outbox.pool-size:4}") int poolSize,
+                                                 @Value("${outbox.max-in-flight:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("outbox-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        return executor;
+    }
+}
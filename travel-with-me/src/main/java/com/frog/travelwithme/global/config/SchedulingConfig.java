@@ -0,0 +1,15 @@
+package com.frog.travelwithme.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig 설명: 좋아요 반영 등 백그라운드 배치 작업을 위한 스케줄링 활성화
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/20
+ **/
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
@@ -9,6 +9,7 @@ import com.frog.travelwithme.global.security.auth.handler.CustomAuthenticationEn
 import com.frog.travelwithme.global.security.auth.handler.LoginFailurHandler;
 import com.frog.travelwithme.global.security.auth.handler.LoginSuccessHandler;
 import com.frog.travelwithme.global.security.auth.jwt.JwtTokenProvider;
+import com.frog.travelwithme.global.security.auth.service.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -41,6 +42,7 @@ public class SecurityConfiguration {
     private final MemberService memberService;
     private final AES128Config aes128Config;
     private final RedisService redisService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -94,7 +96,7 @@ public class SecurityConfiguration {
             AuthenticationManager authenticationManager = builder.getSharedObject(AuthenticationManager.class);
             JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(authenticationManager,
                     jwtTokenProvider, aes128Config, memberService, redisService);
-            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenProvider, redisService);
+            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenProvider, tokenRevocationService);
 
             jwtAuthenticationFilter.setFilterProcessesUrl("/auth/login");
             jwtAuthenticationFilter.setAuthenticationSuccessHandler(new LoginSuccessHandler());
@@ -0,0 +1,36 @@
+package com.frog.travelwithme.global.config;
+
+import com.frog.travelwithme.domain.common.SoftDelete;
+import org.hibernate.Session;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+/**
+ * SoftDeleteFilterConfig 설명: 트랜잭션, OSIV 등 Spring이 만드는 모든 EntityManager에서 soft delete 필터를 켬
+ * 삭제된 행까지 다뤄야 하는 보관 작업은 JdbcTemplate을 사용하므로 필터의 영향을 받지 않는다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Configuration
+public class SoftDeleteFilterConfig {
+
+    // EntityManagerFactory가 만들어지기 전에 등록되어야 하므로 static으로 선언
+    @Bean
+    public static BeanPostProcessor softDeleteFilterInitializer() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean) {
+                    ((AbstractEntityManagerFactoryBean) bean).setEntityManagerInitializer(entityManager ->
+                            entityManager.unwrap(Session.class)
+                                    .enableFilter(SoftDelete.FILTER)
+                                    .setParameter(SoftDelete.DELETED_PARAM, false));
+                }
+                return bean;
+            }
+        };
+    }
+}
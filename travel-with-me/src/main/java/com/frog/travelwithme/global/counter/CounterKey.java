@@ -0,0 +1,34 @@
+package com.frog.travelwithme.global.counter;
+
+import com.frog.travelwithme.global.enums.EnumCollection.CounterType;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * CounterKey 설명: 카운터 종류와 엔티티 id로 누적 버퍼의 키를 구성
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/21
+ **/
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class CounterKey {
+
+    private static final String DELIMITER = ":";
+
+    private final CounterType counterType;
+    private final Long id;
+
+    public static CounterKey fromField(String field) {
+        String[] values = field.split(DELIMITER);
+        return new CounterKey(CounterType.valueOf(values[0]), Long.valueOf(values[1]));
+    }
+
+    public String toField() {
+        return counterType.name() + DELIMITER + id;
+    }
+}
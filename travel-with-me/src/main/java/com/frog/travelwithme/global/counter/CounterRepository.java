@@ -0,0 +1,36 @@
+package com.frog.travelwithme.global.counter;
+
+import com.frog.travelwithme.global.enums.EnumCollection.CounterType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CounterRepository 설명: 누적된 카운터 증감분을 UPDATE x = x + ? 배치로 반영
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/21
+ **/
+@Repository
+@RequiredArgsConstructor
+public class CounterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param deltas 카운터 종류별 [delta, id] 목록
+     */
+    @Transactional
+    public void applyDeltas(Map<CounterType, List<Object[]>> deltas) {
+        deltas.forEach((counterType, batchArgs) -> {
+            String sql = "UPDATE " + counterType.getTable() +
+                    " SET " + counterType.getColumn() + " = " + counterType.getColumn() + " + ?" +
+                    " WHERE id = ?";
+            jdbcTemplate.batchUpdate(sql, batchArgs);
+        });
+    }
+}
@@ -0,0 +1,246 @@
+package com.frog.travelwithme.global.counter;
+
+import com.frog.travelwithme.global.enums.EnumCollection.CounterType;
+import com.frog.travelwithme.global.redis.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * CounterService 설명: 좋아요, 댓글, 조회수 증감분을 메모리에 누적했다가 주기적으로 일괄 반영
+ * 누적 중인 증감분은 Redis에도 기록해 두고, 서버가 비정상 종료되면 재시작 시 다시 읽어와 반영한다.
+ * 재시작 후 node-id가 바뀌어 주인이 없어진 저널은 살아있는 서버가 가져와 반영한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/21
+ **/
+@Slf4j
+@Service
+public class CounterService {
+
+    private static final String JOURNAL_KEY = "counter:journal:";
+    private static final String NODE_KEY = "counter:node:";
+    private static final String ADOPT_LOCK_KEY = "counter:adopt-lock";
+    private static final Duration NODE_TTL = Duration.ofSeconds(60);
+    private static final Duration ADOPT_LOCK_TTL = Duration.ofSeconds(30);
+
+    // 카운터 증가는 읽기 락만 잡고 LongAdder에 누적, 반영 시점에만 쓰기 락으로 버퍼를 교체한다.
+    private final ReadWriteLock bufferLock = new ReentrantReadWriteLock();
+    private volatile Map<CounterKey, LongAdder> buffer = new ConcurrentHashMap<>();
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+    private final CounterRepository counterRepository;
+    private final RedisService redisService;
+    private final String journalKey;
+    private final String nodeKey;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+    private final Counter flushFailureCounter;
+
+    public CounterService(CounterRepository counterRepository,
+                          RedisService redisService,
+                          MeterRegistry meterRegistry,
+                          @Value("${counter.node-id:${HOSTNAME:local}}") String nodeId) {
+        this.counterRepository = counterRepository;
+        this.redisService = redisService;
+        this.journalKey = JOURNAL_KEY + nodeId;
+        this.nodeKey = NODE_KEY + nodeId;
+        this.batchSizeSummary = meterRegistry.summary("counter.flush.batch.size");
+        this.flushTimer = meterRegistry.timer("counter.flush.duration");
+        this.flushFailureCounter = meterRegistry.counter("counter.flush.failures");
+        Gauge.builder("counter.flush.lag", this, CounterService::getFlushLagMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("counter.pending.keys", this, counterService -> counterService.buffer.size())
+                .register(meterRegistry);
+    }
+
+    public void increment(CounterType counterType, Long id) {
+        this.add(counterType, id, 1L);
+    }
+
+    public void decrement(CounterType counterType, Long id) {
+        this.add(counterType, id, -1L);
+    }
+
+    /**
+     * 롤백된 댓글, 좋아요가 카운트에 남지 않도록 트랜잭션 안에서 호출되면 커밋된 뒤에 누적한다.
+     */
+    public void add(CounterType counterType, Long id, long delta) {
+        CounterKey counterKey = new CounterKey(counterType, id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.record(counterKey, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(counterKey, delta);
+            }
+        });
+    }
+
+    private void record(CounterKey counterKey, long delta) {
+        try {
+            redisService.incrementHashOps(journalKey, counterKey.toField(), delta);
+        } catch (Exception e) {
+            // 저널 기록에 실패해도 사용자 요청은 막지 않는다. (비정상 종료 시에만 유실 가능)
+            log.warn("CounterService.record journal write failed counterKey : {}, delta : {}", counterKey, delta, e);
+        }
+        this.addToBuffer(counterKey, delta);
+    }
+
+    @Scheduled(cron = "${counter.flush-cron:* * * * * *}")
+    public synchronized void flush() {
+        Map<CounterKey, Long> snapshot = this.drainBuffer();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        Map<CounterType, List<Object[]>> deltas = new EnumMap<>(CounterType.class);
+        snapshot.forEach((counterKey, delta) -> deltas
+                .computeIfAbsent(counterKey.getCounterType(), counterType -> new ArrayList<>())
+                .add(new Object[]{delta, counterKey.getId()}));
+        try {
+            counterRepository.applyDeltas(deltas);
+        } catch (DataAccessException e) {
+            log.error("CounterService.flush exception occur pending size : {}", snapshot.size(), e);
+            flushFailureCounter.increment();
+            snapshot.forEach(this::addToBuffer);
+            return;
+        }
+        snapshot.forEach((counterKey, delta) -> this.removeFromJournal(counterKey, delta));
+        batchSizeSummary.record(snapshot.size());
+        flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 이전 실행에서 반영하지 못하고 남은 증감분을 저널에서 읽어 버퍼에 다시 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayJournal() {
+        Map<Object, Object> journal = redisService.getHashEntries(journalKey);
+        journal.forEach((field, delta) -> this.addToBuffer(
+                CounterKey.fromField(field.toString()), Long.parseLong(delta.toString())));
+        if (!journal.isEmpty()) {
+            log.info("CounterService.replayJournal replayed counters : {}", journal.size());
+        }
+        this.adoptOrphanedJournals();
+    }
+
+    /**
+     * 요청을 받기 전에 살아있음을 먼저 남겨, 저널을 쓰기 시작한 서버의 저널을 다른 서버가 가져가지 않도록 한다.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${counter.heartbeat-delay-ms:10000}")
+    public void heartbeat() {
+        try {
+            redisService.setValues(nodeKey, "1", NODE_TTL);
+        } catch (Exception e) {
+            log.warn("CounterService.heartbeat exception occur nodeKey : {}", nodeKey, e);
+        }
+    }
+
+    /**
+     * heartbeat가 끊긴 서버의 저널을 내 저널로 옮기고 버퍼에 적재
+     * 옮기기와 원본 삭제는 한 스크립트로 처리해 여러 서버가 같은 저널을 중복 반영하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${counter.adopt-delay-ms:60000}", initialDelayString = "${counter.adopt-delay-ms:60000}")
+    public void adoptOrphanedJournals() {
+        String lockToken = UUID.randomUUID().toString();
+        try {
+            if (!redisService.setValuesIfAbsent(ADOPT_LOCK_KEY, lockToken, ADOPT_LOCK_TTL)) {
+                return;
+            }
+            try {
+                for (String orphanKey : redisService.scanKeys(JOURNAL_KEY + "*")) {
+                    String orphanNodeId = orphanKey.substring(JOURNAL_KEY.length());
+                    if (orphanKey.equals(journalKey) || redisService.hasKey(NODE_KEY + orphanNodeId)) {
+                        continue;
+                    }
+                    Map<String, Long> adopted = redisService.mergeHashOps(orphanKey, journalKey);
+                    adopted.forEach((field, delta) -> this.addToBuffer(CounterKey.fromField(field), delta));
+                    log.info("CounterService.adoptOrphanedJournals adopted journal : {}, counters : {}",
+                            orphanKey, adopted.size());
+                }
+            } finally {
+                redisService.releaseLock(ADOPT_LOCK_KEY, lockToken);
+            }
+        } catch (Exception e) {
+            log.warn("CounterService.adoptOrphanedJournals exception occur", e);
+        }
+    }
+
+    public long getFlushLagMillis() {
+        long pendingAt = oldestPendingAt.get();
+        return pendingAt == 0L ? 0L : System.currentTimeMillis() - pendingAt;
+    }
+
+    private void addToBuffer(CounterKey counterKey, long delta) {
+        Lock readLock = bufferLock.readLock();
+        readLock.lock();
+        try {
+            buffer.computeIfAbsent(counterKey, key -> new LongAdder()).add(delta);
+            oldestPendingAt.compareAndSet(0L, System.currentTimeMillis());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private Map<CounterKey, Long> drainBuffer() {
+        Map<CounterKey, LongAdder> drained;
+        Lock writeLock = bufferLock.writeLock();
+        writeLock.lock();
+        try {
+            drained = buffer;
+            buffer = new ConcurrentHashMap<>();
+            oldestPendingAt.set(0L);
+        } finally {
+            writeLock.unlock();
+        }
+
+        Map<CounterKey, Long> snapshot = new HashMap<>();
+        drained.forEach((counterKey, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0L) {
+                snapshot.put(counterKey, delta);
+            }
+        });
+
+        return snapshot;
+    }
+
+    private void removeFromJournal(CounterKey counterKey, long delta) {
+        try {
+            redisService.incrementHashOps(journalKey, counterKey.toField(), -delta);
+        } catch (Exception e) {
+            log.warn("CounterService.removeFromJournal failed counterKey : {}, delta : {}", counterKey, delta, e);
+        }
+    }
+}
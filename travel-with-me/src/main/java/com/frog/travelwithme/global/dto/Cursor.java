@@ -0,0 +1,78 @@
+package com.frog.travelwithme.global.dto;
+
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Cursor 설명: 키셋 페이지네이션에서 마지막으로 조회한 행의 정렬 컬럼 값
+ * 클라이언트에는 정렬 컬럼 구성을 드러내지 않도록 인코딩한 문자열로만 전달한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/14
+ **/
+@Slf4j
+@ToString
+@EqualsAndHashCode
+public class Cursor {
+    private static final String DELIMITER = ",";
+
+    private final List<Long> values;
+
+    private Cursor(List<Long> values) {
+        this.values = values;
+    }
+
+    public static Cursor of(Number... values) {
+        return new Cursor(Arrays.stream(values)
+                .map(Number::longValue)
+                .collect(Collectors.toUnmodifiableList()));
+    }
+
+    /**
+     * 첫 페이지 요청(값 없음)은 null을 반환한다.
+     */
+    public static Cursor decode(String encoded, int columnCount) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            List<Long> values = Arrays.stream(decoded.split(DELIMITER))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toUnmodifiableList());
+            if (values.size() != columnCount) {
+                throw new IllegalArgumentException("column count mismatch");
+            }
+
+            return new Cursor(values);
+        } catch (IllegalArgumentException e) {
+            log.debug("Cursor.decode exception occur cursor : {}", encoded);
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String joined = values.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Long get(int index) {
+        return values.get(index);
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,40 @@
+package com.frog.travelwithme.global.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * CursorResponseDto 설명: 키셋 페이지네이션 공통 응답 Dto
+ * 다음 페이지가 있으면 nextCursor를 그대로 다음 요청의 cursor 파라미터로 전달한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/14
+ **/
+@Getter
+public class CursorResponseDto<T> {
+    private final List<T> data;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CursorResponseDto(List<T> data, String nextCursor) {
+        this.data = data;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    /**
+     * 다음 페이지 여부를 확인하기 위해 size + 1개까지 조회한 결과를 받아 size개만 응답한다.
+     */
+    public static <E, T> CursorResponseDto<T> of(List<E> rows,
+                                                int size,
+                                                Function<E, Cursor> cursorOf,
+                                                Function<List<E>, List<T>> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+
+        return new CursorResponseDto<>(mapper.apply(page), nextCursor);
+    }
+}
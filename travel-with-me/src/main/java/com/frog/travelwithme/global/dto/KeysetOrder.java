@@ -0,0 +1,116 @@
+package com.frog.travelwithme.global.dto;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * KeysetOrder 설명: 여러 컬럼 정렬에 대한 QueryDSL 정렬 조건과 키셋(seek) 조건을 함께 생성
+ * 정렬과 커서 조건을 한 곳에서 만들어 두 조건이 어긋나 행이 누락되거나 중복되지 않도록 한다.
+ * OFFSET 없이 인덱스에서 커서 위치부터 읽으므로 뒤쪽 페이지도 첫 페이지와 비용이 같다.
+ * 마지막 컬럼은 id처럼 유일한 값이어야 한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/14
+ **/
+public class KeysetOrder {
+    private final List<Column> columns;
+
+    private KeysetOrder(List<Column> columns) {
+        this.columns = columns;
+    }
+
+    public static KeysetOrder by(Column... columns) {
+        return new KeysetOrder(Arrays.asList(columns));
+    }
+
+    public static Column asc(Expression<? extends Number> path) {
+        return new Column(path, Order.ASC);
+    }
+
+    public static Column desc(Expression<? extends Number> path) {
+        return new Column(path, Order.DESC);
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    public Cursor decode(String encoded) {
+        return Cursor.decode(encoded, columns.size());
+    }
+
+    public OrderSpecifier<?>[] orderSpecifiers() {
+        return columns.stream()
+                .map(Column::orderSpecifier)
+                .toArray(OrderSpecifier[]::new);
+    }
+
+    /**
+     * (c1, c2, c3) > (v1, v2, v3)를 c1 > v1 OR (c1 = v1 AND c2 > v2) OR (c1 = v1 AND c2 = v2 AND c3 > v3)로 풀고,
+     * 첫 컬럼 범위 조건(c1 >= v1)을 함께 걸어 인덱스 범위 스캔이 가능하도록 한다. 커서가 없으면 null.
+     */
+    public BooleanExpression after(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        BooleanExpression seek = null;
+        BooleanExpression equalsPrefix = null;
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            Long value = cursor.get(i);
+            BooleanExpression beyond = equalsPrefix == null
+                    ? column.beyond(value)
+                    : equalsPrefix.and(column.beyond(value));
+            seek = seek == null ? beyond : seek.or(beyond);
+            equalsPrefix = equalsPrefix == null
+                    ? column.equalTo(value)
+                    : equalsPrefix.and(column.equalTo(value));
+        }
+
+        return columns.get(0).beyondOrEqualTo(cursor.get(0)).and(seek);
+    }
+
+    public static class Column {
+        private final Expression<? extends Number> path;
+        private final Order order;
+
+        private Column(Expression<? extends Number> path, Order order) {
+            this.path = path;
+            this.order = order;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private OrderSpecifier<?> orderSpecifier() {
+            return new OrderSpecifier(order, path);
+        }
+
+        private BooleanExpression beyond(Long value) {
+            return Expressions.booleanOperation(order == Order.ASC ? Ops.GT : Ops.LT, path, this.constant(value));
+        }
+
+        private BooleanExpression beyondOrEqualTo(Long value) {
+            return Expressions.booleanOperation(order == Order.ASC ? Ops.GOE : Ops.LOE, path, this.constant(value));
+        }
+
+        private BooleanExpression equalTo(Long value) {
+            return Expressions.booleanOperation(Ops.EQ, path, this.constant(value));
+        }
+
+        // 컬럼 타입에 맞춰 바인딩해 인덱스 컬럼에 형변환이 걸리지 않도록 한다.
+        private Expression<? extends Number> constant(Long value) {
+            if (Integer.class.equals(path.getType())) {
+                return Expressions.constant(value.intValue());
+            }
+
+            return Expressions.constant(value);
+        }
+    }
+}
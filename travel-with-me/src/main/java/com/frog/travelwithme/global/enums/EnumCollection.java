@@ -77,6 +77,24 @@ public class EnumCollection {
         public String getDescription() {
             return this.description;
         }
+
+        /**
+         * 매칭 상태 전이 규칙
+         * 신청: 승인된 매칭을 제외하고 다시 신청 가능, 취소: 신청 중이거나 승인된 매칭만, 승인/거절: 신청 중인 매칭만
+         */
+        public boolean canChangeTo(MatchingStatus next) {
+            switch (next) {
+                case REQUEST:
+                    return this != APPROVE;
+                case CANCEL:
+                    return this == REQUEST || this == APPROVE;
+                case APPROVE:
+                case REJECT:
+                    return this == REQUEST;
+                default:
+                    return false;
+            }
+        }
     }
 
     @AllArgsConstructor
@@ -135,6 +153,22 @@ public class EnumCollection {
         }
     }
 
+    public enum ImageVariant {
+        MEDIUM("medium", 1080),
+        THUMBNAIL("thumb", 320);
+
+        @Getter
+        private final String suffix;
+
+        @Getter
+        private final int maxWidth;
+
+        ImageVariant(String suffix, int maxWidth) {
+            this.suffix = suffix;
+            this.maxWidth = maxWidth;
+        }
+    }
+
     public enum Nation {
         CH,
         FR,
@@ -158,4 +192,67 @@ public class EnumCollection {
             this.description = description;
         }
     }
+
+    @Getter
+    public enum CounterType {
+        FEED_COMMENT_COUNT("feed", "comment_count"),
+        FEED_COMMENT_LIKE_COUNT("feed_comment", "like_count"),
+        RECRUITMENT_VIEW_COUNT("recruitment", "view_count"),
+        RECRUITMENT_COMMENT_COUNT("recruitment", "comment_count");
+
+        private final String table;
+        private final String column;
+
+        CounterType(String table, String column) {
+            this.table = table;
+            this.column = column;
+        }
+    }
+
+    @Getter
+    public enum LikeType {
+        FEED("feed_like", "feed_id", "feed"),
+        FEED_COMMENT("feed_comment_like", "feed_comment_id", "feed_comment"),
+        RECRUITMENT_COMMENT("recruitment_comment_like", "recruitment_comment_id", "recruitment_comment");
+
+        private final String likeTable;
+        private final String targetColumn;
+        private final String targetTable;
+
+        LikeType(String likeTable, String targetColumn, String targetTable) {
+            this.likeTable = likeTable;
+            this.targetColumn = targetColumn;
+            this.targetTable = targetTable;
+        }
+    }
+
+    // 삭제된 댓글 보관 작업 대상 댓글 테이블, 부모 글 컬럼, 좋아요 테이블
+    @Getter
+    public enum CommentTable {
+        FEED_COMMENT("feed_comment", "feed_id", LikeType.FEED_COMMENT),
+        RECRUITMENT_COMMENT("recruitment_comment", "recruitment_id", LikeType.RECRUITMENT_COMMENT);
+
+        private final String table;
+        private final String parentColumn;
+        private final LikeType likeType;
+
+        CommentTable(String table, String parentColumn, LikeType likeType) {
+            this.table = table;
+            this.parentColumn = parentColumn;
+            this.likeType = likeType;
+        }
+    }
+
+    // 커밋 후 outbox 워커가 처리하는 외부 호출
+    public enum OutboxEventType {
+        IMAGE_CLEANUP,
+        EMAIL,
+        TIMELINE_FAN_OUT
+    }
+
+    // 처리에 성공한 이벤트는 삭제하고, 최대 시도 횟수를 넘긴 이벤트는 FAILED로 남긴다.
+    public enum OutboxStatus {
+        PENDING,
+        FAILED
+    }
 }
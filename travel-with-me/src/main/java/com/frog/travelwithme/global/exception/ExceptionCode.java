@@ -15,6 +15,7 @@ public enum ExceptionCode {
     MEMBER_EXISTS(404, "이미 존재하는 회원입니다."),
     AUTH_CODE_IS_NOT_SAME(404, "인증 번호가 일치하지 않습니다."),
     UNABLE_TO_SEND_EMAIL(404, "메일을 전송할 수 없습니다."),
+    TOO_MANY_EMAIL_REQUESTS(429, "메일 인증 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     NO_SUCH_ALGORITHM(400, "인증 번호 생성을 위한 알고리즘을 찾을 수 없습니다."),
     INVALID_GENDER(404, "성별이 올바르지 않습니다. 성별은 남자, 여자만 허용됩니다."),
     FOLLOW_NOT_FOUND(404, "팔로우를 하지 않았습니다."),
@@ -32,6 +33,8 @@ public enum ExceptionCode {
     MATCHING_CANCEL_NOT_ALLOWED(404, "동행매칭 취소가 불가능한 상태입니다."),
     MATCHING_APPROVE_NOT_ALLOWED(404, "동행매칭 승인이 불가능한 상태입니다."),
     MATCHING_REJECT_NOT_ALLOWED(404, "동행매칭 거절이 불가능한 상태입니다."),
+    MATCHING_EXISTS(409, "이미 동행매칭 신청 내역이 존재합니다."),
+    RECRUITMENT_PARTICIPANTS_FULL(409, "동행모집 인원이 모두 찼습니다."),
     MEMBER_INTEREST_NOT_FOUND(404, "회원 관심사를 찾을 수 없습니다."),
 
     // Feed
@@ -41,6 +44,7 @@ public enum ExceptionCode {
     UNABLE_TO_CANCEL_LIKE(409, "좋아요를 하지 않았기 때문에 좋아요를 취소할 수 없습니다. "),
     UNABLE_TO_DELETE_FEED_IMAGE(404, "피드 이미지는 최소 한 장 이상 존재해야 합니다."),
     UNABLE_TO_SAVE_FEED(404, "피드를 생성할 수 없습니다."),
+    UNABLE_TO_SAVE_TAG(409, "태그를 저장할 수 없습니다. 잠시 후 다시 시도해주세요."),
     ONLY_ONE_PARAMETER_TO_FEED_SEARCH(404, "피드 검색에는 반드시 tag 또는 nickname 중 하나의 파라미터만 전달되어야 합니다."),
 
     // Comment
@@ -78,6 +82,8 @@ public enum ExceptionCode {
     STRING_IS_NOT_LOCAL_DATE_TIME_FORMAT(404,"문자열 데이터 형식이 LocalDateTime 형식이 아닙니다."),
     UNABLE_TO_CONVERT_LIST_TO_STRING(404, "리스트를 문자열로 변환할 수 없습니다."),
     UNABLE_TO_CONVERT_STRING_TO_LIST(404, "문자열을 리스트로 변환할 수 없습니다."),
+    INVALID_CURSOR(400, "페이지 커서가 올바르지 않습니다."),
+    CONCURRENT_UPDATE(409, "다른 요청에 의해 먼저 변경되었습니다. 다시 시도해주세요."),
 
     // File
     FILE_DOES_NOT_EXIST(404, "파일이 존재하지 않습니다."),
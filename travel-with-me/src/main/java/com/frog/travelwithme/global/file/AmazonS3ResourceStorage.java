@@ -1,8 +1,14 @@
 package com.frog.travelwithme.global.file;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.frog.travelwithme.global.enums.EnumCollection;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
@@ -10,12 +16,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * AmazonS3ResourceStorage 설명: S3 파일 업로드 및 삭제 로직 구현
@@ -25,14 +35,27 @@ import java.util.UUID;
  **/
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class AmazonS3ResourceStorage {
+    private static final int MAX_POOLED_BUFFERS = 8;
+
     private final AmazonS3 amazonS3;
+    // 멀티파트 업로드 파트 버퍼를 재사용해 업로드마다 큰 배열을 새로 만들지 않는다.
+    private final BlockingQueue<byte[]> partBuffers = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
+    @Value("${file.upload.multipart-threshold:16777216}")
+    private long multipartThreshold = 16L * 1024 * 1024;
+
+    @Value("${file.upload.part-size:5242880}")
+    private int partSize = 5 * 1024 * 1024;
+
+    /**
+     * 파일 크기, 타입을 메타데이터에 지정해 SDK가 스트림 전체를 메모리에 올리지 않고 그대로 전송하도록 한다.
+     * 임계값보다 큰 파일은 고정 크기 버퍼로 나누어 멀티파트 업로드한다.
+     */
     public String uploadImage(MultipartFile image, EnumCollection.AwsS3Path awsS3Path) {
         if (image.isEmpty()) {
             log.debug("FileService.storeImage exception occur image : {}, awsS3Path : {}",
@@ -42,17 +65,41 @@ public class AmazonS3ResourceStorage {
 
         String originalFilename = image.getOriginalFilename();
         String storeFileName = this.createStoreFileName(originalFilename);
+        String bucket = bucketName + awsS3Path.getPath();
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(image.getSize());
+        metadata.setContentType(image.getContentType());
 
-        try (InputStream inputStream = image.getInputStream()) {
-            amazonS3.putObject(new PutObjectRequest(
-                    bucketName + awsS3Path.getPath(), storeFileName, inputStream, null));
+        try {
+            if (image.getSize() > multipartThreshold) {
+                this.uploadMultipart(bucket, storeFileName, image, metadata);
+            } else {
+                try (InputStream inputStream = image.getInputStream()) {
+                    amazonS3.putObject(new PutObjectRequest(bucket, storeFileName, inputStream, metadata));
+                }
+            }
         } catch (IOException e) {
             log.debug("FileService.storeImage exception occur image : {}, awsS3Path : {}",
                     image, awsS3Path);
             throw new BusinessLogicException(ExceptionCode.FAIL_TO_UPLOAD_FILE);
         }
 
-        return amazonS3.getUrl(bucketName + awsS3Path.getPath(), storeFileName).toString();
+        return amazonS3.getUrl(bucket, storeFileName).toString();
+    }
+
+    /**
+     * 리사이즈한 이미지를 저장. 원본 파일명의 확장자를 유지하고 크기 구분자를 붙인다.
+     */
+    public String uploadResizedImage(byte[] image, String contentType, String originalFilename,
+                                     EnumCollection.AwsS3Path awsS3Path, EnumCollection.ImageVariant imageVariant) {
+        String storeFileName = this.createStoreFileName(originalFilename, imageVariant);
+        String bucket = bucketName + awsS3Path.getPath();
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(image.length);
+        metadata.setContentType(contentType);
+        amazonS3.putObject(new PutObjectRequest(bucket, storeFileName, new ByteArrayInputStream(image), metadata));
+
+        return amazonS3.getUrl(bucket, storeFileName).toString();
     }
 
     public void removeImage(String imageUrl) {
@@ -65,10 +112,51 @@ public class AmazonS3ResourceStorage {
         }
     }
 
+    private void uploadMultipart(String bucket, String key, MultipartFile image, ObjectMetadata metadata) throws IOException {
+        String uploadId = amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId();
+        byte[] buffer = this.acquireBuffer();
+        try (InputStream inputStream = image.getInputStream()) {
+            List<PartETag> partETags = new ArrayList<>();
+            int partNumber = 1;
+            int read;
+            while ((read = inputStream.readNBytes(buffer, 0, buffer.length)) > 0) {
+                UploadPartRequest uploadPartRequest = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, read))
+                        .withPartSize(read);
+                partETags.add(amazonS3.uploadPart(uploadPartRequest).getPartETag());
+            }
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (IOException | RuntimeException e) {
+            log.debug("AmazonS3ResourceStorage.uploadMultipart exception occur key : {}, uploadId : {}", key, uploadId);
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            throw e;
+        } finally {
+            this.releaseBuffer(buffer);
+        }
+    }
+
+    private byte[] acquireBuffer() {
+        byte[] buffer = partBuffers.poll();
+        return buffer != null && buffer.length == partSize ? buffer : new byte[partSize];
+    }
+
+    private void releaseBuffer(byte[] buffer) {
+        partBuffers.offer(buffer);
+    }
+
     private String createStoreFileName(String originalFilename) {
         return UUID.randomUUID() + "." + extractExt(originalFilename);
     }
 
+    private String createStoreFileName(String originalFilename, EnumCollection.ImageVariant imageVariant) {
+        return UUID.randomUUID() + "_" + imageVariant.getSuffix() + "." + extractExt(originalFilename);
+    }
+
     private String extractExt(String originalFilename) {
         return originalFilename.substring(originalFilename.lastIndexOf(".") + 1);
     }
@@ -1,34 +1,105 @@
 package com.frog.travelwithme.global.file;
 
 import com.frog.travelwithme.global.enums.EnumCollection.AwsS3Path;
+import com.frog.travelwithme.global.enums.EnumCollection.ImageVariant;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
 import static org.springframework.http.MediaType.IMAGE_JPEG_VALUE;
 import static org.springframework.http.MediaType.IMAGE_PNG_VALUE;
 
 /**
  * FileUploadService 설명: 파일 유효성 검사 및 업로드,삭제 요청
+ * S3 요청만 하므로 트랜잭션을 열지 않는다. (업로드 동안 DB 커넥션을 잡지 않도록)
+ * 원본을 업로드하는 동안 별도 스레드 풀에서 중간 크기, 썸네일 이미지를 만들어 함께 저장한다.
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/05/20
  **/
 @Slf4j
 @Service
-@Transactional
-@RequiredArgsConstructor
 public class FileUploadService {
     private final AmazonS3ResourceStorage amazonS3ResourceStorage;
+    private final Executor imageUploadExecutor;
+    private final Executor imageResizeExecutor;
+    private final ImageResizer imageResizer;
+    private final MeterRegistry meterRegistry;
+
+    public FileUploadService(AmazonS3ResourceStorage amazonS3ResourceStorage,
+                             @Qualifier("imageUploadExecutor") Executor imageUploadExecutor,
+                             @Qualifier("imageResizeExecutor") Executor imageResizeExecutor,
+                             ImageResizer imageResizer,
+                             MeterRegistry meterRegistry) {
+        this.amazonS3ResourceStorage = amazonS3ResourceStorage;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.imageResizeExecutor = imageResizeExecutor;
+        this.imageResizer = imageResizer;
+        this.meterRegistry = meterRegistry;
+    }
 
-    public String upload(MultipartFile multipartFile, AwsS3Path awsS3Path) {
+    public UploadedImage upload(MultipartFile multipartFile, AwsS3Path awsS3Path) {
         this.verifiedExenstion(multipartFile);
-        return amazonS3ResourceStorage.uploadImage(multipartFile, awsS3Path);
+        try {
+            return this.uploadWithVariants(multipartFile, awsS3Path);
+        } catch (CompletionException e) {
+            throw this.toUploadException(e);
+        }
+    }
+
+    /**
+     * 모든 파일의 확장자를 먼저 검사한 뒤 병렬로 업로드하고, 하나라도 실패하면 업로드된 파일을 삭제
+     * @return 요청한 파일 순서대로 업로드된 이미지
+     */
+    public List<UploadedImage> uploadAll(List<MultipartFile> multipartFiles, AwsS3Path awsS3Path) {
+        if (multipartFiles == null || multipartFiles.isEmpty()) {
+            return new ArrayList<>();
+        }
+        multipartFiles.forEach(this::verifiedExenstion);
+
+        List<CompletableFuture<UploadedImage>> futures = multipartFiles.stream()
+                .map(multipartFile -> CompletableFuture.supplyAsync(
+                        () -> this.uploadWithVariants(multipartFile, awsS3Path), imageUploadExecutor))
+                .collect(Collectors.toList());
+
+        List<UploadedImage> uploadedImages = new ArrayList<>();
+        RuntimeException failure = null;
+        for (CompletableFuture<UploadedImage> future : futures) {
+            try {
+                uploadedImages.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = this.toUploadException(e);
+                }
+            }
+        }
+        if (failure != null) {
+            log.debug("FileUploadService.uploadAll exception occur files : {}, uploaded : {}",
+                    multipartFiles.size(), uploadedImages.size());
+            this.removeAllImages(uploadedImages);
+            throw failure;
+        }
+
+        return uploadedImages;
     }
 
     public void remove(String imageUrl) {
@@ -37,6 +108,107 @@ public class FileUploadService {
         }
     }
 
+    /**
+     * 보상 삭제용. 일부 삭제에 실패해도 원래 예외가 전달되도록 로그만 남긴다.
+     */
+    public void removeAll(List<String> imageUrls) {
+        imageUrls.forEach(imageUrl -> {
+            try {
+                this.remove(imageUrl);
+            } catch (BusinessLogicException e) {
+                log.warn("FileUploadService.removeAll failed imageUrl : {}", imageUrl);
+            }
+        });
+    }
+
+    public void removeAllImages(List<UploadedImage> uploadedImages) {
+        uploadedImages.forEach(uploadedImage -> this.removeAll(uploadedImage.getAllUrls()));
+    }
+
+    /**
+     * 리사이즈는 업로드 스레드와 다른 풀에서 실행해 업로드 스레드가 서로의 작업을 기다리며 멈추지 않도록 한다.
+     */
+    private UploadedImage uploadWithVariants(MultipartFile multipartFile, AwsS3Path awsS3Path) {
+        CompletableFuture<Map<ImageVariant, String>> variantFuture = CompletableFuture.supplyAsync(
+                () -> this.uploadVariants(multipartFile, awsS3Path), imageResizeExecutor);
+        String originalUrl;
+        try {
+            originalUrl = this.uploadWithMetrics(multipartFile, awsS3Path);
+        } catch (RuntimeException e) {
+            variantFuture.thenAccept(variantUrls -> this.removeAll(new ArrayList<>(variantUrls.values())));
+            throw e;
+        }
+
+        Map<ImageVariant, String> variantUrls;
+        try {
+            variantUrls = variantFuture.join();
+        } catch (CompletionException e) {
+            this.removeAll(List.of(originalUrl));
+            throw e;
+        }
+
+        return new UploadedImage(originalUrl,
+                variantUrls.getOrDefault(ImageVariant.MEDIUM, originalUrl),
+                variantUrls.getOrDefault(ImageVariant.THUMBNAIL, originalUrl));
+    }
+
+    /**
+     * 큰 이미지부터 차례로 축소해 디코딩은 한 번만 하고, 기준보다 작은 크기는 만들지 않는다.
+     * 이미지로 읽을 수 없는 파일은 원본만 저장한다.
+     */
+    private Map<ImageVariant, String> uploadVariants(MultipartFile multipartFile, AwsS3Path awsS3Path) {
+        Optional<BufferedImage> source;
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            source = imageResizer.read(inputStream);
+        } catch (IOException | RuntimeException e) {
+            log.warn("FileUploadService.uploadVariants failed to read image : {}", multipartFile.getOriginalFilename());
+            return Map.of();
+        }
+        if (source.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            BufferedImage image = source.get();
+            for (ImageVariant imageVariant : ImageVariant.values()) {
+                if (image.getWidth() <= imageVariant.getMaxWidth()) {
+                    continue;
+                }
+                image = imageResizer.resize(image, imageVariant.getMaxWidth());
+                byte[] resized = imageResizer.write(image, multipartFile.getContentType());
+                variantUrls.put(imageVariant, amazonS3ResourceStorage.uploadResizedImage(resized,
+                        multipartFile.getContentType(), multipartFile.getOriginalFilename(), awsS3Path, imageVariant));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("FileUploadService.uploadVariants exception occur file : {}", multipartFile.getOriginalFilename(), e);
+            this.removeAll(new ArrayList<>(variantUrls.values()));
+            throw new BusinessLogicException(ExceptionCode.FAIL_TO_UPLOAD_FILE);
+        } finally {
+            sample.stop(meterRegistry.timer("file.resize.duration", "path", awsS3Path.name()));
+        }
+
+        return variantUrls;
+    }
+
+    private String uploadWithMetrics(MultipartFile multipartFile, AwsS3Path awsS3Path) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return amazonS3ResourceStorage.uploadImage(multipartFile, awsS3Path);
+        } finally {
+            sample.stop(meterRegistry.timer("file.upload.duration", "path", awsS3Path.name()));
+        }
+    }
+
+    private RuntimeException toUploadException(CompletionException e) {
+        if (e.getCause() instanceof BusinessLogicException) {
+            return (BusinessLogicException) e.getCause();
+        }
+        log.error("FileUploadService.uploadAll exception occur", e.getCause());
+        return new BusinessLogicException(ExceptionCode.FAIL_TO_UPLOAD_FILE);
+    }
+
     private void verifiedExenstion(MultipartFile multipartFile) {
         String contentType = multipartFile.getContentType();
 
@@ -0,0 +1,41 @@
+package com.frog.travelwithme.global.file;
+
+import com.frog.travelwithme.global.outbox.OutboxHandler;
+import com.frog.travelwithme.global.outbox.OutboxPayload;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.OutboxEventType;
+
+/**
+ * ImageCleanupHandler 설명: 피드, 회원 삭제나 이미지 변경이 커밋된 뒤 사용하지 않는 S3 이미지를 삭제
+ * 이미 삭제된 이미지를 다시 삭제해도 되므로 일부만 삭제하고 실패해 재시도해도 된다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Component
+@RequiredArgsConstructor
+public class ImageCleanupHandler implements OutboxHandler<OutboxPayload.ImageCleanup> {
+
+    private final FileUploadService fileUploadService;
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.IMAGE_CLEANUP;
+    }
+
+    @Override
+    public Class<OutboxPayload.ImageCleanup> getPayloadType() {
+        return OutboxPayload.ImageCleanup.class;
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(OutboxPayload.ImageCleanup payload) {
+        payload.getImageUrls().forEach(fileUploadService::remove);
+
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,83 @@
+package com.frog.travelwithme.global.file;
+
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+import static org.springframework.http.MediaType.IMAGE_PNG_VALUE;
+
+/**
+ * ImageResizer 설명: 업로드 이미지를 가로 길이 기준으로 축소해 썸네일, 중간 크기 이미지를 생성
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/09
+ **/
+@Component
+public class ImageResizer {
+
+    /**
+     * 이미지로 읽을 수 없는 파일이면 빈 값을 반환해 원본만 저장하도록 한다.
+     */
+    public Optional<BufferedImage> read(InputStream inputStream) throws IOException {
+        return Optional.ofNullable(ImageIO.read(inputStream));
+    }
+
+    /**
+     * 가로 길이가 maxWidth보다 크면 비율을 유지한 채 축소하고, 작거나 같으면 원본을 그대로 반환
+     */
+    public BufferedImage resize(BufferedImage source, int maxWidth) {
+        if (source.getWidth() <= maxWidth) {
+            return source;
+        }
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * maxWidth / source.getWidth()));
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage resized = new BufferedImage(maxWidth, height, type);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, maxWidth, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return resized;
+    }
+
+    /**
+     * 원본과 같은 형식으로 인코딩. JPEG는 알파 채널을 지원하지 않아 RGB로 변환해 저장한다.
+     */
+    public byte[] write(BufferedImage image, String contentType) throws IOException {
+        boolean png = contentType != null && contentType.contains(IMAGE_PNG_VALUE);
+        BufferedImage target = png ? image : this.toRgb(image);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (!ImageIO.write(target, png ? "png" : "jpg", outputStream)) {
+            throw new IOException("no image writer for content type : " + contentType);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    private BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return rgb;
+    }
+}
@@ -0,0 +1,38 @@
+package com.frog.travelwithme.global.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * UploadedImage 설명: 업로드된 원본 이미지와 크기별 이미지 URL
+ * 원본이 기준 크기보다 작으면 해당 크기의 URL은 원본 URL과 같다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/09
+ **/
+@Getter
+@ToString
+@AllArgsConstructor
+public class UploadedImage {
+    private final String originalUrl;
+    private final String mediumUrl;
+    private final String thumbnailUrl;
+
+    public static UploadedImage originalOnly(String originalUrl) {
+        return new UploadedImage(originalUrl, originalUrl, originalUrl);
+    }
+
+    /**
+     * 삭제할 때 사용하는 중복 없는 URL 목록
+     */
+    public List<String> getAllUrls() {
+        return Stream.of(originalUrl, mediumUrl, thumbnailUrl)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
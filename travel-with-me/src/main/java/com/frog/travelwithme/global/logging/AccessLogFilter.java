@@ -0,0 +1,84 @@
+package com.frog.travelwithme.global.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * AccessLogFilter 설명: 요청마다 MDC에 요청 id를 넣고, 일부 요청만 샘플링해 처리 시간을 남기는 접근 로그
+ * 느린 요청과 5xx 응답은 샘플링과 관계없이 남긴다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/13
+ **/
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_KEY = "requestId";
+    // 로그 위조를 막기 위해 외부에서 받은 요청 id는 짧은 영문, 숫자, 하이픈만 허용
+    private static final Pattern REQUEST_ID_PATTERN = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    private final double sampleRate;
+    private final long slowThresholdMillis;
+
+    public AccessLogFilter(@Value("${logging.access.sample-rate:0.01}") double sampleRate,
+                           @Value("${logging.access.slow-threshold-ms:1000}") long slowThresholdMillis) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String requestId = this.resolveRequestId(request);
+        MDC.put(REQUEST_ID_KEY, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        long startedAt = System.nanoTime();
+        // 예외가 올라오면 응답 상태가 아직 200이므로, 정상 처리된 경우에만 응답 상태를 읽고 그 외에는 500으로 남긴다.
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            if (this.shouldLog(elapsedMillis, status)) {
+                log.info("{} {} {} {}ms", request.getMethod(), request.getRequestURI(), status, elapsedMillis);
+            }
+            MDC.remove(REQUEST_ID_KEY);
+        }
+    }
+
+    private boolean shouldLog(long elapsedMillis, int status) {
+        if (!log.isInfoEnabled()) {
+            return false;
+        }
+
+        return elapsedMillis >= slowThresholdMillis
+                || status >= 500
+                || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private String resolveRequestId(HttpServletRequest request) {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId != null && REQUEST_ID_PATTERN.matcher(requestId).matches()) {
+            return requestId;
+        }
+
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
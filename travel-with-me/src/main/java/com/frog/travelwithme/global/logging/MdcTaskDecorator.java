@@ -0,0 +1,38 @@
+package com.frog.travelwithme.global.logging;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * MdcTaskDecorator 설명: 비동기 작업에도 요청 스레드의 MDC(요청 id)를 전달
+ * 큐가 가득 차 요청 스레드에서 직접 실행되는 경우도 있으므로, 실행 후에는 원래 MDC로 되돌린다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/13
+ **/
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            this.setContext(context);
+            try {
+                runnable.run();
+            } finally {
+                this.setContext(previous);
+            }
+        };
+    }
+
+    private void setContext(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.frog.travelwithme.global.mail;
+
+import com.frog.travelwithme.global.outbox.OutboxHandler;
+import com.frog.travelwithme.global.outbox.OutboxPayload;
+import com.frog.travelwithme.global.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.frog.travelwithme.domain.member.service.MemberService.AUTH_CODE_PREFIX;
+import static com.frog.travelwithme.global.enums.EnumCollection.OutboxEventType;
+
+/**
+ * EmailHandler 설명: 요청 스레드가 SMTP 응답을 기다리지 않도록 커밋 후 인증 번호 메일을 발송
+ * 인증 번호는 발송할 때 Redis에서 읽고, 재시도 사이에 만료되었으면 보내지 않고 이벤트를 처리 완료한다.
+ * 발송 결과를 기다리지 않고 MailDispatcher의 future를 돌려주므로 outbox 워커는 바로 다음 이벤트를 처리한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailHandler implements OutboxHandler<OutboxPayload.AuthCodeEmail> {
+
+    private final MailService mailService;
+    private final RedisService redisService;
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.EMAIL;
+    }
+
+    @Override
+    public Class<OutboxPayload.AuthCodeEmail> getPayloadType() {
+        return OutboxPayload.AuthCodeEmail.class;
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(OutboxPayload.AuthCodeEmail payload) {
+        String authCode = redisService.getValues(AUTH_CODE_PREFIX + payload.getToEmail());
+        if (!redisService.checkExistsValue(authCode)) {
+            log.debug("EmailHandler.handle auth code expired to : {}", payload.getToEmail());
+            return CompletableFuture.completedFuture(null);
+        }
+        return mailService.sendEmail(payload.getToEmail(), payload.getTitle(), authCode);
+    }
+}
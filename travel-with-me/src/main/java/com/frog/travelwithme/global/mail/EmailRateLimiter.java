@@ -0,0 +1,56 @@
+package com.frog.travelwithme.global.mail;
+
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import com.frog.travelwithme.global.redis.RedisService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * EmailRateLimiter 설명: 이메일 인증 요청 횟수를 수신 이메일, 요청 IP별로 Redis에 기록해 제한
+ * 서버가 여러 대여도 같은 횟수를 보도록 Redis에 두고, 구간 단위로 초기화한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/17
+ **/
+@Slf4j
+@Component
+public class EmailRateLimiter {
+
+    private static final String EMAIL_KEY = "mail:rate:email:";
+    private static final String IP_KEY = "mail:rate:ip:";
+
+    private final RedisService redisService;
+    private final int perEmailLimit;
+    private final int perIpLimit;
+    private final Duration window;
+
+    public EmailRateLimiter(RedisService redisService,
+                            @Value("${mail.rate-limit.per-email:5}") int perEmailLimit,
+                            @Value("${mail.rate-limit.per-ip:30}") int perIpLimit,
+                            @Value("${mail.rate-limit.window-seconds:600}") long windowSeconds) {
+        this.redisService = redisService;
+        this.perEmailLimit = perEmailLimit;
+        this.perIpLimit = perIpLimit;
+        this.window = Duration.ofSeconds(windowSeconds);
+    }
+
+    public void checkVerificationRequest(String email, String clientIp) {
+        try {
+            long emailCount = redisService.incrementValues(EMAIL_KEY + email, window);
+            long ipCount = redisService.incrementValues(IP_KEY + clientIp, window);
+            if (emailCount > perEmailLimit || ipCount > perIpLimit) {
+                log.debug("EmailRateLimiter.checkVerificationRequest exception occur " +
+                        "email : {}, clientIp : {}, emailCount : {}, ipCount : {}", email, clientIp, emailCount, ipCount);
+                throw new BusinessLogicException(ExceptionCode.TOO_MANY_EMAIL_REQUESTS);
+            }
+        } catch (DataAccessException e) {
+            // Redis 장애로 회원가입 자체가 막히지 않도록 제한 없이 통과시킨다.
+            log.warn("EmailRateLimiter.checkVerificationRequest redis exception occur email : {}", email, e);
+        }
+    }
+}
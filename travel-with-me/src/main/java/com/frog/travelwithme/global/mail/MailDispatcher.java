@@ -0,0 +1,225 @@
+package com.frog.travelwithme.global.mail;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMailMessage;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MailDispatcher 설명: 메일을 크기가 제한된 큐에 넣고, SMTP 연결을 유지하는 발송 스레드가 모아서 발송
+ * JavaMailSender.send는 호출마다 SMTP 연결과 인증을 새로 하므로, 발송 스레드마다 연결을 하나씩 열어두고
+ * 큐에 쌓인 메일을 batch-size만큼 한 연결로 보낸다. 유휴 시간이 지나면 연결을 닫고, 끊긴 연결은 다시 연결한다.
+ * outbox 워커는 발송을 기다리지 않으므로 동시에 최대 outbox.max-in-flight(256)건이 큐에 들어올 수 있어,
+ * 큐 크기(500)는 그보다 크게 둔다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/17
+ **/
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private static final long POLL_MILLIS = 1000L;
+
+    private final JavaMailSenderImpl mailSender;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<PendingMail> queue;
+    private final int connections;
+    private final int batchSize;
+    private final Duration idleTimeout;
+    private final DistributionSummary batchSizeSummary;
+    private ExecutorService workers;
+    private volatile boolean running = true;
+
+    public MailDispatcher(JavaMailSenderImpl mailSender,
+                          MeterRegistry meterRegistry,
+                          @Value("${mail.queue-capacity:500}") int queueCapacity,
+                          @Value("${mail.connections:2}") int connections,
+                          @Value("${mail.batch-size:20}") int batchSize,
+                          @Value("${mail.idle-timeout-seconds:30}") long idleTimeoutSeconds) {
+        this.mailSender = mailSender;
+        this.meterRegistry = meterRegistry;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.connections = connections;
+        this.batchSize = batchSize;
+        this.idleTimeout = Duration.ofSeconds(idleTimeoutSeconds);
+        this.batchSizeSummary = meterRegistry.summary("mail.batch.size");
+        meterRegistry.gaugeCollectionSize("mail.queue.size", List.of(), queue);
+    }
+
+    @PostConstruct
+    public void start() {
+        workers = Executors.newFixedThreadPool(connections, new CustomizableThreadFactory("mail-sender-"));
+        for (int i = 0; i < connections; i++) {
+            workers.execute(new SmtpWorker());
+        }
+    }
+
+    /**
+     * 큐에 남은 메일을 보낸 뒤 종료한다. 보내지 못한 메일은 outbox에 남아 재시작 후 다시 발송된다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (workers != null) {
+            workers.shutdown();
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        }
+        List<PendingMail> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(mail -> this.complete(mail, new RejectedExecutionException("mail dispatcher stopped")));
+    }
+
+    /**
+     * 큐가 가득 차면 기다리지 않고 거절한다.
+     */
+    public CompletableFuture<Void> submit(SimpleMailMessage message) {
+        PendingMail mail = new PendingMail(message);
+        if (!running || !queue.offer(mail)) {
+            meterRegistry.counter("mail.sent", "result", "rejected").increment();
+            throw new RejectedExecutionException("mail queue is full");
+        }
+        return mail.future;
+    }
+
+    private void complete(PendingMail mail, Exception e) {
+        String result = e == null ? "success" : "failure";
+        meterRegistry.timer("mail.send.latency", "result", result)
+                .record(System.nanoTime() - mail.enqueuedAt, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("mail.sent", "result", result).increment();
+        if (e == null) {
+            mail.future.complete(null);
+        } else {
+            mail.future.completeExceptionally(e);
+        }
+    }
+
+    private static class PendingMail {
+        private final SimpleMailMessage message;
+        private final long enqueuedAt = System.nanoTime();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingMail(SimpleMailMessage message) {
+            this.message = message;
+        }
+    }
+
+    /**
+     * 발송 스레드 하나가 SMTP 연결 하나를 가진다.
+     */
+    private class SmtpWorker implements Runnable {
+
+        private Transport transport;
+        private long lastUsedAt;
+
+        @Override
+        public void run() {
+            try {
+                while (running || !queue.isEmpty()) {
+                    PendingMail first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        this.closeIfIdle();
+                        continue;
+                    }
+                    List<PendingMail> batch = new ArrayList<>(batchSize);
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    this.sendBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.close();
+            }
+        }
+
+        private void sendBatch(List<PendingMail> batch) {
+            batchSizeSummary.record(batch.size());
+            try {
+                this.connect();
+            } catch (MessagingException e) {
+                log.warn("MailDispatcher.sendBatch connect exception occur batchSize : {}", batch.size(), e);
+                batch.forEach(mail -> complete(mail, e));
+                return;
+            }
+            batch.forEach(this::send);
+            lastUsedAt = System.nanoTime();
+        }
+
+        private void send(PendingMail mail) {
+            try {
+                MimeMessage mimeMessage = mailSender.createMimeMessage();
+                mail.message.copyTo(new MimeMailMessage(mimeMessage));
+                mimeMessage.saveChanges();
+                try {
+                    transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+                } catch (MessagingException e) {
+                    if (transport.isConnected()) {
+                        throw e;
+                    }
+                    // 서버가 먼저 끊은 연결이면 한 번 다시 연결해 보낸다.
+                    this.close();
+                    this.connect();
+                    transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+                }
+                complete(mail, null);
+            } catch (MessagingException | RuntimeException e) {
+                log.debug("MailDispatcher.send exception occur to : {}", (Object) mail.message.getTo(), e);
+                complete(mail, e);
+            }
+        }
+
+        private void connect() throws MessagingException {
+            if (transport != null && transport.isConnected()) {
+                return;
+            }
+            this.close();
+            transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+            String username = StringUtils.hasLength(mailSender.getUsername()) ? mailSender.getUsername() : null;
+            String password = StringUtils.hasLength(mailSender.getPassword()) ? mailSender.getPassword() : null;
+            transport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+        }
+
+        private void closeIfIdle() {
+            if (transport != null && System.nanoTime() - lastUsedAt >= idleTimeout.toNanos()) {
+                this.close();
+            }
+        }
+
+        private void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("MailDispatcher.close exception occur", e);
+            }
+            transport = null;
+        }
+    }
+}
@@ -1,38 +1,41 @@
 package com.frog.travelwithme.global.mail;
 
-import com.frog.travelwithme.global.exception.BusinessLogicException;
-import com.frog.travelwithme.global.exception.ExceptionCode;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 작성자: 김찬빈
  * 버전 정보: 1.0.0
  * 작성일자: 2023/04/20
  **/
-@Slf4j
 @Service
-@Transactional
-@RequiredArgsConstructor
 public class MailService {
 
-    private final JavaMailSender emailSender;
+    private final MailDispatcher mailDispatcher;
+    private final Duration sendTimeout;
+
+    public MailService(MailDispatcher mailDispatcher,
+                       @Value("${mail.send-timeout-seconds:60}") long sendTimeoutSeconds) {
+        this.mailDispatcher = mailDispatcher;
+        this.sendTimeout = Duration.ofSeconds(sendTimeoutSeconds);
+    }
 
-    public void sendEmail(String toEmail,
-                          String title,
-                          String text) {
+    /**
+     * 큐에 넣고 발송 결과를 기다리지 않는다. 큐가 가득 차면 RejectedExecutionException을 던지고,
+     * 발송에 실패하거나 send-timeout 안에 끝나지 않으면 돌려준 future가 실패한다.
+     */
+    public CompletableFuture<Void> sendEmail(String toEmail,
+                                             String title,
+                                             String text) {
         SimpleMailMessage emailForm = this.createEmailForm(toEmail, title, text);
-        try {
-            emailSender.send(emailForm);
-        } catch (RuntimeException e) {
-            log.debug("MailService.sendEmail exception occur toEmail: {}, " +
-                    "title: {}, text: {}", toEmail, title, text);
-            throw new BusinessLogicException(ExceptionCode.UNABLE_TO_SEND_EMAIL);
-        }
+
+        return mailDispatcher.submit(emailForm)
+                .orTimeout(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
     }
 
     // 발신할 이메일 데이터 세팅
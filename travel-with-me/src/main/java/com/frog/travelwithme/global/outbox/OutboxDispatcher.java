@@ -0,0 +1,242 @@
+package com.frog.travelwithme.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.OutboxEventType;
+
+/**
+ * OutboxDispatcher 설명: outbox 이벤트를 크기가 제한된 워커 풀에서 처리하고, 실패하면 간격을 늘려가며 재시도
+ * 커밋 직후 바로 처리를 요청하고(OutboxService), 재시도 대상과 서버 재시작 전에 처리하지 못한 이벤트는 주기적으로 조회해 처리한다.
+ * 끝내 실패한 이벤트는 보관 기간 동안 FAILED로 남겨 두었다가 삭제한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxRepository outboxRepository;
+    private final Map<OutboxEventType, OutboxHandler<?>> handlers = new EnumMap<>(OutboxEventType.class);
+    private final Executor outboxExecutor;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    // 큐에 넣었거나 처리 중인 이벤트. 핸들러가 돌려준 future가 끝날 때까지 포함되므로
+    // 메일처럼 워커를 붙잡지 않는 호출도 동시에 최대 max-in-flight개까지만 진행된다.
+    private final Set<Long> inFlightIds = ConcurrentHashMap.newKeySet();
+    private final int maxInFlight;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration failedRetention;
+    private final int purgeChunkSize;
+
+    public OutboxDispatcher(OutboxRepository outboxRepository,
+                            List<OutboxHandler<?>> handlers,
+                            @Qualifier("outboxExecutor") Executor outboxExecutor,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${outbox.max-in-flight:256}") int maxInFlight,
+                            @Value("${outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${outbox.lease-seconds:300}") long leaseSeconds,
+                            @Value("${outbox.initial-backoff-millis:1000}") long initialBackoffMillis,
+                            @Value("${outbox.max-backoff-millis:600000}") long maxBackoffMillis,
+                            @Value("${outbox.failed-retention-days:14}") long failedRetentionDays,
+                            @Value("${outbox.purge-chunk-size:500}") int purgeChunkSize) {
+        this.outboxRepository = outboxRepository;
+        handlers.forEach(handler -> this.handlers.put(handler.getEventType(), handler));
+        this.outboxExecutor = outboxExecutor;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.maxInFlight = maxInFlight;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.failedRetention = Duration.ofDays(failedRetentionDays);
+        this.purgeChunkSize = purgeChunkSize;
+        meterRegistry.gaugeCollectionSize("outbox.in-flight", List.of(), inFlightIds);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-delay-millis:1000}")
+    public void dispatchDue() {
+        int capacity = maxInFlight - inFlightIds.size();
+        if (capacity <= 0) {
+            return;
+        }
+        try {
+            outboxRepository.findDue(LocalDateTime.now(), capacity).forEach(this::dispatch);
+        } catch (DataAccessException e) {
+            log.warn("OutboxDispatcher.dispatchDue exception occur", e);
+        }
+    }
+
+    /**
+     * 여러 서버에서 동시에 실행되어도 같은 행을 지울 뿐이므로 락 없이 청크 단위로 삭제한다.
+     */
+    @Scheduled(cron = "${outbox.purge-cron:0 0 5 * * *}")
+    public void purgeFailed() {
+        LocalDateTime before = LocalDateTime.now().minus(failedRetention);
+        long purgedCount = 0L;
+        try {
+            int purged;
+            do {
+                purged = outboxRepository.deleteFailedBefore(before, purgeChunkSize);
+                purgedCount += purged;
+            } while (purged >= purgeChunkSize);
+        } catch (DataAccessException e) {
+            log.warn("OutboxDispatcher.purgeFailed exception occur purged : {}", purgedCount, e);
+        }
+        meterRegistry.counter("outbox.failed.purged").increment(purgedCount);
+        if (purgedCount > 0) {
+            log.info("OutboxDispatcher.purgeFailed purged : {}", purgedCount);
+        }
+    }
+
+    /**
+     * 워커 풀이 가득 찼으면 넘기지 않고, 다음 조회에서 다시 가져간다.
+     */
+    public void dispatch(OutboxEvent event) {
+        if (inFlightIds.size() >= maxInFlight || !inFlightIds.add(event.getId())) {
+            return;
+        }
+        try {
+            outboxExecutor.execute(() -> {
+                try {
+                    this.process(event);
+                } catch (RuntimeException e) {
+                    inFlightIds.remove(event.getId());
+                    throw e;
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightIds.remove(event.getId());
+            this.record(event, "rejected");
+        }
+    }
+
+    private void process(OutboxEvent event) {
+        try {
+            if (!outboxRepository.claim(event, LocalDateTime.now().plus(lease))) {
+                inFlightIds.remove(event.getId());
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("OutboxDispatcher.process claim exception occur id : {}", event.getId(), e);
+            inFlightIds.remove(event.getId());
+            return;
+        }
+
+        OutboxHandler<?> handler = handlers.get(event.getEventType());
+        if (handler == null) {
+            this.fail(event, new IllegalStateException("outbox handler not found : " + event.getEventType()));
+            inFlightIds.remove(event.getId());
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<Void> result;
+        try {
+            result = this.handle(handler, event);
+        } catch (JsonProcessingException | RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        // 비동기 핸들러의 결과는 완료한 스레드(메일 발송 스레드 등)에서 반영한다.
+        result.whenComplete((ignored, throwable) -> {
+            try {
+                this.complete(event, throwable);
+            } finally {
+                sample.stop(meterRegistry.timer("outbox.handle.duration", "type", event.getEventType().name()));
+                inFlightIds.remove(event.getId());
+            }
+        });
+    }
+
+    private <T> CompletableFuture<Void> handle(OutboxHandler<T> handler, OutboxEvent event)
+            throws JsonProcessingException {
+        return handler.handle(objectMapper.readValue(event.getPayload(), handler.getPayloadType()));
+    }
+
+    private void complete(OutboxEvent event, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        if (cause == null) {
+            try {
+                outboxRepository.delete(event.getId());
+                this.record(event, "processed");
+            } catch (DataAccessException e) {
+                // 삭제하지 못하면 lease가 끝난 뒤 다시 처리된다.
+                log.warn("OutboxDispatcher.complete delete exception occur id : {}", event.getId(), e);
+            }
+        } else if (cause instanceof JsonProcessingException) {
+            // 재시도해도 읽을 수 없는 이벤트
+            this.fail(event, cause);
+        } else {
+            this.retryOrFail(event, cause);
+        }
+    }
+
+    private void retryOrFail(OutboxEvent event, Throwable e) {
+        int attempts = event.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            this.fail(event, e);
+            return;
+        }
+        try {
+            outboxRepository.reschedule(event.getId(), LocalDateTime.now().plus(this.backoff(attempts)),
+                    e.toString());
+            log.warn("OutboxDispatcher.retryOrFail retry id : {}, type : {}, attempts : {}",
+                    event.getId(), event.getEventType(), attempts, e);
+            this.record(event, "retried");
+        } catch (DataAccessException rescheduleException) {
+            // 저장하지 못하면 lease가 끝난 뒤 다시 처리된다.
+            log.warn("OutboxDispatcher.retryOrFail reschedule exception occur id : {}", event.getId(),
+                    rescheduleException);
+        }
+    }
+
+    private void fail(OutboxEvent event, Throwable e) {
+        try {
+            outboxRepository.markFailed(event.getId(), e.toString());
+        } catch (DataAccessException failException) {
+            log.warn("OutboxDispatcher.fail exception occur id : {}", event.getId(), failException);
+        }
+        log.error("OutboxDispatcher.fail id : {}, type : {}, attempts : {}",
+                event.getId(), event.getEventType(), event.getAttempts() + 1, e);
+        this.record(event, "failed");
+    }
+
+    // 재시도 간격은 지수적으로 늘리고, 함께 실패한 이벤트가 한꺼번에 재시도되지 않도록 절반 범위 안에서 흩뜨린다.
+    private Duration backoff(int attempts) {
+        long exponential = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, maxBackoff.toMillis());
+
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    private void record(OutboxEvent event, String result) {
+        meterRegistry.counter("outbox.events", "type", event.getEventType().name(), "result", result)
+                .increment();
+    }
+}
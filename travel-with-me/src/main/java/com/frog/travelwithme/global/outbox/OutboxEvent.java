@@ -0,0 +1,72 @@
+package com.frog.travelwithme.global.outbox;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.OutboxEventType;
+import static com.frog.travelwithme.global.enums.EnumCollection.OutboxStatus;
+
+/**
+ * OutboxEvent 설명: 비즈니스 변경과 같은 트랜잭션에 저장하고, 커밋 후 OutboxDispatcher가 처리하는 외부 호출
+ * OutboxRepository가 JdbcTemplate으로 직접 저장, 조회한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Entity
+@Getter
+@Table(name = "outbox_event", indexes = {
+        // 처리할 이벤트 조회. 처리 중인 이벤트는 lease가 끝날 때까지 next_attempt_at이 미래라 조회되지 않는다.
+        @Index(name = "idx_outbox_event_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 30, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(length = 20, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    // 가져간(claim) 횟수. 다른 워커가 먼저 가져갔는지 확인하는 버전으로도 사용한다.
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public OutboxEvent(Long id, OutboxEventType eventType, String payload, int attempts) {
+        this.id = id;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.attempts = attempts;
+    }
+}
@@ -0,0 +1,22 @@
+package com.frog.travelwithme.global.outbox;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.OutboxEventType;
+
+/**
+ * OutboxHandler 설명: 이벤트 종류별 외부 호출. 같은 이벤트가 두 번 이상 처리될 수 있으므로 여러 번 실행해도 결과가 같아야 한다.
+ * 예외를 던지거나 돌려준 future가 실패하면 OutboxDispatcher가 간격을 늘려가며 재시도한다.
+ * 결과를 기다려야 하는 외부 호출은 워커 스레드를 붙잡지 않도록 완료되지 않은 future를 돌려준다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+public interface OutboxHandler<T> {
+
+    OutboxEventType getEventType();
+
+    Class<T> getPayloadType();
+
+    CompletableFuture<Void> handle(T payload);
+}
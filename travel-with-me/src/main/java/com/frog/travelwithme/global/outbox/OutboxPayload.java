@@ -0,0 +1,40 @@
+package com.frog.travelwithme.global.outbox;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+public class OutboxPayload {
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ImageCleanup {
+        private List<String> imageUrls;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class AuthCodeEmail {
+        // 인증 번호는 outbox에 남기지 않고, 발송할 때 Redis에서 읽는다.
+        private String toEmail;
+        private String title;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class TimelineFanOut {
+        private Long feedId;
+        private Long writerId;
+    }
+}
@@ -0,0 +1,123 @@
+package com.frog.travelwithme.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.OutboxEventType;
+
+/**
+ * OutboxRepository 설명: outbox_event 저장, 처리할 이벤트 조회, 워커 간 중복 처리 방지
+ * 저장은 호출한 서비스의 트랜잭션에 참여하고, 나머지는 워커 스레드에서 문장 단위로 커밋한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_event (event_type, payload, status, attempts, next_attempt_at, created_at) " +
+                    "VALUES (?, ?, 'PENDING', 0, ?, ?)";
+
+    // idx_outbox_event_status_next_attempt 범위 스캔
+    private static final String SELECT_DUE_SQL =
+            "SELECT id, event_type, payload, attempts FROM outbox_event " +
+                    "WHERE status = 'PENDING' AND next_attempt_at <= ? ORDER BY next_attempt_at LIMIT ?";
+
+    // 조회한 뒤 다른 서버, 워커가 먼저 가져갔다면 attempts가 달라 0건 갱신된다.
+    // 가져간 이벤트는 lease가 끝날 때까지 조회되지 않고, 워커가 처리 중에 종료되면 lease가 끝난 뒤 다시 처리된다.
+    private static final String CLAIM_SQL =
+            "UPDATE outbox_event SET attempts = attempts + 1, next_attempt_at = ? " +
+                    "WHERE id = ? AND status = 'PENDING' AND attempts = ?";
+
+    private static final String RESCHEDULE_SQL =
+            "UPDATE outbox_event SET next_attempt_at = ?, last_error = ? WHERE id = ?";
+
+    // FAILED 이벤트는 다시 처리하지 않으므로 next_attempt_at에 실패 시각을 남겨 보관 기간 확인에 사용한다.
+    private static final String FAIL_SQL =
+            "UPDATE outbox_event SET status = 'FAILED', next_attempt_at = ?, last_error = ? WHERE id = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM outbox_event WHERE id = ?";
+
+    // idx_outbox_event_status_next_attempt 범위 스캔
+    private static final String PURGE_FAILED_SQL =
+            "DELETE FROM outbox_event WHERE status = 'FAILED' AND next_attempt_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxEvent save(OutboxEventType eventType, String payload, LocalDateTime now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement preparedStatement = connection.prepareStatement(INSERT_SQL,
+                    Statement.RETURN_GENERATED_KEYS);
+            preparedStatement.setString(1, eventType.name());
+            preparedStatement.setString(2, payload);
+            preparedStatement.setTimestamp(3, Timestamp.valueOf(now));
+            preparedStatement.setTimestamp(4, Timestamp.valueOf(now));
+            return preparedStatement;
+        }, keyHolder);
+
+        return OutboxEvent.builder()
+                .id(Objects.requireNonNull(keyHolder.getKey()).longValue())
+                .eventType(eventType)
+                .payload(payload)
+                .attempts(0)
+                .build();
+    }
+
+    public List<OutboxEvent> findDue(LocalDateTime now, int limit) {
+        return jdbcTemplate.query(SELECT_DUE_SQL, (resultSet, rowNum) -> OutboxEvent.builder()
+                        .id(resultSet.getLong("id"))
+                        .eventType(OutboxEventType.valueOf(resultSet.getString("event_type")))
+                        .payload(resultSet.getString("payload"))
+                        .attempts(resultSet.getInt("attempts"))
+                        .build(),
+                Timestamp.valueOf(now), limit);
+    }
+
+    /**
+     * @return 이 워커가 이벤트를 가져왔으면 true
+     */
+    public boolean claim(OutboxEvent event, LocalDateTime leaseUntil) {
+        return jdbcTemplate.update(CLAIM_SQL, Timestamp.valueOf(leaseUntil), event.getId(), event.getAttempts()) > 0;
+    }
+
+    public void reschedule(Long id, LocalDateTime nextAttemptAt, String error) {
+        jdbcTemplate.update(RESCHEDULE_SQL, Timestamp.valueOf(nextAttemptAt), this.truncate(error), id);
+    }
+
+    public void markFailed(Long id, String error) {
+        jdbcTemplate.update(FAIL_SQL, Timestamp.valueOf(LocalDateTime.now()), this.truncate(error), id);
+    }
+
+    public void delete(Long id) {
+        jdbcTemplate.update(DELETE_SQL, id);
+    }
+
+    /**
+     * @return 삭제한 FAILED 이벤트 수
+     */
+    public int deleteFailedBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(PURGE_FAILED_SQL, Timestamp.valueOf(before), limit);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
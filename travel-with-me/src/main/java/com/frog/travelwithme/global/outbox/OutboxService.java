@@ -0,0 +1,66 @@
+package com.frog.travelwithme.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.OutboxEventType;
+
+/**
+ * OutboxService 설명: S3 삭제, 메일 발송 등 외부 호출을 호출한 서비스의 트랜잭션에 이벤트로 저장
+ * 요청 스레드는 외부 호출을 기다리지 않고, 트랜잭션이 롤백되면 이벤트도 함께 롤백된다.
+ * 커밋된 이벤트는 서버가 종료되어도 남아 있다가 OutboxDispatcher가 처리한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxService {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxDispatcher outboxDispatcher;
+    private final ObjectMapper objectMapper;
+
+    public void publishImageCleanup(List<String> imageUrls) {
+        if (imageUrls.isEmpty()) {
+            return;
+        }
+        this.publish(OutboxEventType.IMAGE_CLEANUP, new OutboxPayload.ImageCleanup(List.copyOf(imageUrls)));
+    }
+
+    public void publishAuthCodeEmail(String toEmail, String title) {
+        this.publish(OutboxEventType.EMAIL, new OutboxPayload.AuthCodeEmail(toEmail, title));
+    }
+
+    public void publishTimelineFanOut(Long feedId, Long writerId) {
+        this.publish(OutboxEventType.TIMELINE_FAN_OUT, new OutboxPayload.TimelineFanOut(feedId, writerId));
+    }
+
+    private void publish(OutboxEventType eventType, Object payload) {
+        OutboxEvent event = outboxRepository.save(eventType, this.toJson(payload), LocalDateTime.now());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxDispatcher.dispatch(event);
+            }
+        });
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("outbox payload serialization failed", e);
+        }
+    }
+}
@@ -2,14 +2,29 @@ package com.frog.travelwithme.global.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -22,6 +37,48 @@ import java.util.concurrent.TimeUnit;
 @Component
 @RequiredArgsConstructor
 public class RedisService {
+    // 초기화 표시 키가 없을 때만 Set을 채우고 표시 키를 남기는 스크립트 (적재 도중 들어온 변경이 덮어써지지 않도록 원자적으로 처리)
+    private static final RedisScript<Long> INIT_SET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end " +
+                    "for i = 2, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end " +
+                    "redis.call('SET', KEYS[2], '1', 'EX', ARGV[1]) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+                    "return 1", Long.class);
+
+    // 증감 후 0이 된 필드는 삭제해 Hash가 계속 커지지 않도록 한다.
+    private static final RedisScript<Long> INCREMENT_HASH_SCRIPT = new DefaultRedisScript<>(
+            "local value = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "if value == 0 then redis.call('HDEL', KEYS[1], ARGV[1]) end " +
+                    "return value", Long.class);
+
+    // 원본 Hash의 필드를 대상 Hash에 더한 뒤 원본을 지우고, 옮긴 [필드, 값] 목록을 반환한다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> MERGE_HASH_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+                    "for i = 1, #entries, 2 do " +
+                    "local value = redis.call('HINCRBY', KEYS[2], entries[i], entries[i + 1]) " +
+                    "if value == 0 then redis.call('HDEL', KEYS[2], entries[i]) end " +
+                    "end " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "return entries", List.class);
+
+    // 고정 구간 카운터. 구간의 첫 요청일 때만 만료 시간을 설정해 구간이 계속 늘어나지 않도록 한다.
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local value = redis.call('INCR', KEYS[1]) " +
+                    "if value == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end " +
+                    "return value", Long.class);
+
+    // 락 값(실행마다 다른 토큰)이 같을 때만 지우거나 만료 시간을 늘려, TTL이 지나 다른 서버가 잡은 락을 건드리지 않는다.
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+                    "return 0", Long.class);
+
+    private static final RedisScript<Long> RENEW_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+                    "return 0", Long.class);
+
+    private static final long SCAN_COUNT = 1000L;
+
     private final RedisTemplate<String, Object> redisTemplate;
 
     public void setValues(String key, String data) {
@@ -37,10 +94,11 @@ public class RedisService {
     @Transactional(readOnly = true)
     public String getValues(String key) {
         ValueOperations<String, Object> values = redisTemplate.opsForValue();
-        if (values.get(key) == null) {
+        Object value = values.get(key);
+        if (value == null) {
             return "false";
         }
-        return (String) values.get(key);
+        return (String) value;
     }
 
     public void deleteValues(String key) {
@@ -51,6 +109,32 @@ public class RedisService {
         redisTemplate.expire(key, timeout, TimeUnit.MILLISECONDS);
     }
 
+    public void expireValues(String key, Duration duration) {
+        redisTemplate.expire(key, duration);
+    }
+
+    public boolean setValuesIfAbsent(String key, String data, Duration duration) {
+        ValueOperations<String, Object> values = redisTemplate.opsForValue();
+        return Boolean.TRUE.equals(values.setIfAbsent(key, data, duration));
+    }
+
+    /**
+     * @return token으로 잡은 락을 지웠으면 true
+     */
+    public boolean releaseLock(String key, String token) {
+        Long result = redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(key), token);
+        return result != null && result > 0;
+    }
+
+    /**
+     * @return token으로 잡은 락이 남아 있어 만료 시간을 늘렸으면 true
+     */
+    public boolean renewLock(String key, String token, Duration duration) {
+        Long result = redisTemplate.execute(RENEW_LOCK_SCRIPT, List.of(key), token,
+                String.valueOf(duration.toMillis()));
+        return result != null && result > 0;
+    }
+
     public void setHashOps(String key, Map<String, String> data) {
         HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
         values.putAll(key, data);
@@ -67,6 +151,141 @@ public class RedisService {
         values.delete(key, hashKey);
     }
 
+    @Transactional(readOnly = true)
+    public Map<Object, Object> getHashEntries(String key) {
+        HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
+        return values.entries(key);
+    }
+
+    public long incrementHashOps(String key, String hashKey, long delta) {
+        Long result = redisTemplate.execute(INCREMENT_HASH_SCRIPT, List.of(key), hashKey, String.valueOf(delta));
+        return result == null ? 0L : result;
+    }
+
+    /**
+     * @return sourceKey에서 targetKey로 옮긴 필드 -> 증감분
+     */
+    public Map<String, Long> mergeHashOps(String sourceKey, String targetKey) {
+        List<?> entries = redisTemplate.execute(MERGE_HASH_SCRIPT, List.of(sourceKey, targetKey));
+        Map<String, Long> merged = new HashMap<>();
+        if (entries == null) {
+            return merged;
+        }
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            merged.put(entries.get(i).toString(), Long.parseLong(entries.get(i + 1).toString()));
+        }
+        return merged;
+    }
+
+    public long incrementValues(String key, Duration window) {
+        Long result = redisTemplate.execute(INCREMENT_SCRIPT, List.of(key), String.valueOf(window.toMillis()));
+        return result == null ? 0L : result;
+    }
+
+    public boolean addSetValue(String key, String value) {
+        SetOperations<String, Object> values = redisTemplate.opsForSet();
+        Long added = values.add(key, value);
+        return added != null && added > 0;
+    }
+
+    public boolean removeSetValue(String key, String value) {
+        SetOperations<String, Object> values = redisTemplate.opsForSet();
+        Long removed = values.remove(key, value);
+        return removed != null && removed > 0;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isSetMember(String key, String value) {
+        SetOperations<String, Object> values = redisTemplate.opsForSet();
+        return Boolean.TRUE.equals(values.isMember(key, value));
+    }
+
+    @Transactional(readOnly = true)
+    public long getSetSize(String key) {
+        SetOperations<String, Object> values = redisTemplate.opsForSet();
+        Long size = values.size(key);
+        return size == null ? 0L : size;
+    }
+
+    @Transactional(readOnly = true)
+    public Set<Object> getSetMembers(String key) {
+        SetOperations<String, Object> values = redisTemplate.opsForSet();
+        Set<Object> members = values.members(key);
+        return members == null ? Set.of() : members;
+    }
+
+    @Transactional(readOnly = true)
+    public Set<Object> reverseRangeByScore(String key, double maxScore, long count) {
+        ZSetOperations<String, Object> values = redisTemplate.opsForZSet();
+        Set<Object> range = values.reverseRangeByScore(key, Double.NEGATIVE_INFINITY, maxScore, 0, count);
+        return range == null ? Set.of() : range;
+    }
+
+    @Transactional(readOnly = true)
+    public long getZSetSize(String key) {
+        ZSetOperations<String, Object> values = redisTemplate.opsForZSet();
+        Long size = values.zCard(key);
+        return size == null ? 0L : size;
+    }
+
+    public boolean initSetIfAbsent(String key, String markerKey, Collection<String> data, Duration duration) {
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(duration.getSeconds()));
+        args.addAll(data);
+        Long result = redisTemplate.execute(INIT_SET_SCRIPT, List.of(key, markerKey), args.toArray());
+        return result != null && result == 1L;
+    }
+
+    public boolean hasKey(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
+    public boolean renameIfAbsent(String oldKey, String newKey) {
+        if (!this.hasKey(oldKey)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.renameIfAbsent(oldKey, newKey));
+    }
+
+    public void deleteValues(Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    public List<Object> executePipelined(SessionCallback<?> session) {
+        return redisTemplate.executePipelined(session);
+    }
+
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    /**
+     * KEYS 대신 SCAN으로 나누어 조회해 Redis를 오래 막지 않도록 한다.
+     */
+    @Transactional(readOnly = true)
+    public Set<String> scanKeys(String pattern) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+        Set<String> keys = redisTemplate.execute((RedisCallback<Set<String>>) connection -> {
+            Set<String> scannedKeys = new HashSet<>();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                cursor.forEachRemaining(key -> scannedKeys.add(new String(key, StandardCharsets.UTF_8)));
+            }
+            return scannedKeys;
+        });
+        return keys == null ? Set.of() : keys;
+    }
+
+    /**
+     * @return 남은 만료 시간(ms). 키가 없으면 -2, 만료 시간이 없으면 -1
+     */
+    @Transactional(readOnly = true)
+    public long getExpireMillis(String key) {
+        Long expire = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        return expire == null ? -2L : expire;
+    }
+
     public boolean checkExistsValue(String value) {
         return !value.equals("false");
     }
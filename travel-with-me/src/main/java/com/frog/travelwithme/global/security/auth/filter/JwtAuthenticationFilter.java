@@ -1,7 +1,7 @@
 package com.frog.travelwithme.global.security.auth.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.domain.member.controller.dto.MemberDto;
 import com.frog.travelwithme.domain.member.service.MemberService;
 import com.frog.travelwithme.global.config.AES128Config;
 import com.frog.travelwithme.global.redis.RedisService;
@@ -47,7 +47,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request,
                                                 HttpServletResponse response) throws AuthenticationException {
-        log.info("JwtAuthenticationFilter.attemptAuthentication excute");
+        log.debug("JwtAuthenticationFilter.attemptAuthentication excute");
         ObjectMapper objectMapper = new ObjectMapper();
 
         // ServletInputStream을 LoginDto 객체로 역직렬화
@@ -63,7 +63,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
                                             HttpServletResponse response,
                                             FilterChain chain,
                                             Authentication authResult) throws IOException, ServletException {
-        log.info("JwtAuthenticationFilter.successfulAuthentication excute");
+        log.debug("JwtAuthenticationFilter.successfulAuthentication excute");
         CustomUserDetails customUserDetails = (CustomUserDetails) authResult.getPrincipal();
         TokenDto tokenDto = jwtTokenProvider.generateTokenDto(customUserDetails);
         String accessToken = tokenDto.getAccessToken();
@@ -71,7 +71,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         String encryptedRefreshToken = aes128Config.encryptAes(refreshToken);
         jwtTokenProvider.accessTokenSetHeader(accessToken, response);
         jwtTokenProvider.refresshTokenSetHeader(encryptedRefreshToken, response);
-        Member findMember = memberService.findMember(customUserDetails.getId());
+        MemberDto.Summary findMember = memberService.findMemberSummary(customUserDetails.getId());
         Responder.loginSuccessResponse(response, findMember);
 
         // 로그인 성공시 Refresh Token Redis 저장 ( key = Email / value = Refresh Token )
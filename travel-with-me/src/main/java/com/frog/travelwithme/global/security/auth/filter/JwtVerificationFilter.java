@@ -3,8 +3,10 @@ package com.frog.travelwithme.global.security.auth.filter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ErrorResponse;
-import com.frog.travelwithme.global.redis.RedisService;
 import com.frog.travelwithme.global.security.auth.jwt.JwtTokenProvider;
+import com.frog.travelwithme.global.security.auth.jwt.TokenVerification;
+import com.frog.travelwithme.global.security.auth.service.TokenRevocationService;
+import com.frog.travelwithme.global.security.auth.utils.Responder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -37,22 +39,24 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
                     "/auth/reissue",
                     "/members/emails/*");
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisService redisService;
+    private final TokenRevocationService tokenRevocationService;
 
     // JWT 인증 정보를 현재 쓰레드의 SecurityContext에 저장(가입/로그인/재발급 Request 제외)
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        log.info("JwtVerificationFilter.doFilterInternal excute");
         try {
             String accessToken = jwtTokenProvider.resolveAccessToken(request);
-            log.info("StringUtils.hasText(accessToken) = {}", StringUtils.hasText(accessToken));
-            log.info("doNotLogout(accessToken) = {}", doNotLogout(accessToken));
-            log.info("jwtTokenProvider.validateToken(accessToken, response) = {}", jwtTokenProvider.validateToken(accessToken, response));
-            if (StringUtils.hasText(accessToken) && doNotLogout(accessToken)
-                    && jwtTokenProvider.validateToken(accessToken, response)) {
-                setAuthenticationToContext(accessToken);
+            if (StringUtils.hasText(accessToken)) {
+                // 서명 검증, 토큰 id, 인증 정보를 한 번의 파싱 결과로 처리
+                TokenVerification verification = jwtTokenProvider.verify(accessToken);
+                if (verification.getExceptionCode() != null) {
+                    Responder.sendErrorResponse(response, verification.getExceptionCode());
+                }
+                if (verification.isValid() && doNotLogout(verification)) {
+                    setAuthenticationToContext(verification);
+                }
             }
         // TODO: 예외처리 리팩토링
         } catch (RuntimeException e) {
@@ -66,24 +70,22 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private boolean doNotLogout(String accessToken) {
-        String isLogout = redisService.getValues(accessToken);
-        return isLogout.equals("false");
+    private boolean doNotLogout(TokenVerification verification) {
+        return !tokenRevocationService.isRevoked(verification.getTokenId());
     }
 
     // EXCLUDE_URL과 동일한 요청이 들어왔을 경우, 현재 필터를 진행하지 않고 다음 필터 진행
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        log.info("JwtVerificationFilter.shouldNotFilter excute, path = {}", request.getServletPath());
         boolean result = EXCLUDE_URL.stream().anyMatch(exclude -> exclude.equalsIgnoreCase(request.getServletPath()));
-        log.info("# Exclude url check = {}, result check = {}", request.getServletPath(), result);
+        log.debug("# Exclude url check = {}, result check = {}", request.getServletPath(), result);
 
         return result;
     }
 
-    private void setAuthenticationToContext(String accessToken) {
-        Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
+    private void setAuthenticationToContext(TokenVerification verification) {
+        Authentication authentication = jwtTokenProvider.getAuthentication(verification);
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        log.info("# Token verification success!");
+        log.debug("# Token verification success!");
     }
 }
@@ -26,8 +26,8 @@ public class LoginSuccessHandler implements AuthenticationSuccessHandler {
                                         HttpServletResponse response,
                                         Authentication authentication) throws IOException, ServletException {
         List<GrantedAuthority> authorities = (List<GrantedAuthority>) authentication.getAuthorities();
-        log.info("# Authenticated successfully !");
-        log.info("# Id: {}", authentication.getName());
-        log.info("# roles: {}", authorities.toString());
+        log.debug("# Authenticated successfully !");
+        log.debug("# Id: {}", authentication.getName());
+        log.debug("# roles: {}", authorities.toString());
     }
 }
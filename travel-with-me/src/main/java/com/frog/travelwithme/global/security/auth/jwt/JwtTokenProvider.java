@@ -4,7 +4,7 @@ import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
 import com.frog.travelwithme.global.security.auth.controller.dto.TokenDto;
 import com.frog.travelwithme.global.security.auth.userdetails.CustomUserDetails;
-import com.frog.travelwithme.global.security.auth.utils.Responder;
+import com.frog.travelwithme.global.utils.LocalCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.io.Encoders;
@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -22,10 +23,14 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JwtTokenProvider 설명: JWT 토큰 생성, 복호화 및 정보 추출, 유효성 검증.
@@ -52,28 +57,43 @@ public class JwtTokenProvider {
     @Getter
     @Value("${jwt.refresh-token-expiration-millis}")
     private long refreshTokenExpirationMillis;
+
+    // 0이면 검증 결과를 캐싱하지 않는다.
+    @Value("${jwt.verification-cache.size:10000}")
+    private int verificationCacheSize;
+
+    @Value("${jwt.verification-cache.ttl-seconds:10}")
+    private long verificationCacheTtlSeconds;
     private Key key;
+    // JwtParser는 불변이고 thread-safe 하므로 한 번만 만들어 재사용한다.
+    private JwtParser jwtParser;
+    private LocalCache<String, TokenVerification> verificationCache;
 
     // Bean 등록후 Key SecretKey HS256 decode
     @PostConstruct
     public void init() {
         String base64EncodedSecretKey = encodeBase64SecretKey(this.secretKey);
         this.key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        if (verificationCacheSize > 0 && verificationCacheTtlSeconds > 0) {
+            this.verificationCache = new LocalCache<>(verificationCacheSize,
+                    Duration.ofSeconds(verificationCacheTtlSeconds));
+        }
     }
 
     public String encodeBase64SecretKey(String secretKey) {
-        log.info("JwtTokenProvider.encodeBase64SecretKey excute, secretKey = {}", secretKey);
         return Encoders.BASE64.encode(secretKey.getBytes(StandardCharsets.UTF_8));
     }
 
     private Key getKeyFromBase64EncodedKey(String base64EncodedSecretKey) {
-        log.info("JwtTokenProvider.getKeyFromBase64EncodedKey excute, base64EncodedSecretKey = {}", base64EncodedSecretKey);
         byte[] keyBytes = Decoders.BASE64.decode(base64EncodedSecretKey);
         return Keys.hmacShaKeyFor(keyBytes);
     }
 
     public TokenDto generateTokenDto(CustomUserDetails customUserDetails) {
-        log.info("JwtTokenProvider.generateTokenDto excute, customUserDetails = {}", customUserDetails.toString());
+        log.debug("JwtTokenProvider.generateTokenDto excute, email = {}", customUserDetails.getEmail());
         Date accessTokenExpiresIn = getTokenExpiration(accessTokenExpirationMillis);
         Date refreshTokenExpiresIn = getTokenExpiration(refreshTokenExpirationMillis);
         Map<String, Object> claims = new HashMap<>();
@@ -81,6 +101,7 @@ public class JwtTokenProvider {
 
         String accessToken = Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(customUserDetails.getEmail())
                 .setExpiration(accessTokenExpiresIn)
                 .setIssuedAt(Calendar.getInstance().getTime())
@@ -105,52 +126,66 @@ public class JwtTokenProvider {
 
     // JWT 토큰을 복호화하여 토큰 정보를 반환
     public Authentication getAuthentication(String accessToken) {
-        log.info("JwtTokenProvider.getAuthentication excute, accessToken = {}", accessToken);
-        Claims claims = parseClaims(accessToken);
+        return this.getAuthentication(TokenVerification.valid(accessToken, parseClaims(accessToken)));
+    }
 
-        if (claims.get("role") == null) {
-            log.debug("JwtTokenProvider.getAuthentication exception occur accessToken: {}", accessToken);
+    // 검증 결과로 인증 정보를 만들어 토큰을 다시 파싱하지 않음
+    public Authentication getAuthentication(TokenVerification verification) {
+        if (verification.getRole() == null) {
+            log.debug("JwtTokenProvider.getAuthentication exception occur tokenId: {}", verification.getTokenId());
             throw new BusinessLogicException(ExceptionCode.NO_ACCESS_TOKEN);
         }
 
-        String authority = claims.get("role").toString();
-
         CustomUserDetails customUserDetails = CustomUserDetails.of(
-                claims.getSubject(),
-                authority);
+                verification.getEmail(),
+                verification.getRole());
 
-        log.info("# AuthMember.getRoles 권한 체크 = {}", customUserDetails.getAuthorities().toString());
+        List<GrantedAuthority> authorities = customUserDetails.getAuthorities();
+        log.debug("# AuthMember.getRoles 권한 체크 = {}", authorities);
 
-        return new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
+        return new UsernamePasswordAuthenticationToken(customUserDetails, null, authorities);
     }
 
-    // 토큰 검증
-    public boolean validateToken(String token, HttpServletResponse response) {
-        log.info("JwtTokenProvider.validateToken excute, token = {}", token);
-        try {
-            parseClaims(token);
-        } catch (MalformedJwtException e) {
-            log.info("Invalid JWT token");
-            log.trace("Invalid JWT token trace = {}", e);
-            log.debug("JwtTokenProvider.validateToken exception occur token: {}", token);
+    /**
+     * 서명 검증과 Claims 추출을 한 번의 파싱으로 처리한다.
+     * 유효한 토큰의 결과는 짧은 시간 캐싱하되, 토큰 만료 시각이 지나면 캐시에 있어도 다시 검증한다.
+     * 로그아웃 여부는 캐싱하지 않으므로 호출하는 쪽에서 매번 확인해야 한다.
+     */
+    public TokenVerification verify(String token) {
+        if (verificationCache != null) {
+            Optional<TokenVerification> cached = verificationCache.get(token);
+            if (cached.isPresent() && !cached.get().isExpiredAt(System.currentTimeMillis())) {
+                return cached.get();
+            }
+        }
+
+        TokenVerification verification = this.parseVerification(token);
+        if (verificationCache != null && verification.isValid()) {
+            verificationCache.put(token, verification);
+        }
 
+        return verification;
+    }
+
+    private TokenVerification parseVerification(String token) {
+        try {
+            return TokenVerification.valid(token, parseClaims(token));
         } catch (ExpiredJwtException e) {
-            log.info("Expired JWT token");
-            log.trace("Expired JWT token trace = {}", e);
-            log.debug("JwtTokenProvider.validateToken exception occur token: {}", token);
-            Responder.sendErrorResponse(response, ExceptionCode.TOKEN_EXPIRED);
+            log.debug("JwtTokenProvider.verify expired token");
+            return TokenVerification.invalid(TokenVerification.Status.EXPIRED);
         } catch (UnsupportedJwtException e) {
-            log.info("Unsupported JWT token");
-            log.trace("Unsupported JWT token trace = {}", e);
-            log.debug("JwtTokenProvider.validateToken exception occur token: {}", token);
-            Responder.sendErrorResponse(response, ExceptionCode.TOKEN_UNSUPPORTED);
+            log.debug("JwtTokenProvider.verify unsupported token");
+            return TokenVerification.invalid(TokenVerification.Status.UNSUPPORTED);
+        } catch (MalformedJwtException e) {
+            log.debug("JwtTokenProvider.verify malformed token");
+            return TokenVerification.invalid(TokenVerification.Status.MALFORMED);
         } catch (IllegalArgumentException e) {
-            log.info("JWT claims string is empty.");
-            log.trace("JWT claims string is empty trace = {}", e);
-            log.debug("JwtTokenProvider.validateToken exception occur token: {}", token);
-            Responder.sendErrorResponse(response, ExceptionCode.TOKEN_ILLEGAL_ARGUMENT);
+            log.debug("JwtTokenProvider.verify illegal argument token");
+            return TokenVerification.invalid(TokenVerification.Status.ILLEGAL_ARGUMENT);
+        } catch (JwtException e) {
+            log.debug("JwtTokenProvider.verify invalid signature token");
+            return TokenVerification.invalid(TokenVerification.Status.SIGNATURE_INVALID);
         }
-        return true;
     }
 
     private Date getTokenExpiration(long expirationMillisecond) {
@@ -161,13 +196,24 @@ public class JwtTokenProvider {
 
     // Token 복호화 및 예외 발생(토큰 만료, 시그니처 오류)시 Claims 객체가 안만들어짐.
     public Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody();
     }
 
+    /**
+     * 로그아웃 관리에 사용하는 토큰 id (jti). jti가 없는 이전 토큰은 토큰 문자열을 그대로 사용한다.
+     */
+    public String getTokenId(String token) {
+        Claims claims;
+        try {
+            claims = parseClaims(token);
+        } catch (ExpiredJwtException e) {
+            claims = e.getClaims();
+        }
+
+        return claims.getId() == null ? token : claims.getId();
+    }
+
     public void accessTokenSetHeader(String accessToken, HttpServletResponse response) {
         String headerValue = BEARER_PREFIX + accessToken;
         response.setHeader(AUTHORIZATION_HEADER, headerValue);
@@ -179,7 +225,6 @@ public class JwtTokenProvider {
 
     // Request Header에 Access Token 정보를 추출하는 메서드
     public String resolveAccessToken(HttpServletRequest request) {
-        log.info("JwtTokenProvider.resolveAccessToken excute, request = {}", request.toString());
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
             return bearerToken.substring(7);
@@ -189,7 +234,6 @@ public class JwtTokenProvider {
 
     // Request Header에 Refresh Token 정보를 추출하는 메서드
     public String resolveRefreshToken(HttpServletRequest request) {
-        log.info("JwtTokenProvider.resolveRefreshToken excute, request = {}", request.toString());
         String bearerToken = request.getHeader(REFRESH_HEADER);
         if (StringUtils.hasText(bearerToken)) {
             return bearerToken;
@@ -0,0 +1,78 @@
+package com.frog.travelwithme.global.security.auth.jwt;
+
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * TokenVerification 설명: Access Token을 한 번 파싱해 얻은 검증 결과
+ * 인증 정보, 로그아웃 확인용 토큰 id를 함께 담아 요청마다 토큰을 다시 파싱하지 않도록 한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/12
+ **/
+@Getter
+@ToString
+public class TokenVerification {
+    private final Status status;
+    private final String tokenId;
+    private final String email;
+    private final String role;
+    private final long expiresAt;
+
+    private TokenVerification(Status status, String tokenId, String email, String role, long expiresAt) {
+        this.status = status;
+        this.tokenId = tokenId;
+        this.email = email;
+        this.role = role;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * jti가 없는 이전 토큰은 토큰 문자열을 토큰 id로 사용한다.
+     */
+    static TokenVerification valid(String token, Claims claims) {
+        Object role = claims.get("role");
+        return new TokenVerification(Status.VALID,
+                claims.getId() == null ? token : claims.getId(),
+                claims.getSubject(),
+                role == null ? null : role.toString(),
+                claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime());
+    }
+
+    static TokenVerification invalid(Status status) {
+        return new TokenVerification(status, null, null, null, 0L);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    public boolean isExpiredAt(long now) {
+        return expiresAt <= now;
+    }
+
+    public ExceptionCode getExceptionCode() {
+        return status.getExceptionCode();
+    }
+
+    /**
+     * 응답에 에러를 쓰지 않는 상태(MALFORMED, SIGNATURE_INVALID)는 인증 없이 다음 필터로 넘긴다.
+     */
+    @Getter
+    public enum Status {
+        VALID(null),
+        EXPIRED(ExceptionCode.TOKEN_EXPIRED),
+        UNSUPPORTED(ExceptionCode.TOKEN_UNSUPPORTED),
+        ILLEGAL_ARGUMENT(ExceptionCode.TOKEN_ILLEGAL_ARGUMENT),
+        MALFORMED(null),
+        SIGNATURE_INVALID(null);
+
+        private final ExceptionCode exceptionCode;
+
+        Status(ExceptionCode exceptionCode) {
+            this.exceptionCode = exceptionCode;
+        }
+    }
+}
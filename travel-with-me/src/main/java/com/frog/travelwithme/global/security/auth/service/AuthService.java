@@ -31,6 +31,7 @@ public class AuthService {
     private final AES128Config aes128Config;
     private final RedisService redisService;
     private final MemberRepository memberRepository;
+    private final TokenRevocationService tokenRevocationService;
 
     public String reissueAccessToken(String encryptedRefreshToken) {
         this.verifiedRefreshToken(encryptedRefreshToken);
@@ -63,9 +64,10 @@ public class AuthService {
         if (redisService.checkExistsValue(redisRefreshToken)) {
             redisService.deleteValues(email);
 
-            // 로그아웃 시 Access Token Redis 저장 ( key = Access Token / value = "logout" )
+            // 로그아웃 시 Access Token id 저장 후 모든 서버에 전파 ( key = "logout:" + 토큰 id / value = "logout" )
             long accessTokenExpirationMillis = jwtTokenProvider.getAccessTokenExpirationMillis();
-            redisService.setValues(accessToken, "logout", Duration.ofMillis(accessTokenExpirationMillis));
+            tokenRevocationService.revoke(jwtTokenProvider.getTokenId(accessToken),
+                    Duration.ofMillis(accessTokenExpirationMillis));
         }
     }
 
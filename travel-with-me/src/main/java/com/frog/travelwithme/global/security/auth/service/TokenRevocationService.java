@@ -0,0 +1,101 @@
+package com.frog.travelwithme.global.security.auth.service;
+
+import com.frog.travelwithme.global.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TokenRevocationService 설명: 로그아웃된 Access Token 관리
+ * 로그아웃 시 Redis에 저장하고 Pub/Sub으로 모든 서버에 알려, 요청마다 Redis를 조회하지 않고 서버 메모리에서 확인한다.
+ * 구독이 끊긴 동안 놓친 알림은 주기적으로 Redis에서 다시 적재해 반영한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/11
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService implements MessageListener {
+    public static final String REVOCATION_CHANNEL = "auth:token-revocation";
+    private static final String REVOKED_KEY = "logout:";
+    private static final String MESSAGE_DELIMITER = "|";
+
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    // 토큰 id -> 만료 시각(ms). 만료된 토큰은 어차피 검증에 실패하므로 만료 시각까지만 보관한다.
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+        this.reload();
+    }
+
+    public void revoke(String tokenId, Duration ttl) {
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        redisService.setValues(REVOKED_KEY + tokenId, "logout", ttl);
+        this.revokeLocally(tokenId, expiresAt);
+        redisService.publish(REVOCATION_CHANNEL, tokenId + MESSAGE_DELIMITER + expiresAt);
+    }
+
+    /**
+     * 네트워크 요청 없이 서버 메모리에서만 확인
+     */
+    public boolean isRevoked(String tokenId) {
+        Long expiresAt = revokedTokens.get(tokenId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            revokedTokens.remove(tokenId, expiresAt);
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiterIndex = body.lastIndexOf(MESSAGE_DELIMITER);
+        try {
+            this.revokeLocally(body.substring(0, delimiterIndex), Long.parseLong(body.substring(delimiterIndex + 1)));
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            log.warn("TokenRevocationService.onMessage invalid message : {}", body);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.reload-delay-ms:300000}",
+            initialDelayString = "${auth.revocation.reload-delay-ms:300000}")
+    public void reload() {
+        long now = System.currentTimeMillis();
+        try {
+            for (String key : redisService.scanKeys(REVOKED_KEY + "*")) {
+                long ttlMillis = redisService.getExpireMillis(key);
+                if (ttlMillis > 0) {
+                    this.revokeLocally(key.substring(REVOKED_KEY.length()), now + ttlMillis);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.error("TokenRevocationService.reload exception occur", e);
+        }
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    private void revokeLocally(String tokenId, long expiresAt) {
+        revokedTokens.merge(tokenId, expiresAt, Math::max);
+    }
+}
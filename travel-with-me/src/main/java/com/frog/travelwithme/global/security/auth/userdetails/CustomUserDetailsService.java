@@ -27,7 +27,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        log.info("CustomUserDetailsService.loadUserByUsername excute, email = {}", email);
+        log.debug("CustomUserDetailsService.loadUserByUsername excute, email = {}", email);
         return memberRepository.findByEmail(email)
                 .map(this::createUserDetails)
                 .orElseThrow(() -> {
@@ -1,6 +1,6 @@
 package com.frog.travelwithme.global.security.auth.utils;
 
-import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.domain.member.controller.dto.MemberDto;
 import com.frog.travelwithme.global.dto.SingleResponseDto;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ErrorResponse;
@@ -33,7 +33,7 @@ public class Responder {
         throw new BusinessLogicException(code);
     }
 
-    public static void loginSuccessResponse(HttpServletResponse response, Member member) throws IOException {
+    public static void loginSuccessResponse(HttpServletResponse response, MemberDto.Summary member) throws IOException {
         Gson gson = new Gson();
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         LoginResponse lgoinResponse = LoginResponse.builder()
@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import javax.persistence.AttributeConverter;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -38,6 +39,10 @@ public class StringListConverter implements AttributeConverter<List<String>, Str
     // DB의 데이터를 Object로 매핑할 때 사용
     @Override
     public List<String> convertToEntityAttribute(String dbData) {
+        // 컬럼 추가 전에 저장된 행은 null
+        if (dbData == null) {
+            return new ArrayList<>();
+        }
         try {
             return mapper.readValue(dbData, List.class);
         } catch (IOException e) {
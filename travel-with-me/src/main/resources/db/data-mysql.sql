@@ -8,4 +8,11 @@ values (1, '하이킹'),(2, '서핑'),(3, '다이빙'),(4, '스노클링'),(5, '
 (8, '액티비티'),(9, '음식 체험'),(10, '음악 감상'),(11, '공연 감상'),(12, '전시회'),(13, '예술 관람'),
 (14, '사진 촬영'),(15, '지역 축제'),(16, '계획형'),(17, '즉흥형');
 
+-- participant_count 컬럼 추가 전에 승인된 참여 인원 보정
+-- 0인데 승인된 매칭이 있는 모집글만 다시 세므로 이미 반영된 뒤에는 변경되지 않는다.
+update recruitment r
+set r.participant_count = (select count(*) from matching m where m.recruitment_id = r.id and m.status = 'APPROVE')
+where r.participant_count = 0
+  and exists (select 1 from matching m where m.recruitment_id = r.id and m.status = 'APPROVE');
+
 set SQL_SAFE_UPDATES = 1;
@@ -0,0 +1,3 @@
+-- 배포 전 운영 DB에서 한 번만 직접 실행한다. (spring.sql.init 대상이 아님)
+-- 모집글은 더 이상 version 컬럼을 매핑하지 않으므로, ddl-auto가 만든 NOT NULL 컬럼이 남아 있으면 INSERT가 실패한다.
+alter table recruitment drop column version;
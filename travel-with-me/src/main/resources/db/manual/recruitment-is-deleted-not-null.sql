@@ -0,0 +1,9 @@
+-- 배포 전 운영 DB에서 한 번만 직접 실행한다. (spring.sql.init 대상이 아님)
+-- ddl-auto update는 기존 컬럼의 NULL 허용 여부를 바꾸지 않으므로, is_deleted 컬럼 추가 전에 저장된 모집글을 보정한 뒤 NOT NULL로 변경한다.
+-- ALTER는 테이블을 다시 만들고 암묵적으로 커밋하므로 트래픽이 적은 시간에 실행한다.
+set SQL_SAFE_UPDATES = 0;
+
+update recruitment set is_deleted = false where is_deleted is null;
+alter table recruitment modify is_deleted bit not null default false;
+
+set SQL_SAFE_UPDATES = 1;
@@ -19,7 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @Disabled
 @Transactional
-@SpringBootTest
+@SpringBootTest(properties = "counter.flush-cron=-")
 @AutoConfigureMockMvc
 @AutoConfigureRestDocs
 @ActiveProfiles("test")
@@ -12,6 +12,7 @@ import com.frog.travelwithme.global.security.auth.controller.dto.AuthDto.LoginDt
 import com.frog.travelwithme.global.security.auth.controller.dto.AuthDto.LoginResponse;
 import com.frog.travelwithme.global.security.auth.controller.dto.TokenDto;
 import com.frog.travelwithme.global.security.auth.jwt.JwtTokenProvider;
+import com.frog.travelwithme.global.security.auth.service.TokenRevocationService;
 import com.frog.travelwithme.global.security.auth.userdetails.CustomUserDetails;
 import com.frog.travelwithme.intergration.BaseIntegrationTest;
 import com.frog.travelwithme.utils.ObjectMapperUtils;
@@ -57,6 +58,9 @@ class AuthIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @Autowired
     private AES128Config aes128Config;
 
@@ -208,16 +212,18 @@ class AuthIntegrationTest extends BaseIntegrationTest {
         ResultActions actions = ResultActionsUtils.patchRequestWithToken(mvc, uri, accessToken, encryptedRefreshToken);
 
         // then
+        String tokenId = jwtTokenProvider.getTokenId(accessToken);
         String redisRefreshToken = redisService.getValues(EMAIL);
-        String logout = redisService.getValues(accessToken);
+        String logout = redisService.getValues("logout:" + tokenId);
         assertThat(redisRefreshToken).isEqualTo("false");
         assertThat(logout).isEqualTo("logout");
+        assertThat(tokenRevocationService.isRevoked(tokenId)).isTrue();
         actions
                 .andExpect(status().isNoContent())
                 .andDo(document("logout",
                         getRequestPreProcessor(),
                         RequestSnippet.getTokenSnippet()));
 
-        redisService.deleteValues(accessToken);
+        redisService.deleteValues("logout:" + tokenId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,192 @@
+package com.frog.travelwithme.intergration.buddy;
+
+import com.frog.travelwithme.domain.buddy.entity.Matching;
+import com.frog.travelwithme.domain.buddy.entity.Recruitment;
+import com.frog.travelwithme.domain.buddy.repository.MatchingRepository;
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentRepository;
+import com.frog.travelwithme.domain.buddy.service.MatchingService;
+import com.frog.travelwithme.domain.common.DeletionEntity;
+import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.domain.member.repository.MemberRepository;
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import com.frog.travelwithme.global.utils.TimeUtils;
+import com.frog.travelwithme.utils.StubData;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.MatchingStatus;
+import static com.frog.travelwithme.global.enums.EnumCollection.RecruitmentStatus;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 요청이 실제로 커밋되어야 하므로 롤백되는 BaseIntegrationTest를 상속하지 않고, 테스트가 끝나면 직접 정리한다.
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/15
+ **/
+@Slf4j
+@SpringBootTest(properties = "counter.flush-cron=-")
+@ActiveProfiles("test")
+class MatchingConcurrencyTest {
+
+    private static final int REQUEST_COUNT = 1000;
+    private static final int THREAD_COUNT = 32;
+    private static final int MAX_PARTICIPANTS = 10;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private MatchingRepository matchingRepository;
+
+    @Autowired
+    private RecruitmentRepository recruitmentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final List<Long> memberIds = new ArrayList<>();
+    private Long recruitmentId;
+
+    @AfterEach
+    void afterEach() {
+        if (recruitmentId != null) {
+            recruitmentRepository.deleteById(recruitmentId);
+        }
+        memberRepository.deleteAllById(memberIds);
+    }
+
+    @Test
+    @DisplayName("1000건의 매칭 승인이 동시에 들어와도 최대 참여 인원을 넘지 않음")
+    void matchingConcurrencyTest1() throws Exception {
+        // given
+        Member writer = this.saveMember("writer");
+        Recruitment recruitment = this.saveRecruitment(writer);
+        List<Long> matchingIds = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            Matching matching = StubData.MockMatching.getMatching();
+            matching.addMember(this.saveMember("applicant" + i));
+            matching.addRecruitment(recruitment);
+            matchingIds.add(matchingRepository.save(matching).getId());
+        }
+
+        // when
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (Long matchingId : matchingIds) {
+            tasks.add(() -> {
+                matchingService.approveMatchingByEmail(recruitmentId, writer.getEmail(), matchingId);
+                return true;
+            });
+        }
+        int approved = this.runConcurrently(tasks, ExceptionCode.RECRUITMENT_PARTICIPANTS_FULL);
+
+        // then
+        Recruitment findRecruitment = recruitmentRepository.findById(recruitmentId).get();
+        assertThat(approved).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(findRecruitment.getParticipantCount()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(matchingRepository.findMatchingMembers(recruitmentId, MatchingStatus.APPROVE))
+                .hasSize(MAX_PARTICIPANTS);
+    }
+
+    @Test
+    @DisplayName("같은 회원의 매칭 신청이 1000건 동시에 들어와도 매칭은 하나만 저장")
+    void matchingConcurrencyTest2() throws Exception {
+        // given
+        Member writer = this.saveMember("writer");
+        Member applicant = this.saveMember("applicant");
+        this.saveRecruitment(writer);
+
+        // when
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            tasks.add(() -> {
+                matchingService.requestMatchingByEmail(recruitmentId, applicant.getEmail());
+                return true;
+            });
+        }
+        this.runConcurrently(tasks, ExceptionCode.MATCHING_EXISTS);
+
+        // then
+        assertThat(matchingRepository.findMatchingMembers(recruitmentId, MatchingStatus.REQUEST))
+                .extracting("id")
+                .containsExactly(applicant.getId());
+    }
+
+    /**
+     * @param expectedCode 실패로 세는 BusinessLogicException 코드. 버전 충돌도 정상적인 실패로 센다.
+     * @return 성공한 요청 수
+     */
+    private int runConcurrently(List<Callable<Boolean>> tasks, ExceptionCode expectedCode) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (Callable<Boolean> task : tasks) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                try {
+                    return task.call();
+                } catch (BusinessLogicException e) {
+                    assertThat(e.getExceptionCode()).isEqualTo(expectedCode);
+                    return false;
+                } catch (OptimisticLockingFailureException e) {
+                    return false;
+                }
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(60, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        executorService.shutdown();
+        log.info("concurrent requests = {}, succeeded = {}, elapsed = {}ms", tasks.size(), succeeded,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        return succeeded;
+    }
+
+    private Member saveMember(String name) {
+        Member member = memberRepository.save(
+                StubData.MockMember.getMemberByEmailAndNickname(name + "@concurrency.com", name));
+        memberIds.add(member.getId());
+        return member;
+    }
+
+    private Recruitment saveRecruitment(Member writer) {
+        Recruitment recruitment = Recruitment.builder()
+                .title("title")
+                .content("content")
+                .travelNationality("Peru")
+                .travelStartDate(TimeUtils.stringToLocalDateTime("2023-01-01"))
+                .travelEndDate(TimeUtils.stringToLocalDateTime("2023-01-10"))
+                .recruitmentStatus(RecruitmentStatus.IN_PROGRESS)
+                .deletionEntity(new DeletionEntity(false, null))
+                .maxParticipants(MAX_PARTICIPANTS)
+                .build();
+        recruitment.addMember(writer);
+        Recruitment savedRecruitment = recruitmentRepository.save(recruitment);
+        recruitmentId = savedRecruitment.getId();
+
+        return savedRecruitment;
+    }
+}
@@ -332,7 +332,7 @@ class RecruitmentIntegrationTest extends BaseIntegrationTest {
     @DisplayName("동행 모집글 매칭신청 회원 리스트 조회 (동행 모집글이 없음)")
     void recruitmentIntegrationTest6() throws Exception {
         // given
-        Long recruitmentId = 1L;
+        Long recruitmentId = Long.MAX_VALUE;
 
         // when
         String uri = UriComponentsBuilder.newInstance()
@@ -346,10 +346,8 @@ class RecruitmentIntegrationTest extends BaseIntegrationTest {
         // then
         ErrorResponse response = ObjectMapperUtils.actionsSingleToResponse(actions, ErrorResponse.class);
 
-        assertThat(response.getStatus())
-                .isEqualTo(ExceptionCode.RECRUITMENT_MATCHING_REQUEST_MEMBER_NOT_FOUND.getStatus());
-        assertThat(response.getMessage())
-                .isEqualTo(ExceptionCode.RECRUITMENT_MATCHING_REQUEST_MEMBER_NOT_FOUND.getMessage());
+        assertThat(response.getStatus()).isEqualTo(ExceptionCode.RECRUITMENT_NOT_FOUND.getStatus());
+        assertThat(response.getMessage()).isEqualTo(ExceptionCode.RECRUITMENT_NOT_FOUND.getMessage());
         actions
                 .andDo(document("get-matching-request-member-list-recruitment-exception-2",
                         getRequestPreProcessor(),
@@ -460,7 +458,7 @@ class RecruitmentIntegrationTest extends BaseIntegrationTest {
     @DisplayName("동행 모집글 매칭승인 회원 리스트 조회 (동행 모집글이 없음)")
     void recruitmentIntegrationTest9() throws Exception {
         // given
-        Long recruitmentId = 1L;
+        Long recruitmentId = Long.MAX_VALUE;
 
         // when
         String uri = UriComponentsBuilder.newInstance()
@@ -474,10 +472,8 @@ class RecruitmentIntegrationTest extends BaseIntegrationTest {
         // then
         ErrorResponse response = ObjectMapperUtils.actionsSingleToResponse(actions, ErrorResponse.class);
 
-        assertThat(response.getStatus())
-                .isEqualTo(ExceptionCode.RECRUITMENT_MATCHING_REQUEST_MEMBER_NOT_FOUND.getStatus());
-        assertThat(response.getMessage())
-                .isEqualTo(ExceptionCode.RECRUITMENT_MATCHING_REQUEST_MEMBER_NOT_FOUND.getMessage());
+        assertThat(response.getStatus()).isEqualTo(ExceptionCode.RECRUITMENT_NOT_FOUND.getStatus());
+        assertThat(response.getMessage()).isEqualTo(ExceptionCode.RECRUITMENT_NOT_FOUND.getMessage());
         actions
                 .andDo(document("get-matching-approved-member-list-recruitment-exception-2",
                         getRequestPreProcessor(),
@@ -485,4 +481,64 @@ class RecruitmentIntegrationTest extends BaseIntegrationTest {
                         ErrorResponseSnippet.getFieldErrorSnippetsLong()
                 ));
     }
+
+    @Test
+    @DisplayName("동행 모집글 상세 조회")
+    void recruitmentIntegrationTest10() throws Exception {
+        // given
+        Member writer = memberRepository.findByEmail(EMAIL).get();
+        Member user1 = memberRepository.findByEmail(EMAIL_OTHER_ONE).get();
+        Member user2 = memberRepository.findByEmail(EMAIL_OTHER_TWO).get();
+
+        Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
+        recruitment.addMember(writer);
+        Recruitment savedRecruitment = recruitmentRepository.save(recruitment);
+        Long recruitmentId = savedRecruitment.getId();
+
+        Matching matching1 = StubData.MockMatching.getMatching();
+        matching1.addMember(user1);
+        matching1.addRecruitment(savedRecruitment);
+        matching1.approve();
+        Matching matching2 = StubData.MockMatching.getMatching();
+        matching2.addMember(user2);
+        matching2.addRecruitment(savedRecruitment);
+
+        savedRecruitment.addMatching(matching1);
+        savedRecruitment.addMatching(matching2);
+
+        matchingRepository.save(matching1);
+        matchingRepository.save(matching2);
+
+        TokenDto tokenDto = jwtTokenProvider.generateTokenDto(
+                MockMember.getUserDetailsByEmailAndRole(EMAIL_OTHER_TWO, "USER"));
+        String accessToken = tokenDto.getAccessToken();
+        String encryptedRefreshToken = aes128Config.encryptAes(tokenDto.getRefreshToken());
+
+        // when
+        String uri = UriComponentsBuilder.newInstance()
+                .path(BASE_URL + "/" + recruitmentId)
+                .build().toUri().toString();
+
+        ResultActions actions = ResultActionsUtils.getRequestWithToken(
+                mvc, uri, accessToken, encryptedRefreshToken
+        );
+
+        // then
+        BuddyDto.RecruitmentGetResponse response = ObjectMapperUtils.actionsSingleToResponseWithData(actions,
+                BuddyDto.RecruitmentGetResponse.class);
+        assertThat(response.getId()).isEqualTo(recruitmentId);
+        assertThat(response.getTitle()).isEqualTo(savedRecruitment.getTitle());
+        assertThat(response.getNickname()).isEqualTo(writer.getNickname());
+        assertThat(response.getRecruitmentRequestStatus()).isTrue();
+        assertThat(response.getMembers()).hasSize(1);
+        assertThat(response.getMembers().get(0).getId()).isEqualTo(user1.getId());
+
+        actions
+                .andExpect(status().isOk())
+                .andDo(document("get-recruitment",
+                        getRequestPreProcessor(),
+                        getResponsePreProcessor(),
+                        ResponseSnippet.getRecruitmentSnippet()
+                ));
+    }
 }
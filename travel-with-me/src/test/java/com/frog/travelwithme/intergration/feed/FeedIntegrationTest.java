@@ -11,6 +11,7 @@ import com.frog.travelwithme.domain.feed.entity.Tag;
 import com.frog.travelwithme.domain.feed.repository.FeedCommentRepository;
 import com.frog.travelwithme.domain.feed.repository.FeedRepository;
 import com.frog.travelwithme.domain.feed.repository.TagRepository;
+import com.frog.travelwithme.domain.feed.service.FeedCommentService;
 import com.frog.travelwithme.domain.feed.service.FeedService;
 import com.frog.travelwithme.domain.feed.service.TagService;
 import com.frog.travelwithme.domain.member.controller.dto.MemberDto;
@@ -18,6 +19,7 @@ import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.repository.MemberRepository;
 import com.frog.travelwithme.domain.member.service.MemberService;
 import com.frog.travelwithme.global.config.AES128Config;
+import com.frog.travelwithme.global.counter.CounterService;
 import com.frog.travelwithme.global.enums.EnumCollection.Comment;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ErrorResponse;
@@ -39,6 +41,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.multipart.MultipartFile;
@@ -57,6 +62,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Slf4j
@@ -78,6 +84,8 @@ class FeedIntegrationTest extends BaseIntegrationTest {
 
     private Tag tagTwo;
 
+    private int invokedSynchronizations;
+
     @Autowired
     private FeedService feedService;
 
@@ -111,6 +119,12 @@ class FeedIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private FeedCommentService feedCommentService;
+
+    @Autowired
+    private CounterService counterService;
+
     @BeforeEach
     public void beforEach() throws Exception {
         given(amazonS3.putObject(any(PutObjectRequest.class))).willReturn(new PutObjectResult());
@@ -709,6 +723,7 @@ class FeedIntegrationTest extends BaseIntegrationTest {
                 );
 
         // then
+        this.flushCounters();
         FeedComment feedComment = feedCommentRepository.findById(COMMENT_ID).get();
         assertThat(feedComment.getLikeCount()).isPositive();
 
@@ -731,9 +746,8 @@ class FeedIntegrationTest extends BaseIntegrationTest {
         String accessToken = tokenDto.getAccessToken();
         String refreshToken = tokenDto.getRefreshToken();
         String encryptedRefreshToken = aes128Config.encryptAes(refreshToken);
-        FeedComment feedComment = feedCommentRepository.findById(COMMENT_ID).get();
-        Member member = memberRepository.findByEmail(EMAIL).get();
-        feedComment.addLike(member);
+        feedCommentService.doLike(EMAIL, COMMENT_ID);
+        this.flushCounters();
 
         // when
         String uri = BASE_URL + "/comments" + "/{comment-id}" + "/likes";
@@ -744,6 +758,7 @@ class FeedIntegrationTest extends BaseIntegrationTest {
                 );
 
         // then
+        this.flushCounters();
         FeedComment result = feedCommentRepository.findById(COMMENT_ID).get();
         assertThat(result.getLikeCount()).isZero();
 
@@ -756,4 +771,50 @@ class FeedIntegrationTest extends BaseIntegrationTest {
                         RequestSnippet.getCommentPathVariableSnippet()
                 ));
     }
+
+    @Test
+    @DisplayName("특정 피드 댓글의 대댓글 조회")
+    void feedControllerTest20() throws Exception {
+        // given
+        CustomUserDetails userDetails = StubData.MockMember.getUserDetails();
+        TokenDto tokenDto = jwtTokenProvider.generateTokenDto(userDetails);
+        String accessToken = tokenDto.getAccessToken();
+        String refreshToken = tokenDto.getRefreshToken();
+        String encryptedRefreshToken = aes128Config.encryptAes(refreshToken);
+        MultiValueMap<String, String> sizeParam = new LinkedMultiValueMap<>();
+        sizeParam.add("size", "20");
+
+        // when
+        String uri = BASE_URL + "/comments" + "/{comment-id}" + "/replies";
+
+        ResultActions actions =
+                ResultActionsUtils.getRequestWithTokenAndPathVariableAndParam(
+                        mvc, uri, COMMENT_ID, sizeParam, accessToken, encryptedRefreshToken
+                );
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].depth").value(2))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andDo(document("find-feed-comment-replies",
+                        getRequestPreProcessor(),
+                        getResponsePreProcessor(),
+                        RequestSnippet.getTokenSnippet(),
+                        RequestSnippet.getCommentPathVariableSnippet(),
+                        RequestSnippet.getCommentThreadParamSnippet(),
+                        ResponseSnippet.getFindFeedCommentSnippet()
+                ));
+    }
+
+    // 카운터는 커밋 후 누적되어 배치로 반영되므로, 롤백되는 테스트 트랜잭션에서는 커밋 콜백을 직접 실행하고 반영한 뒤 영속성 컨텍스트를 비운다.
+    private void flushCounters() {
+        entityManager.flush();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCommit(
+                synchronizations.subList(invokedSynchronizations, synchronizations.size()));
+        invokedSynchronizations = synchronizations.size();
+        counterService.flush();
+        entityManager.clear();
+    }
 }
@@ -10,6 +10,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Slf4j
@@ -37,4 +46,56 @@ class AES128ConfigTest {
     void secretKeyInvalidTest() {
         Assertions.assertThrows(BusinessLogicException.class, () ->  aes128Config.validation("failKey"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("같은 평문도 매번 다른 IV로 암호화되고, 변조된 암호문은 복호화에 실패")
+    void aes128GcmTest() {
+        String text = "this is test";
+        String first = aes128Config.encryptAes(text);
+        String second = aes128Config.encryptAes(text);
+        byte[] tampered = Base64.getDecoder().decode(first);
+        tampered[tampered.length - 1] ^= 1;
+
+        assertThat(first).isNotEqualTo(second);
+        Assertions.assertThrows(BusinessLogicException.class,
+                () -> aes128Config.decryptAes(Base64.getEncoder().encodeToString(tampered)));
+        Assertions.assertThrows(BusinessLogicException.class, () -> aes128Config.decryptAes("c2hvcnQ="));
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 암호화, 복호화해도 결과가 섞이지 않음")
+    void aes128ConcurrencyTest() throws Exception {
+        int threadCount = 16;
+        int iterations = 2_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int thread = 0; thread < threadCount; thread++) {
+            String prefix = "refreshToken-" + thread + "-";
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                int mismatches = 0;
+                for (int i = 0; i < iterations; i++) {
+                    String text = prefix + i;
+                    if (!text.equals(aes128Config.decryptAes(aes128Config.encryptAes(text)))) {
+                        mismatches++;
+                    }
+                }
+                return mismatches;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        int mismatches = 0;
+        for (Future<Integer> future : futures) {
+            mismatches += future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        executorService.shutdown();
+        log.info("aes round trips = {}, elapsed = {}ms, throughput = {} ops/s",
+                threadCount * iterations, elapsedMillis, threadCount * iterations * 1000L / elapsedMillis);
+
+        assertThat(mismatches).isZero();
+    }
+}
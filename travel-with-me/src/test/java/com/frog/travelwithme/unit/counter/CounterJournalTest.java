@@ -0,0 +1,140 @@
+package com.frog.travelwithme.unit.counter;
+
+import com.frog.travelwithme.global.counter.CounterRepository;
+import com.frog.travelwithme.global.counter.CounterService;
+import com.frog.travelwithme.global.enums.EnumCollection.CounterType;
+import com.frog.travelwithme.global.redis.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.CounterType.FEED_COMMENT_LIKE_COUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/21
+ **/
+@SpringBootTest(properties = "counter.flush-cron=-")
+@ActiveProfiles("test")
+class CounterJournalTest {
+
+    private static final String NODE_ID = "journal-test";
+    private static final String OLD_NODE_ID = "journal-test-old";
+
+    @Autowired
+    private RedisService redisService;
+
+    @MockBean
+    private CounterRepository counterRepository;
+
+    @AfterEach
+    void tearDown() {
+        redisService.deleteValues(List.of("counter:journal:" + NODE_ID, "counter:journal:" + OLD_NODE_ID,
+                "counter:node:" + NODE_ID, "counter:node:" + OLD_NODE_ID));
+    }
+
+    @Test
+    @DisplayName("반영 전에 종료되면 재시작한 서버가 Redis 저널을 읽어 증감분을 반영")
+    @SuppressWarnings("unchecked")
+    void counterJournalTest1() {
+        // given
+        CounterService beforeRestart = this.createCounterService();
+        beforeRestart.heartbeat();
+        beforeRestart.increment(FEED_COMMENT_LIKE_COUNT, 1L);
+        beforeRestart.increment(FEED_COMMENT_LIKE_COUNT, 1L);
+        beforeRestart.decrement(CounterType.FEED_COMMENT_COUNT, 2L);
+        CounterService afterRestart = this.createCounterService();
+
+        // when
+        afterRestart.replayJournal();
+        afterRestart.flush();
+
+        // then
+        ArgumentCaptor<Map<CounterType, List<Object[]>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(counterRepository).applyDeltas(captor.capture());
+        assertThat(captor.getValue().get(FEED_COMMENT_LIKE_COUNT)).containsExactly(new Object[]{2L, 1L});
+        assertThat(captor.getValue().get(CounterType.FEED_COMMENT_COUNT)).containsExactly(new Object[]{-1L, 2L});
+        assertThat(redisService.getHashEntries("counter:journal:" + NODE_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증감분은 저널에 남아 재시작 후 다시 반영")
+    void counterJournalTest2() {
+        // given
+        CounterService beforeRestart = this.createCounterService();
+        beforeRestart.heartbeat();
+        beforeRestart.increment(FEED_COMMENT_LIKE_COUNT, 1L);
+        willThrow(new QueryTimeoutException("timeout"))
+                .given(counterRepository).applyDeltas(any());
+
+        // when
+        beforeRestart.flush();
+
+        // then
+        assertThat(redisService.getHashEntries("counter:journal:" + NODE_ID))
+                .containsEntry("FEED_COMMENT_LIKE_COUNT:1", "1");
+    }
+
+    @Test
+    @DisplayName("node-id가 바뀌어 재시작해도 heartbeat가 끊긴 이전 저널을 가져와 반영")
+    @SuppressWarnings("unchecked")
+    void counterJournalTest3() {
+        // given
+        CounterService beforeRestart = this.createCounterService(OLD_NODE_ID);
+        beforeRestart.increment(FEED_COMMENT_LIKE_COUNT, 3L);
+        CounterService afterRestart = this.createCounterService();
+        afterRestart.heartbeat();
+
+        // when
+        afterRestart.replayJournal();
+        afterRestart.flush();
+
+        // then
+        ArgumentCaptor<Map<CounterType, List<Object[]>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(counterRepository).applyDeltas(captor.capture());
+        assertThat(captor.getValue().get(FEED_COMMENT_LIKE_COUNT)).containsExactly(new Object[]{1L, 3L});
+        assertThat(redisService.hasKey("counter:journal:" + OLD_NODE_ID)).isFalse();
+        assertThat(redisService.getHashEntries("counter:journal:" + NODE_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("heartbeat가 남아있는 서버의 저널은 가져오지 않음")
+    void counterJournalTest4() {
+        // given
+        CounterService otherNode = this.createCounterService(OLD_NODE_ID);
+        otherNode.heartbeat();
+        otherNode.increment(FEED_COMMENT_LIKE_COUNT, 3L);
+        CounterService counterService = this.createCounterService();
+
+        // when
+        counterService.adoptOrphanedJournals();
+
+        // then
+        assertThat(redisService.getHashEntries("counter:journal:" + OLD_NODE_ID))
+                .containsEntry("FEED_COMMENT_LIKE_COUNT:3", "1");
+        assertThat(redisService.hasKey("counter:journal:" + NODE_ID)).isFalse();
+    }
+
+    private CounterService createCounterService() {
+        return this.createCounterService(NODE_ID);
+    }
+
+    private CounterService createCounterService(String nodeId) {
+        return new CounterService(counterRepository, redisService, new SimpleMeterRegistry(), nodeId);
+    }
+}
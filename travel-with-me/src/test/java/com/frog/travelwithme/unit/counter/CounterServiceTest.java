@@ -0,0 +1,194 @@
+package com.frog.travelwithme.unit.counter;
+
+import com.frog.travelwithme.global.counter.CounterRepository;
+import com.frog.travelwithme.global.counter.CounterService;
+import com.frog.travelwithme.global.enums.EnumCollection.CounterType;
+import com.frog.travelwithme.global.redis.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.CounterType.FEED_COMMENT_COUNT;
+import static com.frog.travelwithme.global.enums.EnumCollection.CounterType.FEED_COMMENT_LIKE_COUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/21
+ **/
+@ExtendWith(MockitoExtension.class)
+class CounterServiceTest {
+
+    @Mock
+    private CounterRepository counterRepository;
+
+    @Mock
+    private RedisService redisService;
+
+    private CounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        counterService = new CounterService(counterRepository, redisService, new SimpleMeterRegistry(), "test");
+    }
+
+    @Test
+    @DisplayName("동시에 누적된 증감분을 종류별로 묶어 한 번에 반영")
+    @SuppressWarnings("unchecked")
+    void counterServiceTest1() throws Exception {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executorService.submit(() -> counterService.increment(FEED_COMMENT_LIKE_COUNT, 1L));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+        counterService.increment(FEED_COMMENT_COUNT, 2L);
+        counterService.decrement(FEED_COMMENT_COUNT, 3L);
+
+        // when
+        counterService.flush();
+
+        // then
+        ArgumentCaptor<Map<CounterType, List<Object[]>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(counterRepository).applyDeltas(captor.capture());
+        Map<CounterType, List<Object[]>> deltas = captor.getValue();
+        assertThat(deltas.get(FEED_COMMENT_LIKE_COUNT)).containsExactly(new Object[]{1000L, 1L});
+        assertThat(deltas.get(FEED_COMMENT_COUNT)).hasSize(2);
+        assertThat(counterService.getFlushLagMillis()).isZero();
+    }
+
+    @Test
+    @DisplayName("증감 합이 0이면 반영하지 않음")
+    void counterServiceTest2() {
+        // given
+        counterService.increment(FEED_COMMENT_LIKE_COUNT, 1L);
+        counterService.decrement(FEED_COMMENT_LIKE_COUNT, 1L);
+
+        // when
+        counterService.flush();
+
+        // then
+        verifyNoInteractions(counterRepository);
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증감분을 버퍼에 되돌려 다음 주기에 재시도")
+    void counterServiceTest3() {
+        // given
+        counterService.increment(FEED_COMMENT_LIKE_COUNT, 1L);
+        willThrow(new QueryTimeoutException("timeout"))
+                .willDoNothing()
+                .given(counterRepository).applyDeltas(any());
+
+        // when
+        counterService.flush();
+        counterService.flush();
+
+        // then
+        verify(counterRepository, times(2)).applyDeltas(any());
+        verify(redisService).incrementHashOps("counter:journal:test", "FEED_COMMENT_LIKE_COUNT:1", -1L);
+    }
+
+    @Test
+    @DisplayName("재시작 시 Redis 저널에 남은 증감분을 다시 반영")
+    @SuppressWarnings("unchecked")
+    void counterServiceTest4() {
+        // given
+        given(redisService.getHashEntries("counter:journal:test"))
+                .willReturn(Map.of("RECRUITMENT_VIEW_COUNT:5", "7"));
+
+        // when
+        counterService.replayJournal();
+        counterService.flush();
+
+        // then
+        ArgumentCaptor<Map<CounterType, List<Object[]>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(counterRepository).applyDeltas(captor.capture());
+        assertThat(captor.getValue().get(CounterType.RECRUITMENT_VIEW_COUNT))
+                .containsExactly(new Object[]{7L, 5L});
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 증감분을 누적하지 않고, 커밋된 경우에만 반영")
+    @SuppressWarnings("unchecked")
+    void counterServiceTest5() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counterService.increment(FEED_COMMENT_COUNT, 1L);
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counterService.increment(FEED_COMMENT_COUNT, 2L);
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // when
+        counterService.flush();
+
+        // then
+        ArgumentCaptor<Map<CounterType, List<Object[]>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(counterRepository).applyDeltas(captor.capture());
+        assertThat(captor.getValue().get(FEED_COMMENT_COUNT)).containsExactly(new Object[]{1L, 2L});
+        verify(redisService, never()).incrementHashOps("counter:journal:test", "FEED_COMMENT_COUNT:1", 1L);
+    }
+
+    @Test
+    @DisplayName("heartbeat가 끊긴 서버의 저널만 가져와 반영")
+    @SuppressWarnings("unchecked")
+    void counterServiceTest6() {
+        // given
+        given(redisService.setValuesIfAbsent(eq("counter:adopt-lock"), anyString(), any())).willReturn(true);
+        given(redisService.scanKeys("counter:journal:*"))
+                .willReturn(Set.of("counter:journal:test", "counter:journal:old", "counter:journal:alive"));
+        given(redisService.hasKey("counter:node:old")).willReturn(false);
+        given(redisService.hasKey("counter:node:alive")).willReturn(true);
+        given(redisService.mergeHashOps("counter:journal:old", "counter:journal:test"))
+                .willReturn(Map.of("FEED_COMMENT_COUNT:3", 4L));
+
+        // when
+        counterService.adoptOrphanedJournals();
+        counterService.flush();
+
+        // then
+        ArgumentCaptor<Map<CounterType, List<Object[]>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(counterRepository).applyDeltas(captor.capture());
+        assertThat(captor.getValue().get(FEED_COMMENT_COUNT)).containsExactly(new Object[]{4L, 3L});
+        verify(redisService, never()).mergeHashOps(eq("counter:journal:alive"), any());
+        verify(redisService, never()).mergeHashOps(eq("counter:journal:test"), any());
+        verify(redisService).releaseLock(eq("counter:adopt-lock"), anyString());
+    }
+}
@@ -217,4 +217,36 @@ class RecruitmentControllerTest {
             assertThat(response.get(i).getImage()).isEqualTo(matchingMemberResponseList.get(i).getImage());
         }
     }
+
+    @Test
+    @DisplayName("동행 모집글 상세 조회")
+    @WithMockCustomUser
+    void recruitmentControllerTest6() throws Exception {
+        // given
+        BuddyDto.RecruitmentGetResponse recruitmentGetResponse = BuddyDto.RecruitmentGetResponse.builder()
+                .id(1L)
+                .title("title")
+                .recruitmentRequestStatus(true)
+                .members(List.of(StubData.MockMember.getMatchingRequestMemberResponse(2L, "dhfif718")))
+                .build();
+
+        given(recruitmentService.findRecruitment(any(), any())).willReturn(recruitmentGetResponse);
+
+        // when
+        String uri = UriComponentsBuilder.newInstance()
+                .path(BASE_URL + "/" + 1)
+                .build().toUri().toString();
+
+        ResultActions actions = ResultActionsUtils.getRequestWithUserDetails(mvc, uri, userDetails);
+
+        // then
+        BuddyDto.RecruitmentGetResponse response = ObjectMapperUtils.actionsSingleToResponseWithData(actions,
+                BuddyDto.RecruitmentGetResponse.class);
+
+        actions
+                .andExpect(status().isOk());
+        assertThat(response.getId()).isEqualTo(recruitmentGetResponse.getId());
+        assertThat(response.getRecruitmentRequestStatus()).isTrue();
+        assertThat(response.getMembers().get(0).getNickname()).isEqualTo("dhfif718");
+    }
 }
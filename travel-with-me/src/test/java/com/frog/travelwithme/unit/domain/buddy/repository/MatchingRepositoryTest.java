@@ -1,5 +1,6 @@
 package com.frog.travelwithme.unit.domain.recruitment.repository;
 
+import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
 import com.frog.travelwithme.domain.buddy.entity.Matching;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
 import com.frog.travelwithme.domain.buddy.repository.MatchingRepository;
@@ -19,9 +20,12 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import javax.persistence.EntityManager;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
+import static com.frog.travelwithme.global.enums.EnumCollection.MatchingStatus;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -237,4 +241,46 @@ class MatchingRepositoryTest {
                 () -> assertEquals(findRecruitment.getContent(), saveMatching.getRecruitment().getContent())
         );
     }
+
+    @Test
+    @DisplayName("동행매칭 상태별 회원, 요청자의 매칭 상태 조회 : Querydsl 프로젝션")
+    void matchingRepositoryTest8() {
+        // given
+        Recruitment saveRecruitment = recruitmentRepository.save(StubData.MockRecruitment.getRecruitment());
+        Member approvedMember = memberRepository.save(
+                StubData.MockMember.getMemberByEmailAndNickname("approved@gmail.com", "approved"));
+        Member requestedMember = memberRepository.save(
+                StubData.MockMember.getMemberByEmailAndNickname("requested@gmail.com", "requested"));
+
+        Matching approvedMatching = StubData.MockMatching.getMatching();
+        approvedMatching.addMember(approvedMember);
+        approvedMatching.addRecruitment(saveRecruitment);
+        approvedMatching.approve();
+        matchingRepository.save(approvedMatching);
+        Matching requestedMatching = StubData.MockMatching.getMatching();
+        requestedMatching.addMember(requestedMember);
+        requestedMatching.addRecruitment(saveRecruitment);
+        matchingRepository.save(requestedMatching);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<BuddyDto.MatchingMemberResponse> approvedMembers =
+                matchingRepository.findMatchingMembers(saveRecruitment.getId(), MatchingStatus.APPROVE);
+        List<BuddyDto.MatchingMemberResponse> rejectedMembers =
+                matchingRepository.findMatchingMembers(saveRecruitment.getId(), MatchingStatus.REJECT);
+        Optional<MatchingStatus> requestedStatus =
+                matchingRepository.findMatchingStatus(saveRecruitment.getId(), requestedMember.getEmail());
+        Optional<MatchingStatus> noneStatus =
+                matchingRepository.findMatchingStatus(saveRecruitment.getId(), "none@gmail.com");
+
+        // then
+        assertThat(approvedMembers).extracting(BuddyDto.MatchingMemberResponse::getId)
+                .containsExactly(approvedMember.getId());
+        assertThat(approvedMembers.get(0).getNickname()).isEqualTo("approved");
+        assertThat(rejectedMembers).isEmpty();
+        assertThat(requestedStatus).contains(MatchingStatus.REQUEST);
+        assertThat(noneStatus).isEmpty();
+    }
 }
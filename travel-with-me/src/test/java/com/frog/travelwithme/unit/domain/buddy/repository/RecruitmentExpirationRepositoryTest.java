@@ -0,0 +1,118 @@
+package com.frog.travelwithme.unit.domain.buddy.repository;
+
+import com.frog.travelwithme.domain.buddy.entity.Matching;
+import com.frog.travelwithme.domain.buddy.entity.Recruitment;
+import com.frog.travelwithme.domain.buddy.repository.MatchingRepository;
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentExpirationRepository;
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentExpirationRepository.ExpiredChunk;
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentRepository;
+import com.frog.travelwithme.domain.common.DeletionEntity;
+import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.domain.member.repository.MemberRepository;
+import com.frog.travelwithme.global.config.QuerydslConfig;
+import com.frog.travelwithme.global.utils.TimeUtils;
+import com.frog.travelwithme.utils.StubData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.MatchingStatus;
+import static com.frog.travelwithme.global.enums.EnumCollection.RecruitmentStatus;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QuerydslConfig.class, RecruitmentExpirationRepository.class})
+class RecruitmentExpirationRepositoryTest {
+
+    private static final LocalDateTime BEFORE = TimeUtils.stringToLocalDateTime("2023-06-16");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private RecruitmentExpirationRepository recruitmentExpirationRepository;
+
+    @Autowired
+    private RecruitmentRepository recruitmentRepository;
+
+    @Autowired
+    private MatchingRepository matchingRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("여행 시작일이 지난 모집글을 청크 크기만큼 마감하고 대기 중인 매칭 신청만 거절")
+    void recruitmentExpirationRepositoryTest1() {
+        // given
+        Member writer = memberRepository.save(StubData.MockMember.getMember());
+        Recruitment first = this.saveRecruitment(writer, "2023-06-01");
+        Recruitment second = this.saveRecruitment(writer, "2023-06-10");
+        Recruitment upcoming = this.saveRecruitment(writer, "2023-06-16");
+        Matching pending = this.saveMatching(first, "pending", MatchingStatus.REQUEST);
+        Matching approved = this.saveMatching(first, "approved", MatchingStatus.APPROVE);
+        Matching upcomingPending = this.saveMatching(upcoming, "upcoming", MatchingStatus.REQUEST);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        ExpiredChunk firstChunk = recruitmentExpirationRepository.expireChunk(BEFORE, 1);
+        ExpiredChunk secondChunk = recruitmentExpirationRepository.expireChunk(BEFORE, 1);
+        ExpiredChunk lastChunk = recruitmentExpirationRepository.expireChunk(BEFORE, 1);
+        entityManager.clear();
+
+        // then
+        assertThat(firstChunk.getExpiredCount()).isEqualTo(1);
+        assertThat(firstChunk.getRejectedMatchingCount()).isEqualTo(1);
+        assertThat(secondChunk.getExpiredCount()).isEqualTo(1);
+        assertThat(lastChunk.getSelectedCount()).isZero();
+        assertThat(recruitmentRepository.findById(first.getId()).get().getRecruitmentStatus())
+                .isEqualTo(RecruitmentStatus.END);
+        assertThat(recruitmentRepository.findById(second.getId()).get().getRecruitmentStatus())
+                .isEqualTo(RecruitmentStatus.END);
+        assertThat(recruitmentRepository.findById(upcoming.getId()).get().getRecruitmentStatus())
+                .isEqualTo(RecruitmentStatus.IN_PROGRESS);
+        assertThat(matchingRepository.findById(pending.getId()).get().getStatus()).isEqualTo(MatchingStatus.REJECT);
+        assertThat(matchingRepository.findById(approved.getId()).get().getStatus()).isEqualTo(MatchingStatus.APPROVE);
+        assertThat(matchingRepository.findById(upcomingPending.getId()).get().getStatus())
+                .isEqualTo(MatchingStatus.REQUEST);
+    }
+
+    private Recruitment saveRecruitment(Member writer, String travelStartDate) {
+        Recruitment recruitment = Recruitment.builder()
+                .title("title")
+                .content("content")
+                .travelNationality("Peru")
+                .travelStartDate(TimeUtils.stringToLocalDateTime(travelStartDate))
+                .travelEndDate(TimeUtils.stringToLocalDateTime("2023-06-30"))
+                .recruitmentStatus(RecruitmentStatus.IN_PROGRESS)
+                .deletionEntity(new DeletionEntity(false, null))
+                .build();
+        recruitment.addMember(writer);
+
+        return recruitmentRepository.save(recruitment);
+    }
+
+    private Matching saveMatching(Recruitment recruitment, String nickname, MatchingStatus status) {
+        Matching matching = Matching.builder()
+                .status(status)
+                .build();
+        matching.addMember(memberRepository.save(
+                StubData.MockMember.getMemberByEmailAndNickname(nickname + "@expiration.com", nickname)));
+        matching.addRecruitment(recruitment);
+
+        return matchingRepository.save(matching);
+    }
+}
@@ -1,12 +1,15 @@
 package com.frog.travelwithme.unit.domain.buddy.repository;
 
-import com.frog.travelwithme.domain.buddy.entity.Matching;
-import com.frog.travelwithme.domain.buddy.repository.MatchingRepository;
+import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
 import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.repository.MemberRepository;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentCustomRepositoryImpl;
 import com.frog.travelwithme.domain.buddy.repository.RecruitmentRepository;
+import com.frog.travelwithme.domain.common.DeletionEntity;
 import com.frog.travelwithme.global.config.QuerydslConfig;
+import com.frog.travelwithme.global.config.SoftDeleteFilterConfig;
+import com.frog.travelwithme.global.utils.TimeUtils;
 import com.frog.travelwithme.utils.StubData;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +22,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -37,7 +42,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 @Slf4j
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(QuerydslConfig.class)
+@Import({QuerydslConfig.class, SoftDeleteFilterConfig.class})
 @ExtendWith(SpringExtension.class)
 class RecruitmentRepositoryTest {
 
@@ -50,9 +55,6 @@ class RecruitmentRepositoryTest {
     @Autowired
     protected MemberRepository memberRepository;
 
-    @Autowired
-    protected MatchingRepository matchingRepository;
-
     @Test
     @DisplayName("동행 레포지토리 저장")
     void recruitmentRepositoryTest1() {
@@ -127,94 +129,137 @@ class RecruitmentRepositoryTest {
     }
 
     @Test
-    @DisplayName("동행글 id 조회(Matching Join) : Querydsl")
-    void recruitmentRepositoryTest5() {
+    @DisplayName("동행글 목록 검색 : 국가, 여행 기간이 겹치는 모집중인 글만 최신순 프로젝션으로 커서 페이지 조회")
+    void recruitmentRepositoryTest7() {
         // given
-        Member writer = StubData.MockMember.getMember();
-        Member member1 = StubData.MockMember.getMemberByEmailAndNickname("kkd718@naver.com","멤버1");
-        Member member2 = StubData.MockMember.getMemberByEmailAndNickname("dhfif718@naver.com", "멤버2");
-        Member member3 = StubData.MockMember.getMemberByEmailAndNickname("hama@naver.com", "멤버3");
-
-        Member savedWriter = memberRepository.save(writer);
-        Member saveMember1 = memberRepository.save(member1);
-        Member saveMember2 = memberRepository.save(member2);
-        Member saveMember3 = memberRepository.save(member3);
-
-        Recruitment recruitment1 = StubData.MockRecruitment.getRecruitment();
-        recruitment1.addMember(savedWriter);
-        Recruitment saveRecruitment1 = recruitmentRepository.save(recruitment1);
-
-        Matching matching1 = StubData.MockMatching.getMatching();
-        matching1.addRecruitment(saveRecruitment1);
-        matching1.addMember(saveMember1);
-
-        Matching matching2 = StubData.MockMatching.getMatching();
-        matching2.addRecruitment(saveRecruitment1);
-        matching2.addMember(saveMember2);
-
-        Matching matching3 = StubData.MockMatching.getMatching();
-        matching3.addRecruitment(saveRecruitment1);
-        matching3.addMember(saveMember3);
-        matching3.approve();
+        Member writer = memberRepository.save(StubData.MockMember.getMember());
+        Recruitment overlapping1 = this.saveRecruitment(writer, "Peru", "2023-01-01", "2023-01-10");
+        Recruitment overlapping2 = this.saveRecruitment(writer, "Peru", "2023-01-09", "2023-01-20");
+        Recruitment overlapping3 = this.saveRecruitment(writer, "Peru", "2023-01-05", "2023-01-06");
+        this.saveRecruitment(writer, "Peru", "2023-02-01", "2023-02-10");
+        this.saveRecruitment(writer, "The Bahamas", "2023-01-01", "2023-01-10");
+        Recruitment ended = this.saveRecruitment(writer, "Peru", "2023-01-01", "2023-01-10");
+        ended.end();
+        Recruitment deleted = this.saveRecruitment(writer, "Peru", "2023-01-01", "2023-01-10");
+        deleted.updateDeletionEntity();
+        entityManager.flush();
+        entityManager.clear();
+        BuddyDto.RecruitmentSearch search = BuddyDto.RecruitmentSearch.builder()
+                .travelNationality("Peru")
+                .travelStartDate(TimeUtils.stringToLocalDateTime("2023-01-05"))
+                .travelEndDate(TimeUtils.stringToLocalDateTime("2023-01-09"))
+                .recruitmentStatus(RecruitmentStatus.IN_PROGRESS)
+                .build();
 
-        Matching savedMatching1 = matchingRepository.save(matching1);
-        Matching savedMatching2 = matchingRepository.save(matching2);
-        Matching savedMatching3 = matchingRepository.save(matching3);
+        // when
+        List<BuddyDto.RecruitmentSummary> firstPage = recruitmentRepository.searchRecruitments(search, null, 2);
+        List<BuddyDto.RecruitmentSummary> secondPage = recruitmentRepository.searchRecruitments(
+                search, RecruitmentCustomRepositoryImpl.cursorOf(firstPage.get(1)), 2);
 
-        saveRecruitment1.addMatching(savedMatching1);
-        saveRecruitment1.addMatching(savedMatching2);
-        saveRecruitment1.addMatching(savedMatching3);
+        // then
+        assertThat(firstPage).extracting(BuddyDto.RecruitmentSummary::getId)
+                .containsExactly(overlapping3.getId(), overlapping2.getId());
+        assertThat(secondPage).extracting(BuddyDto.RecruitmentSummary::getId)
+                .containsExactly(overlapping1.getId());
+        assertThat(firstPage.get(0).getNickname()).isEqualTo(writer.getNickname());
+        assertThat(firstPage.get(0).getTravelStartDate()).isEqualTo(LocalDate.of(2023, 1, 5));
+    }
 
+    @Test
+    @DisplayName("동행글 상세 조회 : 작성자와 함께 프로젝션으로 조회하고 삭제된 글은 제외")
+    void recruitmentRepositoryTest8() {
+        // given
+        Member writer = memberRepository.save(StubData.MockMember.getMember());
+        Recruitment recruitment = this.saveRecruitment(writer, "Peru", "2023-01-01", "2023-01-10");
+        Recruitment deleted = this.saveRecruitment(writer, "Peru", "2023-01-01", "2023-01-10");
+        deleted.updateDeletionEntity();
         entityManager.flush();
         entityManager.clear();
-        log.info("1차 캐시 clear");
 
         // when
-        Recruitment findRecruitment = recruitmentRepository
-                .findRecruitmentByIdAndMatchingStatus(saveRecruitment1.getId(), MatchingStatus.REQUEST).get();
-
-        for (Matching matching : findRecruitment.getMatchingList()) {
-            matching.getMember();
-        }
+        Optional<BuddyDto.RecruitmentGetResponse> detail =
+                recruitmentRepository.findRecruitmentDetailById(recruitment.getId());
+        Optional<BuddyDto.RecruitmentGetResponse> deletedDetail =
+                recruitmentRepository.findRecruitmentDetailById(deleted.getId());
 
         // then
-        assertAll(
-                () -> assertEquals(findRecruitment.getId(), recruitment1.getId()),
-                () -> assertEquals(findRecruitment.getMatchingList().get(0).getMember().getNickname(), member1.getNickname()),
-                () -> assertEquals(findRecruitment.getMatchingList().get(1).getMember().getNickname(), member2.getNickname()),
-                () -> assertEquals(findRecruitment.getMatchingList().get(0).getMember().getEmail(), member1.getEmail()),
-                () -> assertEquals(findRecruitment.getMatchingList().get(1).getMember().getEmail(), member2.getEmail())
-        );
-        assertThatThrownBy(() -> findRecruitment.getMatchingList().get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(detail).isPresent();
+        assertThat(detail.get().getTitle()).isEqualTo(recruitment.getTitle());
+        assertThat(detail.get().getContent()).isEqualTo(recruitment.getContent());
+        assertThat(detail.get().getNickname()).isEqualTo(writer.getNickname());
+        assertThat(detail.get().getTravelEndDate()).isEqualTo(LocalDate.of(2023, 1, 10));
+        assertThat(deletedDetail).isEmpty();
     }
 
     @Test
-    @DisplayName("동행글 id 조회 시 매칭이 없는 경우 (Matching Join) : Querydsl")
-    void recruitmentRepositoryTest6() {
+    @DisplayName("동행글 참여 인원 예약 : 최대 인원까지만 늘어나고 반환하면 다시 예약 가능")
+    void recruitmentRepositoryTest9() {
         // given
-        Member writer = StubData.MockMember.getMember();
-        Member member1 = StubData.MockMember.getMemberByEmailAndNickname("kkd718@naver.com","멤버1");
-        Member member2 = StubData.MockMember.getMemberByEmailAndNickname("dhfif718@naver.com", "멤버2");
-        Member member3 = StubData.MockMember.getMemberByEmailAndNickname("hama@naver.com", "멤버3");
+        Member writer = memberRepository.save(StubData.MockMember.getMember());
+        Recruitment recruitment = Recruitment.builder()
+                .title("title")
+                .content("content")
+                .travelNationality("Peru")
+                .recruitmentStatus(RecruitmentStatus.IN_PROGRESS)
+                .deletionEntity(new DeletionEntity(false, null))
+                .maxParticipants(2)
+                .build();
+        recruitment.addMember(writer);
+        Long recruitmentId = recruitmentRepository.save(recruitment).getId();
+        entityManager.flush();
 
-        Member savedWriter = memberRepository.save(writer);
-        memberRepository.save(member1);
-        memberRepository.save(member2);
-        memberRepository.save(member3);
+        // when
+        long first = recruitmentRepository.reserveParticipant(recruitmentId);
+        long second = recruitmentRepository.reserveParticipant(recruitmentId);
+        long third = recruitmentRepository.reserveParticipant(recruitmentId);
+        long released = recruitmentRepository.releaseParticipant(recruitmentId);
+        long afterRelease = recruitmentRepository.reserveParticipant(recruitmentId);
+        entityManager.clear();
 
-        Recruitment recruitment1 = StubData.MockRecruitment.getRecruitment();
-        recruitment1.addMember(savedWriter);
-        Recruitment saveRecruitment1 = recruitmentRepository.save(recruitment1);
+        // then
+        assertThat(List.of(first, second, third, released, afterRelease)).containsExactly(1L, 1L, 0L, 1L, 1L);
+        assertThat(recruitmentRepository.findById(recruitmentId).get().getParticipantCount()).isEqualTo(2);
+    }
 
+    @Test
+    @DisplayName("동행글 참여 인원 예약 : 마감된 모집글은 인원이 남아도 예약되지 않음")
+    void recruitmentRepositoryTest10() {
+        // given
+        Member writer = memberRepository.save(StubData.MockMember.getMember());
+        Recruitment recruitment = Recruitment.builder()
+                .title("title")
+                .content("content")
+                .travelNationality("Peru")
+                .recruitmentStatus(RecruitmentStatus.END)
+                .deletionEntity(new DeletionEntity(false, null))
+                .maxParticipants(2)
+                .build();
+        recruitment.addMember(writer);
+        Long recruitmentId = recruitmentRepository.save(recruitment).getId();
         entityManager.flush();
-        entityManager.clear();
-        log.info("1차 캐시 clear");
 
         // when
-        Optional<Recruitment> findRecruitment = recruitmentRepository
-                .findRecruitmentByIdAndMatchingStatus(saveRecruitment1.getId(), MatchingStatus.REQUEST);
+        long reserved = recruitmentRepository.reserveParticipant(recruitmentId);
+        entityManager.clear();
 
         // then
-        assertThatThrownBy(() -> findRecruitment.get()).isInstanceOf(NoSuchElementException.class);
+        assertThat(reserved).isZero();
+        assertThat(recruitmentRepository.findById(recruitmentId).get().getParticipantCount()).isZero();
+    }
+
+    private Recruitment saveRecruitment(Member writer, String travelNationality,
+                                        String travelStartDate, String travelEndDate) {
+        Recruitment recruitment = Recruitment.builder()
+                .title("title")
+                .content("content")
+                .travelNationality(travelNationality)
+                .travelStartDate(TimeUtils.stringToLocalDateTime(travelStartDate))
+                .travelEndDate(TimeUtils.stringToLocalDateTime(travelEndDate))
+                .recruitmentStatus(RecruitmentStatus.IN_PROGRESS)
+                .deletionEntity(new DeletionEntity(false, null))
+                .build();
+        recruitment.addMember(writer);
+
+        return recruitmentRepository.save(recruitment);
     }
 }
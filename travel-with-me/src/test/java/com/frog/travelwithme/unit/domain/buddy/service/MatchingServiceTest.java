@@ -8,8 +8,10 @@ import com.frog.travelwithme.domain.member.service.MemberService;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
 import com.frog.travelwithme.domain.buddy.mapper.RecruitmentMapper;
 import com.frog.travelwithme.domain.buddy.repository.RecruitmentRepository;
+import com.frog.travelwithme.domain.buddy.service.RecruitmentCacheService;
 import com.frog.travelwithme.domain.buddy.service.RecruitmentService;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
 import com.frog.travelwithme.utils.StubData;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
@@ -18,16 +20,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Optional;
 
+import static com.frog.travelwithme.global.enums.EnumCollection.MatchingStatus;
 import static com.frog.travelwithme.global.enums.EnumCollection.ResponseBody;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -58,6 +64,9 @@ class MatchingServiceTest {
     @Mock
     protected MemberService memberService;
 
+    @Mock
+    protected RecruitmentCacheService recruitmentCacheService;
+
     @Test
     @DisplayName("동행 매칭신청 (신규)")
     void matchingServiceTest1() {
@@ -424,4 +433,80 @@ class MatchingServiceTest {
                         .rejectMatchingByEmail(recruitment.getId(), writer.getEmail(), matching.getId()))
                 .isInstanceOf(BusinessLogicException.class);
     }
+
+    @Test
+    @DisplayName("동행 매칭신청 (동시에 들어온 중복 신청)")
+    void matchingServiceTest15() {
+        //given
+        Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
+        Member member = StubData.MockMember.getMember();
+        recruitment.addMember(member);
+
+        when(recruitmentService.findRecruitmentByIdAndCheckExpired(recruitment.getId())).thenReturn(recruitment);
+        when(memberService.findMember(member.getEmail())).thenReturn(member);
+        when(matchingRepository.findMatchingByMemberAndRecruitment(any(),any()))
+                .thenReturn(Optional.empty());
+        when(matchingRepository.saveAndFlush(any())).thenThrow(DataIntegrityViolationException.class);
+
+        //when
+        //then
+        assertThatThrownBy(() -> matchingService.requestMatchingByEmail(recruitment.getId(), member.getEmail()))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(ExceptionCode.MATCHING_EXISTS);
+        assertThat(recruitment.getMatchingList()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("동행 매칭승인 (최대 참여 인원 초과)")
+    void matchingServiceTest16() {
+        //given
+        Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
+        Member writer = StubData.MockMember.getMember();
+        Member user = StubData.MockMember.getMember();
+        recruitment.addMember(writer);
+
+        Matching matching = StubData.MockMatching.getMatching();
+        matching.addMember(user);
+        matching.addRecruitment(recruitment);
+        matching.request();
+
+        when(recruitmentService.findRecruitmentAndCheckEqualWriterAndUserAndCheckExpired(recruitment.getId(), writer.getEmail()))
+                .thenReturn(recruitment);
+        when(matchingRepository.findById(matching.getId())).thenReturn(Optional.of(matching));
+        doThrow(new BusinessLogicException(ExceptionCode.RECRUITMENT_PARTICIPANTS_FULL))
+                .when(recruitmentService).reserveParticipant(recruitment.getId());
+
+        //when
+        //then
+        assertThatThrownBy(() ->
+                matchingService.approveMatchingByEmail(recruitment.getId(), writer.getEmail(), matching.getId()))
+                .isInstanceOf(BusinessLogicException.class);
+        assertThat(matching.getStatus()).isEqualTo(MatchingStatus.REQUEST);
+    }
+
+    @Test
+    @DisplayName("동행 매칭취소 (승인된 매칭을 취소하면 참여 인원 반환)")
+    void matchingServiceTest17() {
+        //given
+        Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
+        Member member = StubData.MockMember.getMember();
+        recruitment.addMember(member);
+
+        Matching matching = StubData.MockMatching.getMatching();
+        matching.addMember(member);
+        matching.addRecruitment(recruitment);
+        matching.approve();
+
+        when(recruitmentService.findRecruitmentByIdAndCheckExpired(recruitment.getId())).thenReturn(recruitment);
+        when(memberService.findMember(member.getEmail())).thenReturn(member);
+        when(matchingRepository.findMatchingByMemberAndRecruitment(any(),any()))
+                .thenReturn(Optional.of(matching));
+
+        //when
+        matchingService.cancelMatchingByEmail(recruitment.getId(), member.getEmail());
+
+        //then
+        assertThat(matching.getStatus()).isEqualTo(MatchingStatus.CANCEL);
+        verify(recruitmentService).releaseParticipant(recruitment.getId());
+    }
 }
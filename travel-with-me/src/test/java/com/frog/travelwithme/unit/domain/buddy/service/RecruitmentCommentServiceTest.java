@@ -9,8 +9,11 @@ import com.frog.travelwithme.domain.buddy.service.RecruitmentService;
 import com.frog.travelwithme.domain.buddy.service.dto.RecruitmentCommentCreateDto;
 import com.frog.travelwithme.domain.buddy.service.dto.RecruitmentCommentUpdateDto;
 import com.frog.travelwithme.domain.common.comment.dto.CommentDto;
+import com.frog.travelwithme.domain.common.like.repository.LikeRepository;
+import com.frog.travelwithme.domain.member.controller.dto.MemberDto;
 import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.service.MemberService;
+import com.frog.travelwithme.global.counter.CounterService;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.utils.StubData;
 import lombok.extern.slf4j.Slf4j;
@@ -21,11 +24,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static com.frog.travelwithme.global.enums.EnumCollection.LikeType.RECRUITMENT_COMMENT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -61,6 +69,12 @@ class RecruitmentCommentServiceTest {
     @Mock
     protected MemberService memberService;
 
+    @Mock
+    protected CounterService counterService;
+
+    @Mock
+    protected LikeRepository likeRepository;
+
     @Test
     @DisplayName("동행 모집글 댓글 작성 (회원태그 사용)")
     void recruitmentCommentServiceTest1() {
@@ -79,7 +93,7 @@ class RecruitmentCommentServiceTest {
         Long recruitmentId = recruitment.getId();
         String memberEmail = member.getEmail();
 
-        when(memberService.findMember(memberId)).thenReturn(member);
+        when(memberService.findMemberSummary(memberId)).thenReturn(StubData.MockMember.getSummary());
         when(memberService.findMember(memberEmail)).thenReturn(member);
         when(recruitmentService.findRecruitmentByIdAndCheckExpired(recruitmentId)).thenReturn(recruitment);
         when(recruitmentCommentMapper.postDtoToRecruitmentCommentCreateDto(postDto)).thenReturn(recruitmentCommentCreateDto);
@@ -157,7 +171,7 @@ class RecruitmentCommentServiceTest {
         Long recruitmentId = recruitment.getId();
         String memberEmail = member.getEmail();
 
-        when(memberService.findMember(memberId)).thenReturn(member);
+        when(memberService.findMemberSummary(memberId)).thenReturn(StubData.MockMember.getSummary());
 
         //when
         //then
@@ -182,7 +196,7 @@ class RecruitmentCommentServiceTest {
         Long recruitmentId = recruitment.getId();
         String memberEmail = member.getEmail();
 
-        doThrow(BusinessLogicException.class).when(memberService).findMember(memberId);
+        doThrow(BusinessLogicException.class).when(memberService).findMemberSummary(memberId);
 
         //when
         //then
@@ -209,7 +223,7 @@ class RecruitmentCommentServiceTest {
         String memberEmail = member.getEmail();
         when(memberService.findMember(anyString())).thenReturn(member);
         when(recruitmentCommentRepository.findById(anyLong())).thenReturn(Optional.of(recruitmentComment));
-        when(memberService.findMember(anyLong())).thenReturn(member);
+        when(memberService.findMemberSummary(anyLong())).thenReturn(StubData.MockMember.getSummary());
         when(recruitmentService.findRecruitmentByIdAndCheckExpired(recruitmentId)).thenReturn(recruitment);
         when(recruitmentCommentMapper.postDtoToRecruitmentCommentCreateDto(postDto)).thenReturn(recruitmentCommentCreateDto);
         when(recruitmentCommentMapper.toEntity(recruitmentCommentCreateDto)).thenReturn(recruitmentComment);
@@ -247,7 +261,7 @@ class RecruitmentCommentServiceTest {
         Long recruitmentId = recruitment.getId();
         String memberEmail = member.getEmail();
 
-        when(memberService.findMember(memberId)).thenReturn(member);
+        when(memberService.findMemberSummary(memberId)).thenReturn(StubData.MockMember.getSummary());
 
         //when
         //then
@@ -395,4 +409,41 @@ class RecruitmentCommentServiceTest {
         verify(recruitmentCommentMapper, never())
                 .toPatchResponseCommentDto(recruitmentComment);
     }
+
+    @Test
+    @DisplayName("동행 모집글 댓글 목록 조회 시 언급된 회원 닉네임과 좋아요 여부를 페이지 단위로 한 번에 조회")
+    void recruitmentCommentServiceTest10() {
+        //given
+        RecruitmentComment firstComment = this.getRecruitmentComment(1L, 3L);
+        RecruitmentComment secondComment = this.getRecruitmentComment(2L, 3L);
+        RecruitmentComment thirdComment = this.getRecruitmentComment(3L, null);
+        List<RecruitmentComment> comments = List.of(firstComment, secondComment, thirdComment);
+        MemberDto.Summary taggedMember = MemberDto.Summary.builder()
+                .id(3L)
+                .nickname("tagged")
+                .build();
+        when(recruitmentCommentRepository.findRootCommentsByRecruitmentId(1L, null, 21)).thenReturn(comments);
+        when(memberService.findMemberSummaries(Set.of(3L))).thenReturn(Map.of(3L, taggedMember));
+        when(likeRepository.findLikedIds(RECRUITMENT_COMMENT, null, List.of(1L, 2L, 3L)))
+                .thenReturn(Collections.emptySet());
+
+        //when
+        recruitmentCommentService.findRootCommentsByRecruitmentId(1L, null, null, 20);
+
+        //then
+        verify(memberService, times(1)).findMemberSummaries(any());
+        verify(memberService, never()).findMember(anyLong());
+        verify(recruitmentCommentMapper).toGetResponseCommentDtoList(
+                comments, null, Collections.emptySet(), Map.of(3L, "tagged"));
+    }
+
+    private RecruitmentComment getRecruitmentComment(Long id, Long taggedMemberId) {
+        return RecruitmentComment.builder()
+                .id(id)
+                .depth(1)
+                .groupId(id)
+                .content("content")
+                .taggedMemberId(taggedMemberId)
+                .build();
+    }
 }
@@ -0,0 +1,137 @@
+package com.frog.travelwithme.unit.domain.buddy.service;
+
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentExpirationRepository;
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentExpirationRepository.ExpiredChunk;
+import com.frog.travelwithme.domain.buddy.service.RecruitmentExpirationService;
+import com.frog.travelwithme.global.redis.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@ExtendWith(MockitoExtension.class)
+class RecruitmentExpirationServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final LocalDateTime BEFORE = LocalDateTime.of(2023, 6, 16, 0, 0);
+
+    @Mock
+    private RecruitmentExpirationRepository recruitmentExpirationRepository;
+
+    @Mock
+    private RedisService redisService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RecruitmentExpirationService recruitmentExpirationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        recruitmentExpirationService = new RecruitmentExpirationService(
+                recruitmentExpirationRepository, redisService, meterRegistry, CHUNK_SIZE, 3);
+    }
+
+    @Test
+    @DisplayName("조회된 모집글이 청크 크기보다 적을 때까지 청크 단위로 마감")
+    void recruitmentExpirationServiceTest1() {
+        // given
+        given(recruitmentExpirationRepository.expireChunk(BEFORE, CHUNK_SIZE))
+                .willReturn(new ExpiredChunk(2, 2, 3), new ExpiredChunk(1, 1, 0));
+
+        // when
+        long expiredCount = recruitmentExpirationService.expireRecruitmentsBefore(BEFORE);
+
+        // then
+        assertThat(expiredCount).isEqualTo(3L);
+        verify(recruitmentExpirationRepository, times(2)).expireChunk(BEFORE, CHUNK_SIZE);
+        assertThat(meterRegistry.counter("recruitment.expiration.expired").count()).isEqualTo(3.0);
+        assertThat(meterRegistry.counter("recruitment.expiration.rejected.matchings").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("한 번의 실행에서는 최대 청크 수까지만 처리")
+    void recruitmentExpirationServiceTest2() {
+        // given
+        given(recruitmentExpirationRepository.expireChunk(BEFORE, CHUNK_SIZE))
+                .willReturn(new ExpiredChunk(2, 2, 0));
+
+        // when
+        long expiredCount = recruitmentExpirationService.expireRecruitmentsBefore(BEFORE);
+
+        // then
+        assertThat(expiredCount).isEqualTo(6L);
+        verify(recruitmentExpirationRepository, times(3)).expireChunk(BEFORE, CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("청크 반영에 실패하면 이전 청크 결과는 유지하고 남은 청크는 다음 실행으로 미룸")
+    void recruitmentExpirationServiceTest3() {
+        // given
+        given(recruitmentExpirationRepository.expireChunk(BEFORE, CHUNK_SIZE))
+                .willReturn(new ExpiredChunk(2, 2, 0))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        long expiredCount = recruitmentExpirationService.expireRecruitmentsBefore(BEFORE);
+
+        // then
+        assertThat(expiredCount).isEqualTo(2L);
+        assertThat(meterRegistry.counter("recruitment.expiration.failures").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 락을 잡고 있으면 마감 작업을 실행하지 않음")
+    void recruitmentExpirationServiceTest4() {
+        // given
+        given(redisService.setValuesIfAbsent(eq("recruitment:expiration:lock"), anyString(), any()))
+                .willReturn(false);
+
+        // when
+        recruitmentExpirationService.expireRecruitments();
+
+        // then
+        verifyNoInteractions(recruitmentExpirationRepository);
+    }
+
+    @Test
+    @DisplayName("락을 잡은 토큰으로 청크마다 락을 연장하고, 락을 잃으면 남은 청크는 다음 실행으로 미룸")
+    void recruitmentExpirationServiceTest5() {
+        // given
+        ArgumentCaptor<String> lockToken = ArgumentCaptor.forClass(String.class);
+        given(redisService.setValuesIfAbsent(eq("recruitment:expiration:lock"), lockToken.capture(), any()))
+                .willReturn(true);
+        given(recruitmentExpirationRepository.expireChunk(any(LocalDateTime.class), eq(CHUNK_SIZE)))
+                .willReturn(new ExpiredChunk(2, 2, 0));
+        given(redisService.renewLock(eq("recruitment:expiration:lock"), anyString(), any())).willReturn(false);
+
+        // when
+        recruitmentExpirationService.expireRecruitments();
+
+        // then
+        verify(recruitmentExpirationRepository, times(1)).expireChunk(any(LocalDateTime.class), eq(CHUNK_SIZE));
+        verify(redisService).renewLock(eq("recruitment:expiration:lock"), eq(lockToken.getValue()), any());
+        verify(redisService).releaseLock("recruitment:expiration:lock", lockToken.getValue());
+    }
+}
@@ -1,13 +1,15 @@
 package com.frog.travelwithme.unit.domain.buddy.service;
 
 import com.frog.travelwithme.domain.buddy.controller.dto.BuddyDto;
-import com.frog.travelwithme.domain.buddy.entity.Matching;
 import com.frog.travelwithme.domain.buddy.entity.Recruitment;
 import com.frog.travelwithme.domain.buddy.mapper.RecruitmentMapper;
+import com.frog.travelwithme.domain.buddy.repository.MatchingRepository;
 import com.frog.travelwithme.domain.buddy.repository.RecruitmentRepository;
+import com.frog.travelwithme.domain.buddy.service.RecruitmentCacheService;
 import com.frog.travelwithme.domain.buddy.service.RecruitmentService;
 import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.service.MemberService;
+import com.frog.travelwithme.global.counter.CounterService;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.utils.TimeUtils;
 import com.frog.travelwithme.utils.StubData;
@@ -19,7 +21,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +52,15 @@ class RecruitmentServiceTest {
     @Mock
     protected MemberService memberService;
 
+    @Mock
+    protected MatchingRepository matchingRepository;
+
+    @Mock
+    protected RecruitmentCacheService recruitmentCacheService;
+
+    @Mock
+    protected CounterService counterService;
+
     @Test
     @DisplayName("동행 모집글 작성")
     void recruitmentServiceTest1() {
@@ -172,36 +182,11 @@ class RecruitmentServiceTest {
     void recruitmentServiceTest6() {
         //given
         Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
-        BuddyDto.MatchingMemberResponse matchingMemberResponse1
-                = StubData.MockMember.getMatchingRequestMemberResponse(1L, "dhfif718");
-        BuddyDto.MatchingMemberResponse matchingMemberResponse2
-                = StubData.MockMember.getMatchingRequestMemberResponse(2L, "kkd718");
-        BuddyDto.MatchingMemberResponse matchingMemberResponse3
-                = StubData.MockMember.getMatchingRequestMemberResponse(3L, "리젤란");
-
-        List<BuddyDto.MatchingMemberResponse> matchingMemberResponseList = new ArrayList<>();
-        matchingMemberResponseList.add(matchingMemberResponse1);
-        matchingMemberResponseList.add(matchingMemberResponse2);
-        matchingMemberResponseList.add(matchingMemberResponse3);
-        Member writer = StubData.MockMember.getMember();
-        Member user1 = StubData.MockMember.getMember();
-        Member user2 = StubData.MockMember.getMember();
-        Member user3 = StubData.MockMember.getMember();
-        recruitment.addMember(writer);
-
-        Matching matching = StubData.MockMatching.getMatching();
-        matching.addMember(user1);
-        matching.addMember(user2);
-        matching.addMember(user3);
-        matching.addRecruitment(recruitment);
-        matching.request();
-        recruitment.addMatching(matching);
+        List<BuddyDto.MatchingMemberResponse> matchingMemberResponseList = this.getMatchingMemberResponseList();
         Long recruitmentId = recruitment.getId();
 
-
-        when(recruitmentRepository.findRecruitmentByIdAndMatchingStatus(recruitmentId, MatchingStatus.REQUEST))
-                .thenReturn(Optional.of(recruitment));
-        when(recruitmentMapper.toMatchingMemberResponseBuddyDtoList(recruitment.getMatchingList()))
+        when(recruitmentRepository.findById(recruitmentId)).thenReturn(Optional.of(recruitment));
+        when(matchingRepository.findMatchingMembers(recruitmentId, MatchingStatus.REQUEST))
                 .thenReturn(matchingMemberResponseList);
 
         //when
@@ -210,9 +195,9 @@ class RecruitmentServiceTest {
 
         //then
         assertThat(response.size()).isEqualTo(3);
-        assertThat(response.get(0).getNickname()).isEqualTo(matchingMemberResponse1.getNickname());
-        assertThat(response.get(1).getNickname()).isEqualTo(matchingMemberResponse2.getNickname());
-        assertThat(response.get(2).getNickname()).isEqualTo(matchingMemberResponse3.getNickname());
+        assertThat(response.get(0).getNickname()).isEqualTo(matchingMemberResponseList.get(0).getNickname());
+        assertThat(response.get(1).getNickname()).isEqualTo(matchingMemberResponseList.get(1).getNickname());
+        assertThat(response.get(2).getNickname()).isEqualTo(matchingMemberResponseList.get(2).getNickname());
     }
 
     @Test
@@ -223,14 +208,14 @@ class RecruitmentServiceTest {
         recruitment.end();
         Long recruitmentId = recruitment.getId();
 
-        when(recruitmentRepository.findRecruitmentByIdAndMatchingStatus(recruitmentId, MatchingStatus.REQUEST))
-                .thenReturn(Optional.of(recruitment));
+        when(recruitmentRepository.findById(recruitmentId)).thenReturn(Optional.of(recruitment));
 
         //when
         //then
         assertThatThrownBy(
                 () -> recruitmentService.getMatchingRequestMemberList(recruitmentId)
         ).isInstanceOf(BusinessLogicException.class);
+        verify(matchingRepository, never()).findMatchingMembers(any(), any());
     }
 
     @Test
@@ -240,8 +225,7 @@ class RecruitmentServiceTest {
         Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
         Long recruitmentId = recruitment.getId();
 
-        when(recruitmentRepository.findRecruitmentByIdAndMatchingStatus(recruitmentId, MatchingStatus.REQUEST))
-                .thenReturn(Optional.empty());
+        when(recruitmentRepository.findById(recruitmentId)).thenReturn(Optional.empty());
 
         //when
         //then
@@ -255,36 +239,11 @@ class RecruitmentServiceTest {
     void recruitmentServiceTest9() {
         //given
         Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
-        BuddyDto.MatchingMemberResponse matchingMemberResponse1
-                = StubData.MockMember.getMatchingRequestMemberResponse(1L, "dhfif718");
-        BuddyDto.MatchingMemberResponse matchingMemberResponse2
-                = StubData.MockMember.getMatchingRequestMemberResponse(2L, "kkd718");
-        BuddyDto.MatchingMemberResponse matchingMemberResponse3
-                = StubData.MockMember.getMatchingRequestMemberResponse(3L, "리젤란");
-
-        List<BuddyDto.MatchingMemberResponse> matchingMemberResponseList = new ArrayList<>();
-        matchingMemberResponseList.add(matchingMemberResponse1);
-        matchingMemberResponseList.add(matchingMemberResponse2);
-        matchingMemberResponseList.add(matchingMemberResponse3);
-        Member writer = StubData.MockMember.getMember();
-        Member user1 = StubData.MockMember.getMember();
-        Member user2 = StubData.MockMember.getMember();
-        Member user3 = StubData.MockMember.getMember();
-        recruitment.addMember(writer);
-
-        Matching matching = StubData.MockMatching.getMatching();
-        matching.addMember(user1);
-        matching.addMember(user2);
-        matching.addMember(user3);
-        matching.addRecruitment(recruitment);
-        matching.approve();
-        recruitment.addMatching(matching);
+        List<BuddyDto.MatchingMemberResponse> matchingMemberResponseList = this.getMatchingMemberResponseList();
         Long recruitmentId = recruitment.getId();
 
-
-        when(recruitmentRepository.findRecruitmentByIdAndMatchingStatus(recruitmentId, MatchingStatus.APPROVE))
-                .thenReturn(Optional.of(recruitment));
-        when(recruitmentMapper.toMatchingMemberResponseBuddyDtoList(recruitment.getMatchingList()))
+        when(recruitmentRepository.findById(recruitmentId)).thenReturn(Optional.of(recruitment));
+        when(matchingRepository.findMatchingMembers(recruitmentId, MatchingStatus.APPROVE))
                 .thenReturn(matchingMemberResponseList);
 
         //when
@@ -293,9 +252,9 @@ class RecruitmentServiceTest {
 
         //then
         assertThat(response.size()).isEqualTo(3);
-        assertThat(response.get(0).getNickname()).isEqualTo(matchingMemberResponse1.getNickname());
-        assertThat(response.get(1).getNickname()).isEqualTo(matchingMemberResponse2.getNickname());
-        assertThat(response.get(2).getNickname()).isEqualTo(matchingMemberResponse3.getNickname());
+        assertThat(response.get(0).getNickname()).isEqualTo(matchingMemberResponseList.get(0).getNickname());
+        assertThat(response.get(1).getNickname()).isEqualTo(matchingMemberResponseList.get(1).getNickname());
+        assertThat(response.get(2).getNickname()).isEqualTo(matchingMemberResponseList.get(2).getNickname());
     }
 
     @Test
@@ -306,8 +265,7 @@ class RecruitmentServiceTest {
         recruitment.end();
         Long recruitmentId = recruitment.getId();
 
-        when(recruitmentRepository.findRecruitmentByIdAndMatchingStatus(recruitmentId, MatchingStatus.APPROVE))
-                .thenReturn(Optional.of(recruitment));
+        when(recruitmentRepository.findById(recruitmentId)).thenReturn(Optional.of(recruitment));
 
         //when
         //then
@@ -323,8 +281,7 @@ class RecruitmentServiceTest {
         Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
         Long recruitmentId = recruitment.getId();
 
-        when(recruitmentRepository.findRecruitmentByIdAndMatchingStatus(recruitmentId, MatchingStatus.APPROVE))
-                .thenReturn(Optional.empty());
+        when(recruitmentRepository.findById(recruitmentId)).thenReturn(Optional.empty());
 
         //when
         //then
@@ -332,4 +289,105 @@ class RecruitmentServiceTest {
                 () -> recruitmentService.getMatchingApprovedMemberList(recruitmentId)
         ).isInstanceOf(BusinessLogicException.class);
     }
+
+    @Test
+    @DisplayName("동행 모집글 매칭승인 회원 리스트 조회 (매칭된 회원이 없으면 빈 리스트)")
+    void recruitmentServiceTest12() {
+        //given
+        Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
+        Long recruitmentId = recruitment.getId();
+
+        when(recruitmentRepository.findById(recruitmentId)).thenReturn(Optional.of(recruitment));
+        when(matchingRepository.findMatchingMembers(recruitmentId, MatchingStatus.APPROVE)).thenReturn(List.of());
+
+        //when
+        List<BuddyDto.MatchingMemberResponse> response
+                = recruitmentService.getMatchingApprovedMemberList(recruitmentId);
+
+        //then
+        assertThat(response).isEmpty();
+    }
+
+    @Test
+    @DisplayName("동행 모집글 상세 조회 (캐시에 없으면 조회 후 캐시에 저장)")
+    void recruitmentServiceTest13() {
+        //given
+        BuddyDto.RecruitmentGetResponse detail = this.getRecruitmentDetail();
+        List<BuddyDto.MatchingMemberResponse> matchingMemberResponseList = this.getMatchingMemberResponseList();
+        Long recruitmentId = detail.getId();
+        String email = "dhfif718@gmail.com";
+
+        when(recruitmentCacheService.findDetail(recruitmentId)).thenReturn(Optional.empty());
+        when(recruitmentRepository.findRecruitmentDetailById(recruitmentId)).thenReturn(Optional.of(detail));
+        when(matchingRepository.findMatchingMembers(recruitmentId, MatchingStatus.APPROVE))
+                .thenReturn(matchingMemberResponseList);
+        when(matchingRepository.findMatchingStatus(recruitmentId, email))
+                .thenReturn(Optional.of(MatchingStatus.REQUEST));
+
+        //when
+        BuddyDto.RecruitmentGetResponse response = recruitmentService.findRecruitment(recruitmentId, email);
+
+        //then
+        assertThat(response.getTitle()).isEqualTo(detail.getTitle());
+        assertThat(response.getMembers()).hasSize(3);
+        assertThat(response.getRecruitmentRequestStatus()).isTrue();
+        verify(recruitmentCacheService).cacheDetail(any());
+        verify(counterService).increment(CounterType.RECRUITMENT_VIEW_COUNT, recruitmentId);
+    }
+
+    @Test
+    @DisplayName("동행 모집글 상세 조회 (캐시에 있으면 요청자의 매칭 상태만 조회)")
+    void recruitmentServiceTest14() {
+        //given
+        BuddyDto.RecruitmentGetResponse cachedDetail = this.getRecruitmentDetail().toBuilder()
+                .members(this.getMatchingMemberResponseList())
+                .build();
+        Long recruitmentId = cachedDetail.getId();
+
+        when(recruitmentCacheService.findDetail(recruitmentId)).thenReturn(Optional.of(cachedDetail));
+
+        //when
+        BuddyDto.RecruitmentGetResponse response = recruitmentService.findRecruitment(recruitmentId, null);
+
+        //then
+        assertThat(response.getMembers()).hasSize(3);
+        assertThat(response.getRecruitmentRequestStatus()).isFalse();
+        assertThat(cachedDetail.getRecruitmentRequestStatus()).isNull();
+        verify(recruitmentRepository, never()).findRecruitmentDetailById(any());
+        verify(matchingRepository, never()).findMatchingMembers(any(), any());
+        verify(counterService).increment(CounterType.RECRUITMENT_VIEW_COUNT, recruitmentId);
+    }
+
+    @Test
+    @DisplayName("동행 모집글 상세 조회 (동행 모집글이 없음)")
+    void recruitmentServiceTest15() {
+        //given
+        Long recruitmentId = 1L;
+
+        when(recruitmentCacheService.findDetail(recruitmentId)).thenReturn(Optional.empty());
+        when(recruitmentRepository.findRecruitmentDetailById(recruitmentId)).thenReturn(Optional.empty());
+
+        //when
+        //then
+        assertThatThrownBy(
+                () -> recruitmentService.findRecruitment(recruitmentId, null)
+        ).isInstanceOf(BusinessLogicException.class);
+        verify(counterService, never()).increment(any(), any());
+    }
+
+    private List<BuddyDto.MatchingMemberResponse> getMatchingMemberResponseList() {
+        return List.of(
+                StubData.MockMember.getMatchingRequestMemberResponse(1L, "dhfif718"),
+                StubData.MockMember.getMatchingRequestMemberResponse(2L, "kkd718"),
+                StubData.MockMember.getMatchingRequestMemberResponse(3L, "리젤란")
+        );
+    }
+
+    private BuddyDto.RecruitmentGetResponse getRecruitmentDetail() {
+        Recruitment recruitment = StubData.MockRecruitment.getRecruitment();
+        return new BuddyDto.RecruitmentGetResponse(1L, recruitment.getTitle(),
+                recruitment.getContent(), recruitment.getTravelNationality(),
+                recruitment.getTravelStartDate(), recruitment.getTravelEndDate(),
+                0L, 0L, "nickname", "image", null);
+    }
 }
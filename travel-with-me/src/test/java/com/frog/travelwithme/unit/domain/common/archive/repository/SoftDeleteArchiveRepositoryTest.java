@@ -0,0 +1,191 @@
+package com.frog.travelwithme.unit.domain.common.archive.repository;
+
+import com.frog.travelwithme.domain.buddy.entity.Matching;
+import com.frog.travelwithme.domain.buddy.entity.Recruitment;
+import com.frog.travelwithme.domain.buddy.entity.RecruitmentComment;
+import com.frog.travelwithme.domain.buddy.repository.MatchingRepository;
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentCommentRepository;
+import com.frog.travelwithme.domain.buddy.repository.RecruitmentRepository;
+import com.frog.travelwithme.domain.common.DeletionEntity;
+import com.frog.travelwithme.domain.common.archive.repository.SoftDeleteArchiveRepository;
+import com.frog.travelwithme.domain.feed.entity.Feed;
+import com.frog.travelwithme.domain.feed.entity.FeedComment;
+import com.frog.travelwithme.domain.feed.repository.FeedCommentRepository;
+import com.frog.travelwithme.domain.feed.repository.FeedRepository;
+import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.domain.member.repository.MemberRepository;
+import com.frog.travelwithme.global.config.QuerydslConfig;
+import com.frog.travelwithme.global.config.SoftDeleteFilterConfig;
+import com.frog.travelwithme.global.utils.TimeUtils;
+import com.frog.travelwithme.utils.StubData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.CommentTable;
+import static com.frog.travelwithme.global.enums.EnumCollection.MatchingStatus;
+import static com.frog.travelwithme.global.enums.EnumCollection.RecruitmentStatus;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QuerydslConfig.class, SoftDeleteFilterConfig.class, SoftDeleteArchiveRepository.class})
+class SoftDeleteArchiveRepositoryTest {
+
+    private static final LocalDateTime BEFORE = LocalDateTime.now().plusDays(1);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SoftDeleteArchiveRepository softDeleteArchiveRepository;
+
+    @Autowired
+    private FeedCommentRepository feedCommentRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private RecruitmentRepository recruitmentRepository;
+
+    @Autowired
+    private RecruitmentCommentRepository recruitmentCommentRepository;
+
+    @Autowired
+    private MatchingRepository matchingRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("삭제된 대댓글은 조회에서 제외되고, 대댓글이 남지 않은 삭제된 댓글과 함께 보관 테이블로 옮겨짐")
+    void softDeleteArchiveRepositoryTest1() {
+        // given
+        Member writer = memberRepository.save(StubData.MockMember.getMember());
+        Feed feed = feedRepository.save(StubData.MockFeed.getFeed(writer, Set.of()));
+        FeedComment deletedRoot = this.saveRootComment(writer, feed);
+        FeedComment liveReply = this.saveComment(writer, feed, deletedRoot.getId(), 2);
+        FeedComment deletedReply = this.saveComment(writer, feed, deletedRoot.getId(), 2);
+        FeedComment deletedLonelyRoot = this.saveRootComment(writer, feed);
+        FeedComment liveRoot = this.saveRootComment(writer, feed);
+        deletedRoot.softDeleteComment();
+        deletedReply.softDeleteComment();
+        deletedLonelyRoot.softDeleteComment();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> visibleIds = feedCommentRepository.findAllByFeedId(feed.getId(), null, 10).stream()
+                .map(FeedComment::getId)
+                .collect(Collectors.toList());
+        int archivedCount = softDeleteArchiveRepository.archiveComments(CommentTable.FEED_COMMENT, BEFORE, 10);
+
+        // then
+        assertThat(visibleIds).containsExactly(deletedRoot.getId(), liveReply.getId(),
+                deletedLonelyRoot.getId(), liveRoot.getId());
+        assertThat(archivedCount).isEqualTo(2);
+        assertThat(this.findIds("SELECT id FROM feed_comment"))
+                .containsExactlyInAnyOrder(deletedRoot.getId(), liveReply.getId(), liveRoot.getId());
+        assertThat(this.findIds("SELECT source_id FROM archived_record WHERE source_table = 'feed_comment'"))
+                .containsExactlyInAnyOrder(deletedReply.getId(), deletedLonelyRoot.getId());
+    }
+
+    @Test
+    @DisplayName("삭제된 모집글은 조회에서 제외되고, 매칭과 댓글을 포함해 보관 테이블로 옮겨짐")
+    void softDeleteArchiveRepositoryTest2() {
+        // given
+        Member writer = memberRepository.save(StubData.MockMember.getMember());
+        Recruitment deleted = this.saveRecruitment(writer);
+        Recruitment live = this.saveRecruitment(writer);
+        Matching matching = this.saveMatching(deleted);
+        RecruitmentComment comment = recruitmentCommentRepository.save(RecruitmentComment.builder()
+                .depth(1)
+                .content("content")
+                .build()
+                .addMember(writer)
+                .addRecruitment(deleted));
+        deleted.updateDeletionEntity();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Recruitment> visibleRecruitments = recruitmentRepository.findAll();
+        int archivedCount = softDeleteArchiveRepository.archiveRecruitments(BEFORE, 10);
+
+        // then
+        assertThat(visibleRecruitments).extracting("id").containsExactly(live.getId());
+        assertThat(archivedCount).isEqualTo(1);
+        assertThat(this.findIds("SELECT id FROM recruitment")).containsExactly(live.getId());
+        assertThat(this.findIds("SELECT id FROM matching")).isEmpty();
+        assertThat(this.findIds("SELECT id FROM recruitment_comment")).isEmpty();
+        assertThat(jdbcTemplate.queryForList("SELECT source_table FROM archived_record", String.class))
+                .containsExactlyInAnyOrder("recruitment", "matching", "recruitment_comment");
+        assertThat(this.findIds("SELECT source_id FROM archived_record"))
+                .containsExactlyInAnyOrder(deleted.getId(), matching.getId(), comment.getId());
+    }
+
+    private FeedComment saveRootComment(Member writer, Feed feed) {
+        FeedComment comment = this.saveComment(writer, feed, null, 1);
+        comment.addGroupId(comment.getId());
+        return comment;
+    }
+
+    private FeedComment saveComment(Member writer, Feed feed, Long groupId, int depth) {
+        return feedCommentRepository.save(FeedComment.builder()
+                .depth(depth)
+                .groupId(groupId)
+                .content("content")
+                .feed(feed)
+                .member(writer)
+                .build());
+    }
+
+    private Recruitment saveRecruitment(Member writer) {
+        Recruitment recruitment = Recruitment.builder()
+                .title("title")
+                .content("content")
+                .travelNationality("Peru")
+                .travelStartDate(TimeUtils.stringToLocalDateTime("2023-06-20"))
+                .travelEndDate(TimeUtils.stringToLocalDateTime("2023-06-30"))
+                .recruitmentStatus(RecruitmentStatus.IN_PROGRESS)
+                .deletionEntity(new DeletionEntity(false, null))
+                .build();
+        recruitment.addMember(writer);
+
+        return recruitmentRepository.save(recruitment);
+    }
+
+    private Matching saveMatching(Recruitment recruitment) {
+        Matching matching = Matching.builder()
+                .status(MatchingStatus.REQUEST)
+                .build();
+        matching.addMember(memberRepository.save(
+                StubData.MockMember.getMemberByEmailAndNickname("applicant@archive.com", "applicant")));
+        matching.addRecruitment(recruitment);
+
+        return matchingRepository.save(matching);
+    }
+
+    private List<Long> findIds(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+}
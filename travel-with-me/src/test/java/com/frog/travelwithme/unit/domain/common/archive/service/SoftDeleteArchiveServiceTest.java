@@ -0,0 +1,112 @@
+package com.frog.travelwithme.unit.domain.common.archive.service;
+
+import com.frog.travelwithme.domain.common.archive.repository.SoftDeleteArchiveRepository;
+import com.frog.travelwithme.domain.common.archive.service.SoftDeleteArchiveService;
+import com.frog.travelwithme.global.redis.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDateTime;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.CommentTable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@ExtendWith(MockitoExtension.class)
+class SoftDeleteArchiveServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final LocalDateTime BEFORE = LocalDateTime.of(2023, 5, 17, 0, 0);
+
+    @Mock
+    private SoftDeleteArchiveRepository softDeleteArchiveRepository;
+
+    @Mock
+    private RedisService redisService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SoftDeleteArchiveService softDeleteArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        softDeleteArchiveService = new SoftDeleteArchiveService(
+                softDeleteArchiveRepository, redisService, meterRegistry, 30, CHUNK_SIZE, 3);
+    }
+
+    @Test
+    @DisplayName("대상마다 옮긴 행이 청크 크기보다 적을 때까지 청크 단위로 보관")
+    void softDeleteArchiveServiceTest1() {
+        // given
+        given(softDeleteArchiveRepository.archiveRecruitments(BEFORE, CHUNK_SIZE)).willReturn(2, 1);
+        given(softDeleteArchiveRepository.archiveComments(CommentTable.FEED_COMMENT, BEFORE, CHUNK_SIZE))
+                .willReturn(0);
+        given(softDeleteArchiveRepository.archiveComments(CommentTable.RECRUITMENT_COMMENT, BEFORE, CHUNK_SIZE))
+                .willReturn(2, 2, 2);
+
+        // when
+        long archivedCount = softDeleteArchiveService.archiveDeletedBefore(BEFORE);
+
+        // then
+        assertThat(archivedCount).isEqualTo(9L);
+        verify(softDeleteArchiveRepository, times(2)).archiveRecruitments(BEFORE, CHUNK_SIZE);
+        verify(softDeleteArchiveRepository, times(3))
+                .archiveComments(CommentTable.RECRUITMENT_COMMENT, BEFORE, CHUNK_SIZE);
+        assertThat(meterRegistry.counter("soft-delete.archive.archived", "target", "recruitment").count())
+                .isEqualTo(3.0);
+        assertThat(meterRegistry.counter("soft-delete.archive.archived", "target", "recruitment_comment").count())
+                .isEqualTo(6.0);
+    }
+
+    @Test
+    @DisplayName("한 대상의 보관에 실패해도 다른 대상은 이어서 보관")
+    void softDeleteArchiveServiceTest2() {
+        // given
+        given(softDeleteArchiveRepository.archiveRecruitments(BEFORE, CHUNK_SIZE))
+                .willThrow(new QueryTimeoutException("timeout"));
+        given(softDeleteArchiveRepository.archiveComments(CommentTable.FEED_COMMENT, BEFORE, CHUNK_SIZE))
+                .willReturn(1);
+        given(softDeleteArchiveRepository.archiveComments(CommentTable.RECRUITMENT_COMMENT, BEFORE, CHUNK_SIZE))
+                .willReturn(0);
+
+        // when
+        long archivedCount = softDeleteArchiveService.archiveDeletedBefore(BEFORE);
+
+        // then
+        assertThat(archivedCount).isEqualTo(1L);
+        assertThat(meterRegistry.counter("soft-delete.archive.failures", "target", "recruitment").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 락을 잡고 있으면 보관 작업을 실행하지 않음")
+    void softDeleteArchiveServiceTest3() {
+        // given
+        given(redisService.setValuesIfAbsent(eq("soft-delete:archive:lock"), anyString(), any()))
+                .willReturn(false);
+
+        // when
+        softDeleteArchiveService.archiveDeletedRows();
+
+        // then
+        verifyNoInteractions(softDeleteArchiveRepository);
+    }
+}
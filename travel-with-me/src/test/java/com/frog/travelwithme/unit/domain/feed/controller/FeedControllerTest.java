@@ -110,7 +110,7 @@ class FeedControllerTest {
     void feedControllerTest3() throws Exception {
         // given
         List<FeedDto.Response> responseDtos = StubData.MockFeed.getResponseDtos();
-        given(feedService.search(anyLong(), any(), any(), any())).willReturn(responseDtos);
+        given(feedService.search(anyLong(), any(), any(), any(), anyInt())).willReturn(responseDtos);
 
         // when
         String uri = UriComponentsBuilder.newInstance().path(BASE_URL + "/search")
@@ -184,4 +184,22 @@ class FeedControllerTest {
         actions
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("팔로우한 회원의 피드 타임라인 조회")
+    @WithMockCustomUser
+    void feedControllerTest7() throws Exception {
+        // given
+        List<FeedDto.Response> responseDtos = StubData.MockFeed.getResponseDtos();
+        given(feedService.findTimeline(any(), any())).willReturn(responseDtos);
+
+        // when
+        String uri = UriComponentsBuilder.newInstance().path(BASE_URL + "/timeline")
+                .build().toUri().toString();
+        ResultActions actions = ResultActionsUtils.getRequestWithUserDetails(mvc, uri, userDetails);
+
+        // then
+        actions
+                .andExpect(status().isOk());
+    }
 }
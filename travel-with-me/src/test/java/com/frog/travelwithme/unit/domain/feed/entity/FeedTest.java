@@ -0,0 +1,57 @@
+package com.frog.travelwithme.unit.domain.feed.entity;
+
+import com.frog.travelwithme.domain.feed.entity.Feed;
+import com.frog.travelwithme.global.file.UploadedImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/18
+ **/
+class FeedTest {
+
+    @Test
+    @DisplayName("크기별 이미지가 없는 기존 피드에 이미지를 추가해도 다른 이미지의 크기별 URL을 삭제하지 않음")
+    void feedTest1() {
+        // given
+        Feed feed = Feed.builder()
+                .contents("contents")
+                .imageUrls(new ArrayList<>(List.of("legacy1", "legacy2")))
+                .build();
+        feed.addImage(new UploadedImage("new", "new-medium", "new-thumbnail"));
+
+        // when
+        List<String> removedUrls = feed.removeImage("legacy2");
+
+        // then
+        assertThat(removedUrls).containsExactly("legacy2");
+        assertThat(feed.getImageUrls()).containsExactly("legacy1", "new");
+        assertThat(feed.getThumbnailUrls()).containsExactly("legacy1", "new-thumbnail");
+        assertThat(feed.getMediumUrls()).containsExactly("legacy1", "new-medium");
+    }
+
+    @Test
+    @DisplayName("크기별 이미지가 없는 기존 피드는 원본 URL을 크기별 URL로 응답")
+    void feedTest2() {
+        // given
+        Feed feed = Feed.builder()
+                .contents("contents")
+                .imageUrls(new ArrayList<>(List.of("legacy1", "legacy2")))
+                .build();
+
+        // when
+        List<String> removedUrls = feed.removeImage("legacy1");
+
+        // then
+        assertThat(removedUrls).containsExactly("legacy1");
+        assertThat(feed.getThumbnailUrls()).containsExactly("legacy2");
+        assertThat(feed.getAllImageUrls()).containsExactly("legacy2");
+    }
+}
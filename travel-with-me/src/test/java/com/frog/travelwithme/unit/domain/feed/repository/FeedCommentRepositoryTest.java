@@ -0,0 +1,155 @@
+package com.frog.travelwithme.unit.domain.feed.repository;
+
+import com.frog.travelwithme.domain.feed.entity.Feed;
+import com.frog.travelwithme.domain.feed.entity.FeedComment;
+import com.frog.travelwithme.domain.feed.repository.FeedCommentCustomRepositoryImpl;
+import com.frog.travelwithme.domain.feed.repository.FeedCommentRepository;
+import com.frog.travelwithme.domain.feed.repository.FeedRepository;
+import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.domain.member.repository.MemberRepository;
+import com.frog.travelwithme.global.config.QuerydslConfig;
+import com.frog.travelwithme.global.dto.Cursor;
+import com.frog.travelwithme.global.dto.CursorResponseDto;
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.utils.StubData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/14
+ **/
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+@ExtendWith(SpringExtension.class)
+class FeedCommentRepositoryTest {
+
+    @Autowired
+    protected EntityManager entityManager;
+
+    @Autowired
+    protected FeedCommentRepository feedCommentRepository;
+
+    @Autowired
+    protected FeedRepository feedRepository;
+
+    @Autowired
+    protected MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("댓글보다 늦게 작성된 대댓글이 있어도 커서로 모든 댓글을 누락, 중복 없이 정렬 순서대로 조회")
+    void feedCommentRepositoryTest1() {
+        // given
+        Member writer = memberRepository.save(
+                StubData.MockMember.getMemberByEmailAndNickname("writer@gmail.com", "writer"));
+        Feed feed = feedRepository.save(StubData.MockFeed.getFeed(writer, Set.of()));
+        FeedComment firstComment = this.saveComment(writer, feed, 1L, 1);
+        FeedComment secondComment = this.saveComment(writer, feed, 2L, 1);
+        FeedComment firstReply = this.saveComment(writer, feed, 1L, 2);
+        FeedComment thirdComment = this.saveComment(writer, feed, 3L, 1);
+        FeedComment secondReply = this.saveComment(writer, feed, 2L, 2);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> pagedIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            List<FeedComment> rows = feedCommentRepository.findAllByFeedId(feed.getId(),
+                    FeedCommentCustomRepositoryImpl.COMMENT_ORDER.decode(cursor), 3);
+            CursorResponseDto<Long> page = CursorResponseDto.of(rows, 2,
+                    FeedCommentCustomRepositoryImpl::cursorOf, this.toIds());
+            pagedIds.addAll(page.getData());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(pagedIds).containsExactly(firstComment.getId(), firstReply.getId(),
+                secondComment.getId(), secondReply.getId(), thirdComment.getId());
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 커서는 예외 발생")
+    void feedCommentRepositoryTest2() {
+        // given
+        String otherOrderCursor = Cursor.of(1L, 2L).encode();
+
+        // when // then
+        assertThrows(BusinessLogicException.class,
+                () -> FeedCommentCustomRepositoryImpl.COMMENT_ORDER.decode(otherOrderCursor));
+        assertThrows(BusinessLogicException.class,
+                () -> FeedCommentCustomRepositoryImpl.COMMENT_ORDER.decode("not-a-cursor"));
+    }
+
+    @Test
+    @DisplayName("댓글은 대댓글 없이, 대댓글은 댓글별로 커서를 따라 작성 순서대로 조회")
+    void feedCommentRepositoryTest3() {
+        // given
+        Member writer = memberRepository.save(
+                StubData.MockMember.getMemberByEmailAndNickname("writer@gmail.com", "writer"));
+        Feed feed = feedRepository.save(StubData.MockFeed.getFeed(writer, Set.of()));
+        FeedComment firstComment = this.saveComment(writer, feed, null, 1);
+        firstComment.addGroupId(firstComment.getId());
+        FeedComment secondComment = this.saveComment(writer, feed, null, 1);
+        secondComment.addGroupId(secondComment.getId());
+        List<Long> replyIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            replyIds.add(this.saveComment(writer, feed, firstComment.getId(), 2).getId());
+        }
+        this.saveComment(writer, feed, secondComment.getId(), 2);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> rootIds = this.toIds().apply(feedCommentRepository.findRootCommentsByFeedId(
+                feed.getId(), null, 10));
+        List<Long> pagedReplyIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            List<FeedComment> rows = feedCommentRepository.findRepliesByGroupId(feed.getId(),
+                    firstComment.getId(), FeedCommentCustomRepositoryImpl.THREAD_ORDER.decode(cursor), 3);
+            CursorResponseDto<Long> page = CursorResponseDto.of(rows, 2,
+                    FeedCommentCustomRepositoryImpl::threadCursorOf, this.toIds());
+            pagedReplyIds.addAll(page.getData());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(rootIds).containsExactly(firstComment.getId(), secondComment.getId());
+        assertThat(pagedReplyIds).containsExactlyElementsOf(replyIds);
+    }
+
+    private FeedComment saveComment(Member writer, Feed feed, Long groupId, int depth) {
+        return feedCommentRepository.save(FeedComment.builder()
+                .depth(depth)
+                .groupId(groupId)
+                .content("content")
+                .feed(feed)
+                .member(writer)
+                .build());
+    }
+
+    private Function<List<FeedComment>, List<Long>> toIds() {
+        return comments -> comments.stream()
+                .map(FeedComment::getId)
+                .collect(Collectors.toList());
+    }
+}
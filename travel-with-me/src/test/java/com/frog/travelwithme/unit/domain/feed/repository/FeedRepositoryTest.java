@@ -0,0 +1,130 @@
+package com.frog.travelwithme.unit.domain.feed.repository;
+
+import com.frog.travelwithme.domain.feed.entity.Feed;
+import com.frog.travelwithme.domain.feed.entity.Tag;
+import com.frog.travelwithme.domain.feed.repository.FeedRepository;
+import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.domain.member.repository.MemberRepository;
+import com.frog.travelwithme.global.config.QuerydslConfig;
+import com.frog.travelwithme.utils.StubData;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/22
+ **/
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+@ExtendWith(SpringExtension.class)
+class FeedRepositoryTest {
+
+    private static final String TAG_NAME = "tagName";
+
+    @Autowired
+    protected EntityManager entityManager;
+
+    @Autowired
+    protected FeedRepository feedRepository;
+
+    @Autowired
+    protected MemberRepository memberRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("피드 검색 시 피드 수와 관계없이 고정된 쿼리 수로 작성자, 태그 조회")
+    void feedRepositoryTest1() {
+        // given
+        Member writer = memberRepository.save(
+                StubData.MockMember.getMemberByEmailAndNickname("writer@gmail.com", "writer"));
+        Tag tag = new Tag(TAG_NAME);
+        entityManager.persist(tag);
+        this.saveFeeds(writer, tag, 5);
+        long smallTableQueryCount = this.countSearchQueries();
+
+        this.saveFeeds(writer, tag, 200);
+
+        // when
+        long largeTableQueryCount = this.countSearchQueries();
+
+        // then
+        assertThat(largeTableQueryCount).isEqualTo(smallTableQueryCount);
+    }
+
+    @Test
+    @DisplayName("태그로 피드 검색 시 최신순으로 한 페이지만 조회하고 태그, 작성자 초기화")
+    void feedRepositoryTest2() {
+        // given
+        Member writer = memberRepository.save(
+                StubData.MockMember.getMemberByEmailAndNickname("writer@gmail.com", "writer"));
+        Tag tag = new Tag(TAG_NAME);
+        Tag otherTag = new Tag("otherTag");
+        entityManager.persist(tag);
+        entityManager.persist(otherTag);
+        this.saveFeeds(writer, tag, 25);
+        this.saveFeeds(writer, otherTag, 3);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Feed> feeds = feedRepository.search(null, null, TAG_NAME, writer.getEmail(), 20);
+
+        // then
+        assertThat(feeds).hasSize(20);
+        assertThat(feeds).isSortedAccordingTo((a, b) -> Long.compare(b.getId(), a.getId()));
+        assertThat(feeds).allSatisfy(feed -> {
+            assertThat(feed.getMember().getNickname()).isEqualTo("writer");
+            assertThat(feed.getTags()).extracting(Tag::getName).containsExactly(TAG_NAME);
+        });
+    }
+
+    private long countSearchQueries() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<Feed> feeds = feedRepository.search(null, null, TAG_NAME, null, 20);
+        feeds.forEach(feed -> {
+            feed.getMember().getNickname();
+            feed.getTags().size();
+        });
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void saveFeeds(Member writer, Tag tag, int count) {
+        for (int i = 0; i < count; i++) {
+            Feed feed = Feed.builder()
+                    .contents("contents" + i)
+                    .location("location")
+                    .member(writer)
+                    .imageUrls(List.of("imageUrl"))
+                    .build();
+            feed.addTags(Set.of(tag));
+            feedRepository.save(feed);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.frog.travelwithme.unit.domain.feed.service;
+
+import com.frog.travelwithme.domain.common.like.repository.LikeRepository;
+import com.frog.travelwithme.domain.feed.entity.Feed;
+import com.frog.travelwithme.domain.feed.repository.FeedLikeBulkRepository;
+import com.frog.travelwithme.domain.feed.repository.FeedRepository;
+import com.frog.travelwithme.domain.feed.service.FeedLikeCacheService;
+import com.frog.travelwithme.global.enums.EnumCollection.LikeType;
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import com.frog.travelwithme.global.redis.RedisService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/05/20
+ **/
+@ExtendWith(MockitoExtension.class)
+class FeedLikeCacheServiceTest {
+
+    @InjectMocks
+    private FeedLikeCacheService feedLikeCacheService;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    @Mock
+    private FeedLikeBulkRepository feedLikeBulkRepository;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Test
+    @DisplayName("좋아요 시 Redis Set에 추가하고 반영 대기 목록에 기록")
+    void feedLikeCacheServiceTest1() {
+        // given
+        given(redisService.hasKey("feed:like:loaded:1")).willReturn(true);
+        given(redisService.addSetValue("feed:like:members:1", "2")).willReturn(true);
+
+        // when
+        feedLikeCacheService.like(1L, 2L);
+
+        // then
+        verify(redisService).setHashOps("feed:like:pending", Map.of("1:2", "1"));
+        verify(feedRepository, never()).findLikedMemberIds(any());
+    }
+
+    @Test
+    @DisplayName("이미 좋아요한 피드에 다시 좋아요 시 예외 발생")
+    void feedLikeCacheServiceTest2() {
+        // given
+        given(redisService.hasKey("feed:like:loaded:1")).willReturn(false);
+        given(feedRepository.findLikedMemberIds(1L)).willReturn(List.of(2L));
+        given(redisService.addSetValue("feed:like:members:1", "2")).willReturn(false);
+
+        // when // then
+        assertThatThrownBy(() -> feedLikeCacheService.like(1L, 2L))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessage(ExceptionCode.ALREADY_LIKED_FEED.getMessage());
+        verify(redisService).initSetIfAbsent(eq("feed:like:members:1"), eq("feed:like:loaded:1"),
+                eq(List.of("2")), any());
+        verify(redisService, never()).setHashOps(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("좋아요하지 않은 피드 좋아요 취소 시 예외 발생")
+    void feedLikeCacheServiceTest3() {
+        // given
+        given(redisService.hasKey("feed:like:loaded:1")).willReturn(true);
+        given(redisService.removeSetValue("feed:like:members:1", "2")).willReturn(false);
+
+        // when // then
+        assertThatThrownBy(() -> feedLikeCacheService.cancel(1L, 2L))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessage(ExceptionCode.UNABLE_TO_CANCEL_LIKE.getMessage());
+    }
+
+    @Test
+    @DisplayName("반영 대기 중인 좋아요 변경분을 일괄 반영")
+    @SuppressWarnings("unchecked")
+    void feedLikeCacheServiceTest4() {
+        // given
+        ArgumentCaptor<String> lockToken = ArgumentCaptor.forClass(String.class);
+        given(redisService.setValuesIfAbsent(eq("feed:like:flush-lock"), lockToken.capture(), any())).willReturn(true);
+        given(redisService.hasKey("feed:like:flushing")).willReturn(false);
+        given(redisService.renameIfAbsent("feed:like:pending", "feed:like:flushing")).willReturn(true);
+        given(redisService.getHashEntries("feed:like:flushing"))
+                .willReturn(Map.of("1:2", "1", "1:3", "0", "4:2", "1"));
+
+        // when
+        feedLikeCacheService.flushPendingChanges();
+
+        // then
+        ArgumentCaptor<List<Object[]>> likes = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> unlikes = ArgumentCaptor.forClass(List.class);
+        verify(feedLikeBulkRepository).applyLikeChanges(likes.capture(), unlikes.capture());
+        assertThat(likes.getValue()).hasSize(2);
+        assertThat(unlikes.getValue()).containsExactly(new Object[]{1L, 3L});
+        verify(redisService).deleteValues("feed:like:flushing");
+        verify(redisService).releaseLock("feed:like:flush-lock", lockToken.getValue());
+    }
+
+    @Test
+    @DisplayName("Redis에 적재된 피드는 Set으로, 나머지는 DB 일괄 조회로 좋아요 여부 확인")
+    void feedLikeCacheServiceTest5() {
+        // given
+        Feed loadedFeed = mock(Feed.class);
+        Feed unloadedFeed = mock(Feed.class);
+        given(loadedFeed.getId()).willReturn(1L);
+        given(unloadedFeed.getId()).willReturn(2L);
+        given(redisService.executePipelined(any())).willReturn(Arrays.asList("1", true, null, false));
+        given(likeRepository.findLikedIds(LikeType.FEED, 3L, List.of(2L))).willReturn(Set.of(2L));
+
+        // when
+        Set<Long> likedFeedIds = feedLikeCacheService.findLikedFeedIds(List.of(loadedFeed, unloadedFeed), 3L);
+
+        // then
+        assertThat(likedFeedIds).containsExactlyInAnyOrder(1L, 2L);
+    }
+}
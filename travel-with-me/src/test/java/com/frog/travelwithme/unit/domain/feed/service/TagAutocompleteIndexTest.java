@@ -0,0 +1,92 @@
+package com.frog.travelwithme.unit.domain.feed.service;
+
+import com.frog.travelwithme.domain.feed.controller.dto.TagDto;
+import com.frog.travelwithme.domain.feed.repository.TagRepository;
+import com.frog.travelwithme.domain.feed.service.TagAutocompleteIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/06
+ **/
+@ExtendWith(MockitoExtension.class)
+class TagAutocompleteIndexTest {
+
+    @InjectMocks
+    private TagAutocompleteIndex tagAutocompleteIndex;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Test
+    @DisplayName("접두어로 시작하는 태그를 사용 횟수 순으로 조회")
+    void tagAutocompleteIndexTest1() {
+        // given
+        given(tagRepository.findAllWithFeedCount()).willReturn(List.of(
+                new TagDto.Response("제주도", 3L),
+                new TagDto.Response("제주맛집", 10L),
+                new TagDto.Response("제천", 5L),
+                new TagDto.Response("서울", 100L)));
+        tagAutocompleteIndex.rebuild();
+
+        // when
+        List<TagDto.Response> responses = tagAutocompleteIndex.findTopByPrefix("제주", 20);
+
+        // then
+        assertThat(tagAutocompleteIndex.isLoaded()).isTrue();
+        assertThat(responses).extracting(TagDto.Response::getName).containsExactly("제주맛집", "제주도");
+        assertThat(responses).extracting(TagDto.Response::getCount).containsExactly(10L, 3L);
+    }
+
+    @Test
+    @DisplayName("피드에 태그가 추가되면 순위에 바로 반영")
+    void tagAutocompleteIndexTest2() {
+        // given
+        given(tagRepository.findAllWithFeedCount()).willReturn(List.of(
+                new TagDto.Response("Travel", 2L),
+                new TagDto.Response("trip", 1L)));
+        tagAutocompleteIndex.rebuild();
+
+        // when
+        tagAutocompleteIndex.addCount(List.of("trip", "trip"), 1L);
+        tagAutocompleteIndex.addTag("tram");
+
+        // then
+        assertThat(tagAutocompleteIndex.findTopByPrefix("TR", 20))
+                .extracting(TagDto.Response::getName)
+                .containsExactly("trip", "Travel", "tram");
+        assertThat(tagAutocompleteIndex.findTopByPrefix("tr", 1))
+                .extracting(TagDto.Response::getName)
+                .containsExactly("trip");
+    }
+
+    @Test
+    @DisplayName("요청 개수가 상위 목록보다 크면 하위 태그 전체에서 정렬해 조회")
+    void tagAutocompleteIndexTest3() {
+        // given
+        given(tagRepository.findAllWithFeedCount()).willReturn(List.of());
+        tagAutocompleteIndex.rebuild();
+        for (int i = 0; i < 30; i++) {
+            tagAutocompleteIndex.addCount("tag" + i, i);
+        }
+
+        // when
+        List<TagDto.Response> responses = tagAutocompleteIndex.findTopByPrefix("tag", 25);
+
+        // then
+        assertThat(responses).hasSize(25);
+        assertThat(responses.get(0).getName()).isEqualTo("tag29");
+        assertThat(tagAutocompleteIndex.findTopByPrefix("none", 5)).isEmpty();
+    }
+}
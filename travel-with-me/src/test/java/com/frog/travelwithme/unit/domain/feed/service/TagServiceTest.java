@@ -0,0 +1,134 @@
+package com.frog.travelwithme.unit.domain.feed.service;
+
+import com.frog.travelwithme.domain.feed.entity.Tag;
+import com.frog.travelwithme.domain.feed.repository.TagBulkRepository;
+import com.frog.travelwithme.domain.feed.repository.TagRepository;
+import com.frog.travelwithme.domain.feed.service.TagAutocompleteIndex;
+import com.frog.travelwithme.domain.feed.service.TagService;
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/07
+ **/
+@ExtendWith(MockitoExtension.class)
+class TagServiceTest {
+
+    @InjectMocks
+    private TagService tagService;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private TagAutocompleteIndex tagAutocompleteIndex;
+
+    @Mock
+    private TagBulkRepository tagBulkRepository;
+
+    @Test
+    @DisplayName("없는 태그만 한 번에 저장하고 입력 순서대로 반환")
+    void tagServiceTest1() {
+        // given
+        Tag travel = new Tag(1L, "travel", new LinkedHashSet<>());
+        Tag food = new Tag(2L, "food", new LinkedHashSet<>());
+        given(tagRepository.findAllByNameIn(List.of("travel", "food"))).willReturn(List.of(travel));
+        given(tagBulkRepository.insertIgnoreAndFind(List.of("food"))).willReturn(Map.of("food", 2L));
+        given(tagRepository.getReferenceById(1L)).willReturn(travel);
+        given(tagRepository.getReferenceById(2L)).willReturn(food);
+
+        // when
+        Set<Tag> tags = tagService.findOrCreateTagsByName(List.of("travel", "food", "travel"));
+
+        // then
+        assertThat(tags).containsExactly(travel, food);
+        verify(tagAutocompleteIndex).addTag("food");
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 태그는 캐시에서 찾아 DB를 조회하지 않음")
+    void tagServiceTest2() {
+        // given
+        Tag travel = new Tag(1L, "travel", new LinkedHashSet<>());
+        given(tagRepository.findAllByNameIn(List.of("travel"))).willReturn(List.of(travel));
+        given(tagRepository.getReferenceById(1L)).willReturn(travel);
+        tagService.findOrCreateTagsByName(List.of("travel"));
+
+        // when
+        Set<Tag> tags = tagService.findOrCreateTagsByName(List.of("travel"));
+
+        // then
+        assertThat(tags).containsExactly(travel);
+        verify(tagRepository, times(1)).findAllByNameIn(any());
+        verify(tagBulkRepository, never()).insertIgnoreAndFind(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 태그 사용 횟수를 자동완성 인덱스에 반영하지 않고, 커밋된 경우에만 반영")
+    void tagServiceTest3() {
+        // given
+        Set<Tag> tags = Set.of(new Tag(1L, "travel", new LinkedHashSet<>()));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tagService.increaseUsageCount(tags);
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(tagAutocompleteIndex, never()).addCount(anyList(), anyLong());
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tagService.decreaseUsageCount(tags);
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(tagAutocompleteIndex).addCount(List.of("travel"), -1L);
+        verify(tagAutocompleteIndex, never()).addCount(List.of("travel"), 1L);
+    }
+
+    @Test
+    @DisplayName("저장 후에도 찾지 못한 태그가 있으면 예외 발생")
+    void tagServiceTest4() {
+        // given
+        given(tagRepository.findAllByNameIn(List.of("food"))).willReturn(List.of());
+        given(tagBulkRepository.insertIgnoreAndFind(List.of("food"))).willReturn(Map.of());
+
+        // when // then
+        assertThatThrownBy(() -> tagService.findOrCreateTagsByName(List.of("food")))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessage(ExceptionCode.UNABLE_TO_SAVE_TAG.getMessage());
+        verify(tagRepository, never()).getReferenceById(any());
+    }
+}
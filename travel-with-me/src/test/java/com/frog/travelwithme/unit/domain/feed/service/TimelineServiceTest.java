@@ -0,0 +1,117 @@
+package com.frog.travelwithme.unit.domain.feed.service;
+
+import com.frog.travelwithme.domain.feed.repository.FeedRepository;
+import com.frog.travelwithme.domain.feed.service.TimelineService;
+import com.frog.travelwithme.domain.member.repository.FollowRepository;
+import com.frog.travelwithme.global.redis.RedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/05
+ **/
+@ExtendWith(MockitoExtension.class)
+class TimelineServiceTest {
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    private TimelineService timelineService;
+
+    @BeforeEach
+    void setUp() {
+        timelineService = new TimelineService(redisService, followRepository, feedRepository, 2L, 800);
+    }
+
+    @Test
+    @DisplayName("팔로워가 적은 회원의 피드는 팔로워와 본인 타임라인에 저장")
+    void timelineServiceTest1() {
+        // given
+        given(followRepository.countFollowers(1L)).willReturn(1L);
+        given(followRepository.findFollowerIds(1L)).willReturn(List.of(2L));
+
+        // when
+        timelineService.fanOut(10L, 1L);
+
+        // then
+        verify(redisService).executePipelined(any());
+        verify(redisService, never()).addSetValue(any(), any());
+    }
+
+    @Test
+    @DisplayName("팔로워가 많은 회원의 피드는 타임라인에 저장하지 않고 대형 계정으로 등록")
+    void timelineServiceTest2() {
+        // given
+        given(followRepository.countFollowers(1L)).willReturn(2L);
+
+        // when
+        timelineService.fanOut(10L, 1L);
+
+        // then
+        verify(redisService).addSetValue("timeline:celebrities", "1");
+        verify(followRepository, never()).findFollowerIds(anyLong());
+        verify(redisService, never()).executePipelined(any());
+    }
+
+    @Test
+    @DisplayName("미리 저장된 타임라인과 팔로우한 대형 계정의 피드를 최신순으로 병합")
+    void timelineServiceTest3() {
+        // given
+        given(redisService.hasKey("timeline:loaded:3")).willReturn(true);
+        given(redisService.reverseRangeByScore("timeline:3", 49, 2))
+                .willReturn(new LinkedHashSet<>(List.of("40", "20")));
+        given(redisService.getSetMembers("timeline:celebrities")).willReturn(Set.of("1"));
+        given(followRepository.findFollowingIdsIn(3L, Set.of(1L))).willReturn(List.of(1L));
+        given(feedRepository.findFeedIdsByWriterIds(List.of(1L), 50L, 2)).willReturn(List.of(45L, 30L));
+
+        // when
+        List<Long> feedIds = timelineService.findTimelineFeedIds(3L, 50L, 2);
+
+        // then
+        assertThat(feedIds).containsExactly(45L, 40L);
+    }
+
+    @Test
+    @DisplayName("타임라인이 없으면 팔로우한 회원의 최근 피드로 다시 구성")
+    void timelineServiceTest4() {
+        // given
+        given(redisService.hasKey("timeline:loaded:3")).willReturn(false);
+        given(followRepository.findFollowingIds(3L)).willReturn(List.of(1L));
+        given(redisService.getSetMembers("timeline:celebrities")).willReturn(Set.of());
+        given(feedRepository.findFeedIdsByWriterIds(List.of(1L, 3L), null, 800)).willReturn(List.of(40L));
+        given(redisService.reverseRangeByScore(eq("timeline:3"), eq(Double.POSITIVE_INFINITY), eq(20L)))
+                .willReturn(Set.of("40"));
+
+        // when
+        List<Long> feedIds = timelineService.findTimelineFeedIds(3L, null, 20);
+
+        // then
+        assertThat(feedIds).containsExactly(40L);
+        verify(redisService).executePipelined(any());
+        verify(redisService).setValues(eq("timeline:loaded:3"), eq("1"), any());
+    }
+}
@@ -313,7 +313,7 @@ class MemberControllerTest {
         // given
         MultiValueMap<String, String> papram = new LinkedMultiValueMap<>();
         papram.add(EMAIL_KEY, EMAIL_VALUE);
-        doNothing().when(memberService).sendCodeToEmail(Mockito.any());
+        doNothing().when(memberService).sendCodeToEmail(Mockito.any(), Mockito.any());
 
         // when
         String uri = UriComponentsBuilder.newInstance().path(BASE_URL + "/emails/verification-requests")
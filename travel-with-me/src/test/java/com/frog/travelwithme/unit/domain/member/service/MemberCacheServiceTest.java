@@ -0,0 +1,123 @@
+package com.frog.travelwithme.unit.domain.member.service;
+
+import com.frog.travelwithme.domain.member.controller.dto.MemberDto;
+import com.frog.travelwithme.domain.member.entity.Member;
+import com.frog.travelwithme.domain.member.service.MemberCacheService;
+import com.frog.travelwithme.global.redis.RedisService;
+import com.frog.travelwithme.utils.StubData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/10
+ **/
+@ExtendWith(MockitoExtension.class)
+class MemberCacheServiceTest {
+
+    @Mock
+    private RedisService redisService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MemberCacheService memberCacheService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        memberCacheService = new MemberCacheService(redisService, meterRegistry, 100, 30, 30);
+    }
+
+    @Test
+    @DisplayName("Redis에서 찾은 회원 id는 메모리에 담아 다음 조회부터 Redis를 조회하지 않음")
+    void memberCacheServiceTest1() {
+        // given
+        given(redisService.getValues("member:email:email")).willReturn("1");
+        given(redisService.checkExistsValue("1")).willReturn(true);
+
+        // when
+        Optional<Long> first = memberCacheService.findIdByEmail("email");
+        Optional<Long> second = memberCacheService.findIdByEmail("email");
+
+        // then
+        assertThat(first).contains(1L);
+        assertThat(second).contains(1L);
+        verify(redisService, times(1)).getValues(any());
+        assertThat(meterRegistry.get("member.cache.gets")
+                .tags("cache", "id", "tier", "local", "result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("member.cache.gets")
+                .tags("cache", "id", "tier", "redis", "result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 예외 없이 캐시 미스로 처리")
+    void memberCacheServiceTest2() {
+        // given
+        given(redisService.getHashEntries("member:summary:1"))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        Optional<MemberDto.Summary> summary = memberCacheService.findSummary(1L);
+
+        // then
+        assertThat(summary).isEmpty();
+    }
+
+    @Test
+    @DisplayName("회원 정보가 바뀌면 메모리와 Redis 캐시를 모두 삭제")
+    void memberCacheServiceTest3() {
+        // given
+        Member member = StubData.MockMember.getMember();
+        memberCacheService.cacheSummary(MemberDto.Summary.builder()
+                .id(member.getId())
+                .email(member.getEmail())
+                .nickname(member.getNickname())
+                .build());
+        given(redisService.getHashEntries("member:summary:" + member.getId())).willReturn(Map.of());
+
+        // when
+        memberCacheService.evict(member);
+
+        // then
+        assertThat(memberCacheService.findSummary(member.getId())).isEmpty();
+        verify(redisService).deleteValues(List.of("member:email:" + member.getEmail(),
+                "member:summary:" + member.getId()));
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 Redis를 조회하지 않고 메모리 캐시에 있는 회원만 반환")
+    void memberCacheServiceTest4() {
+        // given
+        memberCacheService.cacheLocalSummaries(List.of(MemberDto.Summary.builder()
+                .id(1L)
+                .nickname("nickname")
+                .build()));
+
+        // when
+        Map<Long, MemberDto.Summary> summaries = memberCacheService.findLocalSummaries(List.of(1L, 2L));
+
+        // then
+        assertThat(summaries).containsOnlyKeys(1L);
+        verifyNoInteractions(redisService);
+        assertThat(meterRegistry.get("member.cache.gets")
+                .tags("cache", "summary", "tier", "local", "result", "miss").counter().count()).isEqualTo(1.0);
+    }
+}
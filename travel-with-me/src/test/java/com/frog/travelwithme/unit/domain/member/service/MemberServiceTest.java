@@ -5,10 +5,15 @@ import com.frog.travelwithme.domain.member.entity.Member;
 import com.frog.travelwithme.domain.member.mapper.MemberMapper;
 import com.frog.travelwithme.domain.member.repository.MemberRepository;
 import com.frog.travelwithme.domain.member.service.InterestService;
+import com.frog.travelwithme.domain.member.service.MemberCacheService;
 import com.frog.travelwithme.domain.member.service.MemberService;
 import com.frog.travelwithme.global.enums.EnumCollection.AwsS3Path;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.exception.ExceptionCode;
 import com.frog.travelwithme.global.file.FileUploadService;
+import com.frog.travelwithme.global.file.UploadedImage;
+import com.frog.travelwithme.global.mail.EmailRateLimiter;
+import com.frog.travelwithme.global.outbox.OutboxService;
 import com.frog.travelwithme.utils.StubData;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +26,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +35,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * 작성자: 김찬빈
@@ -55,6 +65,15 @@ class MemberServiceTest {
     @Mock
     private InterestService interestService;
 
+    @Mock
+    private MemberCacheService memberCacheService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private EmailRateLimiter emailRateLimiter;
+
     @Test
     @DisplayName("회원가입")
     void memberServiceTest1() {
@@ -229,7 +248,8 @@ class MemberServiceTest {
         MemberDto.Response expectedResponse = StubData.MockMember.getResponseDto();
         given(memberRepository.findByEmail(any())).willReturn(Optional.of(originMember));
         given(memberMapper.toDto(any(Member.class))).willReturn(expectedResponse);
-        given(fileUploadService.upload(any(MultipartFile.class), any(AwsS3Path.class))).willReturn("imageUrl");
+        given(fileUploadService.upload(any(MultipartFile.class), any(AwsS3Path.class)))
+                .willReturn(UploadedImage.originalOnly("imageUrl"));
 
         // when
         MemberDto.Response response = memberService.changeProfileImage(file, email);
@@ -244,4 +264,96 @@ class MemberServiceTest {
         assertThat(response.getIntroduction()).isEqualTo(expectedResponse.getIntroduction());
         assertThat(response.getRole()).isEqualTo(expectedResponse.getRole());
     }
+
+    @Test
+    @DisplayName("캐시에 회원 id가 있으면 이메일로 조회하지 않음")
+    void memberServiceTest11() {
+        // given
+        Member member = StubData.MockMember.getMember();
+        given(memberCacheService.findIdByEmail("email")).willReturn(Optional.of(1L));
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+
+        // when
+        Member findMember = memberService.findMember("email");
+
+        // then
+        assertThat(findMember).isEqualTo(member);
+        verify(memberRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 회원 id가 없으면 이메일로 조회한 뒤 캐시에 저장")
+    void memberServiceTest12() {
+        // given
+        Member member = StubData.MockMember.getMember();
+        given(memberRepository.findByEmail("email")).willReturn(Optional.of(member));
+
+        // when
+        Member findMember = memberService.findMember("email");
+
+        // then
+        assertThat(findMember).isEqualTo(member);
+        verify(memberCacheService).cacheId("email", member.getId());
+    }
+
+    @Test
+    @DisplayName("회원 요약 정보 일괄 조회 시 메모리 캐시에 없는 회원만 한 번에 조회")
+    void memberServiceTest13() {
+        // given
+        MemberDto.Summary cachedSummary = MemberDto.Summary.builder().id(1L).nickname("cached").build();
+        MemberDto.Summary loadedSummary = MemberDto.Summary.builder().id(2L).nickname("loaded").build();
+        given(memberCacheService.findLocalSummaries(List.of(1L, 2L, 3L))).willReturn(Map.of(1L, cachedSummary));
+        given(memberRepository.findSummariesByIds(List.of(2L, 3L))).willReturn(List.of(loadedSummary));
+
+        // when
+        Map<Long, MemberDto.Summary> summaries = memberService.findMemberSummaries(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(summaries).containsOnlyKeys(1L, 2L);
+        assertThat(summaries.get(2L).getNickname()).isEqualTo("loaded");
+        verify(memberCacheService).cacheLocalSummaries(List.of(loadedSummary));
+    }
+
+    @Test
+    @DisplayName("인증 요청 횟수 제한을 넘으면 메일을 보내지 않음")
+    void memberServiceTest14() {
+        // given
+        given(memberRepository.findByEmail("email")).willReturn(Optional.empty());
+        willThrow(new BusinessLogicException(ExceptionCode.TOO_MANY_EMAIL_REQUESTS))
+                .given(emailRateLimiter).checkVerificationRequest("email", "127.0.0.1");
+
+        // when // then
+        assertThrows(BusinessLogicException.class, () -> memberService.sendCodeToEmail("email", "127.0.0.1"));
+        verify(outboxService, never()).publishAuthCodeEmail(any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시된 id의 회원이 다른 서버에서 탈퇴했으면 캐시를 지우고 회원 없음 예외 발생")
+    void memberServiceTest15() {
+        // given
+        given(memberCacheService.findIdByEmail("email")).willReturn(Optional.of(1L));
+        given(memberRepository.findById(1L)).willReturn(Optional.empty());
+        given(memberRepository.findByEmail("email")).willReturn(Optional.empty());
+
+        // when // then
+        BusinessLogicException exception =
+                assertThrows(BusinessLogicException.class, () -> memberService.findMember("email"));
+        assertThat(exception.getExceptionCode()).isEqualTo(ExceptionCode.MEMBER_NOT_FOUND);
+        verify(memberCacheService).evictId("email");
+    }
+
+    @Test
+    @DisplayName("이미 가입된 이메일은 인증 요청 횟수를 차지하지 않고 회원 중복 예외 발생")
+    void memberServiceTest16() {
+        // given
+        Member member = StubData.MockMember.getMember();
+        given(memberRepository.findByEmail("email")).willReturn(Optional.of(member));
+
+        // when // then
+        BusinessLogicException exception =
+                assertThrows(BusinessLogicException.class, () -> memberService.sendCodeToEmail("email", "127.0.0.1"));
+        assertThat(exception.getExceptionCode()).isEqualTo(ExceptionCode.MEMBER_EXISTS);
+        verify(emailRateLimiter, never()).checkVerificationRequest(any(), any());
+        verify(outboxService, never()).publishAuthCodeEmail(any(), any());
+    }
 }
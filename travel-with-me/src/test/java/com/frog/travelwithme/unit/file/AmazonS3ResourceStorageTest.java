@@ -1,22 +1,37 @@
 package com.frog.travelwithme.unit.file;
 
+import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
 import com.frog.travelwithme.global.enums.EnumCollection;
 import com.frog.travelwithme.global.file.AmazonS3ResourceStorage;
 import com.frog.travelwithme.utils.StubData;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.net.URL;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * 작성자: 김찬빈
@@ -48,4 +63,76 @@ public class AmazonS3ResourceStorageTest {
         // then
         assertThat(actualFileUrl).isEqualTo(fileUrl);
     }
+
+    @Test
+    @DisplayName("S3 파일 업로드 시 파일 크기와 타입을 메타데이터로 지정")
+    void AmazonS3ResourceStorageTest2() throws Exception {
+        // given
+        MockMultipartFile file = StubData.CustomMockMultipartFile.getFile();
+        given(amazonS3.getUrl(any(), any())).willReturn(new URL("http://example.com"));
+
+        // when
+        amazonS3ResourceStorage.uploadImage(file, EnumCollection.AwsS3Path.FEEDIMAGE);
+
+        // then
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(captor.capture());
+        ObjectMetadata metadata = captor.getValue().getMetadata();
+        assertThat(metadata.getContentLength()).isEqualTo(file.getSize());
+        assertThat(metadata.getContentType()).isEqualTo(file.getContentType());
+    }
+
+    @Test
+    @DisplayName("임계값보다 큰 파일은 고정 크기 파트로 나누어 멀티파트 업로드")
+    void AmazonS3ResourceStorageTest3() throws Exception {
+        // given
+        ReflectionTestUtils.setField(amazonS3ResourceStorage, "multipartThreshold", 8L);
+        ReflectionTestUtils.setField(amazonS3ResourceStorage, "partSize", 4);
+        MockMultipartFile file = new MockMultipartFile("file", "large.png",
+                MediaType.IMAGE_PNG_VALUE, "0123456789".getBytes());
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("uploadId");
+        given(amazonS3.initiateMultipartUpload(any())).willReturn(initiateResult);
+        given(amazonS3.uploadPart(any())).willAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag" + request.getPartNumber());
+            return result;
+        });
+        given(amazonS3.getUrl(any(), any())).willReturn(new URL("http://example.com"));
+
+        // when
+        amazonS3ResourceStorage.uploadImage(file, EnumCollection.AwsS3Path.FEEDIMAGE);
+
+        // then
+        ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(amazonS3, times(3)).uploadPart(partCaptor.capture());
+        assertThat(partCaptor.getAllValues()).extracting(UploadPartRequest::getPartSize)
+                .containsExactly(4L, 4L, 2L);
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3).completeMultipartUpload(completeCaptor.capture());
+        assertThat(completeCaptor.getValue().getPartETags()).hasSize(3);
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("멀티파트 업로드 중 실패하면 업로드를 중단하고 예외 발생")
+    void AmazonS3ResourceStorageTest4() throws Exception {
+        // given
+        ReflectionTestUtils.setField(amazonS3ResourceStorage, "multipartThreshold", 8L);
+        ReflectionTestUtils.setField(amazonS3ResourceStorage, "partSize", 4);
+        MockMultipartFile file = new MockMultipartFile("file", "large.png",
+                MediaType.IMAGE_PNG_VALUE, "0123456789".getBytes());
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("uploadId");
+        given(amazonS3.initiateMultipartUpload(any())).willReturn(initiateResult);
+        given(amazonS3.uploadPart(any())).willThrow(new SdkClientException("timeout"));
+
+        // when // then
+        assertThatThrownBy(() -> amazonS3ResourceStorage.uploadImage(file, EnumCollection.AwsS3Path.FEEDIMAGE))
+                .isInstanceOf(SdkClientException.class);
+        verify(amazonS3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
 }
@@ -1,24 +1,40 @@
 package com.frog.travelwithme.unit.file;
 
 import com.frog.travelwithme.global.enums.EnumCollection.AwsS3Path;
+import com.frog.travelwithme.global.enums.EnumCollection.ImageVariant;
 import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.exception.ExceptionCode;
 import com.frog.travelwithme.global.file.AmazonS3ResourceStorage;
 import com.frog.travelwithme.global.file.FileUploadService;
+import com.frog.travelwithme.global.file.ImageResizer;
+import com.frog.travelwithme.global.file.UploadedImage;
 import com.frog.travelwithme.utils.StubData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * 작성자: 김찬빈
@@ -28,12 +44,25 @@ import static org.mockito.BDDMockito.given;
 @ExtendWith(MockitoExtension.class)
 class FileUploadServiceTest {
 
-    @InjectMocks
     private FileUploadService fileUploadService;
 
     @Mock
     private AmazonS3ResourceStorage amazonS3ResourceStorage;
 
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        fileUploadService = new FileUploadService(amazonS3ResourceStorage, executorService, executorService,
+                new ImageResizer(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
     @Test
     @DisplayName("파일 업로드 시 S3에 저장된 url 반환")
     void fileUploadServiceTest1() throws Exception {
@@ -62,4 +91,96 @@ class FileUploadServiceTest {
                 .isInstanceOf(BusinessLogicException.class)
                 .hasMessage(ExceptionCode.EXTENSION_IS_NOT_VALID.getMessage());
     }
+
+    @Test
+    @DisplayName("여러 파일을 병렬로 업로드하고 요청 순서대로 url 반환")
+    void fileUploadServiceTest3() throws Exception {
+        // given
+        MockMultipartFile first = new MockMultipartFile("files", "first.png", MediaType.IMAGE_PNG_VALUE, "1".getBytes());
+        MockMultipartFile second = new MockMultipartFile("files", "second.png", MediaType.IMAGE_PNG_VALUE, "2".getBytes());
+        given(amazonS3ResourceStorage.uploadImage(first, AwsS3Path.FEEDIMAGE)).willReturn("firstUrl");
+        given(amazonS3ResourceStorage.uploadImage(second, AwsS3Path.FEEDIMAGE)).willReturn("secondUrl");
+
+        // when
+        List<UploadedImage> uploadedImages = fileUploadService.uploadAll(List.of(first, second), AwsS3Path.FEEDIMAGE);
+
+        // then
+        assertThat(uploadedImages).extracting(UploadedImage::getOriginalUrl).containsExactly("firstUrl", "secondUrl");
+        assertThat(uploadedImages).extracting(UploadedImage::getThumbnailUrl).containsExactly("firstUrl", "secondUrl");
+    }
+
+    @Test
+    @DisplayName("일부 파일 업로드에 실패하면 업로드된 파일을 삭제하고 예외 발생")
+    void fileUploadServiceTest4() throws Exception {
+        // given
+        MockMultipartFile first = new MockMultipartFile("files", "first.png", MediaType.IMAGE_PNG_VALUE, "1".getBytes());
+        MockMultipartFile second = new MockMultipartFile("files", "second.png", MediaType.IMAGE_PNG_VALUE, "2".getBytes());
+        given(amazonS3ResourceStorage.uploadImage(first, AwsS3Path.FEEDIMAGE)).willReturn("firstUrl");
+        given(amazonS3ResourceStorage.uploadImage(second, AwsS3Path.FEEDIMAGE))
+                .willThrow(new BusinessLogicException(ExceptionCode.FAIL_TO_UPLOAD_FILE));
+
+        // when // then
+        assertThatThrownBy(() -> fileUploadService.uploadAll(List.of(first, second), AwsS3Path.FEEDIMAGE))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessage(ExceptionCode.FAIL_TO_UPLOAD_FILE.getMessage());
+        verify(amazonS3ResourceStorage).removeImage("firstUrl");
+    }
+
+    @Test
+    @DisplayName("확장자가 잘못된 파일이 있으면 업로드하지 않고 예외 발생")
+    void fileUploadServiceTest5() throws Exception {
+        // given
+        MockMultipartFile file = StubData.CustomMockMultipartFile.getFile();
+        MockMultipartFile failFile = StubData.CustomMockMultipartFile.getFailFile();
+
+        // when // then
+        assertThatThrownBy(() -> fileUploadService.uploadAll(List.of(file, failFile), AwsS3Path.FEEDIMAGE))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessage(ExceptionCode.EXTENSION_IS_NOT_VALID.getMessage());
+        verify(amazonS3ResourceStorage, never()).uploadImage(any(), any());
+    }
+
+    @Test
+    @DisplayName("기준보다 큰 이미지는 중간 크기, 썸네일 이미지를 만들어 함께 업로드")
+    void fileUploadServiceTest6() throws Exception {
+        // given
+        MockMultipartFile image = new MockMultipartFile("files", "image.png", MediaType.IMAGE_PNG_VALUE,
+                this.createPng(2000, 1000));
+        given(amazonS3ResourceStorage.uploadImage(image, AwsS3Path.FEEDIMAGE)).willReturn("originalUrl");
+        given(amazonS3ResourceStorage.uploadResizedImage(any(), eq(MediaType.IMAGE_PNG_VALUE), eq("image.png"),
+                eq(AwsS3Path.FEEDIMAGE), eq(ImageVariant.MEDIUM))).willReturn("mediumUrl");
+        given(amazonS3ResourceStorage.uploadResizedImage(any(), eq(MediaType.IMAGE_PNG_VALUE), eq("image.png"),
+                eq(AwsS3Path.FEEDIMAGE), eq(ImageVariant.THUMBNAIL))).willReturn("thumbnailUrl");
+
+        // when
+        UploadedImage uploadedImage = fileUploadService.upload(image, AwsS3Path.FEEDIMAGE);
+
+        // then
+        assertThat(uploadedImage.getOriginalUrl()).isEqualTo("originalUrl");
+        assertThat(uploadedImage.getMediumUrl()).isEqualTo("mediumUrl");
+        assertThat(uploadedImage.getThumbnailUrl()).isEqualTo("thumbnailUrl");
+    }
+
+    @Test
+    @DisplayName("썸네일 기준보다 작은 이미지는 리사이즈하지 않고 원본 url 사용")
+    void fileUploadServiceTest7() throws Exception {
+        // given
+        MockMultipartFile image = new MockMultipartFile("files", "image.png", MediaType.IMAGE_PNG_VALUE,
+                this.createPng(100, 100));
+        given(amazonS3ResourceStorage.uploadImage(image, AwsS3Path.FEEDIMAGE)).willReturn("originalUrl");
+
+        // when
+        UploadedImage uploadedImage = fileUploadService.upload(image, AwsS3Path.FEEDIMAGE);
+
+        // then
+        assertThat(uploadedImage.getAllUrls()).containsExactly("originalUrl");
+        verify(amazonS3ResourceStorage, never()).uploadResizedImage(any(), any(), any(), any(), any());
+    }
+
+    private byte[] createPng(int width, int height) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+
+        return outputStream.toByteArray();
+    }
 }
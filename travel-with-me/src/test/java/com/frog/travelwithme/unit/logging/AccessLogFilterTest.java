@@ -0,0 +1,110 @@
+package com.frog.travelwithme.unit.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.frog.travelwithme.global.logging.AccessLogFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/13
+ **/
+class AccessLogFilterTest {
+
+    private final AccessLogFilter accessLogFilter = new AccessLogFilter(0.0, 1000);
+
+    @Test
+    @DisplayName("요청 처리 중에는 MDC에 요청 id가 있고, 응답 헤더로 전달한 뒤 요청이 끝나면 제거")
+    void accessLogFilterTest1() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/feeds");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> requestIdInChain = new AtomicReference<>();
+
+        // when
+        accessLogFilter.doFilter(request, response, this.capturingChain(requestIdInChain));
+
+        // then
+        assertThat(requestIdInChain.get()).isNotBlank()
+                .isEqualTo(response.getHeader(AccessLogFilter.REQUEST_ID_HEADER));
+        assertThat(MDC.get(AccessLogFilter.REQUEST_ID_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 올바른 요청 id만 이어서 사용하고, 그 외에는 새로 발급")
+    void accessLogFilterTest2() throws Exception {
+        // given
+        MockHttpServletRequest validRequest = new MockHttpServletRequest("GET", "/feeds");
+        validRequest.addHeader(AccessLogFilter.REQUEST_ID_HEADER, "upstream-id-1");
+        MockHttpServletRequest forgedRequest = new MockHttpServletRequest("GET", "/feeds");
+        forgedRequest.addHeader(AccessLogFilter.REQUEST_ID_HEADER, "id\nINFO forged log");
+        AtomicReference<String> validRequestId = new AtomicReference<>();
+        AtomicReference<String> forgedRequestId = new AtomicReference<>();
+
+        // when
+        accessLogFilter.doFilter(validRequest, new MockHttpServletResponse(), this.capturingChain(validRequestId));
+        accessLogFilter.doFilter(forgedRequest, new MockHttpServletResponse(), this.capturingChain(forgedRequestId));
+
+        // then
+        assertThat(validRequestId.get()).isEqualTo("upstream-id-1");
+        assertThat(forgedRequestId.get()).doesNotContain("forged").matches("[0-9a-f]+");
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 발생한 요청은 샘플링과 관계없이 500으로 기록하고 예외를 다시 던짐")
+    void accessLogFilterTest3() {
+        // given
+        Logger logger = (Logger) LoggerFactory.getLogger(AccessLogFilter.class);
+        Level originalLevel = logger.getLevel();
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.INFO);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/feeds");
+        MockFilterChain failingChain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                throw new IllegalStateException("failed");
+            }
+        });
+
+        try {
+            // when
+            assertThrows(IllegalStateException.class,
+                    () -> accessLogFilter.doFilter(request, new MockHttpServletResponse(), failingChain));
+
+            // then
+            assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                    .anyMatch(message -> message.startsWith("GET /feeds 500 "));
+        } finally {
+            logger.detachAppender(appender);
+            logger.setLevel(originalLevel);
+        }
+    }
+
+    private MockFilterChain capturingChain(AtomicReference<String> requestId) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                requestId.set(MDC.get(AccessLogFilter.REQUEST_ID_KEY));
+            }
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package com.frog.travelwithme.unit.mail;
+
+import com.frog.travelwithme.global.mail.EmailHandler;
+import com.frog.travelwithme.global.mail.MailService;
+import com.frog.travelwithme.global.outbox.OutboxPayload;
+import com.frog.travelwithme.global.redis.RedisService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/17
+ **/
+@ExtendWith(MockitoExtension.class)
+class EmailHandlerTest {
+
+    @Mock
+    private MailService mailService;
+
+    @Mock
+    private RedisService redisService;
+
+    @InjectMocks
+    private EmailHandler emailHandler;
+
+    @Test
+    @DisplayName("인증 번호 메일은 발송 시점에 Redis에 저장된 인증 번호로 발송")
+    void emailHandlerTest1() {
+        // given
+        given(redisService.getValues("AuthCode e_ma-il@gmail.com")).willReturn("123456");
+        given(redisService.checkExistsValue("123456")).willReturn(true);
+
+        // when
+        emailHandler.handle(new OutboxPayload.AuthCodeEmail("e_ma-il@gmail.com", "title"));
+
+        // then
+        verify(mailService).sendEmail("e_ma-il@gmail.com", "title", "123456");
+    }
+
+    @Test
+    @DisplayName("재시도 사이에 인증 번호가 만료되었으면 메일을 발송하지 않음")
+    void emailHandlerTest2() {
+        // given
+        given(redisService.getValues("AuthCode e_ma-il@gmail.com")).willReturn("false");
+        given(redisService.checkExistsValue("false")).willReturn(false);
+
+        // when
+        emailHandler.handle(new OutboxPayload.AuthCodeEmail("e_ma-il@gmail.com", "title"));
+
+        // then
+        verify(mailService, never()).sendEmail(any(), any(), any());
+    }
+}
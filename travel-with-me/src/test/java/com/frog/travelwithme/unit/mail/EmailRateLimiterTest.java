@@ -0,0 +1,75 @@
+package com.frog.travelwithme.unit.mail;
+
+import com.frog.travelwithme.global.exception.BusinessLogicException;
+import com.frog.travelwithme.global.mail.EmailRateLimiter;
+import com.frog.travelwithme.global.redis.RedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/17
+ **/
+@ExtendWith(MockitoExtension.class)
+class EmailRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(600);
+
+    @Mock
+    private RedisService redisService;
+
+    private EmailRateLimiter emailRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        emailRateLimiter = new EmailRateLimiter(redisService, 5, 30, WINDOW.getSeconds());
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 제한 횟수를 넘겨 요청하면 예외 발생")
+    void emailRateLimiterTest1() {
+        // given
+        given(redisService.incrementValues("mail:rate:email:email", WINDOW)).willReturn(6L);
+        given(redisService.incrementValues("mail:rate:ip:127.0.0.1", WINDOW)).willReturn(6L);
+
+        // when // then
+        assertThrows(BusinessLogicException.class,
+                () -> emailRateLimiter.checkVerificationRequest("email", "127.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("같은 IP에서 제한 횟수를 넘겨 요청하면 이메일이 달라도 예외 발생")
+    void emailRateLimiterTest2() {
+        // given
+        given(redisService.incrementValues("mail:rate:email:email", WINDOW)).willReturn(1L);
+        given(redisService.incrementValues("mail:rate:ip:127.0.0.1", WINDOW)).willReturn(31L);
+
+        // when // then
+        assertThrows(BusinessLogicException.class,
+                () -> emailRateLimiter.checkVerificationRequest("email", "127.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 제한하지 않고 통과")
+    void emailRateLimiterTest3() {
+        // given
+        given(redisService.incrementValues(any(), any())).willThrow(new QueryTimeoutException("timeout"));
+
+        // when // then
+        assertThatCode(() -> emailRateLimiter.checkVerificationRequest("email", "127.0.0.1"))
+                .doesNotThrowAnyException();
+    }
+}
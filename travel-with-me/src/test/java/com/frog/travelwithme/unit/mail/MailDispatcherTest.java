@@ -0,0 +1,180 @@
+package com.frog.travelwithme.unit.mail;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frog.travelwithme.global.config.OutboxConfig;
+import com.frog.travelwithme.global.mail.EmailHandler;
+import com.frog.travelwithme.global.mail.MailDispatcher;
+import com.frog.travelwithme.global.mail.MailService;
+import com.frog.travelwithme.global.outbox.OutboxDispatcher;
+import com.frog.travelwithme.global.outbox.OutboxEvent;
+import com.frog.travelwithme.global.outbox.OutboxRepository;
+import com.frog.travelwithme.global.redis.RedisService;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.OutboxEventType;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/17
+ **/
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MailDispatcher mailDispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        mailDispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("큐에 쌓인 메일을 유지 중인 SMTP 연결로 모아서 발송")
+    void mailDispatcherTest1() throws Exception {
+        // given
+        mailDispatcher = new MailDispatcher(this.createMailSender(ServerSetupTest.SMTP.getPort()),
+                meterRegistry, 100, 2, 10, 30);
+        mailDispatcher.start();
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            futures.add(mailDispatcher.submit(this.createMessage("member" + i + "@gmail.com")));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(greenMail.getReceivedMessages()).hasSize(30);
+        assertThat(meterRegistry.get("mail.sent").tag("result", "success").counter().count()).isEqualTo(30);
+        assertThat(meterRegistry.get("mail.queue.size").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 기다리지 않고 거절")
+    void mailDispatcherTest2() {
+        // given
+        // 발송 스레드를 시작하지 않아 큐에서 꺼내가지 않는다.
+        mailDispatcher = new MailDispatcher(this.createMailSender(ServerSetupTest.SMTP.getPort()),
+                meterRegistry, 2, 1, 10, 30);
+        mailDispatcher.submit(this.createMessage("member1@gmail.com"));
+        mailDispatcher.submit(this.createMessage("member2@gmail.com"));
+
+        // when // then
+        assertThrows(RejectedExecutionException.class,
+                () -> mailDispatcher.submit(this.createMessage("member3@gmail.com")));
+        assertThat(meterRegistry.get("mail.sent").tag("result", "rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.queue.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("SMTP 서버에 연결할 수 없으면 발송 결과를 실패로 완료")
+    void mailDispatcherTest3() {
+        // given
+        greenMail.stop();
+        mailDispatcher = new MailDispatcher(this.createMailSender(ServerSetupTest.SMTP.getPort()),
+                meterRegistry, 10, 1, 10, 30);
+        mailDispatcher.start();
+
+        // when
+        CompletableFuture<Void> future = mailDispatcher.submit(this.createMessage("member@gmail.com"));
+
+        // then
+        assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertThat(meterRegistry.get("mail.sent").tag("result", "failure").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("outbox 워커는 발송을 기다리지 않으므로 워커 수보다 많은 메일이 큐에 쌓이고 모아서 발송된 뒤 이벤트가 삭제됨")
+    void mailDispatcherTest4() throws Exception {
+        // given
+        // 발송 스레드는 outbox 이벤트를 모두 넘긴 뒤에 시작해 SMTP 연결 하나로 10건씩 보내도록 한다.
+        mailDispatcher = new MailDispatcher(this.createMailSender(ServerSetupTest.SMTP.getPort()),
+                meterRegistry, 100, 1, 10, 30);
+        OutboxRepository outboxRepository = mock(OutboxRepository.class);
+        RedisService redisService = mock(RedisService.class);
+        given(outboxRepository.claim(any(OutboxEvent.class), any(LocalDateTime.class))).willReturn(true);
+        given(redisService.getValues(anyString())).willReturn("123456");
+        given(redisService.checkExistsValue("123456")).willReturn(true);
+        EmailHandler emailHandler = new EmailHandler(new MailService(mailDispatcher, 60), redisService);
+        ThreadPoolTaskExecutor outboxExecutor = new OutboxConfig().outboxExecutor(4, 256);
+        OutboxDispatcher outboxDispatcher = new OutboxDispatcher(outboxRepository, List.of(emailHandler),
+                outboxExecutor, new ObjectMapper(), meterRegistry, 256, 10, 300, 1000, 60000, 14, 500);
+
+        // when
+        for (long id = 1; id <= 20; id++) {
+            outboxDispatcher.dispatch(OutboxEvent.builder()
+                    .id(id)
+                    .eventType(OutboxEventType.EMAIL)
+                    .payload("{\"toEmail\":\"member" + id + "@gmail.com\",\"title\":\"title\"}")
+                    .build());
+        }
+        this.awaitQueueSize(20);
+        mailDispatcher.start();
+
+        // then
+        assertThat(greenMail.waitForIncomingEmail(10000, 20)).isTrue();
+        verify(outboxRepository, timeout(5000).times(20)).delete(anyLong());
+        DistributionSummary batchSize = meterRegistry.get("mail.batch.size").summary();
+        assertThat(batchSize.count()).isEqualTo(2);
+        assertThat(batchSize.max()).isEqualTo(10);
+        outboxExecutor.shutdown();
+    }
+
+    private void awaitQueueSize(int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("mail.queue.size").gauge().value() < size
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.get("mail.queue.size").gauge().value()).isEqualTo(size);
+    }
+
+    private JavaMailSenderImpl createMailSender(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        // MailService는 발신자를 지정하지 않으므로 SMTP 기본 발신자를 둔다.
+        mailSender.getJavaMailProperties().setProperty("mail.smtp.from", "travel-with-me@gmail.com");
+        return mailSender;
+    }
+
+    private SimpleMailMessage createMessage(String toEmail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("travel-with-me@gmail.com");
+        message.setTo(toEmail);
+        message.setSubject("Travel with me 이메일 인증 번호");
+        message.setText("123456");
+        return message;
+    }
+}
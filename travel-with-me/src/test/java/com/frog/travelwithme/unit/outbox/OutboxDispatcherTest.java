@@ -0,0 +1,192 @@
+package com.frog.travelwithme.unit.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frog.travelwithme.global.outbox.OutboxDispatcher;
+import com.frog.travelwithme.global.outbox.OutboxEvent;
+import com.frog.travelwithme.global.outbox.OutboxHandler;
+import com.frog.travelwithme.global.outbox.OutboxPayload;
+import com.frog.travelwithme.global.outbox.OutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.frog.travelwithme.global.enums.EnumCollection.OutboxEventType.EMAIL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/16
+ **/
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int PURGE_CHUNK_SIZE = 2;
+    private static final String PAYLOAD = "{\"toEmail\":\"e_ma-il@gmail.com\",\"title\":\"title\"}";
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private OutboxHandler<OutboxPayload.AuthCodeEmail> emailHandler;
+
+    private OutboxDispatcher outboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        given(emailHandler.getEventType()).willReturn(EMAIL);
+        outboxDispatcher = new OutboxDispatcher(outboxRepository, List.of(emailHandler), Runnable::run,
+                new ObjectMapper(), new SimpleMeterRegistry(), 10, MAX_ATTEMPTS, 300, 1000, 60000, 14, PURGE_CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("처리에 성공하면 outbox 이벤트 삭제")
+    void outboxDispatcherTest1() {
+        // given
+        OutboxEvent event = this.createEvent(PAYLOAD, 0);
+        given(outboxRepository.claim(eq(event), any(LocalDateTime.class))).willReturn(true);
+        given(emailHandler.getPayloadType()).willReturn(OutboxPayload.AuthCodeEmail.class);
+        ArgumentCaptor<OutboxPayload.AuthCodeEmail> payloadCaptor = ArgumentCaptor.forClass(OutboxPayload.AuthCodeEmail.class);
+        given(emailHandler.handle(any())).willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        outboxDispatcher.dispatch(event);
+
+        // then
+        verify(emailHandler).handle(payloadCaptor.capture());
+        assertThat(payloadCaptor.getValue().getToEmail()).isEqualTo("e_ma-il@gmail.com");
+        verify(outboxRepository).delete(1L);
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 삭제하지 않고 다음 시도 시각을 미룸")
+    void outboxDispatcherTest2() {
+        // given
+        OutboxEvent event = this.createEvent(PAYLOAD, 0);
+        given(outboxRepository.claim(eq(event), any(LocalDateTime.class))).willReturn(true);
+        given(emailHandler.getPayloadType()).willReturn(OutboxPayload.AuthCodeEmail.class);
+        willThrow(new IllegalStateException("smtp unavailable")).given(emailHandler).handle(any());
+        ArgumentCaptor<LocalDateTime> nextAttemptCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        outboxDispatcher.dispatch(event);
+
+        // then
+        verify(outboxRepository).reschedule(eq(1L), nextAttemptCaptor.capture(), anyString());
+        assertThat(nextAttemptCaptor.getValue()).isAfterOrEqualTo(before.plusNanos(500_000_000L));
+        verify(outboxRepository, never()).delete(anyLong());
+        verify(outboxRepository, never()).markFailed(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("마지막 시도까지 실패하거나 읽을 수 없는 이벤트는 FAILED로 남김")
+    void outboxDispatcherTest3() {
+        // given
+        OutboxEvent lastAttemptEvent = this.createEvent(PAYLOAD, MAX_ATTEMPTS - 1);
+        OutboxEvent unreadableEvent = this.createEvent("{invalid", 0);
+        given(outboxRepository.claim(any(OutboxEvent.class), any(LocalDateTime.class))).willReturn(true);
+        given(emailHandler.getPayloadType()).willReturn(OutboxPayload.AuthCodeEmail.class);
+        willThrow(new IllegalStateException("smtp unavailable")).given(emailHandler).handle(any());
+
+        // when
+        outboxDispatcher.dispatch(lastAttemptEvent);
+        outboxDispatcher.dispatch(unreadableEvent);
+
+        // then
+        verify(outboxRepository, times(2)).markFailed(eq(1L), anyString());
+        verify(outboxRepository, never()).reschedule(anyLong(), any(LocalDateTime.class), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 먼저 가져간 이벤트는 처리하지 않음")
+    void outboxDispatcherTest4() {
+        // given
+        OutboxEvent event = this.createEvent(PAYLOAD, 0);
+        given(outboxRepository.claim(eq(event), any(LocalDateTime.class))).willReturn(false);
+
+        // when
+        outboxDispatcher.dispatch(event);
+
+        // then
+        verify(emailHandler, never()).handle(any());
+        verify(outboxRepository, never()).delete(anyLong());
+    }
+
+    @Test
+    @DisplayName("핸들러가 돌려준 future가 끝날 때까지 워커를 붙잡지 않고, 끝난 뒤 결과에 따라 삭제하거나 재시도")
+    void outboxDispatcherTest5() {
+        // given
+        OutboxEvent sentEvent = this.createEvent(1L, PAYLOAD, 0);
+        OutboxEvent failedEvent = this.createEvent(2L, PAYLOAD, 0);
+        CompletableFuture<Void> sent = new CompletableFuture<>();
+        CompletableFuture<Void> failed = new CompletableFuture<>();
+        given(outboxRepository.claim(any(OutboxEvent.class), any(LocalDateTime.class))).willReturn(true);
+        given(emailHandler.getPayloadType()).willReturn(OutboxPayload.AuthCodeEmail.class);
+        given(emailHandler.handle(any())).willReturn(sent, failed);
+
+        // when
+        outboxDispatcher.dispatch(sentEvent);
+        outboxDispatcher.dispatch(failedEvent);
+        // 발송 중인 이벤트는 다시 넘겨도 중복으로 처리하지 않는다.
+        outboxDispatcher.dispatch(sentEvent);
+        verify(outboxRepository, never()).delete(anyLong());
+        sent.complete(null);
+        failed.completeExceptionally(new IllegalStateException("smtp unavailable"));
+
+        // then
+        verify(outboxRepository, times(2)).claim(any(OutboxEvent.class), any(LocalDateTime.class));
+        verify(outboxRepository).delete(1L);
+        verify(outboxRepository).reschedule(eq(2L), any(LocalDateTime.class), anyString());
+        verify(outboxRepository, never()).delete(2L);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 FAILED 이벤트를 청크 단위로 더 이상 없을 때까지 삭제")
+    void outboxDispatcherTest6() {
+        // given
+        ArgumentCaptor<LocalDateTime> beforeCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        given(outboxRepository.deleteFailedBefore(any(LocalDateTime.class), eq(PURGE_CHUNK_SIZE)))
+                .willReturn(PURGE_CHUNK_SIZE, 1);
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        outboxDispatcher.purgeFailed();
+
+        // then
+        verify(outboxRepository, times(2)).deleteFailedBefore(beforeCaptor.capture(), eq(PURGE_CHUNK_SIZE));
+        assertThat(beforeCaptor.getValue()).isBefore(now.minusDays(13)).isAfter(now.minusDays(15));
+    }
+
+    private OutboxEvent createEvent(String payload, int attempts) {
+        return this.createEvent(1L, payload, attempts);
+    }
+
+    private OutboxEvent createEvent(Long id, String payload, int attempts) {
+        return OutboxEvent.builder()
+                .id(id)
+                .eventType(EMAIL)
+                .payload(payload)
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -84,4 +84,26 @@ class RedisCrudTest {
                 }
         );
     }
+
+    @Test
+    @DisplayName("락은 잡을 때 사용한 토큰으로만 연장하고 해제할 수 있다.")
+    void redisCrudTest5() throws Exception {
+        // given
+        String lockToken = VALUE;
+
+        // when
+        boolean renewedByOther = redisService.renewLock(KEY, "otherToken", DURATION);
+        boolean releasedByOther = redisService.releaseLock(KEY, "otherToken");
+        String afterOther = redisService.getValues(KEY);
+        boolean renewed = redisService.renewLock(KEY, lockToken, DURATION);
+        boolean released = redisService.releaseLock(KEY, lockToken);
+
+        // then
+        assertThat(renewedByOther).isFalse();
+        assertThat(releasedByOther).isFalse();
+        assertThat(afterOther).isEqualTo(lockToken);
+        assertThat(renewed).isTrue();
+        assertThat(released).isTrue();
+        assertThat(redisService.getValues(KEY)).isEqualTo("false");
+    }
 }
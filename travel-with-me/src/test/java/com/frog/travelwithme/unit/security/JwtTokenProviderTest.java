@@ -1,22 +1,19 @@
 package com.frog.travelwithme.unit.security;
 
-import com.frog.travelwithme.global.exception.BusinessLogicException;
 import com.frog.travelwithme.global.security.auth.controller.dto.TokenDto;
 import com.frog.travelwithme.global.security.auth.jwt.JwtTokenProvider;
+import com.frog.travelwithme.global.security.auth.jwt.TokenVerification;
 import com.frog.travelwithme.global.security.auth.userdetails.CustomUserDetails;
 import io.jsonwebtoken.io.Decoders;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.catalina.connector.Response;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
 
-import javax.servlet.http.HttpServletResponse;
 import java.time.Duration;
 
 import static org.awaitility.Awaitility.await;
@@ -87,29 +84,31 @@ class JwtTokenProviderTest {
         assertNotNull(refreshToken);
     }
 
-    @DisplayName("JWS를 검증할 때 예외가 발생하지 않음")
+    @DisplayName("유효한 JWS를 검증하면 VALID")
     @Test
     void jwtTokenProviderTest5() {
-        HttpServletResponse response = new Response();
+        // given
         String accessToken = this.getAccessToken();
 
-        assertDoesNotThrow(() -> jwtTokenProvider.validateToken(accessToken, response));
+        // when
+        TokenVerification verification = jwtTokenProvider.verify(accessToken);
+
+        // then
+        assertTrue(verification.isValid());
+        assertEquals("email", verification.getEmail());
     }
 
-    @DisplayName("JWS를 검증할 때 예외가 발생함")
+    @DisplayName("만료 시각이 지난 JWS를 검증하면 EXPIRED")
     @Test
-    void jwtTokenProviderTest6() throws InterruptedException {
+    void jwtTokenProviderTest6() {
         // given
-        MockHttpServletResponse response = new MockHttpServletResponse();
         String accessToken = getAccessToken();
 
         // when // then
-        assertDoesNotThrow(() -> jwtTokenProvider.validateToken(accessToken, response));
+        assertTrue(jwtTokenProvider.verify(accessToken).isValid());
         await().pollDelay(Duration.ofMillis(6000)).untilAsserted(
-                () -> {
-                    assertThrows(BusinessLogicException.class, () -> jwtTokenProvider.validateToken(
-                            accessToken, response));
-                });
+                () -> assertEquals(TokenVerification.Status.EXPIRED,
+                        jwtTokenProvider.verify(accessToken).getStatus()));
     }
 
     private String getAccessToken() {
@@ -0,0 +1,94 @@
+package com.frog.travelwithme.unit.security;
+
+import com.frog.travelwithme.global.exception.ExceptionCode;
+import com.frog.travelwithme.global.security.auth.jwt.JwtTokenProvider;
+import com.frog.travelwithme.global.security.auth.jwt.TokenVerification;
+import com.frog.travelwithme.global.security.auth.userdetails.CustomUserDetails;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/12
+ **/
+class JwtTokenVerificationTest {
+
+    private static final String SECRET_KEY = "testSecretKey20230327testSecretKey20230327testSecretKey20230327";
+
+    @Test
+    @DisplayName("한 번의 검증으로 토큰 id와 인증 정보를 함께 얻음")
+    void jwtTokenVerificationTest1() {
+        // given
+        JwtTokenProvider jwtTokenProvider = this.jwtTokenProvider(1800000, 10000);
+        String accessToken = this.accessToken(jwtTokenProvider);
+
+        // when
+        TokenVerification verification = jwtTokenProvider.verify(accessToken);
+        Authentication authentication = jwtTokenProvider.getAuthentication(verification);
+
+        // then
+        assertThat(verification.isValid()).isTrue();
+        assertThat(verification.getTokenId()).isNotEqualTo(accessToken)
+                .isEqualTo(jwtTokenProvider.getTokenId(accessToken));
+        assertThat(((CustomUserDetails) authentication.getPrincipal()).getEmail()).isEqualTo("email");
+        assertThat(authentication.getAuthorities()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("만료, 위조, 형식 오류 토큰은 예외 대신 검증 실패 결과를 반환")
+    void jwtTokenVerificationTest2() {
+        // given
+        JwtTokenProvider expiredTokenProvider = this.jwtTokenProvider(-1000, 10000);
+        JwtTokenProvider jwtTokenProvider = this.jwtTokenProvider(1800000, 10000);
+        String expiredToken = this.accessToken(expiredTokenProvider);
+        String accessToken = this.accessToken(jwtTokenProvider);
+        String forgedToken = accessToken.substring(0, accessToken.lastIndexOf('.') + 1) + "forgedSignature";
+
+        // when
+        TokenVerification expired = jwtTokenProvider.verify(expiredToken);
+        TokenVerification forged = jwtTokenProvider.verify(forgedToken);
+        TokenVerification malformed = jwtTokenProvider.verify("malformed");
+
+        // then
+        assertThat(expired.getStatus()).isEqualTo(TokenVerification.Status.EXPIRED);
+        assertThat(expired.getExceptionCode()).isEqualTo(ExceptionCode.TOKEN_EXPIRED);
+        assertThat(forged.getStatus()).isEqualTo(TokenVerification.Status.SIGNATURE_INVALID);
+        assertThat(forged.getExceptionCode()).isNull();
+        assertThat(malformed.getStatus()).isEqualTo(TokenVerification.Status.MALFORMED);
+    }
+
+    @Test
+    @DisplayName("검증 캐시를 사용하면 같은 토큰은 다시 파싱하지 않고, 캐시 크기가 0이면 매번 검증")
+    void jwtTokenVerificationTest3() {
+        // given
+        JwtTokenProvider cachedTokenProvider = this.jwtTokenProvider(1800000, 10000);
+        JwtTokenProvider uncachedTokenProvider = this.jwtTokenProvider(1800000, 0);
+        String accessToken = this.accessToken(cachedTokenProvider);
+
+        // when // then
+        assertThat(cachedTokenProvider.verify(accessToken)).isSameAs(cachedTokenProvider.verify(accessToken));
+        assertThat(uncachedTokenProvider.verify(accessToken))
+                .isNotSameAs(uncachedTokenProvider.verify(accessToken));
+    }
+
+    private JwtTokenProvider jwtTokenProvider(long accessTokenExpirationMillis, int verificationCacheSize) {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpirationMillis", accessTokenExpirationMillis);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenExpirationMillis", 1800000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "verificationCacheSize", verificationCacheSize);
+        ReflectionTestUtils.setField(jwtTokenProvider, "verificationCacheTtlSeconds", 10L);
+        jwtTokenProvider.init();
+
+        return jwtTokenProvider;
+    }
+
+    private String accessToken(JwtTokenProvider jwtTokenProvider) {
+        return jwtTokenProvider.generateTokenDto(CustomUserDetails.of("email", "USER")).getAccessToken();
+    }
+}
@@ -0,0 +1,86 @@
+package com.frog.travelwithme.unit.security.auth.service;
+
+import com.frog.travelwithme.global.redis.RedisService;
+import com.frog.travelwithme.global.security.auth.service.TokenRevocationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 작성자: 김찬빈
+ * 버전 정보: 1.0.0
+ * 작성일자: 2023/06/11
+ **/
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @InjectMocks
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 Redis에 저장하고 다른 서버에 알림")
+    void tokenRevocationServiceTest1() {
+        // when
+        tokenRevocationService.revoke("tokenId", Duration.ofMinutes(30));
+
+        // then
+        assertThat(tokenRevocationService.isRevoked("tokenId")).isTrue();
+        verify(redisService).setValues("logout:tokenId", "logout", Duration.ofMinutes(30));
+        verify(redisService).publish(eq(TokenRevocationService.REVOCATION_CHANNEL), startsWith("tokenId|"));
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 로그아웃한 토큰은 만료 시각까지만 로그아웃 상태로 관리")
+    void tokenRevocationServiceTest2() {
+        // given
+        long now = System.currentTimeMillis();
+
+        // when
+        tokenRevocationService.onMessage(this.message("validToken|" + (now + 60_000)), null);
+        tokenRevocationService.onMessage(this.message("expiredToken|" + (now - 1)), null);
+        tokenRevocationService.onMessage(this.message("invalid message"), null);
+
+        // then
+        assertThat(tokenRevocationService.isRevoked("validToken")).isTrue();
+        assertThat(tokenRevocationService.isRevoked("expiredToken")).isFalse();
+    }
+
+    @Test
+    @DisplayName("로그아웃 여부 확인은 Redis를 조회하지 않음")
+    void tokenRevocationServiceTest3() {
+        // when
+        boolean revoked = false;
+        for (int i = 0; i < 100_000; i++) {
+            revoked |= tokenRevocationService.isRevoked("token" + i);
+        }
+
+        // then
+        assertThat(revoked).isFalse();
+        verifyNoInteractions(redisService);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(TokenRevocationService.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
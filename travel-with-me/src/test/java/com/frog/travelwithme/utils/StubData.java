@@ -181,6 +181,16 @@ public class StubData {
                     .build();
         }
 
+        public static MemberDto.Summary getSummary() {
+            return MemberDto.Summary.builder()
+                    .id(id)
+                    .email(email)
+                    .nickname(nickname)
+                    .image(image)
+                    .role(role)
+                    .build();
+        }
+
         public static MemberDto.Response getResponseDto() {
             return MemberDto.Response.builder()
                     .id(id)
@@ -43,7 +43,9 @@ public class RequestSnippet {
                         fieldWithPath("content").type(STRING).description("동행모집 게시글 내용"),
                         fieldWithPath("travelNationality").type(STRING).description("동행모집 국가"),
                         fieldWithPath("travelStartDate").type(STRING).description("동행모집 여행 시작날짜"),
-                        fieldWithPath("travelEndDate").type(STRING).description("동행모집 여행 종료날짜")
+                        fieldWithPath("travelEndDate").type(STRING).description("동행모집 여행 종료날짜"),
+                        fieldWithPath("maxParticipants").type(NUMBER).description("최대 참여 인원 (없으면 제한 없음)")
+                                .optional()
                 )
         );
     }
@@ -236,8 +238,16 @@ public class RequestSnippet {
 
     public static Snippet getAllFeedCommentParamSnippet() {
         return requestParameters(
-                parameterWithName("lastFeedId").description("이전 조회한 목록 중 마지막 Feed의 인덱스. 첫 번째 조회에서는 해당 파라미터 제외").optional(),
-                parameterWithName("size").description("조회하려는 피드 댓글 개수")
+                parameterWithName("cursor").description("이전 응답의 nextCursor. 첫 번째 조회에서는 해당 파라미터 제외").optional(),
+                parameterWithName("lastCommentId").description("이전 조회한 목록 중 마지막 댓글의 인덱스. cursor가 없을 때만 사용").optional(),
+                parameterWithName("size").description("조회하려는 피드 댓글 개수 (최대 100)")
+        );
+    }
+
+    public static Snippet getCommentThreadParamSnippet() {
+        return requestParameters(
+                parameterWithName("cursor").description("이전 응답의 nextCursor. 첫 번째 조회에서는 해당 파라미터 제외").optional(),
+                parameterWithName("size").description("조회하려는 댓글, 대댓글 개수 (최대 100)")
         );
     }
 }
@@ -20,6 +20,7 @@ public class ResponseSnippet {
                         fieldWithPath("data.nation").type(JsonFieldType.STRING).description("회원 국가"),
                         fieldWithPath("data.address").type(JsonFieldType.STRING).description("회원 주소"),
                         fieldWithPath("data.image").type(JsonFieldType.STRING).description("프로필 이미지 url"),
+                        fieldWithPath("data.thumbnailImage").type(JsonFieldType.STRING).description("프로필 썸네일 이미지 url"),
                         fieldWithPath("data.introduction").type(JsonFieldType.STRING).description("자기소개"),
                         fieldWithPath("data.role").type(JsonFieldType.STRING).description("회원 역할"),
                         fieldWithPath("data.gender").type(JsonFieldType.STRING).description("회원 성별 (남자/여자)"),
@@ -77,6 +78,30 @@ public class ResponseSnippet {
         );
     }
 
+    public static ResponseFieldsSnippet getRecruitmentSnippet() {
+        return responseFields(
+                List.of(
+                        fieldWithPath("data.id").type(JsonFieldType.NUMBER).description("동행모집 게시글 아이디"),
+                        fieldWithPath("data.title").type(JsonFieldType.STRING).description("동행모집 게시글 제목"),
+                        fieldWithPath("data.content").type(JsonFieldType.STRING).description("동행모집 게시글 내용"),
+                        fieldWithPath("data.travelNationality").type(JsonFieldType.STRING).description("동행모집 국가"),
+                        fieldWithPath("data.travelStartDate").type(JsonFieldType.STRING).description("동행모집 여행 시작날짜"),
+                        fieldWithPath("data.travelEndDate").type(JsonFieldType.STRING).description("동행모집 여행 종료날짜"),
+                        fieldWithPath("data.viewCount").type(JsonFieldType.NUMBER).description("동행모집 게시글 조회수"),
+                        fieldWithPath("data.commentCount").type(JsonFieldType.NUMBER).description("동행모집 게시글 댓글수"),
+                        fieldWithPath("data.nickname").type(JsonFieldType.STRING).description("작성자 닉네임 및 타입"),
+                        fieldWithPath("data.memberImage").type(JsonFieldType.STRING).description("프로필 이미지 url").optional(),
+                        fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("동행모집 게시글 작성일"),
+                        fieldWithPath("data.recruitmentRequestStatus").type(JsonFieldType.BOOLEAN)
+                                .description("요청한 회원의 매칭 신청(승인 포함) 여부"),
+                        fieldWithPath("data.members").type(JsonFieldType.ARRAY).description("매칭이 승인된 참여 회원"),
+                        fieldWithPath("data.members[].id").type(JsonFieldType.NUMBER).description("회원 ID").optional(),
+                        fieldWithPath("data.members[].nickname").type(JsonFieldType.STRING).description("회원 닉네임").optional(),
+                        fieldWithPath("data.members[].image").type(JsonFieldType.STRING).description("프로필 이미지 url").optional()
+                )
+        );
+    }
+
     public static ResponseFieldsSnippet getMatchingMemberListSnippet() {
         return responseFields(
                 List.of(
@@ -98,6 +123,7 @@ public class ResponseSnippet {
                 fieldWithPath("data.id").type(JsonFieldType.NUMBER).description("피드 인덱스"),
                 fieldWithPath("data.nickname").type(JsonFieldType.STRING).description("작성자 닉네임"),
                 fieldWithPath("data.profileImage").type(JsonFieldType.STRING).description("작성자 프로필 이미지 URL"),
+                fieldWithPath("data.profileThumbnailImage").type(JsonFieldType.STRING).description("작성자 프로필 썸네일 이미지 URL"),
                 fieldWithPath("data.contents").type(JsonFieldType.STRING).description("피드 내용"),
                 fieldWithPath("data.location").type(JsonFieldType.STRING).description("피드를 작성한 위치"),
                 fieldWithPath("data.likeCount").type(JsonFieldType.NUMBER).description("피드 좋아요 개수"),
@@ -106,7 +132,9 @@ public class ResponseSnippet {
                 fieldWithPath("data.isLiked").type(JsonFieldType.BOOLEAN).description("사용자의 피드 좋아요 여부"),
                 fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("피드 생성 시간"),
                 fieldWithPath("data.tags").type(JsonFieldType.ARRAY).description("피드 태그 리스트"),
-                fieldWithPath("data.imageUrls").type(JsonFieldType.ARRAY).description("피드 이미지 URL 리스트")
+                fieldWithPath("data.imageUrls").type(JsonFieldType.ARRAY).description("피드 이미지 URL 리스트"),
+                fieldWithPath("data.mediumUrls").type(JsonFieldType.ARRAY).description("피드 중간 크기 이미지 URL 리스트"),
+                fieldWithPath("data.thumbnailUrls").type(JsonFieldType.ARRAY).description("피드 썸네일 이미지 URL 리스트")
         );
     }
 
@@ -115,6 +143,7 @@ public class ResponseSnippet {
                         fieldWithPath("data[].id").type(JsonFieldType.NUMBER).description("피드 인덱스"),
                         fieldWithPath("data[].nickname").type(JsonFieldType.STRING).description("작성자 닉네임"),
                         fieldWithPath("data[].profileImage").type(JsonFieldType.STRING).description("작성자 프로필 이미지 URL"),
+                        fieldWithPath("data[].profileThumbnailImage").type(JsonFieldType.STRING).description("작성자 프로필 썸네일 이미지 URL"),
                         fieldWithPath("data[].contents").type(JsonFieldType.STRING).description("피드 내용"),
                         fieldWithPath("data[].location").type(JsonFieldType.STRING).description("피드를 작성한 위치"),
                         fieldWithPath("data[].likeCount").type(JsonFieldType.NUMBER).description("피드 좋아요 개수"),
@@ -123,7 +152,9 @@ public class ResponseSnippet {
                         fieldWithPath("data[].isLiked").type(JsonFieldType.BOOLEAN).description("사용자의 피드 좋아요 여부"),
                         fieldWithPath("data[].createdAt").type(JsonFieldType.STRING).description("피드 생성 시간"),
                         fieldWithPath("data[].tags").type(JsonFieldType.ARRAY).description("피드 태그 리스트"),
-                        fieldWithPath("data[].imageUrls").type(JsonFieldType.ARRAY).description("피드 이미지 URL 리스트")
+                        fieldWithPath("data[].imageUrls").type(JsonFieldType.ARRAY).description("피드 이미지 URL 리스트"),
+                        fieldWithPath("data[].mediumUrls").type(JsonFieldType.ARRAY).description("피드 중간 크기 이미지 URL 리스트"),
+                        fieldWithPath("data[].thumbnailUrls").type(JsonFieldType.ARRAY).description("피드 썸네일 이미지 URL 리스트")
                 );
     }
 
@@ -195,11 +226,15 @@ public class ResponseSnippet {
                 fieldWithPath("data[].depth").type(JsonFieldType.NUMBER).description("작성된 댓글,대댓글 여부 (댓글:1, 대댓글:2)"),
                 fieldWithPath("data[].groupId").type(JsonFieldType.NUMBER).description("작성된 댓글,대댓글의 Group ID"),
                 fieldWithPath("data[].content").type(JsonFieldType.STRING).description("작성된 댓글,대댓글 내용"),
+                fieldWithPath("data[].taggedMemberId").type(JsonFieldType.NUMBER).description("언급(태그)된 회원 ID").optional(),
+                fieldWithPath("data[].taggedMemberNickname").type(JsonFieldType.STRING).description("언급(태그)된 회원 Nickname. 탈퇴한 회원이면 null").optional(),
                 fieldWithPath("data[].isDeleted").type(JsonFieldType.BOOLEAN).description("댓글 삭제 여부 (true : 삭제된 댓글 / false : 삭제되지 않은 댓글)"),
                 fieldWithPath("data[].isWriter").type(JsonFieldType.BOOLEAN).description("댓글 작성자 여부 (true : 댓글 작성자 / false : 댓글 작성자가 아님)"),
                 fieldWithPath("data[].isLiked").type(JsonFieldType.BOOLEAN).description("댓글 좋아요 여부 (true : 좋아요한 댓글 / false : 좋아요하지 않은 댓글)"),
                 fieldWithPath("data[].commentCount").type(JsonFieldType.NUMBER).description("댓글 개수"),
-                fieldWithPath("data[].likeCount").type(JsonFieldType.NUMBER).description("좋아요 개수")
+                fieldWithPath("data[].likeCount").type(JsonFieldType.NUMBER).description("좋아요 개수"),
+                fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 페이지 조회에 사용할 커서. 다음 페이지가 없으면 null").optional(),
+                fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부")
         );
     }
 }